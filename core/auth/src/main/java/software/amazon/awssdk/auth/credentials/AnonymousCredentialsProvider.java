@@ -15,7 +15,10 @@
 
 package software.amazon.awssdk.auth.credentials;
 
+import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.utils.ToString;
 
 /**
@@ -26,6 +29,12 @@ import software.amazon.awssdk.utils.ToString;
 public final class AnonymousCredentialsProvider implements AwsCredentialsProvider {
 
     private static final String PROVIDER_NAME = "AnonymousCredentialsProvider";
+    private static final AwsCredentials CREDENTIALS = AwsBasicCredentials.builder()
+                                                                         .validateCredentials(false)
+                                                                         .providerName(PROVIDER_NAME)
+                                                                         .build();
+    private static final CompletableFuture<AwsCredentialsIdentity> IDENTITY_FUTURE =
+        CompletableFuture.completedFuture(CREDENTIALS);
 
     private AnonymousCredentialsProvider() {
     }
@@ -36,10 +45,12 @@ public final class AnonymousCredentialsProvider implements AwsCredentialsProvide
 
     @Override
     public AwsCredentials resolveCredentials() {
-        return AwsBasicCredentials.builder()
-                                  .validateCredentials(false)
-                                  .providerName(PROVIDER_NAME)
-                                  .build();
+        return CREDENTIALS;
+    }
+
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        return IDENTITY_FUTURE;
     }
 
     @Override
@@ -130,6 +130,13 @@ public final class AwsCredentialsProviderChain
                                 .build();
     }
 
+    /**
+     * The provider that returned credentials last, or null if none did yet.
+     */
+    IdentityProvider<? extends AwsCredentialsIdentity> lastUsedProvider() {
+        return lastUsedProvider;
+    }
+
     @Override
     public void close() {
         credentialsProviders.forEach(c -> IoUtils.closeIfCloseable(c, null));
@@ -32,14 +32,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.auth.credentials.internal.CompletedFutureCache;
 import software.amazon.awssdk.auth.credentials.internal.ContainerCredentialsRetryPolicy;
 import software.amazon.awssdk.auth.credentials.internal.HttpCredentialsLoader;
 import software.amazon.awssdk.auth.credentials.internal.HttpCredentialsLoader.LoadedCredentials;
 import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.util.SdkUserAgent;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.regions.util.ResourcesEndpointProvider;
 import software.amazon.awssdk.regions.util.ResourcesEndpointRetryPolicy;
 import software.amazon.awssdk.utils.ComparableUtils;
@@ -49,6 +54,7 @@ import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 import software.amazon.awssdk.utils.cache.CachedSupplier;
+import software.amazon.awssdk.utils.cache.CachedSupplierRegistry;
 import software.amazon.awssdk.utils.cache.NonBlocking;
 import software.amazon.awssdk.utils.cache.RefreshResult;
 
@@ -83,12 +89,21 @@ public final class ContainerCredentialsProvider
     private static final List<String> VALID_LOOP_BACK_IPV4 = Arrays.asList(ECS_CONTAINER_HOST, EKS_CONTAINER_HOST_IPV4);
     private static final List<String> VALID_LOOP_BACK_IPV6 = Arrays.asList(EKS_CONTAINER_HOST_IPV6);
 
+    /**
+     * The credentials caches shared by all providers in this process that have {@code sharedCredentialsCacheEnabled} set.
+     */
+    private static final CachedSupplierRegistry<AwsCredentials> SHARED_CREDENTIALS_CACHES = new CachedSupplierRegistry<>();
+
     private final String endpoint;
     private final HttpCredentialsLoader httpCredentialsLoader;
     private final CachedSupplier<AwsCredentials> credentialsCache;
+    private final CachedSupplierRegistry.Lease<AwsCredentials> sharedCredentialsCache;
+    private final CompletedFutureCache<AwsCredentialsIdentity> identityFutureCache = new CompletedFutureCache<>();
 
     private final Boolean asyncCredentialUpdateEnabled;
 
+    private final Boolean sharedCredentialsCacheEnabled;
+
     private final String asyncThreadName;
 
     /**
@@ -98,15 +113,25 @@ public final class ContainerCredentialsProvider
         this.endpoint = builder.endpoint;
         this.asyncCredentialUpdateEnabled = builder.asyncCredentialUpdateEnabled;
         this.asyncThreadName = builder.asyncThreadName;
+        this.sharedCredentialsCacheEnabled = builder.sharedCredentialsCacheEnabled;
         this.httpCredentialsLoader = HttpCredentialsLoader.create(PROVIDER_NAME);
 
-        if (Boolean.TRUE.equals(builder.asyncCredentialUpdateEnabled)) {
+        if (Boolean.TRUE.equals(builder.sharedCredentialsCacheEnabled)) {
+            Validate.paramNotBlank(builder.asyncThreadName, "asyncThreadName");
+            this.credentialsCache = null;
+            this.sharedCredentialsCache =
+                SHARED_CREDENTIALS_CACHES.register(Arrays.asList(ContainerCredentialsProvider.class, endpoint),
+                                                   this::refreshCredentials,
+                                                   this::newSharedCredentialsCache);
+        } else if (Boolean.TRUE.equals(builder.asyncCredentialUpdateEnabled)) {
             Validate.paramNotBlank(builder.asyncThreadName, "asyncThreadName");
+            this.sharedCredentialsCache = null;
             this.credentialsCache = CachedSupplier.builder(this::refreshCredentials)
                                                   .cachedValueName(toString())
                                                   .prefetchStrategy(new NonBlocking(builder.asyncThreadName))
                                                   .build();
         } else {
+            this.sharedCredentialsCache = null;
             this.credentialsCache = CachedSupplier.builder(this::refreshCredentials)
                                                   .cachedValueName(toString())
                                                   .build();
@@ -129,6 +154,13 @@ public final class ContainerCredentialsProvider
         return ToString.create(PROVIDER_NAME);
     }
 
+    private CachedSupplier<AwsCredentials> newSharedCredentialsCache(Supplier<RefreshResult<AwsCredentials>> supplier) {
+        return CachedSupplier.builder(supplier)
+                             .cachedValueName(toString())
+                             .prefetchStrategy(new NonBlocking(asyncThreadName))
+                             .build();
+    }
+
     private RefreshResult<AwsCredentials> refreshCredentials() {
         LoadedCredentials loadedCredentials =
             httpCredentialsLoader.loadCredentials(new ContainerCredentialsEndpointProvider(endpoint));
@@ -162,12 +194,24 @@ public final class ContainerCredentialsProvider
 
     @Override
     public AwsCredentials resolveCredentials() {
+        if (sharedCredentialsCache != null) {
+            return sharedCredentialsCache.get();
+        }
         return credentialsCache.get();
     }
 
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        return identityFutureCache.completedFuture(resolveCredentials());
+    }
+
     @Override
     public void close() {
-        credentialsCache.close();
+        if (sharedCredentialsCache != null) {
+            sharedCredentialsCache.close();
+        } else {
+            credentialsCache.close();
+        }
     }
 
     @Override
@@ -312,11 +356,26 @@ public final class ContainerCredentialsProvider
      */
     public interface Builder extends HttpCredentialsProvider.Builder<ContainerCredentialsProvider, Builder>,
                                      CopyableBuilder<Builder, ContainerCredentialsProvider> {
+        /**
+         * Configure whether the credentials should be shared with the other providers in this process that load credentials
+         * from the same endpoint, instead of being cached and refreshed by this provider alone. This reduces the number of
+         * calls made to the container credentials endpoint when many clients are created with their own provider.
+         *
+         * <p>Shared credentials are always updated asynchronously in the background ahead of their expiration, as if
+         * {@link #asyncCredentialUpdateEnabled(Boolean)} was enabled, and the current credentials are used while they are
+         * updated. The shared credentials stop being updated once all the providers sharing them have been closed.
+         *
+         * <p>By default, this is disabled.</p>
+         */
+        default Builder sharedCredentialsCacheEnabled(Boolean sharedCredentialsCacheEnabled) {
+            throw new UnsupportedOperationException();
+        }
     }
 
     private static final class BuilderImpl implements Builder {
         private String endpoint;
         private Boolean asyncCredentialUpdateEnabled;
+        private Boolean sharedCredentialsCacheEnabled;
         private String asyncThreadName;
 
         private BuilderImpl() {
@@ -326,6 +385,7 @@ public final class ContainerCredentialsProvider
         private BuilderImpl(ContainerCredentialsProvider credentialsProvider) {
             this.endpoint = credentialsProvider.endpoint;
             this.asyncCredentialUpdateEnabled = credentialsProvider.asyncCredentialUpdateEnabled;
+            this.sharedCredentialsCacheEnabled = credentialsProvider.sharedCredentialsCacheEnabled;
             this.asyncThreadName = credentialsProvider.asyncThreadName;
         }
 
@@ -349,6 +409,16 @@ public final class ContainerCredentialsProvider
             asyncCredentialUpdateEnabled(asyncCredentialUpdateEnabled);
         }
 
+        @Override
+        public Builder sharedCredentialsCacheEnabled(Boolean sharedCredentialsCacheEnabled) {
+            this.sharedCredentialsCacheEnabled = sharedCredentialsCacheEnabled;
+            return this;
+        }
+
+        public void setSharedCredentialsCacheEnabled(boolean sharedCredentialsCacheEnabled) {
+            sharedCredentialsCacheEnabled(sharedCredentialsCacheEnabled);
+        }
+
         @Override
         public Builder asyncThreadName(String asyncThreadName) {
             this.asyncThreadName = asyncThreadName;
@@ -15,13 +15,27 @@
 
 package software.amazon.awssdk.auth.credentials;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.auth.credentials.internal.CompletedFutureCache;
 import software.amazon.awssdk.auth.credentials.internal.LazyAwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.internal.PrefetchingCredentialsProvider;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.IdentityProvider;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.profiles.ProfileFileSupplier;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
@@ -38,6 +52,11 @@ import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
  *   <li>Instance profile credentials delivered through the Amazon EC2 metadata service</li>
  * </ol>
  *
+ * <p>The first time credentials are resolved, the providers are checked one after the other, and a provider that requires a
+ * network call (web identity token, container or instance profile credentials) can take seconds to fail, for example when
+ * the EC2 metadata service is not available. The {@link Builder#parallelProbingEnabled(Boolean)} and
+ * {@link Builder#rememberLastProviderEnabled(Boolean)} options can make this first resolution faster.
+ *
  * @see SystemPropertyCredentialsProvider
  * @see EnvironmentVariableCredentialsProvider
  * @see ProfileCredentialsProvider
@@ -50,27 +69,79 @@ public final class DefaultCredentialsProvider
     implements AwsCredentialsProvider, SdkAutoCloseable,
                ToCopyableBuilder<DefaultCredentialsProvider.Builder, DefaultCredentialsProvider> {
 
+    /**
+     * Runs the background probes of the providers created with {@link Builder#parallelProbingEnabled(Boolean)}. Its daemon
+     * threads are only kept while they are in use.
+     */
+    private static final ExecutorService PROBE_EXECUTOR =
+        Executors.newCachedThreadPool(new ThreadFactoryBuilder().threadNamePrefix("sdk-credentials-probe")
+                                                                .daemonThreads(true)
+                                                                .build());
+
     private static final DefaultCredentialsProvider DEFAULT_CREDENTIALS_PROVIDER = new DefaultCredentialsProvider(builder());
 
+    /**
+     * The position of the provider that last returned credentials, in the chains of the providers created with
+     * {@link Builder#rememberLastProviderEnabled(Boolean)}, by configuration.
+     */
+    private static final ConcurrentMap<List<Object>, Integer> LAST_PROVIDER_INDEXES = new ConcurrentHashMap<>();
+
     private final LazyAwsCredentialsProvider providerChain;
+    private final CompletedFutureCache<AwsCredentialsIdentity> identityFutureCache = new CompletedFutureCache<>();
 
     private final Supplier<ProfileFile> profileFile;
 
+    /**
+     * Identifies the configured profile file when remembering the last provider: the profile file itself if a fixed one was
+     * configured, so that providers configured with equal profile files share it, or the configured supplier otherwise.
+     */
+    private final Object profileFileKey;
+
     private final String profileName;
 
     private final Boolean reuseLastProviderEnabled;
 
     private final Boolean asyncCredentialUpdateEnabled;
 
+    private final Boolean parallelProbingEnabled;
+
+    private final Boolean rememberLastProviderEnabled;
+
+    /**
+     * The providers of the chain, in the default order, once the chain is created.
+     */
+    private volatile List<AwsCredentialsProvider> credentialsProviders;
+
+    private volatile AwsCredentialsProviderChain chain;
+
+    /**
+     * Whether the credentials prefetched for the first resolution were discarded.
+     */
+    private volatile boolean prefetchedCredentialsDiscarded;
+
+    /**
+     * The key of this provider's configuration in {@link #LAST_PROVIDER_INDEXES}.
+     */
+    private final List<Object> lastProviderKey;
+
+    /**
+     * The provider of the chain that was last remembered, so that it is only remembered again when it changes.
+     */
+    private volatile IdentityProvider<? extends AwsCredentialsIdentity> rememberedProvider;
+
     /**
      * @see #builder()
      */
     private DefaultCredentialsProvider(Builder builder) {
         this.profileFile = builder.profileFile;
+        this.profileFileKey = builder.profileFileKey;
         this.profileName = builder.profileName;
         this.reuseLastProviderEnabled = builder.reuseLastProviderEnabled;
         this.asyncCredentialUpdateEnabled = builder.asyncCredentialUpdateEnabled;
-        this.providerChain = createChain(builder);
+        this.parallelProbingEnabled = builder.parallelProbingEnabled;
+        this.rememberLastProviderEnabled = builder.rememberLastProviderEnabled;
+        this.lastProviderKey = Arrays.asList(profileFileKey, profileName, asyncCredentialUpdateEnabled);
+        this.providerChain = LazyAwsCredentialsProvider.create(() -> createChain(builder));
     }
 
     /**
@@ -85,36 +156,92 @@ public final class DefaultCredentialsProvider
     /**
      * Create the default credential chain using the configuration in the provided builder.
      */
-    private static LazyAwsCredentialsProvider createChain(Builder builder) {
+    private AwsCredentialsProvider createChain(Builder builder) {
         boolean asyncCredentialUpdateEnabled = builder.asyncCredentialUpdateEnabled;
         boolean reuseLastProviderEnabled = builder.reuseLastProviderEnabled;
 
-        return LazyAwsCredentialsProvider.create(() -> {
-            AwsCredentialsProvider[] credentialsProviders = new AwsCredentialsProvider[] {
-                SystemPropertyCredentialsProvider.create(),
-                EnvironmentVariableCredentialsProvider.create(),
+        List<AwsCredentialsProvider> providers = Arrays.asList(
+            SystemPropertyCredentialsProvider.create(),
+            EnvironmentVariableCredentialsProvider.create(),
+            PrefetchingCredentialsProvider.create(
                 WebIdentityTokenFileCredentialsProvider.builder()
                                                        .asyncCredentialUpdateEnabled(asyncCredentialUpdateEnabled)
-                                                       .build(),
-                ProfileCredentialsProvider.builder()
-                                          .profileFile(builder.profileFile)
-                                          .profileName(builder.profileName)
-                                          .build(),
+                                                       .build()),
+            ProfileCredentialsProvider.builder()
+                                      .profileFile(builder.profileFile)
+                                      .profileName(builder.profileName)
+                                      .build(),
+            PrefetchingCredentialsProvider.create(
                 ContainerCredentialsProvider.builder()
                                             .asyncCredentialUpdateEnabled(asyncCredentialUpdateEnabled)
-                                            .build(),
+                                            .build()),
+            PrefetchingCredentialsProvider.create(
                 InstanceProfileCredentialsProvider.builder()
                                                   .asyncCredentialUpdateEnabled(asyncCredentialUpdateEnabled)
                                                   .profileFile(builder.profileFile)
                                                   .profileName(builder.profileName)
-                                                  .build()
-            };
-
-            return AwsCredentialsProviderChain.builder()
-                                              .reuseLastProviderEnabled(reuseLastProviderEnabled)
-                                              .credentialsProviders(credentialsProviders)
-                                              .build();
-        });
+                                                  .build())
+        );
+
+        List<AwsCredentialsProvider> orderedProviders = new ArrayList<>(providers);
+        Integer lastProviderIndex = builder.rememberLastProviderEnabled ? LAST_PROVIDER_INDEXES.get(lastProviderKey) : null;
+        if (lastProviderIndex != null) {
+            // Check the provider that returned credentials last first, and the other ones in the default order if it fails.
+            orderedProviders.add(0, orderedProviders.remove((int) lastProviderIndex));
+        } else if (builder.parallelProbingEnabled) {
+            prefetch(providers);
+        }
+
+        AwsCredentialsProviderChain providerChain = AwsCredentialsProviderChain.builder()
+                                                                               .reuseLastProviderEnabled(reuseLastProviderEnabled)
+                                                                               .credentialsProviders(orderedProviders)
+                                                                               .build();
+        this.credentialsProviders = providers;
+        this.chain = providerChain;
+        return providerChain;
+    }
+
+    /**
+     * Start resolving the credentials of the providers that require a network call in the background, so that they are ready
+     * when the chain checks them.
+     */
+    private static void prefetch(List<AwsCredentialsProvider> providers) {
+        for (AwsCredentialsProvider provider : providers) {
+            if (provider instanceof PrefetchingCredentialsProvider) {
+                ((PrefetchingCredentialsProvider) provider).prefetch(PROBE_EXECUTOR);
+            }
+        }
+    }
+
+    /**
+     * Drop the prefetched credentials that the first resolution did not use, so that a later resolution does not return
+     * them, however old they are by then.
+     */
+    private void discardPrefetchedCredentials() {
+        List<AwsCredentialsProvider> providers = credentialsProviders;
+        if (prefetchedCredentialsDiscarded || providers == null) {
+            return;
+        }
+
+        prefetchedCredentialsDiscarded = true;
+        for (AwsCredentialsProvider provider : providers) {
+            if (provider instanceof PrefetchingCredentialsProvider) {
+                ((PrefetchingCredentialsProvider) provider).discardPrefetched();
+            }
+        }
+    }
+
+    private void rememberLastProvider() {
+        IdentityProvider<? extends AwsCredentialsIdentity> lastUsedProvider = chain.lastUsedProvider();
+        if (lastUsedProvider == rememberedProvider) {
+            return;
+        }
+
+        rememberedProvider = lastUsedProvider;
+        int index = credentialsProviders.indexOf(lastUsedProvider);
+        if (index >= 0) {
+            LAST_PROVIDER_INDEXES.put(lastProviderKey, index);
+        }
     }
 
     /**
@@ -126,7 +253,23 @@ public final class DefaultCredentialsProvider
 
     @Override
     public AwsCredentials resolveCredentials() {
-        return providerChain.resolveCredentials();
+        AwsCredentials credentials;
+        try {
+            credentials = providerChain.resolveCredentials();
+        } finally {
+            if (parallelProbingEnabled) {
+                discardPrefetchedCredentials();
+            }
+        }
+        if (rememberLastProviderEnabled) {
+            rememberLastProvider();
+        }
+        return credentials;
+    }
+
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        return identityFutureCache.completedFuture(resolveCredentials());
     }
 
     @Override
@@ -151,9 +294,12 @@ public final class DefaultCredentialsProvider
      */
     public static final class Builder implements CopyableBuilder<Builder, DefaultCredentialsProvider> {
         private Supplier<ProfileFile> profileFile;
+        private Object profileFileKey;
         private String profileName;
         private Boolean reuseLastProviderEnabled = true;
         private Boolean asyncCredentialUpdateEnabled = false;
+        private Boolean parallelProbingEnabled = false;
+        private Boolean rememberLastProviderEnabled = false;
 
         /**
          * Created with {@link #builder()}.
@@ -163,19 +309,25 @@ public final class DefaultCredentialsProvider
 
         private Builder(DefaultCredentialsProvider credentialsProvider) {
             this.profileFile = credentialsProvider.profileFile;
+            this.profileFileKey = credentialsProvider.profileFileKey;
             this.profileName = credentialsProvider.profileName;
             this.reuseLastProviderEnabled = credentialsProvider.reuseLastProviderEnabled;
             this.asyncCredentialUpdateEnabled = credentialsProvider.asyncCredentialUpdateEnabled;
+            this.parallelProbingEnabled = credentialsProvider.parallelProbingEnabled;
+            this.rememberLastProviderEnabled = credentialsProvider.rememberLastProviderEnabled;
         }
 
         public Builder profileFile(ProfileFile profileFile) {
-            return profileFile(Optional.ofNullable(profileFile)
-                                       .map(ProfileFileSupplier::fixedProfileFile)
-                                       .orElse(null));
+            profileFile(Optional.ofNullable(profileFile)
+                                .map(ProfileFileSupplier::fixedProfileFile)
+                                .orElse(null));
+            this.profileFileKey = profileFile;
+            return this;
         }
 
         public Builder profileFile(Supplier<ProfileFile> profileFileSupplier) {
             this.profileFile = profileFileSupplier;
+            this.profileFileKey = profileFileSupplier;
             return this;
         }
 
@@ -207,6 +359,35 @@ public final class DefaultCredentialsProvider
             return this;
         }
 
+        /**
+         * Configure whether the providers that require a network call (web identity token, container and instance profile
+         * credentials) should be checked concurrently the first time credentials are resolved. The providers are still used in
+         * the same order: the credentials of the first provider in the chain that can provide them are returned, but the
+         * time spent waiting for the slow providers that can't is no longer added up.
+         *
+         * <p>When this is enabled, the providers that require a network call may be called even if a provider before them in
+         * the chain provides credentials.
+         *
+         * <p>By default, this is disabled.</p>
+         */
+        public Builder parallelProbingEnabled(Boolean parallelProbingEnabled) {
+            this.parallelProbingEnabled = parallelProbingEnabled;
+            return this;
+        }
+
+        /**
+         * Configure whether the provider that returned credentials should be remembered for the rest of the process. When
+         * enabled, the other {@link DefaultCredentialsProvider}s with the same configuration that also enable this option check
+         * that provider first, instead of searching through the chain. If it can't provide credentials anymore, the other
+         * providers are checked in the usual order.
+         *
+         * <p>By default, this is disabled.</p>
+         */
+        public Builder rememberLastProviderEnabled(Boolean rememberLastProviderEnabled) {
+            this.rememberLastProviderEnabled = rememberLastProviderEnabled;
+            return this;
+        }
+
         /**
          * Create a {@link DefaultCredentialsProvider} using the configuration defined in this builder.
          */
@@ -15,7 +15,10 @@
 
 package software.amazon.awssdk.auth.credentials;
 
+import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
 
@@ -26,10 +29,12 @@ import software.amazon.awssdk.utils.Validate;
 public final class StaticCredentialsProvider implements AwsCredentialsProvider {
     private static final String PROVIDER_NAME = "StaticCredentialsProvider";
     private final AwsCredentials credentials;
+    private final CompletableFuture<AwsCredentialsIdentity> identityFuture;
 
     private StaticCredentialsProvider(AwsCredentials credentials) {
         Validate.notNull(credentials, "Credentials must not be null.");
         this.credentials = withProviderName(credentials);
+        this.identityFuture = CompletableFuture.completedFuture(this.credentials);
     }
 
     private AwsCredentials withProviderName(AwsCredentials credentials) {
@@ -54,6 +59,11 @@ public final class StaticCredentialsProvider implements AwsCredentialsProvider {
         return credentials;
     }
 
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        return identityFuture;
+    }
+
     @Override
     public String toString() {
         return ToString.builder(PROVIDER_NAME)
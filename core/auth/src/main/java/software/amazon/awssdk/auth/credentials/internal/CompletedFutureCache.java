@@ -0,0 +1,62 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.credentials.internal;
+
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Reuses the completed future returned by an identity provider's {@code resolveIdentity} for as long as the provider keeps
+ * returning the same identity instance, so that providers with a static or cached identity do not create a new
+ * {@link CompletableFuture} on every request.
+ *
+ * <p>The returned futures are shared between callers, and must not be completed or obtruded by them.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class CompletedFutureCache<T> {
+    private volatile Entry<T> lastEntry;
+
+    /**
+     * Get a completed future for the provided value, reusing the last returned future if it was completed with the same
+     * instance.
+     */
+    public CompletableFuture<T> completedFuture(T value) {
+        Entry<T> entry = lastEntry;
+        if (entry != null && entry.value == value) {
+            return entry.future;
+        }
+
+        entry = new Entry<>(value);
+        lastEntry = entry;
+        return entry.future;
+    }
+
+    /**
+     * A completed future and the value it was completed with, published together so that they are always read
+     * consistently.
+     */
+    private static final class Entry<T> {
+        private final T value;
+        private final CompletableFuture<T> future;
+
+        private Entry(T value) {
+            this.value = value;
+            this.future = CompletableFuture.completedFuture(value);
+        }
+    }
+}
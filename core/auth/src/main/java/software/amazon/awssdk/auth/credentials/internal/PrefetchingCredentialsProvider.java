@@ -0,0 +1,94 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.credentials.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * A wrapper for {@link AwsCredentialsProvider} that can start resolving credentials in the background before they are
+ * requested. This is used to probe slow providers of a chain concurrently, while the chain still checks them in order.
+ * <p>
+ * The credentials resolved in the background, or the resolution failure, are returned by the next call to
+ * {@link #resolveCredentials()}, unless they are discarded first. All other calls are delegated.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class PrefetchingCredentialsProvider implements AwsCredentialsProvider, SdkAutoCloseable {
+    private static final CompletableFuture<AwsCredentials> CONSUMED = new CompletableFuture<>();
+
+    private final AwsCredentialsProvider delegate;
+    private final AtomicReference<CompletableFuture<AwsCredentials>> prefetched = new AtomicReference<>();
+
+    private PrefetchingCredentialsProvider(AwsCredentialsProvider delegate) {
+        this.delegate = delegate;
+    }
+
+    public static PrefetchingCredentialsProvider create(AwsCredentialsProvider delegate) {
+        return new PrefetchingCredentialsProvider(delegate);
+    }
+
+    /**
+     * Start resolving credentials using the given executor, unless credentials were already prefetched or requested.
+     */
+    public void prefetch(Executor executor) {
+        CompletableFuture<AwsCredentials> future = new CompletableFuture<>();
+        if (prefetched.compareAndSet(null, future)) {
+            executor.execute(() -> {
+                try {
+                    future.complete(delegate.resolveCredentials());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+        }
+    }
+
+    /**
+     * Drop the credentials resolved in the background if they were not returned yet, so that the next call to
+     * {@link #resolveCredentials()} is delegated.
+     */
+    public void discardPrefetched() {
+        prefetched.set(CONSUMED);
+    }
+
+    @Override
+    public AwsCredentials resolveCredentials() {
+        CompletableFuture<AwsCredentials> future = prefetched.getAndSet(CONSUMED);
+        if (future != null && future != CONSUMED) {
+            return CompletableFutureUtils.joinLikeSync(future);
+        }
+        return delegate.resolveCredentials();
+    }
+
+    @Override
+    public void close() {
+        IoUtils.closeIfCloseable(delegate, null);
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
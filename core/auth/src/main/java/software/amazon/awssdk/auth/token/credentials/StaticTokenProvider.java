@@ -15,7 +15,10 @@
 
 package software.amazon.awssdk.auth.token.credentials;
 
+import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
+import software.amazon.awssdk.identity.spi.TokenIdentity;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
 
@@ -25,9 +28,11 @@ import software.amazon.awssdk.utils.Validate;
 @SdkPublicApi
 public final class StaticTokenProvider implements SdkTokenProvider {
     private final SdkToken token;
+    private final CompletableFuture<TokenIdentity> identityFuture;
 
     private StaticTokenProvider(SdkToken token) {
         this.token = Validate.notNull(token, "Token must not be null.");
+        this.identityFuture = CompletableFuture.completedFuture(token);
     }
 
     /**
@@ -42,6 +47,11 @@ public final class StaticTokenProvider implements SdkTokenProvider {
         return token;
     }
 
+    @Override
+    public CompletableFuture<TokenIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        return identityFuture;
+    }
+
     @Override
     public String toString() {
         return ToString.builder("StaticTokenProvider")
@@ -18,8 +18,10 @@ package software.amazon.awssdk.auth.credentials;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static software.amazon.awssdk.core.SdkSystemSetting.AWS_CONTAINER_CREDENTIALS_RELATIVE_URI;
@@ -104,6 +106,27 @@ public class ContainerCredentialsProviderTest {
         });
     }
 
+    /**
+     * Tests that providers with a shared credentials cache for the same endpoint only load credentials once.
+     */
+    @Test
+    public void sharedCredentialsCacheLoadsCredentialsOnceForSameEndpoint() {
+        stubForSuccessResponse();
+        mockServer.resetRequests();
+
+        ContainerCredentialsProvider.Builder builder =
+            ContainerCredentialsProvider.builder()
+                                        .endpoint("http://localhost:" + mockServer.port())
+                                        .sharedCredentialsCacheEnabled(true);
+
+        try (ContainerCredentialsProvider first = builder.build();
+             ContainerCredentialsProvider second = first.toBuilder().build()) {
+            assertThat(first.resolveCredentials()).isEqualTo(second.resolveCredentials());
+        }
+
+        verify(1, getRequestedFor(urlPathEqualTo(CREDENTIALS_PATH)));
+    }
+
     private void stubForSuccessResponse() {
         stubFor200Response(getSuccessfulBody());
     }
@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.profiles.ProfileFileSupplier;
 import software.amazon.awssdk.utils.StringInputStream;
@@ -97,6 +98,98 @@ class DefaultCredentialsProviderTest {
         });
     }
 
+    @Test
+    void resolveCredentials_parallelProbingEnabled_returnsCredentialsOfFirstProviderInChain() {
+        DefaultCredentialsProvider provider = DefaultCredentialsProvider
+            .builder()
+            .profileFile(credentialFile("test", "access", "secret"))
+            .profileName("test")
+            .parallelProbingEnabled(true)
+            .build();
+
+        assertThat(provider.resolveCredentials()).satisfies(awsCredentials -> {
+            assertThat(awsCredentials.accessKeyId()).isEqualTo("access");
+            assertThat(awsCredentials.secretAccessKey()).isEqualTo("secret");
+        });
+    }
+
+    @Test
+    void resolveCredentials_rememberLastProviderEnabled_checksRememberedProviderFirst() {
+        ProfileFileSupplier profileFile = ProfileFileSupplier.fixedProfileFile(credentialFile("test", "access", "secret"));
+
+        DefaultCredentialsProvider firstProvider = DefaultCredentialsProvider
+            .builder()
+            .profileFile(profileFile)
+            .profileName("test")
+            .rememberLastProviderEnabled(true)
+            .build();
+        assertThat(firstProvider.resolveCredentials().accessKeyId()).isEqualTo("access");
+
+        System.setProperty(SdkSystemSetting.AWS_ACCESS_KEY_ID.property(), "systemAccess");
+        System.setProperty(SdkSystemSetting.AWS_SECRET_ACCESS_KEY.property(), "systemSecret");
+        try {
+            DefaultCredentialsProvider rememberingProvider = firstProvider.toBuilder().build();
+            assertThat(rememberingProvider.resolveCredentials().accessKeyId()).isEqualTo("access");
+
+            DefaultCredentialsProvider otherProvider = firstProvider.toBuilder().rememberLastProviderEnabled(false).build();
+            assertThat(otherProvider.resolveCredentials().accessKeyId()).isEqualTo("systemAccess");
+        } finally {
+            System.clearProperty(SdkSystemSetting.AWS_ACCESS_KEY_ID.property());
+            System.clearProperty(SdkSystemSetting.AWS_SECRET_ACCESS_KEY.property());
+        }
+    }
+
+    @Test
+    void resolveCredentials_rememberLastProviderEnabledWithEqualProfileFiles_checksRememberedProviderFirst() {
+        DefaultCredentialsProvider firstProvider = DefaultCredentialsProvider
+            .builder()
+            .profileFile(credentialFile("equal", "access", "secret"))
+            .profileName("equal")
+            .rememberLastProviderEnabled(true)
+            .build();
+        assertThat(firstProvider.resolveCredentials().accessKeyId()).isEqualTo("access");
+
+        System.setProperty(SdkSystemSetting.AWS_ACCESS_KEY_ID.property(), "systemAccess");
+        System.setProperty(SdkSystemSetting.AWS_SECRET_ACCESS_KEY.property(), "systemSecret");
+        try {
+            DefaultCredentialsProvider rememberingProvider = DefaultCredentialsProvider
+                .builder()
+                .profileFile(credentialFile("equal", "access", "secret"))
+                .profileName("equal")
+                .rememberLastProviderEnabled(true)
+                .build();
+            assertThat(rememberingProvider.resolveCredentials().accessKeyId()).isEqualTo("access");
+        } finally {
+            System.clearProperty(SdkSystemSetting.AWS_ACCESS_KEY_ID.property());
+            System.clearProperty(SdkSystemSetting.AWS_SECRET_ACCESS_KEY.property());
+        }
+    }
+
+    @Test
+    void resolveCredentials_rememberedProviderFails_checksProvidersInOrder() {
+        List<ProfileFile> profileFileList = Arrays.asList(credentialFile("test", "access", "secret"),
+                                                          credentialFile("other", "access", "secret"));
+        ProfileFileSupplier profileFile = supply(profileFileList);
+
+        DefaultCredentialsProvider firstProvider = DefaultCredentialsProvider
+            .builder()
+            .profileFile(profileFile)
+            .profileName("test")
+            .rememberLastProviderEnabled(true)
+            .build();
+        assertThat(firstProvider.resolveCredentials().accessKeyId()).isEqualTo("access");
+
+        System.setProperty(SdkSystemSetting.AWS_ACCESS_KEY_ID.property(), "systemAccess");
+        System.setProperty(SdkSystemSetting.AWS_SECRET_ACCESS_KEY.property(), "systemSecret");
+        try {
+            DefaultCredentialsProvider rememberingProvider = firstProvider.toBuilder().build();
+            assertThat(rememberingProvider.resolveCredentials().accessKeyId()).isEqualTo("systemAccess");
+        } finally {
+            System.clearProperty(SdkSystemSetting.AWS_ACCESS_KEY_ID.property());
+            System.clearProperty(SdkSystemSetting.AWS_SECRET_ACCESS_KEY.property());
+        }
+    }
+
     private ProfileFile credentialFile(String credentialFile) {
         return ProfileFile.builder()
                           .content(new StringInputStream(credentialFile))
@@ -18,7 +18,9 @@ package software.amazon.awssdk.auth.credentials;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 
 class StaticCredentialsProviderTest {
     @Test
@@ -63,6 +65,14 @@ class StaticCredentialsProviderTest {
         assertThat(actualCredentials).isEqualTo(credentials);
     }
 
+    @Test
+    void resolveIdentity_ReturnsSameCompletedFuture() {
+        StaticCredentialsProvider provider = StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid"));
+        CompletableFuture<? extends AwsCredentialsIdentity> identity = provider.resolveIdentity();
+        assertThat(identity.join()).isSameAs(provider.resolveCredentials());
+        assertThat(provider.resolveIdentity()).isSameAs(identity);
+    }
+
     @Test
     void nullCredentials_ThrowsRuntimeException() {
         assertThatThrownBy(() -> StaticCredentialsProvider.create(null)).isInstanceOf(RuntimeException.class);
@@ -0,0 +1,48 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.credentials.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+
+class CompletedFutureCacheTest {
+    private final CompletedFutureCache<AwsCredentialsIdentity> cache = new CompletedFutureCache<>();
+
+    @Test
+    void completedFuture_sameValue_reusesFuture() {
+        AwsCredentialsIdentity credentials = AwsBasicCredentials.create("akid", "skid");
+
+        CompletableFuture<AwsCredentialsIdentity> future = cache.completedFuture(credentials);
+
+        assertThat(future).isCompletedWithValue(credentials);
+        assertThat(cache.completedFuture(credentials)).isSameAs(future);
+    }
+
+    @Test
+    void completedFuture_equalButDifferentValue_createsNewFuture() {
+        CompletableFuture<AwsCredentialsIdentity> first = cache.completedFuture(AwsBasicCredentials.create("akid", "skid"));
+        AwsCredentialsIdentity refreshed = AwsBasicCredentials.create("akid", "skid");
+
+        CompletableFuture<AwsCredentialsIdentity> second = cache.completedFuture(refreshed);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.join()).isSameAs(refreshed);
+    }
+}
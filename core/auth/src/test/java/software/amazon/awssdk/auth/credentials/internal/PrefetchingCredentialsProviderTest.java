@@ -0,0 +1,114 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.credentials.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+public class PrefetchingCredentialsProviderTest {
+    private static final AwsCredentials CREDENTIALS = AwsBasicCredentials.create("akid", "skid");
+
+    private AwsCredentialsProvider delegate = Mockito.mock(AwsCredentialsProvider.class);
+
+    private List<Runnable> tasks;
+    private Executor executor;
+
+    @BeforeEach
+    public void reset() {
+        Mockito.reset(delegate);
+        Mockito.when(delegate.resolveCredentials()).thenReturn(CREDENTIALS);
+        tasks = new ArrayList<>();
+        executor = tasks::add;
+    }
+
+    @Test
+    public void resolveCredentials_withoutPrefetch_delegates() {
+        PrefetchingCredentialsProvider provider = PrefetchingCredentialsProvider.create(delegate);
+
+        assertThat(provider.resolveCredentials()).isSameAs(CREDENTIALS);
+        Mockito.verify(delegate, Mockito.times(1)).resolveCredentials();
+    }
+
+    @Test
+    public void resolveCredentials_afterPrefetch_returnsPrefetchedCredentialsOnce() {
+        PrefetchingCredentialsProvider provider = PrefetchingCredentialsProvider.create(delegate);
+        provider.prefetch(executor);
+        provider.prefetch(executor);
+        assertThat(tasks).hasSize(1);
+        tasks.get(0).run();
+
+        assertThat(provider.resolveCredentials()).isSameAs(CREDENTIALS);
+        Mockito.verify(delegate, Mockito.times(1)).resolveCredentials();
+
+        assertThat(provider.resolveCredentials()).isSameAs(CREDENTIALS);
+        Mockito.verify(delegate, Mockito.times(2)).resolveCredentials();
+    }
+
+    @Test
+    public void resolveCredentials_prefetchFailed_throwsFailure() {
+        SdkClientException failure = SdkClientException.create("Unable to load credentials");
+        Mockito.when(delegate.resolveCredentials()).thenThrow(failure);
+
+        PrefetchingCredentialsProvider provider = PrefetchingCredentialsProvider.create(delegate);
+        provider.prefetch(executor);
+        tasks.get(0).run();
+
+        assertThatThrownBy(provider::resolveCredentials).isSameAs(failure);
+    }
+
+    @Test
+    public void resolveCredentials_prefetchDiscarded_delegates() {
+        AwsCredentials refreshedCredentials = AwsBasicCredentials.create("akid2", "skid2");
+        PrefetchingCredentialsProvider provider = PrefetchingCredentialsProvider.create(delegate);
+        provider.prefetch(executor);
+        tasks.get(0).run();
+        Mockito.when(delegate.resolveCredentials()).thenReturn(refreshedCredentials);
+
+        provider.discardPrefetched();
+
+        assertThat(provider.resolveCredentials()).isSameAs(refreshedCredentials);
+        Mockito.verify(delegate, Mockito.times(2)).resolveCredentials();
+    }
+
+    @Test
+    public void prefetch_afterDiscardPrefetched_doesNothing() {
+        PrefetchingCredentialsProvider provider = PrefetchingCredentialsProvider.create(delegate);
+        provider.discardPrefetched();
+        provider.prefetch(executor);
+
+        assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    public void prefetch_afterResolveCredentials_doesNothing() {
+        PrefetchingCredentialsProvider provider = PrefetchingCredentialsProvider.create(delegate);
+        provider.resolveCredentials();
+        provider.prefetch(executor);
+
+        assertThat(tasks).isEmpty();
+    }
+}
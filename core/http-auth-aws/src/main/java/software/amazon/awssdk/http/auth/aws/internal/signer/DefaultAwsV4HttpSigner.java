@@ -45,6 +45,7 @@ import software.amazon.awssdk.http.auth.spi.signer.SignRequest;
 import software.amazon.awssdk.http.auth.spi.signer.SignedRequest;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.StringUtils;
 
 /**
  * An implementation of a {@link AwsV4HttpSigner} that uses properties to compose v4-signers in order to delegate signing of a
@@ -137,11 +138,23 @@ public final class DefaultAwsV4HttpSigner implements AwsV4HttpSigner {
         boolean isTrailing = request.request().firstMatchingHeader(X_AMZ_TRAILER).isPresent();
         boolean isFlexible = request.hasProperty(CHECKSUM_ALGORITHM) && !hasChecksumHeader;
         boolean isAnonymous = CredentialUtils.isAnonymous(request.identity());
+        String payloadSha256 = request.property(PAYLOAD_SHA256);
 
         if (isEventStreaming) {
             return Checksummer.forPrecomputed256Checksum(STREAMING_EVENTS_PAYLOAD);
         }
 
+        if (payloadSha256 != null && isChunkEncoding) {
+            // Each chunk is signed with the hash of its own data, so a hash of the whole payload has no use.
+            LOG.debug(() -> PAYLOAD_SHA256 + " was set for a chunk-encoded request. It will be ignored.");
+        } else if (payloadSha256 != null && !isAnonymous) {
+            String validatedPayloadSha256 = validatePayloadSha256(payloadSha256);
+            if (isFlexible) {
+                return Checksummer.forFlexibleChecksum(validatedPayloadSha256, request.property(CHECKSUM_ALGORITHM));
+            }
+            return Checksummer.forPrecomputed256Checksum(validatedPayloadSha256);
+        }
+
         if (isPayloadSigning) {
             if (isChunkEncoding) {
                 if (isFlexible || isTrailing) {
@@ -306,6 +319,18 @@ public final class DefaultAwsV4HttpSigner implements AwsV4HttpSigner {
         return expirationDuration;
     }
 
+    private static String validatePayloadSha256(String payloadSha256) {
+        if (payloadSha256.length() != 64 || !payloadSha256.chars().allMatch(DefaultAwsV4HttpSigner::isHexDigit)) {
+            throw new IllegalArgumentException(PAYLOAD_SHA256 + " must be a hex-encoded SHA-256 hash, but was ["
+                                               + payloadSha256 + "].");
+        }
+        return StringUtils.lowerCase(payloadSha256);
+    }
+
+    private static boolean isHexDigit(int c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
     private static boolean isBetweenInclusive(Duration start, Duration x, Duration end) {
         return start.compareTo(x) <= 0 && x.compareTo(end) <= 0;
     }
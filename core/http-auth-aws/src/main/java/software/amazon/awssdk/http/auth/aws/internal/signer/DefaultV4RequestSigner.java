@@ -17,7 +17,6 @@ package software.amazon.awssdk.http.auth.aws.internal.signer;
 
 import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant.AWS4_SIGNING_ALGORITHM;
 import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.deriveSigningKey;
-import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.hashCanonicalRequest;
 
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpRequest;
@@ -39,6 +38,8 @@ public final class DefaultV4RequestSigner implements V4RequestSigner {
 
     private static final Logger LOG = Logger.loggerFor(DefaultV4RequestSigner.class);
 
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
     private final V4Properties properties;
     private final String contentHash;
 
@@ -52,11 +53,10 @@ public final class DefaultV4RequestSigner implements V4RequestSigner {
         // Step 1: Create a canonical request
         V4CanonicalRequest canonicalRequest = createCanonicalRequest(requestBuilder.build(), contentHash);
 
-        String canonicalRequestString = canonicalRequest.getCanonicalRequestString();
-        LOG.debug(() -> "AWS4 Canonical Request: " + canonicalRequestString);
+        LOG.debug(() -> "AWS4 Canonical Request: " + canonicalRequest.getCanonicalRequestString());
 
         // Step 2: Create a hash of the canonical request
-        String canonicalRequestHash = hashCanonicalRequest(canonicalRequestString);
+        byte[] canonicalRequestHash = canonicalRequest.getCanonicalRequestHash();
 
         // Step 2: Create a hash of the canonical request
         String stringToSign = createSignString(canonicalRequestHash);
@@ -77,21 +77,33 @@ public final class DefaultV4RequestSigner implements V4RequestSigner {
         ));
     }
 
-    private String createSignString(String canonicalRequestHash) {
-        LOG.debug(() -> "AWS4 Canonical Request Hash: " + canonicalRequestHash);
+    private String createSignString(byte[] canonicalRequestHash) {
+        LOG.debug(() -> "AWS4 Canonical Request Hash: " + BinaryUtils.toHex(canonicalRequestHash));
+
+        String datetime = properties.getCredentialScope().getDatetime();
+        String scope = properties.getCredentialScope().scope();
+        StringBuilder result = new StringBuilder(AWS4_SIGNING_ALGORITHM.length() + datetime.length() + scope.length()
+                                                 + canonicalRequestHash.length * 2 + 3);
+        result.append(AWS4_SIGNING_ALGORITHM)
+              .append(SignerConstant.LINE_SEPARATOR)
+              .append(datetime)
+              .append(SignerConstant.LINE_SEPARATOR)
+              .append(scope)
+              .append(SignerConstant.LINE_SEPARATOR);
+        appendHex(result, canonicalRequestHash);
 
-        String stringToSign = AWS4_SIGNING_ALGORITHM +
-                              SignerConstant.LINE_SEPARATOR +
-                              properties.getCredentialScope().getDatetime() +
-                              SignerConstant.LINE_SEPARATOR +
-                              properties.getCredentialScope().scope() +
-                              SignerConstant.LINE_SEPARATOR +
-                              canonicalRequestHash;
+        String stringToSign = result.toString();
 
         LOG.debug(() -> "AWS4 String to sign: " + stringToSign);
         return stringToSign;
     }
 
+    private static void appendHex(StringBuilder result, byte[] data) {
+        for (byte b : data) {
+            result.append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+        }
+    }
+
     private byte[] createSigningKey() {
         return deriveSigningKey(properties.getCredentials(), properties.getCredentialScope());
     }
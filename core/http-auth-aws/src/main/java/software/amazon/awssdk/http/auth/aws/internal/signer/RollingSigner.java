@@ -15,40 +15,89 @@
 
 package software.amazon.awssdk.http.auth.aws.internal.signer;
 
-import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.computeSignature;
-import static software.amazon.awssdk.utils.BinaryUtils.toHex;
-
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.util.function.Function;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SigningAlgorithm;
 
 /**
  * A class which calculates a rolling signature of arbitrary data using HMAC-SHA256. Each time a signature is calculated, the
  * prior calculation is incorporated, hence "rolling".
+ * <p>
+ * The {@link Mac} is keyed with the signing key once, and reused for every signature, since computing a signature resets it
+ * to its keyed state. Like the rolling signature itself, this means that an instance must not be used by multiple threads at
+ * the same time.
  */
 @SdkInternalApi
 public final class RollingSigner {
 
-    private final byte[] signingKey;
-    private final String seedSignature;
-    private String previousSignature;
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final Mac mac;
+    private final byte[] seedSignature;
+    private final byte[] signature;
+    private final byte[] signatureHex;
+    private byte[] previousSignature;
 
     public RollingSigner(byte[] signingKey, String seedSignature) {
-        this.seedSignature = seedSignature;
-        this.previousSignature = seedSignature;
-        this.signingKey = signingKey.clone();
+        this.seedSignature = seedSignature.getBytes(StandardCharsets.UTF_8);
+        this.previousSignature = this.seedSignature;
+        this.mac = newMac(signingKey);
+        this.signature = new byte[mac.getMacLength()];
+        this.signatureHex = new byte[signature.length * 2];
     }
 
     /**
      * Using a template that incorporates the previous calculated signature, sign the string and return it.
      */
     public String sign(Function<String, String> stringToSignTemplate) {
-        String stringToSign = stringToSignTemplate.apply(previousSignature);
-        byte[] bytes = computeSignature(stringToSign, signingKey);
-        previousSignature = toHex(bytes);
-        return previousSignature;
+        String stringToSign = stringToSignTemplate.apply(new String(previousSignature, StandardCharsets.UTF_8));
+        mac.update(stringToSign.getBytes(StandardCharsets.UTF_8));
+        return new String(finishSignature(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Sign the string made of the given prefix, the previous calculated signature and the given suffix, and return the
+     * hex-encoded signature. This does the same as {@link #sign(Function)}, without creating any object.
+     * <p>
+     * The returned array is reused: it is only valid until the next signature is calculated, and must not be modified.
+     */
+    public byte[] sign(byte[] stringToSignPrefix, byte[] stringToSignSuffix) {
+        mac.update(stringToSignPrefix);
+        mac.update(previousSignature);
+        mac.update(stringToSignSuffix);
+        return finishSignature();
     }
 
     public void reset() {
         previousSignature = seedSignature;
     }
+
+    private byte[] finishSignature() {
+        try {
+            mac.doFinal(signature, 0);
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Unable to calculate a request signature: ", e);
+        }
+        for (int i = 0; i < signature.length; i++) {
+            signatureHex[2 * i] = HEX_DIGITS[(signature[i] >> 4) & 0xF];
+            signatureHex[2 * i + 1] = HEX_DIGITS[signature[i] & 0xF];
+        }
+        previousSignature = signatureHex;
+        return signatureHex;
+    }
+
+    private static Mac newMac(byte[] signingKey) {
+        String algorithm = SigningAlgorithm.HMAC_SHA256.getAlgorithmName();
+        try {
+            Mac mac = Mac.getInstance(algorithm);
+            mac.init(new SecretKeySpec(signingKey, algorithm));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Unable to calculate a request signature: ", e);
+        }
+    }
 }
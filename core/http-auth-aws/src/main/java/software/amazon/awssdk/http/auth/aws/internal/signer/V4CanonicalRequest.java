@@ -29,6 +29,7 @@ import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils;
 import software.amazon.awssdk.utils.Pair;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
@@ -45,6 +46,11 @@ public final class V4CanonicalRequest {
     private static final List<String> HEADERS_TO_IGNORE_IN_LOWER_CASE =
         Arrays.asList("connection", "x-amzn-trace-id", "user-agent", "expect");
 
+    // 2048 chosen experimentally to avoid always needing to resize the string builder's internal byte array.
+    // The minimal DynamoDB get-item request at the time of testing used ~1100 bytes. 2048 was chosen as the
+    // next-highest power-of-two.
+    private static final int CANONICAL_HEADERS_INITIAL_CAPACITY = 2048;
+
     private final SdkHttpRequest request;
     private final String contentHash;
     private final Options options;
@@ -54,8 +60,8 @@ public final class V4CanonicalRequest {
     private SortedMap<String, List<String>> canonicalParams;
     private List<Pair<String, List<String>>> canonicalHeaders;
     private String canonicalQueryString;
-    private String canonicalHeadersString;
     private String signedHeadersString;
+    private StringBuilder canonicalRequest;
     private String canonicalRequestString;
 
     /**
@@ -87,13 +93,28 @@ public final class V4CanonicalRequest {
      */
     public String getCanonicalRequestString() {
         if (canonicalRequestString == null) {
-            canonicalRequestString = getCanonicalRequestString(request.method().toString(), canonicalUri(),
-                                                               canonicalQueryString(), canonicalHeadersString(),
-                                                               getSignedHeadersString(), contentHash);
+            canonicalRequestString = canonicalRequest().toString();
         }
         return canonicalRequestString;
     }
 
+    /**
+     * Get the SHA-256 hash of the canonical request.
+     * <p>
+     * This hashes the canonical request without creating the canonical request string, so
+     * {@link #getCanonicalRequestString()} should only be called when the string itself is needed.
+     */
+    public byte[] getCanonicalRequestHash() {
+        return SignerUtils.hashUtf8(canonicalRequest());
+    }
+
+    private StringBuilder canonicalRequest() {
+        if (canonicalRequest == null) {
+            canonicalRequest = buildCanonicalRequest();
+        }
+        return canonicalRequest;
+    }
+
     private SortedMap<String, List<String>> canonicalQueryParams() {
         if (canonicalParams == null) {
             canonicalParams = getCanonicalQueryParams(request);
@@ -122,11 +143,25 @@ public final class V4CanonicalRequest {
         return canonicalQueryString;
     }
 
-    private String canonicalHeadersString() {
-        if (canonicalHeadersString == null) {
-            canonicalHeadersString = getCanonicalHeadersString(canonicalHeaders());
-        }
-        return canonicalHeadersString;
+    /**
+     * Write each part of the canonical request, separated by a newline character, into a single builder.
+     */
+    private StringBuilder buildCanonicalRequest() {
+        String method = request.method().toString();
+        String uri = canonicalUri();
+        String queryString = canonicalQueryString();
+        String signedHeaders = getSignedHeadersString();
+
+        StringBuilder result = new StringBuilder(CANONICAL_HEADERS_INITIAL_CAPACITY + method.length() + uri.length()
+                                                 + queryString.length() + signedHeaders.length() + contentHash.length());
+        result.append(method).append(SignerConstant.LINE_SEPARATOR)
+              .append(uri).append(SignerConstant.LINE_SEPARATOR)
+              .append(queryString).append(SignerConstant.LINE_SEPARATOR);
+        appendCanonicalHeaders(result, canonicalHeaders());
+        result.append(SignerConstant.LINE_SEPARATOR)
+              .append(signedHeaders).append(SignerConstant.LINE_SEPARATOR)
+              .append(contentHash);
+        return result;
     }
 
     /**
@@ -146,7 +181,7 @@ public final class V4CanonicalRequest {
             }
         });
 
-        result.sort(Comparator.comparing(Pair::left));
+        sortIfNeeded(result);
 
         return result;
     }
@@ -164,11 +199,24 @@ public final class V4CanonicalRequest {
             }
         });
 
-        result.sort(Comparator.comparing(Pair::left));
+        sortIfNeeded(result);
 
         return result;
     }
 
+    /**
+     * Sort the headers by their lower-case name. Headers that were sorted case-insensitively are already in this order once
+     * lower-cased, so the sort is only done if they were not.
+     */
+    private static void sortIfNeeded(List<Pair<String, List<String>>> headers) {
+        for (int i = 1; i < headers.size(); i++) {
+            if (headers.get(i - 1).left().compareTo(headers.get(i).left()) > 0) {
+                headers.sort(Comparator.comparing(Pair::left));
+                return;
+            }
+        }
+    }
+
     /**
      * Get the string representing the headers that will be signed and their values. The input list is expected to be sorted
      * case-insensitively.
@@ -181,58 +229,36 @@ public final class V4CanonicalRequest {
      * Each header-value pair is separated by a newline.
      */
     public static String getCanonicalHeadersString(List<Pair<String, List<String>>> canonicalHeaders) {
-        // 2048 chosen experimentally to avoid always needing to resize the string builder's internal byte array.
-        // The minimal DynamoDB get-item request at the time of testing used ~1100 bytes. 2048 was chosen as the
-        // next-highest power-of-two.
-        StringBuilder result = new StringBuilder(2048);
-        canonicalHeaders.forEach(header -> {
+        StringBuilder result = new StringBuilder(CANONICAL_HEADERS_INITIAL_CAPACITY);
+        appendCanonicalHeaders(result, canonicalHeaders);
+        return result.toString();
+    }
+
+    private static void appendCanonicalHeaders(StringBuilder result, List<Pair<String, List<String>>> canonicalHeaders) {
+        for (Pair<String, List<String>> header : canonicalHeaders) {
             result.append(header.left());
-            result.append(":");
+            result.append(':');
             for (String headerValue : header.right()) {
                 addAndTrim(result, headerValue);
-                result.append(",");
+                result.append(',');
             }
             result.setLength(result.length() - 1);
-            result.append("\n");
-        });
-        return result.toString();
+            result.append('\n');
+        }
     }
 
     /**
      * Get the string representing which headers are part of the signing process. Header names are separated by a semicolon.
      */
     public static String getSignedHeadersString(List<Pair<String, List<String>>> canonicalHeaders) {
-        String signedHeadersString;
         StringBuilder headersString = new StringBuilder(512);
         for (Pair<String, List<String>> header : canonicalHeaders) {
-            headersString.append(header.left()).append(";");
-        }
-        // get rid of trailing semicolon
-        signedHeadersString = headersString.toString();
-
-        boolean trimTrailingSemicolon = signedHeadersString.length() > 1 &&
-                                        signedHeadersString.endsWith(";");
-
-        if (trimTrailingSemicolon) {
-            signedHeadersString = signedHeadersString.substring(0, signedHeadersString.length() - 1);
+            if (headersString.length() > 0) {
+                headersString.append(';');
+            }
+            headersString.append(header.left());
         }
-        return signedHeadersString;
-    }
-
-    /**
-     * Get the canonical request string.
-     * <p>
-     * Each {@link String} parameter is separated by a newline character.
-     */
-    private static String getCanonicalRequestString(String httpMethod, String canonicalUri, String canonicalParamsString,
-                                                    String canonicalHeadersString, String signedHeadersString,
-                                                    String contentHash) {
-        return httpMethod + SignerConstant.LINE_SEPARATOR +
-               canonicalUri + SignerConstant.LINE_SEPARATOR +
-               canonicalParamsString + SignerConstant.LINE_SEPARATOR +
-               canonicalHeadersString + SignerConstant.LINE_SEPARATOR +
-               signedHeadersString + SignerConstant.LINE_SEPARATOR +
-               contentHash;
+        return headersString.toString();
     }
 
     /**
@@ -29,6 +29,8 @@ import software.amazon.awssdk.utils.Pair;
  *     chunk-ext-name = token
  *     chunk-ext-val  = token / quoted-string
  * </pre>
+ * <p>
+ * The returned arrays are copied before the next chunk is requested, so an implementation may reuse them across chunks.
  */
 @FunctionalInterface
 @SdkInternalApi
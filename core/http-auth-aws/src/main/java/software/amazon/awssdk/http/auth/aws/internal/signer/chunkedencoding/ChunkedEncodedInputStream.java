@@ -22,6 +22,7 @@ import java.io.SequenceInputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -47,16 +48,20 @@ import software.amazon.awssdk.utils.Validate;
  *     last-chunk     = 1*("0") [ chunk-ext ] CRLF
  *     chunk-data     = 1*OCTET ; a sequence of chunk-size octets
  * </pre>
+ * <p>
+ * The chunk-data buffer and the buffer the chunk-size and chunk-extensions are written to are allocated once per stream and
+ * reused for every chunk, so that encoding a large payload does not create garbage proportional to its size. A chunk is only
+ * read after the previous one has been fully read or closed, so the buffers are never overwritten while they are still used.
  */
 @SdkInternalApi
 public final class ChunkedEncodedInputStream extends InputStream {
     private static final Logger LOG = Logger.loggerFor(ChunkedEncodedInputStream.class);
     private static final byte[] CRLF = {'\r', '\n'};
-    private static final byte[] END = {};
     private static final byte[] SEMICOLON = {';'};
     private static final byte[] EQUALS = {'='};
     private static final byte[] COLON = {':'};
     private static final byte[] COMMA = {','};
+    private static final int INITIAL_CHUNK_PREFIX_SIZE = 128;
 
     private final InputStream inputStream;
     private final int chunkSize;
@@ -68,6 +73,11 @@ public final class ChunkedEncodedInputStream extends InputStream {
     private Chunk currentChunk;
     private boolean isFinished = false;
 
+    private byte[] chunkData;
+    private ByteBuffer readOnlyChunkData;
+    private byte[] chunkPrefix = new byte[INITIAL_CHUNK_PREFIX_SIZE];
+    private int chunkPrefixLength;
+
     private ChunkedEncodedInputStream(Builder builder) {
         this.inputStream = Validate.notNull(builder.inputStream, "Input-Stream cannot be null!");
         this.chunkSize = Validate.isPositive(builder.chunkSize, "Chunk-size must be greater than 0!");
@@ -108,12 +118,15 @@ public final class ChunkedEncodedInputStream extends InputStream {
         }
 
         // We have to read from the input stream into a format that can be used for signing and headers.
-        byte[] chunkData = new byte[chunkSize];
+        if (chunkData == null) {
+            chunkData = new byte[chunkSize];
+            readOnlyChunkData = ByteBuffer.wrap(chunkData).asReadOnlyBuffer();
+        }
         int read = read(stream, chunkData, chunkSize);
 
         if (read > 0) {
             // set the current chunk to the newly written chunk
-            return getNextChunk(ByteBuffer.wrap(chunkData, 0, read));
+            return getNextChunk(read);
         }
 
         LOG.debug(() -> "End of backing stream reached. Reading final chunk.");
@@ -144,15 +157,12 @@ public final class ChunkedEncodedInputStream extends InputStream {
     }
 
     /**
-     * Create a chunk from a byte-array, which includes the header, the extensions, and the chunk data. The input array should be
-     * correctly sized, i.e. the number of bytes should equal its length.
+     * Create a chunk from the first {@code length} bytes of the chunk-data buffer, which includes the header, the extensions,
+     * and the chunk data.
      */
-    private Chunk getNextChunk(ByteBuffer data) {
-        LengthAwareSequenceInputStream newChunkData =
-            LengthAwareSequenceInputStream.builder()
-                                          .add(createChunkStream(data))
-                                          .add(CRLF)
-                                          .build();
+    private Chunk getNextChunk(int length) {
+        writeChunkPrefix(length);
+        ChunkContentInputStream newChunkData = new ChunkContentInputStream(chunkPrefix, chunkPrefixLength, chunkData, length);
         return Chunk.create(newChunkData, newChunkData.size);
     }
 
@@ -160,9 +170,10 @@ public final class ChunkedEncodedInputStream extends InputStream {
      * Create the final chunk, which includes the header, the extensions, the chunk (if applicable), and the trailer
      */
     private Chunk getFinalChunk() throws IOException {
+        writeChunkPrefix(0);
         LengthAwareSequenceInputStream chunkData =
             LengthAwareSequenceInputStream.builder()
-                                          .add(createChunkStream(ByteBuffer.wrap(END)))
+                                          .add(Arrays.copyOf(chunkPrefix, chunkPrefixLength))
                                           .add(createTrailerStream())
                                           .add(CRLF)
                                           .build();
@@ -170,31 +181,36 @@ public final class ChunkedEncodedInputStream extends InputStream {
         return Chunk.create(chunkData, chunkData.size);
     }
 
-    private LengthAwareSequenceInputStream createChunkStream(ByteBuffer chunkData) {
-        return LengthAwareSequenceInputStream.builder()
-                                             .add(createHeaderStream(chunkData.asReadOnlyBuffer()))
-                                             .add(createExtensionsStream(chunkData.asReadOnlyBuffer()))
-                                             .add(CRLF)
-                                             .add(new ByteArrayInputStream(chunkData.array(),
-                                                                           chunkData.arrayOffset(),
-                                                                           chunkData.remaining()))
-                                             .build();
+    /**
+     * Write the chunk-size, the chunk-extensions and the CRLF that precede the chunk-data to the reused chunk-prefix buffer,
+     * for a chunk made of the first {@code length} bytes of the chunk-data buffer.
+     */
+    private void writeChunkPrefix(int length) {
+        chunkPrefixLength = 0;
+        appendToChunkPrefix(header.get(chunkDataView(length)));
+        for (ChunkExtensionProvider chunkExtensionProvider : extensions) {
+            Pair<byte[], byte[]> ext = chunkExtensionProvider.get(chunkDataView(length));
+            appendToChunkPrefix(SEMICOLON);
+            appendToChunkPrefix(ext.left());
+            appendToChunkPrefix(EQUALS);
+            appendToChunkPrefix(ext.right());
+        }
+        appendToChunkPrefix(CRLF);
     }
 
-    private ByteArrayInputStream createHeaderStream(ByteBuffer chunkData) {
-        return new ByteArrayInputStream(header.get(chunkData));
+    private ByteBuffer chunkDataView(int length) {
+        readOnlyChunkData.clear();
+        readOnlyChunkData.limit(length);
+        return readOnlyChunkData;
     }
 
-    private LengthAwareSequenceInputStream createExtensionsStream(ByteBuffer chunkData) {
-        LengthAwareSequenceInputStream.Builder result = LengthAwareSequenceInputStream.builder();
-        for (ChunkExtensionProvider chunkExtensionProvider : extensions) {
-            Pair<byte[], byte[]> ext = chunkExtensionProvider.get(chunkData);
-            result.add(SEMICOLON);
-            result.add(ext.left());
-            result.add(EQUALS);
-            result.add(ext.right());
+    private void appendToChunkPrefix(byte[] bytes) {
+        int required = chunkPrefixLength + bytes.length;
+        if (required > chunkPrefix.length) {
+            chunkPrefix = Arrays.copyOf(chunkPrefix, Math.max(required, chunkPrefix.length * 2));
         }
-        return result.build();
+        System.arraycopy(bytes, 0, chunkPrefix, chunkPrefixLength, bytes.length);
+        chunkPrefixLength = required;
     }
 
     private LengthAwareSequenceInputStream createTrailerStream() throws IOException {
@@ -288,6 +304,85 @@ public final class ChunkedEncodedInputStream extends InputStream {
     }
 
 
+    /**
+     * The content of a chunk: the chunk-size and chunk-extensions, the chunk-data and a CRLF, read directly from the reused
+     * buffers they were written to.
+     */
+    private static final class ChunkContentInputStream extends InputStream {
+        private final byte[] prefix;
+        private final int prefixLength;
+        private final byte[] data;
+        private final int dataLength;
+        private final int size;
+        private int position;
+
+        private ChunkContentInputStream(byte[] prefix, int prefixLength, byte[] data, int dataLength) {
+            this.prefix = prefix;
+            this.prefixLength = prefixLength;
+            this.data = data;
+            this.dataLength = dataLength;
+            this.size = prefixLength + dataLength + CRLF.length;
+        }
+
+        @Override
+        public int read() {
+            if (position >= size) {
+                return -1;
+            }
+            int index = position++;
+            if (index < prefixLength) {
+                return prefix[index] & 0xFF;
+            }
+            index -= prefixLength;
+            if (index < dataLength) {
+                return data[index] & 0xFF;
+            }
+            return CRLF[index - dataLength] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (position >= size) {
+                return -1;
+            }
+            int read = 0;
+            while (read < len && position < size) {
+                int copied;
+                if (position < prefixLength) {
+                    copied = copy(prefix, position, prefixLength, b, off + read, len - read);
+                } else if (position < prefixLength + dataLength) {
+                    copied = copy(data, position - prefixLength, dataLength, b, off + read, len - read);
+                } else {
+                    copied = copy(CRLF, position - prefixLength - dataLength, CRLF.length, b, off + read, len - read);
+                }
+                position += copied;
+                read += copied;
+            }
+            return read;
+        }
+
+        private static int copy(byte[] src, int srcPos, int srcLength, byte[] dest, int destPos, int maxLength) {
+            int length = Math.min(srcLength - srcPos, maxLength);
+            System.arraycopy(src, srcPos, dest, destPos, length);
+            return length;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = Math.max(0, Math.min(n, size - position));
+            position += (int) skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return size - position;
+        }
+    }
+
     private static class LengthAwareSequenceInputStream extends SequenceInputStream {
         private final int size;
 
@@ -20,22 +20,49 @@ import static software.amazon.awssdk.utils.BinaryUtils.toHex;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.auth.aws.internal.signer.CredentialScope;
 import software.amazon.awssdk.http.auth.aws.internal.signer.RollingSigner;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.DigestAlgorithm;
 import software.amazon.awssdk.utils.Pair;
 
+/**
+ * A {@link ChunkExtensionProvider} that adds the rolling SigV4 signature of each chunk as the {@code chunk-signature}
+ * extension.
+ * <p>
+ * The string-to-sign of a chunk only differs from the previous one by the previous signature and the hash of the chunk, so the
+ * constant parts are encoded once, and the hash of each chunk is written into a reused buffer. The returned signature is
+ * reused by the {@link RollingSigner}, and is only valid until the next chunk is signed.
+ */
 @SdkInternalApi
 public class SigV4ChunkExtensionProvider implements ChunkExtensionProvider {
 
     private static final String EMPTY_HASH = toHex(hash(""));
+    private static final byte[] CHUNK_SIGNATURE = "chunk-signature".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final int SHA256_LENGTH = 32;
 
     private final RollingSigner signer;
-    private final CredentialScope credentialScope;
+    private final byte[] stringToSignPrefix;
+    private final byte[] stringToSignSuffix;
+    private final byte[] chunkHash = new byte[SHA256_LENGTH];
 
     public SigV4ChunkExtensionProvider(RollingSigner signer, CredentialScope credentialScope) {
         this.signer = signer;
-        this.credentialScope = credentialScope;
+        // The string-to-sign is: "AWS4-HMAC-SHA256-PAYLOAD", the datetime, the scope, the previous signature, the hash of an
+        // empty string and the hash of the chunk, separated by new lines. The hash of the chunk is written at the end of the
+        // suffix for each chunk.
+        this.stringToSignPrefix = String.join("\n",
+                                              "AWS4-HMAC-SHA256-PAYLOAD",
+                                              credentialScope.getDatetime(),
+                                              credentialScope.scope(),
+                                              "")
+                                        .getBytes(StandardCharsets.UTF_8);
+        byte[] suffixStart = ("\n" + EMPTY_HASH + "\n").getBytes(StandardCharsets.UTF_8);
+        this.stringToSignSuffix = new byte[suffixStart.length + SHA256_LENGTH * 2];
+        System.arraycopy(suffixStart, 0, stringToSignSuffix, 0, suffixStart.length);
     }
 
     @Override
@@ -43,22 +70,26 @@ public class SigV4ChunkExtensionProvider implements ChunkExtensionProvider {
         signer.reset();
     }
 
-    private String getStringToSign(String previousSignature, ByteBuffer chunk) {
-        // build the string-to-sign template for the rolling-signer to sign
-        return String.join("\n",
-                           "AWS4-HMAC-SHA256-PAYLOAD",
-                           credentialScope.getDatetime(),
-                           credentialScope.scope(),
-                           previousSignature,
-                           EMPTY_HASH,
-                           toHex(hash(chunk))
-        );
-    }
-
     @Override
     public Pair<byte[], byte[]> get(ByteBuffer chunk) {
-        String chunkSig = signer.sign(previousSig -> getStringToSign(previousSig, chunk));
-        return Pair.of("chunk-signature".getBytes(StandardCharsets.UTF_8),
-                       chunkSig.getBytes(StandardCharsets.UTF_8));
+        hashChunk(chunk);
+        int offset = stringToSignSuffix.length - SHA256_LENGTH * 2;
+        for (int i = 0; i < SHA256_LENGTH; i++) {
+            stringToSignSuffix[offset + 2 * i] = HEX_DIGITS[(chunkHash[i] >> 4) & 0xF];
+            stringToSignSuffix[offset + 2 * i + 1] = HEX_DIGITS[chunkHash[i] & 0xF];
+        }
+        return Pair.of(CHUNK_SIGNATURE, signer.sign(stringToSignPrefix, stringToSignSuffix));
+    }
+
+    private void hashChunk(ByteBuffer chunk) {
+        MessageDigest md = DigestAlgorithm.SHA256.borrowDigest();
+        try {
+            md.update(chunk);
+            md.digest(chunkHash, 0, SHA256_LENGTH);
+        } catch (DigestException e) {
+            throw new RuntimeException("Unable to compute hash while signing request: ", e);
+        } finally {
+            DigestAlgorithm.SHA256.returnDigest(md);
+        }
     }
 }
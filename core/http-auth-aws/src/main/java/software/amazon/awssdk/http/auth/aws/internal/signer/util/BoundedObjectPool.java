@@ -0,0 +1,129 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A bounded, lock-free pool of reusable objects, such as {@link javax.crypto.Mac} or {@link java.security.MessageDigest}
+ * instances.
+ *
+ * <p>This is the alternative to caching such objects in a {@link ThreadLocal} for virtual threads. Virtual threads are
+ * usually created per task, so a thread local cache would almost never be hit, and would create a new instance per task.
+ * Objects in this pool are instead shared by all threads, and are only held by a thread while it is using them.
+ *
+ * <p>Objects are acquired with {@link #acquire()} and should be returned with {@link #release(Object)} once they are no
+ * longer used. When the pool is empty, a new object is created. When it is full, released objects are dropped.
+ *
+ * @param <T> pooled object type
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class BoundedObjectPool<T> {
+    private static final MethodHandle IS_VIRTUAL = isVirtualMethodHandle();
+
+    private final AtomicReferenceArray<T> slots;
+    private final Supplier<T> factory;
+
+    /**
+     * Creates a pool that keeps up to twice as many idle objects as there are available processors. This is enough for
+     * objects that are only held while doing CPU bound work, because no more threads than processors can do such work at the
+     * same time.
+     *
+     * @param factory creates a new object when the pool is empty
+     */
+    public BoundedObjectPool(Supplier<T> factory) {
+        this(Runtime.getRuntime().availableProcessors() * 2, factory);
+    }
+
+    /**
+     * @param maxSize the maximum number of idle objects kept by the pool
+     * @param factory creates a new object when the pool is empty
+     */
+    public BoundedObjectPool(int maxSize, Supplier<T> factory) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize " + maxSize
+                                               + " must be at least 1");
+        }
+        this.slots = new AtomicReferenceArray<>(maxSize);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns an idle object from the pool, or a new object if the pool is empty.
+     */
+    public T acquire() {
+        int start = startIndex();
+        int length = slots.length();
+        for (int i = 0; i < length; i++) {
+            int index = (start + i) % length;
+            T object = slots.get(index);
+            if (object != null && slots.compareAndSet(index, object, null)) {
+                return object;
+            }
+        }
+        return factory.get();
+    }
+
+    /**
+     * Returns an object to the pool. The object is dropped if the pool is full.
+     */
+    public void release(T object) {
+        int start = startIndex();
+        int length = slots.length();
+        for (int i = 0; i < length; i++) {
+            int index = (start + i) % length;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, object)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns true if the current thread is a virtual thread. This is always false before Java 21.
+     */
+    public static boolean isCurrentThreadVirtual() {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(Thread.currentThread());
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    /**
+     * Spread concurrent threads over the pool, so that they do not all contend on the first slots.
+     */
+    private int startIndex() {
+        return (int) ((Thread.currentThread().getId() & Integer.MAX_VALUE) % slots.length());
+    }
+
+    private static MethodHandle isVirtualMethodHandle() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
@@ -29,10 +29,12 @@ public enum DigestAlgorithm {
 
     private final String algorithmName;
     private final DigestThreadLocal digestReference;
+    private final BoundedObjectPool<MessageDigest> digestPool;
 
     DigestAlgorithm(String algorithmName) {
         this.algorithmName = algorithmName;
         digestReference = new DigestThreadLocal(algorithmName);
+        digestPool = new BoundedObjectPool<>(() -> newDigest(algorithmName));
     }
 
     public String getAlgorithmName() {
@@ -48,6 +50,40 @@ public enum DigestAlgorithm {
         return digest;
     }
 
+    /**
+     * Returns a reset {@link MessageDigest} instance that must be given back with {@link #returnDigest(MessageDigest)} once it
+     * is no longer used.
+     * <p>
+     * On platform threads, this is the thread local instance returned by {@link #getDigest()}. On virtual threads, which are
+     * usually created per task and would never reuse a thread local instance, it is taken from a pool shared by all threads.
+     */
+    public MessageDigest borrowDigest() {
+        if (!BoundedObjectPool.isCurrentThreadVirtual()) {
+            return getDigest();
+        }
+        MessageDigest digest = digestPool.acquire();
+        digest.reset();
+        return digest;
+    }
+
+    /**
+     * Gives back a {@link MessageDigest} instance obtained from {@link #borrowDigest()} on the current thread.
+     */
+    public void returnDigest(MessageDigest digest) {
+        if (BoundedObjectPool.isCurrentThreadVirtual()) {
+            digestPool.release(digest);
+        }
+    }
+
+    private static MessageDigest newDigest(String algorithmName) {
+        try {
+            return MessageDigest.getInstance(algorithmName);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Unable to fetch message digest instance for Algorithm "
+                                       + algorithmName + ": " + e.getMessage(), e);
+        }
+    }
+
     private static class DigestThreadLocal extends ThreadLocal<MessageDigest> {
         private final String algorithmName;
 
@@ -57,12 +93,7 @@ public enum DigestAlgorithm {
 
         @Override
         protected MessageDigest initialValue() {
-            try {
-                return MessageDigest.getInstance(algorithmName);
-            } catch (NoSuchAlgorithmException e) {
-                throw new RuntimeException("Unable to fetch message digest instance for Algorithm "
-                                           + algorithmName + ": " + e.getMessage(), e);
-            }
+            return newDigest(algorithmName);
         }
     }
 }
@@ -15,23 +15,24 @@
 
 package software.amazon.awssdk.http.auth.aws.internal.signer.util;
 
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
+import java.util.concurrent.atomic.AtomicReference;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 
 /**
  * A bounded cache that has a FIFO eviction policy when the cache is full.
+ * <p>
+ * The entries are held in an immutable snapshot, which is replaced as a whole when an entry is added. Reading from the
+ * cache is a single volatile read without any locking, which makes it cheap for the read-mostly workload of caching signing
+ * keys: new keys are only added when the credentials, region, service or signing date change.
  *
  * @param <T> value type
  */
 @ThreadSafe
 @SdkInternalApi
 public final class FifoCache<T> {
-    private final BoundedLinkedHashMap<String, T> map;
-    private final ReadLock rlock;
-    private final WriteLock wlock;
+    private final int maxSize;
+    private final AtomicReference<BoundedLinkedHashMap<String, T>> snapshot;
 
     /**
      * @param maxSize the maximum number of entries of the cache
@@ -41,21 +42,22 @@ public final class FifoCache<T> {
             throw new IllegalArgumentException("maxSize " + maxSize
                                                + " must be at least 1");
         }
-        map = new BoundedLinkedHashMap<>(maxSize);
-        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-        rlock = lock.readLock();
-        wlock = lock.writeLock();
+        this.maxSize = maxSize;
+        this.snapshot = new AtomicReference<>(new BoundedLinkedHashMap<>(maxSize));
     }
 
     /**
      * Adds an entry to the cache, evicting the earliest entry if necessary.
      */
     public T add(String key, T value) {
-        wlock.lock();
-        try {
-            return map.put(key, value);
-        } finally {
-            wlock.unlock();
+        while (true) {
+            BoundedLinkedHashMap<String, T> current = snapshot.get();
+            BoundedLinkedHashMap<String, T> updated = new BoundedLinkedHashMap<>(maxSize);
+            updated.putAll(current);
+            T previous = updated.put(key, value);
+            if (snapshot.compareAndSet(current, updated)) {
+                return previous;
+            }
         }
     }
 
@@ -63,40 +65,25 @@ public final class FifoCache<T> {
      * Returns the value of the given key; or null of no such entry exists.
      */
     public T get(String key) {
-        rlock.lock();
-        try {
-            return map.get(key);
-        } finally {
-            rlock.unlock();
-        }
+        return snapshot.get().get(key);
     }
 
     /**
      * Returns the current size of the cache.
      */
     public int size() {
-        rlock.lock();
-        try {
-            return map.size();
-        } finally {
-            rlock.unlock();
-        }
+        return snapshot.get().size();
     }
 
     /**
      * Returns the maximum size of the cache.
      */
     public int getMaxSize() {
-        return map.getMaxSize();
+        return maxSize;
     }
 
     @Override
     public String toString() {
-        rlock.lock();
-        try {
-            return map.toString();
-        } finally {
-            rlock.unlock();
-        }
+        return snapshot.get().toString();
     }
 }
@@ -47,6 +47,8 @@ public final class SignerUtils {
 
     private static final Logger LOG = Logger.loggerFor(SignerUtils.class);
 
+    private static final int UTF8_HASH_BUFFER_SIZE = 512;
+
     private static final FifoCache<SignerKey> SIGNER_CACHE =
         new FifoCache<>(300);
 
@@ -143,12 +145,14 @@ public final class SignerUtils {
      * Sign given data using a key and a specific algorithm
      */
     public static byte[] sign(byte[] data, byte[] key, SigningAlgorithm algorithm) {
+        Mac mac = algorithm.borrowMac();
         try {
-            Mac mac = algorithm.getMac();
             mac.init(new SecretKeySpec(key, algorithm.toString()));
             return mac.doFinal(data);
         } catch (Exception e) {
             throw new RuntimeException("Unable to calculate a request signature: ", e);
+        } finally {
+            algorithm.returnMac(mac);
         }
     }
 
@@ -209,10 +213,6 @@ public final class SignerUtils {
         return Long.parseLong(decodedContentLength.get());
     }
 
-    private static MessageDigest getMessageDigestInstance() {
-        return DigestAlgorithm.SHA256.getDigest();
-    }
-
     public static InputStream getBinaryRequestPayloadStream(ContentStreamProvider streamProvider) {
         try {
             if (streamProvider == null) {
@@ -225,8 +225,8 @@ public final class SignerUtils {
     }
 
     public static byte[] hash(InputStream input) {
+        MessageDigest md = DigestAlgorithm.SHA256.borrowDigest();
         try {
-            MessageDigest md = getMessageDigestInstance();
             byte[] buf = new byte[4096];
             int read = 0;
             while (read >= 0) {
@@ -236,26 +236,32 @@ public final class SignerUtils {
             return md.digest();
         } catch (Exception e) {
             throw new RuntimeException("Unable to compute hash while signing request: ", e);
+        } finally {
+            DigestAlgorithm.SHA256.returnDigest(md);
         }
     }
 
     public static byte[] hash(ByteBuffer input) {
+        MessageDigest md = DigestAlgorithm.SHA256.borrowDigest();
         try {
-            MessageDigest md = getMessageDigestInstance();
             md.update(input);
             return md.digest();
         } catch (Exception e) {
             throw new RuntimeException("Unable to compute hash while signing request: ", e);
+        } finally {
+            DigestAlgorithm.SHA256.returnDigest(md);
         }
     }
 
     public static byte[] hash(byte[] data) {
+        MessageDigest md = DigestAlgorithm.SHA256.borrowDigest();
         try {
-            MessageDigest md = getMessageDigestInstance();
             md.update(data);
             return md.digest();
         } catch (Exception e) {
             throw new RuntimeException("Unable to compute hash while signing request: ", e);
+        } finally {
+            DigestAlgorithm.SHA256.returnDigest(md);
         }
     }
 
@@ -263,6 +269,52 @@ public final class SignerUtils {
         return hash(text.getBytes(StandardCharsets.UTF_8));
     }
 
+    /**
+     * Hash the UTF-8 encoding of the given characters, without creating a {@link String} or a byte array of the whole input.
+     * The characters are encoded into a small buffer that is passed to the digest each time it fills up. The result is the
+     * same as {@code hash(chars.toString())}.
+     */
+    public static byte[] hashUtf8(CharSequence chars) {
+        MessageDigest md = DigestAlgorithm.SHA256.borrowDigest();
+        try {
+            byte[] buf = new byte[UTF8_HASH_BUFFER_SIZE];
+            int pos = 0;
+            int length = chars.length();
+            for (int i = 0; i < length; i++) {
+                // Leave room for the longest (4 byte) encoding of a code point.
+                if (pos > buf.length - 4) {
+                    md.update(buf, 0, pos);
+                    pos = 0;
+                }
+
+                char c = chars.charAt(i);
+                if (c < 0x80) {
+                    buf[pos++] = (byte) c;
+                } else if (c < 0x800) {
+                    buf[pos++] = (byte) (0xC0 | (c >> 6));
+                    buf[pos++] = (byte) (0x80 | (c & 0x3F));
+                } else if (!Character.isSurrogate(c)) {
+                    buf[pos++] = (byte) (0xE0 | (c >> 12));
+                    buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buf[pos++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, chars.charAt(++i));
+                    buf[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                    buf[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buf[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buf[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    // Unpaired surrogates are replaced, as done by String.getBytes(UTF_8).
+                    buf[pos++] = (byte) '?';
+                }
+            }
+            md.update(buf, 0, pos);
+            return md.digest();
+        } finally {
+            DigestAlgorithm.SHA256.returnDigest(md);
+        }
+    }
+
     /**
      * Consume entire stream and return the number of bytes - the stream will NOT be reset upon completion, so if it needs to
      * be read again, the caller MUST reset the stream.
@@ -26,10 +26,12 @@ public enum SigningAlgorithm {
 
     private final String algorithmName;
     private final ThreadLocal<Mac> macReference;
+    private final BoundedObjectPool<Mac> macPool;
 
     SigningAlgorithm(String algorithmName) {
         this.algorithmName = algorithmName;
         macReference = new MacThreadLocal(algorithmName);
+        macPool = new BoundedObjectPool<>(() -> newMac(algorithmName));
     }
 
     public String getAlgorithmName() {
@@ -43,6 +45,34 @@ public enum SigningAlgorithm {
         return macReference.get();
     }
 
+    /**
+     * Returns a {@link Mac} instance that must be given back with {@link #returnMac(Mac)} once it is no longer used.
+     * <p>
+     * On platform threads, this is the thread local instance returned by {@link #getMac()}. On virtual threads, which are
+     * usually created per task and would never reuse a thread local instance, it is taken from a pool shared by all threads.
+     */
+    public Mac borrowMac() {
+        return BoundedObjectPool.isCurrentThreadVirtual() ? macPool.acquire() : macReference.get();
+    }
+
+    /**
+     * Gives back a {@link Mac} instance obtained from {@link #borrowMac()} on the current thread.
+     */
+    public void returnMac(Mac mac) {
+        if (BoundedObjectPool.isCurrentThreadVirtual()) {
+            macPool.release(mac);
+        }
+    }
+
+    private static Mac newMac(String algorithmName) {
+        try {
+            return Mac.getInstance(algorithmName);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Unable to fetch Mac instance for Algorithm "
+                                       + algorithmName + ": " + e.getMessage());
+        }
+    }
+
     private static class MacThreadLocal extends ThreadLocal<Mac> {
         private final String algorithmName;
 
@@ -52,12 +82,7 @@ public enum SigningAlgorithm {
 
         @Override
         protected Mac initialValue() {
-            try {
-                return Mac.getInstance(algorithmName);
-            } catch (NoSuchAlgorithmException e) {
-                throw new RuntimeException("Unable to fetch Mac instance for Algorithm "
-                                           + algorithmName + ": " + e.getMessage());
-            }
+            return newMac(algorithmName);
         }
     }
 }
@@ -92,6 +92,22 @@ public interface AwsV4HttpSigner extends AwsV4FamilyHttpSigner<AwsCredentialsIde
     SignerProperty<String> REGION_NAME =
         SignerProperty.create(AwsV4HttpSigner.class, "RegionName");
 
+    /**
+     * The hex-encoded SHA-256 hash of the request payload, for callers that have already computed it. This property is
+     * optional.
+     * <p>
+     * When this property is set, the signer uses the given hash instead of reading the payload to compute it, so signing takes
+     * the same time regardless of the payload size. The payload is signed with this hash even if {@link #PAYLOAD_SIGNING_ENABLED}
+     * is false. This property is ignored for event-stream payloads and for anonymous requests.
+     * <p>
+     * This property has no effect when {@link #CHUNK_ENCODING_ENABLED} is true: each chunk of the payload is signed with the
+     * hash of its own data, so the hash of the whole payload is not used.
+     * <p>
+     * Note: The signer does not check that the hash matches the payload. The service will reject the request if it does not.
+     */
+    SignerProperty<String> PAYLOAD_SHA256 =
+        SignerProperty.create(AwsV4HttpSigner.class, "PayloadSha256");
+
     /**
      * Get a default implementation of a {@link AwsV4HttpSigner}
      */
@@ -25,10 +25,12 @@ import static software.amazon.awssdk.http.auth.aws.signer.AwsV4HttpSigner.AUTH_L
 import static software.amazon.awssdk.http.auth.aws.signer.AwsV4HttpSigner.CHECKSUM_ALGORITHM;
 import static software.amazon.awssdk.http.auth.aws.signer.AwsV4HttpSigner.CHUNK_ENCODING_ENABLED;
 import static software.amazon.awssdk.http.auth.aws.signer.AwsV4HttpSigner.EXPIRATION_DURATION;
+import static software.amazon.awssdk.http.auth.aws.signer.AwsV4HttpSigner.PAYLOAD_SHA256;
 import static software.amazon.awssdk.http.auth.aws.signer.AwsV4HttpSigner.PAYLOAD_SIGNING_ENABLED;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.Locale;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -856,4 +858,83 @@ public class DefaultAwsV4HttpSignerTest {
         assertThat(signedRequest.request().firstMatchingHeader("x-amz-content-sha256"))
             .hasValue("STREAMING-UNSIGNED-PAYLOAD-TRAILER");
     }
+
+    @Test
+    public void sign_WithPayloadSha256_UsesItWithoutReadingPayload() {
+        SignedRequest expected = signer.sign(generateBasicRequest(
+            AwsCredentialsIdentity.create("access", "secret"),
+            httpRequest -> {
+            },
+            signRequest -> {
+            }
+        ));
+        String payloadSha256 = expected.request().firstMatchingHeader("x-amz-content-sha256").get();
+
+        SignRequest<? extends AwsCredentialsIdentity> request = generateBasicRequest(
+            AwsCredentialsIdentity.create("access", "secret"),
+            httpRequest -> {
+            },
+            signRequest -> signRequest
+                .payload(() -> {
+                    throw new IllegalStateException("The payload should not be read.");
+                })
+                .putProperty(PAYLOAD_SIGNING_ENABLED, false)
+                .putProperty(PAYLOAD_SHA256, payloadSha256.toUpperCase(Locale.ROOT))
+        );
+
+        SignedRequest signedRequest = signer.sign(request);
+
+        assertThat(signedRequest.request().firstMatchingHeader("x-amz-content-sha256")).hasValue(payloadSha256);
+        assertThat(signedRequest.request().firstMatchingHeader("Authorization")).isPresent();
+    }
+
+    @Test
+    public void signAsync_WithPayloadSha256_UsesItWithoutReadingPayload() {
+        String payloadSha256 = "4f1e1e0d1e9b5f7d9e4f7e3c0b1a2d3c4b5a69788796a5b4c3d2e1f0a1b2c3d4";
+        AsyncSignRequest<? extends AwsCredentialsIdentity> request = generateBasicAsyncRequest(
+            AwsCredentialsIdentity.create("access", "secret"),
+            httpRequest -> {
+            },
+            signRequest -> signRequest
+                .payload(subscriber -> {
+                    throw new IllegalStateException("The payload should not be read.");
+                })
+                .putProperty(PAYLOAD_SHA256, payloadSha256)
+        );
+
+        AsyncSignedRequest signedRequest = signer.signAsync(request).join();
+
+        assertThat(signedRequest.request().firstMatchingHeader("x-amz-content-sha256")).hasValue(payloadSha256);
+        assertThat(signedRequest.request().firstMatchingHeader("Authorization")).isPresent();
+    }
+
+    @Test
+    public void sign_WithPayloadSha256AndChunkEncodingTrue_IgnoresIt() {
+        SignRequest<? extends AwsCredentialsIdentity> request = generateBasicRequest(
+            AwsCredentialsIdentity.create("access", "secret"),
+            httpRequest -> {
+            },
+            signRequest -> signRequest
+                .putProperty(CHUNK_ENCODING_ENABLED, true)
+                .putProperty(PAYLOAD_SHA256, "4f1e1e0d1e9b5f7d9e4f7e3c0b1a2d3c4b5a69788796a5b4c3d2e1f0a1b2c3d4")
+        );
+
+        SignedRequest signedRequest = signer.sign(request);
+
+        assertThat(signedRequest.request().firstMatchingHeader("x-amz-content-sha256"))
+            .hasValue("STREAMING-AWS4-HMAC-SHA256-PAYLOAD");
+    }
+
+    @Test
+    public void sign_WithInvalidPayloadSha256_Throws() {
+        SignRequest<? extends AwsCredentialsIdentity> request = generateBasicRequest(
+            AwsCredentialsIdentity.create("access", "secret"),
+            httpRequest -> {
+            },
+            signRequest -> signRequest
+                .putProperty(PAYLOAD_SHA256, "not-a-hash")
+        );
+
+        assertThrows(IllegalArgumentException.class, () -> signer.sign(request));
+    }
 }
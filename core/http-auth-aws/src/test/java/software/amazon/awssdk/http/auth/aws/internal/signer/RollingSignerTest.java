@@ -50,4 +50,17 @@ public class RollingSignerTest {
         assertEquals("08f47cc56d186cee34fa7662128d5c9187eb9483938df45282e922d902e85a27", second);
         assertEquals("878b44846ec83a43c3932578c5311fa8b289ae194ccc0c06244c366f3b949012", firstAgain);
     }
+
+    @Test
+    public void signBytes_shouldMatchSignedString() {
+        RollingSigner stringSigner = new RollingSigner("key".getBytes(StandardCharsets.UTF_8), "seed");
+        RollingSigner bytesSigner = new RollingSigner("key".getBytes(StandardCharsets.UTF_8), "seed");
+
+        for (String suffix : new String[] {"a", "b", "c"}) {
+            String expected = stringSigner.sign(signature -> "prefix" + signature + suffix);
+            byte[] actual = bytesSigner.sign("prefix".getBytes(StandardCharsets.UTF_8), suffix.getBytes(StandardCharsets.UTF_8));
+
+            assertEquals(expected, new String(actual, StandardCharsets.UTF_8));
+        }
+    }
 }
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.http.auth.aws.internal.signer;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.Arrays;
@@ -23,6 +24,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils;
 import software.amazon.awssdk.utils.ToString;
 
 /**
@@ -76,6 +78,45 @@ public class V4CanonicalRequestTest {
         assertEquals(tc.expectedPath, canonicalPath);
     }
 
+    @Test
+    public void canonicalRequestHash_isHashOfCanonicalRequestString() {
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .protocol("https")
+                                               .host("localhost")
+                                               .encodedPath("/foo")
+                                               .method(SdkHttpMethod.POST)
+                                               .putRawQueryParameter("b", "2")
+                                               .putRawQueryParameter("a", "1")
+                                               .putHeader("X-Amz-Meta-Unicode", "caf\u00e9 \u20ac \ud83d\ude00 \ud83d")
+                                               .putHeader("Content-Type", "application/json")
+                                               .putHeader("host", "localhost")
+                                               .build();
+        V4CanonicalRequest cr = new V4CanonicalRequest(request, "sha-256",
+                                                       new V4CanonicalRequest.Options(true,
+                                                                                      true));
+
+        assertArrayEquals(SignerUtils.hash(cr.getCanonicalRequestString()), cr.getCanonicalRequestHash());
+    }
+
+    @Test
+    public void canonicalRequest_WithMixedCaseHeaders_shouldSortLowerCaseNames() {
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .protocol("https")
+                                               .host("localhost")
+                                               .method(SdkHttpMethod.GET)
+                                               .putHeader("X-Amz-Date", "20240101T000000Z")
+                                               .putHeader("content-type", "text/plain")
+                                               .putHeader("Host", "localhost")
+                                               .build();
+        V4CanonicalRequest cr = new V4CanonicalRequest(request, "sha-256",
+                                                       new V4CanonicalRequest.Options(true,
+                                                                                      true));
+
+        assertEquals("content-type;host;x-amz-date", cr.getSignedHeadersString());
+        assertEquals("GET\n/\n\ncontent-type:text/plain\nhost:localhost\nx-amz-date:20240101T000000Z\n\n"
+                     + "content-type;host;x-amz-date\nsha-256", cr.getCanonicalRequestString());
+    }
+
     @Test
     public void canonicalRequest_WithForbiddenHeaders_shouldExcludeForbidden() {
         SdkHttpRequest request = SdkHttpRequest.builder()
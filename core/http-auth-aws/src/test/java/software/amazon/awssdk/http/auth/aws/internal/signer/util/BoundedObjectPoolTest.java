@@ -0,0 +1,110 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class BoundedObjectPoolTest {
+
+    @Test
+    public void acquire_emptyPool_createsNewObject() {
+        AtomicInteger created = new AtomicInteger();
+        BoundedObjectPool<Object> pool = new BoundedObjectPool<>(2, () -> {
+            created.incrementAndGet();
+            return new Object();
+        });
+
+        assertThat(pool.acquire()).isNotSameAs(pool.acquire());
+        assertThat(created).hasValue(2);
+    }
+
+    @Test
+    public void acquire_afterRelease_reusesReleasedObject() {
+        BoundedObjectPool<Object> pool = new BoundedObjectPool<>(2, Object::new);
+        Object object = pool.acquire();
+        pool.release(object);
+
+        assertThat(pool.acquire()).isSameAs(object);
+    }
+
+    @Test
+    public void release_fullPool_dropsObject() {
+        AtomicInteger created = new AtomicInteger();
+        BoundedObjectPool<Object> pool = new BoundedObjectPool<>(1, () -> {
+            created.incrementAndGet();
+            return new Object();
+        });
+        Object first = pool.acquire();
+        Object second = pool.acquire();
+        pool.release(first);
+        pool.release(second);
+
+        assertThat(pool.acquire()).isSameAs(first);
+        assertThat(pool.acquire()).isNotSameAs(second);
+        assertThat(created).hasValue(3);
+    }
+
+    @Test
+    public void zeroSize_throwsException() {
+        assertThatThrownBy(() -> new BoundedObjectPool<>(0, Object::new)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void concurrentUse_objectIsNeverHeldByTwoThreads() throws Exception {
+        BoundedObjectPool<AtomicBoolean> pool = new BoundedObjectPool<>(4, AtomicBoolean::new);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        AtomicBoolean inUse = pool.acquire();
+                        assertThat(inUse.compareAndSet(false, true)).isTrue();
+                        inUse.set(false);
+                        pool.release(inUse);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void isCurrentThreadVirtual_platformThread_returnsFalse() {
+        assertThat(BoundedObjectPool.isCurrentThreadVirtual()).isFalse();
+    }
+
+    @Test
+    public void borrow_platformThread_usesThreadLocalInstances() {
+        assertThat(SigningAlgorithm.HMAC_SHA256.borrowMac()).isSameAs(SigningAlgorithm.HMAC_SHA256.getMac());
+        assertThat(DigestAlgorithm.SHA256.borrowDigest()).isSameAs(DigestAlgorithm.SHA256.getDigest());
+    }
+}
@@ -15,6 +15,9 @@
 
 package software.amazon.awssdk.imds;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -71,6 +74,30 @@ public interface Ec2MetadataAsyncClient extends SdkAutoCloseable {
      */
     CompletableFuture<Ec2MetadataResponse> get(String path);
 
+    /**
+     * Gets the instance metadata values of all the given paths. The requests are made concurrently, using the same session
+     * token.
+     *
+     * @param paths Input paths
+     * @return A CompletableFuture that completes with the instance metadata values, by path, in the order the paths were given,
+     * once all of them are available. It completes exceptionally if any of the requests fails.
+     */
+    default CompletableFuture<Map<String, Ec2MetadataResponse>> getAll(String... paths) {
+        Map<String, CompletableFuture<Ec2MetadataResponse>> futures = new LinkedHashMap<>();
+        for (String path : paths) {
+            futures.computeIfAbsent(path, this::get);
+        }
+
+        CompletableFuture<Map<String, Ec2MetadataResponse>> responses = CompletableFuture.completedFuture(new LinkedHashMap<>());
+        for (Map.Entry<String, CompletableFuture<Ec2MetadataResponse>> future : futures.entrySet()) {
+            responses = responses.thenCombine(future.getValue(), (map, response) -> {
+                map.put(future.getKey(), response);
+                return map;
+            });
+        }
+        return responses.thenApply(Collections::unmodifiableMap);
+    }
+
     /**
      * Create an {@link Ec2MetadataAsyncClient} instance using the default values.
      *
@@ -15,6 +15,9 @@
 
 package software.amazon.awssdk.imds;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
@@ -69,6 +72,20 @@ public interface Ec2MetadataClient extends SdkAutoCloseable {
      */
     Ec2MetadataResponse get(String path);
 
+    /**
+     * Gets the instance metadata values of all the given paths. The requests are made using the same session token.
+     *
+     * @param paths Input paths
+     * @return The instance metadata values, by path, in the order the paths were given.
+     */
+    default Map<String, Ec2MetadataResponse> getAll(String... paths) {
+        Map<String, Ec2MetadataResponse> responses = new LinkedHashMap<>();
+        for (String path : paths) {
+            responses.put(path, get(path));
+        }
+        return Collections.unmodifiableMap(responses);
+    }
+
     /**
      * Create an {@link Ec2MetadataClient} instance using the default values.
      *
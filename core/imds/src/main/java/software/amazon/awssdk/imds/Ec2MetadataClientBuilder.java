@@ -92,4 +92,17 @@ public interface Ec2MetadataClientBuilder<B, T> extends SdkBuilder<Ec2MetadataCl
      */
     B endpointMode(EndpointMode endpointMode);
 
+    /**
+     * Define how long the metadata returned for a path is cached by the client. While a response is cached, requests for the
+     * same path are answered from the cache without calling IMDS. Failed requests are not cached.
+     * <p>
+     * If not specified, responses are not cached and every request calls IMDS.
+     *
+     * @param metadataCacheTtl The time to live of a cached metadata response.
+     * @return a reference to this builder
+     */
+    default B metadataCacheTtl(Duration metadataCacheTtl) {
+        throw new UnsupportedOperationException();
+    }
+
 }
@@ -49,20 +49,30 @@ public abstract class BaseEc2MetadataClient {
     protected final RequestMarshaller requestMarshaller;
     protected final Duration tokenTtl;
 
+    /**
+     * The cache of metadata responses, or null if responses are not cached.
+     */
+    final Ec2MetadataResponseCache responseCache;
+
     private BaseEc2MetadataClient(Ec2MetadataRetryPolicy retryPolicy, Duration tokenTtl, URI endpoint,
-                                  EndpointMode endpointMode) {
+                                  EndpointMode endpointMode, Duration metadataCacheTtl) {
         this.retryPolicy = Validate.getOrDefault(retryPolicy, Ec2MetadataRetryPolicy.builder()::build);
         this.tokenTtl = Validate.getOrDefault(tokenTtl, () -> DEFAULT_TOKEN_TTL);
         this.endpoint = getEndpoint(endpoint, endpointMode);
         this.requestMarshaller = new RequestMarshaller(this.endpoint);
+        this.responseCache = Validate.isPositiveOrNull(metadataCacheTtl, "metadataCacheTtl") == null
+                             ? null
+                             : new Ec2MetadataResponseCache(metadataCacheTtl);
     }
 
     protected BaseEc2MetadataClient(DefaultEc2MetadataClient.Ec2MetadataBuilder builder) {
-        this(builder.getRetryPolicy(), builder.getTokenTtl(), builder.getEndpoint(), builder.getEndpointMode());
+        this(builder.getRetryPolicy(), builder.getTokenTtl(), builder.getEndpoint(), builder.getEndpointMode(),
+             builder.getMetadataCacheTtl());
     }
 
     protected BaseEc2MetadataClient(DefaultEc2MetadataAsyncClient.Ec2MetadataAsyncBuilder builder) {
-        this(builder.getRetryPolicy(), builder.getTokenTtl(), builder.getEndpoint(), builder.getEndpointMode());
+        this(builder.getRetryPolicy(), builder.getTokenTtl(), builder.getEndpoint(), builder.getEndpointMode(),
+             builder.getMetadataCacheTtl());
     }
 
     private URI getEndpoint(URI builderEndpoint, EndpointMode builderEndpointMode) {
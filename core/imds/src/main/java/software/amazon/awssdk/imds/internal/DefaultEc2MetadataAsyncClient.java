@@ -93,6 +93,13 @@ public final class DefaultEc2MetadataAsyncClient extends BaseEc2MetadataClient i
 
     @Override
     public CompletableFuture<Ec2MetadataResponse> get(String path) {
+        if (responseCache != null) {
+            return responseCache.getAsync(path, this::getUncached);
+        }
+        return getUncached(path);
+    }
+
+    private CompletableFuture<Ec2MetadataResponse> getUncached(String path) {
         CompletableFuture<Ec2MetadataResponse> returnFuture = new CompletableFuture<>();
         get(path, RetryPolicyContext.builder().retriesAttempted(0).build(), returnFuture);
         return returnFuture;
@@ -155,6 +162,8 @@ public final class DefaultEc2MetadataAsyncClient extends BaseEc2MetadataClient i
 
         private EndpointMode endpointMode;
 
+        private Duration metadataCacheTtl;
+
         private SdkAsyncHttpClient httpClient;
 
         private SdkAsyncHttpClient.Builder<?> httpClientBuilder;
@@ -197,6 +206,12 @@ public final class DefaultEc2MetadataAsyncClient extends BaseEc2MetadataClient i
             return this;
         }
 
+        @Override
+        public Ec2MetadataAsyncBuilder metadataCacheTtl(Duration metadataCacheTtl) {
+            this.metadataCacheTtl = metadataCacheTtl;
+            return this;
+        }
+
         @Override
         public Ec2MetadataAsyncBuilder httpClient(SdkAsyncHttpClient httpClient) {
             this.httpClient = httpClient;
@@ -231,6 +246,10 @@ public final class DefaultEc2MetadataAsyncClient extends BaseEc2MetadataClient i
             return this.endpointMode;
         }
 
+        public Duration getMetadataCacheTtl() {
+            return this.metadataCacheTtl;
+        }
+
         @Override
         public Ec2MetadataAsyncClient build() {
             return new DefaultEc2MetadataAsyncClient(this);
@@ -111,6 +111,13 @@ public final class DefaultEc2MetadataClient extends BaseEc2MetadataClient implem
      */
     @Override
     public Ec2MetadataResponse get(String path) {
+        if (responseCache != null) {
+            return responseCache.get(path, this::getUncached);
+        }
+        return getUncached(path);
+    }
+
+    private Ec2MetadataResponse getUncached(String path) {
         Throwable lastCause = null;
         // 3 retries means 4 total attempts
         Token token = null;
@@ -256,6 +263,8 @@ public final class DefaultEc2MetadataClient extends BaseEc2MetadataClient implem
 
         private EndpointMode endpointMode;
 
+        private Duration metadataCacheTtl;
+
         private SdkHttpClient httpClient;
 
         private SdkHttpClient.Builder<?> httpClientBuilder;
@@ -295,6 +304,12 @@ public final class DefaultEc2MetadataClient extends BaseEc2MetadataClient implem
             return this;
         }
 
+        @Override
+        public Ec2MetadataBuilder metadataCacheTtl(Duration metadataCacheTtl) {
+            this.metadataCacheTtl = metadataCacheTtl;
+            return this;
+        }
+
         @Override
         public Ec2MetadataBuilder httpClient(SdkHttpClient httpClient) {
             this.httpClient = httpClient;
@@ -323,6 +338,10 @@ public final class DefaultEc2MetadataClient extends BaseEc2MetadataClient implem
             return this.endpointMode;
         }
 
+        public Duration getMetadataCacheTtl() {
+            return this.metadataCacheTtl;
+        }
+
         @Override
         public Ec2MetadataClient build() {
             return new DefaultEc2MetadataClient(this);
@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.imds.internal;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.imds.Ec2MetadataResponse;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+/**
+ * A cache of the metadata responses of an IMDS client, by path. Each response is cached for a fixed time after it was
+ * requested. Failed requests are not cached.
+ *
+ * <p>Asynchronous requests for a path that is already being requested share the pending request, so that concurrent callers
+ * only cause a single call to IMDS.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class Ec2MetadataResponseCache {
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final Clock clock;
+
+    Ec2MetadataResponseCache(Duration ttl) {
+        this(ttl, Clock.systemUTC());
+    }
+
+    Ec2MetadataResponseCache(Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * Get the cached response for the path, or load and cache it if there is none.
+     */
+    Ec2MetadataResponse get(String path, Function<String, Ec2MetadataResponse> loader) {
+        Instant now = clock.instant();
+        Entry entry = entries.get(path);
+        if (entry != null && entry.isValid(now) && entry.value != null) {
+            return entry.value;
+        }
+
+        Ec2MetadataResponse response = loader.apply(path);
+        entries.put(path, new Entry(CompletableFuture.completedFuture(response), now.plus(ttl)));
+        return response;
+    }
+
+    /**
+     * Get the cached or pending response for the path, or start loading it if there is none. Each caller gets its own future,
+     * so that cancelling it does not affect other callers.
+     */
+    CompletableFuture<Ec2MetadataResponse> getAsync(String path,
+                                                    Function<String, CompletableFuture<Ec2MetadataResponse>> loader) {
+        Instant now = clock.instant();
+        Entry entry = entries.compute(path, (p, current) -> {
+            if (current != null && current.isValid(now)) {
+                return current;
+            }
+            return new Entry(loader.apply(p), now.plus(ttl));
+        });
+
+        entry.response.whenComplete((r, t) -> {
+            if (t != null) {
+                entries.remove(path, entry);
+            }
+        });
+
+        CompletableFuture<Ec2MetadataResponse> result = new CompletableFuture<>();
+        CompletableFutureUtils.forwardResultTo(entry.response, result);
+        return result;
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<Ec2MetadataResponse> response;
+        private final Instant expiration;
+
+        /**
+         * The response, once the request completed successfully, so that synchronous callers can read it without waiting.
+         */
+        private volatile Ec2MetadataResponse value;
+
+        private Entry(CompletableFuture<Ec2MetadataResponse> response, Instant expiration) {
+            this.response = response;
+            this.expiration = expiration;
+            response.thenAccept(r -> this.value = r);
+        }
+
+        private boolean isValid(Instant now) {
+            return now.isBefore(expiration) && !response.isCompletedExceptionally();
+        }
+    }
+}
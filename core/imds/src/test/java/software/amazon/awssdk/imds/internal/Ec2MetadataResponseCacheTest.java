@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.imds.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.imds.Ec2MetadataResponse;
+
+class Ec2MetadataResponseCacheTest {
+    private static final String PATH = "/latest/meta-data/ami-id";
+
+    private final MutableClock clock = new MutableClock();
+    private final Ec2MetadataResponseCache cache = new Ec2MetadataResponseCache(Duration.ofMinutes(1), clock);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void get_withinTtl_loadsOnce() {
+        assertThat(cache.get(PATH, this::load).asString()).isEqualTo("value-1");
+        clock.advance(Duration.ofSeconds(59));
+        assertThat(cache.get(PATH, this::load).asString()).isEqualTo("value-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void get_afterTtl_reloads() {
+        cache.get(PATH, this::load);
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(cache.get(PATH, this::load).asString()).isEqualTo("value-2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_failedLoad_isNotCached() {
+        assertThatThrownBy(() -> cache.get(PATH, p -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.get(PATH, this::load).asString()).isEqualTo("value-1");
+    }
+
+    @Test
+    void getAsync_concurrentCalls_shareThePendingLoad() {
+        CompletableFuture<Ec2MetadataResponse> pending = new CompletableFuture<>();
+        CompletableFuture<Ec2MetadataResponse> first = cache.getAsync(PATH, p -> {
+            loads.incrementAndGet();
+            return pending;
+        });
+        CompletableFuture<Ec2MetadataResponse> second = cache.getAsync(PATH, p -> CompletableFuture.completedFuture(load(p)));
+
+        first.cancel(false);
+        pending.complete(Ec2MetadataResponse.create("value"));
+
+        assertThat(second.join().asString()).isEqualTo("value");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void getAsync_failedLoad_isNotCached() {
+        CompletableFuture<Ec2MetadataResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException());
+
+        assertThatThrownBy(cache.getAsync(PATH, p -> failed)::join).isInstanceOf(CompletionException.class);
+        assertThat(cache.getAsync(PATH, p -> CompletableFuture.completedFuture(load(p))).join().asString())
+            .isEqualTo("value-1");
+    }
+
+    private Ec2MetadataResponse load(String path) {
+        return Ec2MetadataResponse.create("value-" + loads.incrementAndGet());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2023-01-01T00:00:00Z");
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -36,7 +36,9 @@ import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
 import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -47,6 +49,7 @@ import software.amazon.awssdk.imds.Ec2MetadataResponse;
 
 @WireMockTest
 class MultipleAsyncRequestsTest {
+    private static final String INSTANCE_TYPE_RESOURCE = "/latest/meta-data/instance-type";
 
     private int port;
 
@@ -90,4 +93,28 @@ class MultipleAsyncRequestsTest {
             .withHeader(TOKEN_HEADER, equalTo(tokenValue)));
 
     }
+
+    @Test
+    void getAll_withCache_usesOneTokenAndCachesResponses() {
+        stubFor(put(urlPathEqualTo(TOKEN_RESOURCE_PATH)).willReturn(
+            aResponse().withBody("some-token").withHeader(EC2_METADATA_TOKEN_TTL_HEADER, "21600")));
+        stubFor(get(urlPathEqualTo(AMI_ID_RESOURCE)).willReturn(aResponse().withBody("ami")));
+        stubFor(get(urlPathEqualTo(INSTANCE_TYPE_RESOURCE)).willReturn(aResponse().withBody("type")));
+
+        Ec2MetadataAsyncClient client = Ec2MetadataAsyncClient.builder()
+                                                              .endpoint(URI.create("http://localhost:" + this.port))
+                                                              .metadataCacheTtl(Duration.ofMinutes(5))
+                                                              .build();
+
+        Map<String, Ec2MetadataResponse> responses = client.getAll(AMI_ID_RESOURCE, INSTANCE_TYPE_RESOURCE).join();
+        assertThat(responses.keySet()).containsExactly(AMI_ID_RESOURCE, INSTANCE_TYPE_RESOURCE);
+        assertThat(responses.get(AMI_ID_RESOURCE).asString()).isEqualTo("ami");
+        assertThat(responses.get(INSTANCE_TYPE_RESOURCE).asString()).isEqualTo("type");
+
+        assertThat(client.get(AMI_ID_RESOURCE).join().asString()).isEqualTo("ami");
+
+        verify(exactly(1), putRequestedFor(urlPathEqualTo(TOKEN_RESOURCE_PATH)));
+        verify(exactly(1), getRequestedFor(urlPathEqualTo(AMI_ID_RESOURCE)));
+        verify(exactly(1), getRequestedFor(urlPathEqualTo(INSTANCE_TYPE_RESOURCE)));
+    }
 }
@@ -25,6 +25,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.profiles.internal.ProfileFileRefresher;
+import software.amazon.awssdk.profiles.internal.WatchingProfileFileSupplier;
 
 /**
  * Encapsulates the logic for supplying either a single or multiple ProfileFile instances.
@@ -97,6 +98,26 @@ public interface ProfileFileSupplier extends Supplier<ProfileFile> {
         };
     }
 
+    /**
+     * Creates a {@link ProfileFileSupplier} capable of producing multiple profile objects from a file. The file is loaded once
+     * when the supplier is created, and then reloaded in a background thread whenever a {@link java.nio.file.WatchService}
+     * reports that it has changed. Unlike {@link #reloadWhenModified(Path, ProfileFile.Type)}, calls to the supplier do not
+     * access the disk, and return the most recently loaded profile file. If a changed file cannot be loaded, the previously
+     * loaded profile file continues to be returned.
+     *
+     * <p>How quickly changes are detected depends on the watch service of the file system; some implementations poll for changes.
+     * The returned supplier should be closed to stop watching the file when it is no longer used.
+     *
+     * @param path Path to the file to read from.
+     * @param type The type of file. See {@link ProfileFile.Type} for possible values.
+     * @return Implementation of {@link ProfileFileSupplier} that is capable of supplying a new profile when the file
+     *         has been modified.
+     * @throws java.io.UncheckedIOException If the file could not be watched for changes.
+     */
+    static CloseableProfileFileSupplier watchForChanges(Path path, ProfileFile.Type type) {
+        return WatchingProfileFileSupplier.create(path, type);
+    }
+
     /**
      * Creates a {@link ProfileFileSupplier} that produces an existing profile.
      *
@@ -0,0 +1,190 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.profiles.internal;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.profiles.CloseableProfileFileSupplier;
+import software.amazon.awssdk.profiles.ProfileFile;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * A {@link ProfileFileSupplier} that loads a profile file once, and reloads it from a background thread when a
+ * {@link WatchService} reports a change in the file's directory. Calls to {@link #get()} only read the most recently loaded
+ * profile file, and never access the disk.
+ *
+ * <p>The directory is watched rather than the file, because a watch service can only watch directories. Any change in the
+ * directory causes the file to be reloaded if it was the changed entry, or if its modification time changed. The latter
+ * handles files that are replaced by updating a symbolic link, as done for mounted secrets.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class WatchingProfileFileSupplier implements CloseableProfileFileSupplier {
+    private static final Logger log = Logger.loggerFor(WatchingProfileFileSupplier.class);
+
+    private static final ThreadFactory THREAD_FACTORY = new ThreadFactoryBuilder().threadNamePrefix("sdk-profile-file-watcher")
+                                                                                  .daemonThreads(true)
+                                                                                  .build();
+
+    private final Path path;
+    private final Supplier<ProfileFile> profileFileLoader;
+    private final WatchService watchService;
+
+    private volatile ProfileFile profileFile;
+    private volatile boolean closed;
+
+    /**
+     * The modification time of the file when it was last loaded. Only accessed by the watcher thread once it has started.
+     */
+    private FileTime loadedModifiedTime;
+
+    private WatchingProfileFileSupplier(Path path, Supplier<ProfileFile> profileFileLoader, WatchService watchService) {
+        this.path = path;
+        this.profileFileLoader = profileFileLoader;
+        this.watchService = watchService;
+        this.loadedModifiedTime = modifiedTime();
+        this.profileFile = profileFileLoader.get();
+    }
+
+    /**
+     * Load the profile file at the provided path, and start watching it for changes.
+     *
+     * @throws UncheckedIOException If the directory of the file could not be watched.
+     * @throws IllegalArgumentException If the path has no parent directory, such as a file system root.
+     */
+    public static WatchingProfileFileSupplier create(Path path, ProfileFile.Type type) {
+        Path absolutePath = path.toAbsolutePath();
+        return create(absolutePath, () -> ProfileFile.builder().content(absolutePath).type(type).build());
+    }
+
+    static WatchingProfileFileSupplier create(Path path, Supplier<ProfileFile> profileFileLoader) {
+        Path absolutePath = path.toAbsolutePath();
+        Path directory = absolutePath.getParent();
+        if (directory == null) {
+            throw new IllegalArgumentException("Unable to watch profile file " + path + ", because it has no parent directory.");
+        }
+
+        WatchService watchService = null;
+        try {
+            watchService = absolutePath.getFileSystem().newWatchService();
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+
+            WatchingProfileFileSupplier supplier = new WatchingProfileFileSupplier(absolutePath, profileFileLoader,
+                                                                                   watchService);
+            THREAD_FACTORY.newThread(supplier::watch).start();
+            return supplier;
+        } catch (IOException e) {
+            IoUtils.closeQuietly(watchService, log.logger());
+            throw new UncheckedIOException("Unable to watch profile file " + absolutePath, e);
+        } catch (RuntimeException e) {
+            IoUtils.closeQuietly(watchService, log.logger());
+            throw e;
+        }
+    }
+
+    @Override
+    public ProfileFile get() {
+        return profileFile;
+    }
+
+    /**
+     * Stop watching the profile file. The last loaded profile file is still returned by {@link #get()} after this is closed.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        IoUtils.closeQuietly(watchService, log.logger());
+    }
+
+    private void watch() {
+        Path fileName = path.getFileName();
+        while (!closed) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (ClosedWatchServiceException e) {
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            boolean fileChanged = false;
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == OVERFLOW || fileName.equals(event.context())) {
+                    fileChanged = true;
+                }
+            }
+            reload(fileChanged);
+
+            if (!key.reset()) {
+                log.warn(() -> "Stopped watching profile file " + path + " for changes, because its directory is no longer "
+                               + "accessible.");
+                return;
+            }
+        }
+    }
+
+    private void reload(boolean fileChanged) {
+        try {
+            FileTime modifiedTime = modifiedTime();
+            if (!fileChanged && modifiedTime.equals(loadedModifiedTime)) {
+                return;
+            }
+
+            ProfileFile reloadedProfileFile = profileFileLoader.get();
+            loadedModifiedTime = modifiedTime;
+            profileFile = reloadedProfileFile;
+        } catch (RuntimeException e) {
+            // The file may be in the middle of being replaced. Keep the last profile file until it can be loaded again.
+            log.debug(() -> "Unable to reload profile file " + path + ", the previously loaded profile file will be used.", e);
+        }
+    }
+
+    private FileTime modifiedTime() {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("WatchingProfileFileSupplier")
+                       .add("path", path)
+                       .build();
+    }
+}
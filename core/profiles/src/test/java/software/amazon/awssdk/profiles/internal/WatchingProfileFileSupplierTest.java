@@ -0,0 +1,162 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.profiles.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.profiles.CloseableProfileFileSupplier;
+import software.amazon.awssdk.profiles.ProfileFile;
+import software.amazon.awssdk.profiles.ProfileFileSupplier;
+import software.amazon.awssdk.profiles.ProfileProperty;
+
+class WatchingProfileFileSupplierTest {
+    private static final Duration MAX_WAIT = Duration.ofSeconds(30);
+
+    @TempDir
+    Path testDirectory;
+
+    @Test
+    void get_fileUnchanged_returnsSameProfileFileWithoutReloading() throws IOException {
+        Path credentialsFile = writeCredentialsFile("defaultAccessKey");
+        AtomicInteger loads = new AtomicInteger();
+
+        try (WatchingProfileFileSupplier supplier = WatchingProfileFileSupplier.create(credentialsFile,
+                                                                                        countingLoader(credentialsFile, loads))) {
+            ProfileFile profileFile = supplier.get();
+
+            assertThat(supplier.get()).isSameAs(profileFile);
+            assertThat(accessKeyId(profileFile)).isEqualTo("defaultAccessKey");
+            assertThat(loads).hasValue(1);
+        }
+    }
+
+    @Test
+    void get_fileModified_returnsReloadedProfileFile() throws IOException {
+        Path credentialsFile = writeCredentialsFile("defaultAccessKey");
+
+        try (WatchingProfileFileSupplier supplier = WatchingProfileFileSupplier.create(credentialsFile,
+                                                                                        ProfileFile.Type.CREDENTIALS)) {
+            writeCredentialsFile("modifiedAccessKey");
+
+            assertThat(waitFor(() -> "modifiedAccessKey".equals(accessKeyId(supplier.get())))).isTrue();
+        }
+    }
+
+    @Test
+    void get_modifiedFileFailsToLoad_returnsPreviouslyLoadedProfileFile() throws IOException {
+        Path credentialsFile = writeCredentialsFile("defaultAccessKey");
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<ProfileFile> loader = countingLoader(credentialsFile, loads);
+        Supplier<ProfileFile> failingReloader = () -> {
+            if (loads.get() > 0) {
+                loads.incrementAndGet();
+                throw new IllegalStateException("Failed to load");
+            }
+            return loader.get();
+        };
+
+        try (WatchingProfileFileSupplier supplier = WatchingProfileFileSupplier.create(credentialsFile, failingReloader)) {
+            ProfileFile profileFile = supplier.get();
+            writeCredentialsFile("modifiedAccessKey");
+
+            assertThat(waitFor(() -> loads.get() > 1)).isTrue();
+            assertThat(supplier.get()).isSameAs(profileFile);
+        }
+    }
+
+    @Test
+    void close_fileModified_doesNotReload() throws IOException, InterruptedException {
+        Path credentialsFile = writeCredentialsFile("defaultAccessKey");
+        AtomicInteger loads = new AtomicInteger();
+
+        WatchingProfileFileSupplier supplier = WatchingProfileFileSupplier.create(credentialsFile,
+                                                                                  countingLoader(credentialsFile, loads));
+        ProfileFile profileFile = supplier.get();
+        supplier.close();
+
+        writeCredentialsFile("modifiedAccessKey");
+        Thread.sleep(500);
+
+        assertThat(supplier.get()).isSameAs(profileFile);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void create_pathWithoutParent_throwsIllegalArgumentException() {
+        Path root = testDirectory.getRoot();
+
+        assertThatThrownBy(() -> WatchingProfileFileSupplier.create(root, () -> null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("no parent directory");
+    }
+
+    @Test
+    void watchForChanges_returnsCloseableSupplier() throws IOException {
+        Path credentialsFile = writeCredentialsFile("defaultAccessKey");
+
+        try (CloseableProfileFileSupplier supplier = ProfileFileSupplier.watchForChanges(credentialsFile,
+                                                                                         ProfileFile.Type.CREDENTIALS)) {
+            assertThat(accessKeyId(supplier.get())).isEqualTo("defaultAccessKey");
+        }
+    }
+
+    private Path writeCredentialsFile(String accessKeyId) throws IOException {
+        String contents = String.format("[default]\naws_access_key_id = %s\naws_secret_access_key = secretAccessKey\n",
+                                        accessKeyId);
+        Path credentialsFile = testDirectory.resolve("credentials");
+        Files.write(credentialsFile, contents.getBytes(StandardCharsets.UTF_8));
+        return credentialsFile;
+    }
+
+    private static Supplier<ProfileFile> countingLoader(Path path, AtomicInteger loads) {
+        return () -> {
+            loads.incrementAndGet();
+            return ProfileFile.builder().content(path).type(ProfileFile.Type.CREDENTIALS).build();
+        };
+    }
+
+    private static String accessKeyId(ProfileFile profileFile) {
+        return profileFile.profile("default").flatMap(p -> p.property(ProfileProperty.AWS_ACCESS_KEY_ID)).orElse(null);
+    }
+
+    private static boolean waitFor(BooleanSupplier condition) {
+        Instant deadline = Instant.now().plus(MAX_WAIT);
+        while (!condition.getAsBoolean()) {
+            if (Instant.now().isAfter(deadline)) {
+                return false;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+}
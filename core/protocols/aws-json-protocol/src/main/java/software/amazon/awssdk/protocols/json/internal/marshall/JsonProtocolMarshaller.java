@@ -28,6 +28,7 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
@@ -39,6 +40,7 @@ import software.amazon.awssdk.core.traits.TimestampFormatTrait;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.protocols.core.InstantToString;
 import software.amazon.awssdk.protocols.core.OperationInfo;
+import software.amazon.awssdk.protocols.core.OperationRequestTemplates;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.core.ProtocolUtils;
 import software.amazon.awssdk.protocols.core.ValueToStringConverter.ValueToString;
@@ -57,7 +59,11 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
 
     private static final JsonMarshallerRegistry MARSHALLER_REGISTRY = createMarshallerRegistry();
 
+    private static final BiConsumer<SdkHttpFullRequest.Builder, OperationInfo> ADD_TARGET_HEADER =
+        JsonProtocolMarshaller::addTargetHeader;
+
     private final URI endpoint;
+    private final OperationRequestTemplates requestTemplates;
     private final StructuredJsonGenerator jsonGenerator;
     private final SdkHttpFullRequest.Builder request;
     private final String contentType;
@@ -74,8 +80,10 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
                            StructuredJsonGenerator jsonGenerator,
                            String contentType,
                            OperationInfo operationInfo,
-                           AwsJsonProtocolMetadata protocolMetadata) {
+                           AwsJsonProtocolMetadata protocolMetadata,
+                           OperationRequestTemplates requestTemplates) {
         this.endpoint = endpoint;
+        this.requestTemplates = requestTemplates;
         this.jsonGenerator = jsonGenerator;
         this.contentType = contentType;
         this.protocolMetadata = protocolMetadata;
@@ -157,12 +165,18 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
     }
 
     private SdkHttpFullRequest.Builder fillBasicRequestParams(OperationInfo operationInfo) {
-        return ProtocolUtils.createSdkHttpRequest(operationInfo, endpoint)
-                            .applyMutation(b -> {
-                                if (operationInfo.operationIdentifier() != null) {
-                                    b.putHeader("X-Amz-Target", operationInfo.operationIdentifier());
-                                }
-                            });
+        if (requestTemplates == null) {
+            SdkHttpFullRequest.Builder request = ProtocolUtils.createSdkHttpRequest(operationInfo, endpoint);
+            addTargetHeader(request, operationInfo);
+            return request;
+        }
+        return requestTemplates.createSdkHttpRequest(operationInfo, endpoint, ADD_TARGET_HEADER);
+    }
+
+    private static void addTargetHeader(SdkHttpFullRequest.Builder request, OperationInfo operationInfo) {
+        if (operationInfo.operationIdentifier() != null) {
+            request.putHeader("X-Amz-Target", operationInfo.operationIdentifier());
+        }
     }
 
     /**
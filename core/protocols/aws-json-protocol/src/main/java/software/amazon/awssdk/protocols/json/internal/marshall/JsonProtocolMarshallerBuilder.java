@@ -19,6 +19,7 @@ import java.net.URI;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.protocols.core.OperationInfo;
+import software.amazon.awssdk.protocols.core.OperationRequestTemplates;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.json.AwsJsonProtocolMetadata;
 import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
@@ -35,6 +36,7 @@ public final class JsonProtocolMarshallerBuilder {
     private OperationInfo operationInfo;
     private boolean sendExplicitNullForPayload;
     private AwsJsonProtocolMetadata protocolMetadata;
+    private OperationRequestTemplates requestTemplates;
 
     private JsonProtocolMarshallerBuilder() {
     }
@@ -102,6 +104,16 @@ public final class JsonProtocolMarshallerBuilder {
         return this;
     }
 
+    /**
+     * @param requestTemplates The client's cache of the static parts of each operation's request. If not set, every
+     * marshaller builds them anew.
+     * @return This builder for method chaining.
+     */
+    public JsonProtocolMarshallerBuilder requestTemplates(OperationRequestTemplates requestTemplates) {
+        this.requestTemplates = requestTemplates;
+        return this;
+    }
+
     /**
      * @return New instance of {@link ProtocolMarshaller}. If {@link #sendExplicitNullForPayload} is true then the marshaller
      * will be wrapped with {@link NullAsEmptyBodyProtocolRequestMarshaller}.
@@ -111,7 +123,8 @@ public final class JsonProtocolMarshallerBuilder {
                                                                                                jsonGenerator,
                                                                                                contentType,
                                                                                                operationInfo,
-                                                                                               protocolMetadata);
+                                                                                               protocolMetadata,
+                                                                                               requestTemplates);
         return sendExplicitNullForPayload ? protocolMarshaller
                                           : new NullAsEmptyBodyProtocolRequestMarshaller(protocolMarshaller);
     }
@@ -33,6 +33,7 @@ import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.protocols.core.ExceptionMetadata;
 import software.amazon.awssdk.protocols.core.OperationInfo;
+import software.amazon.awssdk.protocols.core.OperationRequestTemplates;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.query.internal.marshall.QueryProtocolMarshaller;
 import software.amazon.awssdk.protocols.query.internal.unmarshall.AwsQueryResponseHandler;
@@ -50,6 +51,7 @@ public class AwsQueryProtocolFactory {
     private final List<ExceptionMetadata> modeledExceptions;
     private final Supplier<SdkPojo> defaultServiceExceptionSupplier;
     private final MetricCollectingHttpResponseHandler<AwsServiceException> errorUnmarshaller;
+    private final OperationRequestTemplates requestTemplates = OperationRequestTemplates.create();
 
     AwsQueryProtocolFactory(Builder<?> builder) {
         this.clientConfiguration = builder.clientConfiguration;
@@ -77,6 +79,7 @@ public class AwsQueryProtocolFactory {
                                       .endpoint(clientConfiguration.option(SdkClientOption.ENDPOINT))
                                       .operationInfo(operationInfo)
                                       .isEc2(isEc2())
+                                      .requestTemplates(requestTemplates)
                                       .build();
     }
 
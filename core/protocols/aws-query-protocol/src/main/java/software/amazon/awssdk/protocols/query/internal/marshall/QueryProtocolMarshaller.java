@@ -16,12 +16,14 @@
 package software.amazon.awssdk.protocols.query.internal.marshall;
 
 import java.net.URI;
+import java.util.function.BiConsumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.protocols.core.OperationInfo;
+import software.amazon.awssdk.protocols.core.OperationRequestTemplates;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.core.ProtocolUtils;
 
@@ -40,21 +42,34 @@ public final class QueryProtocolMarshaller
         .marshaller(MarshallingType.LIST, ListQueryMarshaller.ec2Query())
         .build();
 
+    private static final BiConsumer<SdkHttpFullRequest.Builder, OperationInfo> ADD_ACTION_AND_VERSION =
+        QueryProtocolMarshaller::addActionAndVersion;
+
     private final SdkHttpFullRequest.Builder request;
     private final QueryMarshallerRegistry registry;
     private final URI endpoint;
+    private final OperationRequestTemplates requestTemplates;
 
     private QueryProtocolMarshaller(Builder builder) {
         this.endpoint = builder.endpoint;
+        this.requestTemplates = builder.requestTemplates;
         this.request = fillBasicRequestParams(builder.operationInfo);
         this.registry = builder.isEc2 ? EC2_QUERY_MARSHALLER_REGISTRY : AWS_QUERY_MARSHALLER_REGISTRY;
     }
 
     private SdkHttpFullRequest.Builder fillBasicRequestParams(OperationInfo operationInfo) {
-        return ProtocolUtils.createSdkHttpRequest(operationInfo, endpoint)
-                            .encodedPath("")
-                            .putRawQueryParameter("Action", operationInfo.operationIdentifier())
-                            .putRawQueryParameter("Version", operationInfo.apiVersion());
+        if (requestTemplates == null) {
+            SdkHttpFullRequest.Builder request = ProtocolUtils.createSdkHttpRequest(operationInfo, endpoint);
+            addActionAndVersion(request, operationInfo);
+            return request;
+        }
+        return requestTemplates.createSdkHttpRequest(operationInfo, endpoint, ADD_ACTION_AND_VERSION);
+    }
+
+    private static void addActionAndVersion(SdkHttpFullRequest.Builder request, OperationInfo operationInfo) {
+        request.encodedPath("")
+               .putRawQueryParameter("Action", operationInfo.operationIdentifier())
+               .putRawQueryParameter("Version", operationInfo.apiVersion());
     }
 
     @Override
@@ -113,6 +128,7 @@ public final class QueryProtocolMarshaller
         private OperationInfo operationInfo;
         private boolean isEc2;
         private URI endpoint;
+        private OperationRequestTemplates requestTemplates;
 
         /**
          * @param operationInfo Metadata about the operation like URI, HTTP method, etc.
@@ -142,6 +158,16 @@ public final class QueryProtocolMarshaller
             return this;
         }
 
+        /**
+         * @param requestTemplates The client's cache of the static parts of each operation's request. If not set, every
+         * marshaller builds them anew.
+         * @return This builder for method chaining.
+         */
+        public Builder requestTemplates(OperationRequestTemplates requestTemplates) {
+            this.requestTemplates = requestTemplates;
+            return this;
+        }
+
         /**
          * @return New instance of {@link QueryProtocolMarshaller}.
          */
@@ -38,6 +38,7 @@ import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.core.ExceptionMetadata;
 import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.core.OperationMetadataAttribute;
+import software.amazon.awssdk.protocols.core.OperationRequestTemplates;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.query.unmarshall.AwsXmlErrorProtocolUnmarshaller;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
@@ -78,6 +79,7 @@ public class AwsXmlProtocolFactory {
     private final Supplier<SdkPojo> defaultServiceExceptionSupplier;
     private final HttpResponseHandler<AwsServiceException> errorUnmarshaller;
     private final SdkClientConfiguration clientConfiguration;
+    private final OperationRequestTemplates requestTemplates = OperationRequestTemplates.create();
 
     AwsXmlProtocolFactory(Builder<?> builder) {
         this.modeledExceptions = unmodifiableList(builder.modeledExceptions);
@@ -103,6 +105,7 @@ public class AwsXmlProtocolFactory {
                                     .endpoint(clientConfiguration.option(SdkClientOption.ENDPOINT))
                                     .xmlGenerator(createGenerator(operationInfo))
                                     .operationInfo(operationInfo)
+                                    .requestTemplates(requestTemplates)
                                     .build();
     }
 
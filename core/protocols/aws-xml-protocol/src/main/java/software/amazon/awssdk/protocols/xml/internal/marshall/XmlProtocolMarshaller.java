@@ -36,6 +36,7 @@ import software.amazon.awssdk.core.traits.TimestampFormatTrait;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.protocols.core.InstantToString;
 import software.amazon.awssdk.protocols.core.OperationInfo;
+import software.amazon.awssdk.protocols.core.OperationRequestTemplates;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.core.ProtocolUtils;
 import software.amazon.awssdk.protocols.core.ValueToStringConverter;
@@ -61,7 +62,9 @@ public final class XmlProtocolMarshaller implements ProtocolMarshaller<SdkHttpFu
 
     private XmlProtocolMarshaller(Builder builder) {
         this.endpoint = builder.endpoint;
-        this.request = ProtocolUtils.createSdkHttpRequest(builder.operationInfo, this.endpoint);
+        this.request = builder.requestTemplates == null
+                       ? ProtocolUtils.createSdkHttpRequest(builder.operationInfo, this.endpoint)
+                       : builder.requestTemplates.createSdkHttpRequest(builder.operationInfo, this.endpoint);
         this.rootElement = builder.operationInfo.addtionalMetadata(AwsXmlProtocolFactory.ROOT_MARSHALL_LOCATION_ATTRIBUTE);
         this.marshallerContext = XmlMarshallerContext.builder()
                                                      .xmlGenerator(builder.xmlGenerator)
@@ -219,6 +222,7 @@ public final class XmlProtocolMarshaller implements ProtocolMarshaller<SdkHttpFu
         private URI endpoint;
         private XmlGenerator xmlGenerator;
         private OperationInfo operationInfo;
+        private OperationRequestTemplates requestTemplates;
 
         private Builder() {
         }
@@ -250,6 +254,16 @@ public final class XmlProtocolMarshaller implements ProtocolMarshaller<SdkHttpFu
             return this;
         }
 
+        /**
+         * @param requestTemplates The client's cache of the static parts of each operation's request. If not set, every
+         * marshaller builds them anew.
+         * @return This builder for method chaining.
+         */
+        public Builder requestTemplates(OperationRequestTemplates requestTemplates) {
+            this.requestTemplates = requestTemplates;
+            return this;
+        }
+
         /**
          * @return New instance of {@link XmlProtocolMarshaller}.
          */
@@ -0,0 +1,111 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.core;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+
+/**
+ * Cache of the parts of a request that depend only on the operation, the endpoint and the protocol: the HTTP method, the
+ * endpoint with the operation's resource path appended, the static query parameters of the request URI and whatever the
+ * protocol adds for every request of the operation (e.g. the 'X-Amz-Target' header for JSON RPC).
+ *
+ * <p>Each protocol factory, and so each client, owns one instance. Marshalling a request then starts from a copy of the
+ * cached request instead of parsing the endpoint and resource path again. Templates are keyed by the {@link OperationInfo},
+ * which generated marshallers hold as a constant, so the cache holds at most one entry per operation of the client.
+ */
+@SdkProtectedApi
+public final class OperationRequestTemplates {
+    private static final BiConsumer<SdkHttpFullRequest.Builder, OperationInfo> NO_CUSTOMIZATION = (request, operation) -> {
+    };
+
+    private final Map<OperationInfo, Template> templates = new ConcurrentHashMap<>();
+
+    private OperationRequestTemplates() {
+    }
+
+    /**
+     * @return New, empty {@link OperationRequestTemplates}.
+     */
+    public static OperationRequestTemplates create() {
+        return new OperationRequestTemplates();
+    }
+
+    /**
+     * Creates the basic {@link SdkHttpFullRequest} with information from the {@link OperationInfo} and the endpoint. Each call
+     * returns a copy of a cached request, so the returned builder may be freely modified.
+     *
+     * @param operationInfo Metadata about operation, contains HTTP method and request URI.
+     * @param endpoint Endpoint of request.
+     * @return Mutable {@link SdkHttpFullRequest.Builder} with HTTP method, URI, and static query parameters set.
+     */
+    public SdkHttpFullRequest.Builder createSdkHttpRequest(OperationInfo operationInfo, URI endpoint) {
+        return createSdkHttpRequest(operationInfo, endpoint, NO_CUSTOMIZATION);
+    }
+
+    /**
+     * Creates the basic {@link SdkHttpFullRequest} with information from the {@link OperationInfo} and the endpoint, and
+     * applies the protocol specific parts that are the same for every request of the operation.
+     *
+     * <p>The result is built once per operation and endpoint and cached. Each call returns a copy of the cached request, so
+     * the returned builder may be freely modified. Because of this, the customizer must only depend on the request and the
+     * operation it is given, and should be a constant so that the cached request can be reused.
+     *
+     * @param operationInfo Metadata about operation, contains HTTP method and request URI.
+     * @param endpoint Endpoint of request.
+     * @param staticCustomizer Applies the protocol specific headers and query parameters of the operation.
+     * @return Mutable {@link SdkHttpFullRequest.Builder} with HTTP method, URI, static query parameters and the parts
+     * added by the customizer set.
+     * @see ProtocolUtils#createSdkHttpRequest(OperationInfo, URI)
+     */
+    public SdkHttpFullRequest.Builder createSdkHttpRequest(
+        OperationInfo operationInfo,
+        URI endpoint,
+        BiConsumer<SdkHttpFullRequest.Builder, OperationInfo> staticCustomizer) {
+
+        Template template = templates.get(operationInfo);
+        if (template == null || !template.isFor(endpoint, staticCustomizer)) {
+            SdkHttpFullRequest.Builder request = ProtocolUtils.createSdkHttpRequest(operationInfo, endpoint);
+            staticCustomizer.accept(request, operationInfo);
+            template = new Template(endpoint, staticCustomizer, request.build());
+            templates.put(operationInfo, template);
+        }
+        return template.request.toBuilder();
+    }
+
+    private static final class Template {
+        private final URI endpoint;
+        private final BiConsumer<SdkHttpFullRequest.Builder, OperationInfo> customizer;
+        private final SdkHttpFullRequest request;
+
+        private Template(URI endpoint,
+                         BiConsumer<SdkHttpFullRequest.Builder, OperationInfo> customizer,
+                         SdkHttpFullRequest request) {
+            this.endpoint = endpoint;
+            this.customizer = customizer;
+            this.request = request;
+        }
+
+        private boolean isFor(URI endpoint, BiConsumer<SdkHttpFullRequest.Builder, OperationInfo> customizer) {
+            // Clients pass the same endpoint instance on every call, so the identity check avoids URI.equals in the common case.
+            return this.customizer == customizer && (this.endpoint == endpoint || this.endpoint.equals(endpoint));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+
+public class OperationRequestTemplatesTest {
+
+    @Test
+    public void createSdkHttpRequest_CalledTwice_ReturnsIndependentCopiesOfSameRequest() {
+        OperationRequestTemplates templates = OperationRequestTemplates.create();
+        OperationInfo operationInfo = OperationInfo.builder()
+                                                   .httpMethod(SdkHttpMethod.GET)
+                                                   .requestUri("/baz?static=value")
+                                                   .build();
+        URI endpoint = URI.create("http://localhost/foo");
+
+        SdkHttpFullRequest.Builder first = templates.createSdkHttpRequest(operationInfo, endpoint);
+        first.putHeader("Foo", "bar").putRawQueryParameter("static", "modified").encodedPath("/modified");
+
+        SdkHttpFullRequest.Builder second = templates.createSdkHttpRequest(operationInfo, endpoint);
+        assertThat(second.encodedPath()).isEqualTo("/foo/baz");
+        assertThat(second.rawQueryParameters().get("static")).containsExactly("value");
+        assertThat(second.headers()).isEmpty();
+    }
+
+    @Test
+    public void createSdkHttpRequest_WithCustomizer_CustomizerAppliedOncePerEndpoint() {
+        OperationRequestTemplates templates = OperationRequestTemplates.create();
+        AtomicInteger invocations = new AtomicInteger();
+        BiConsumer<SdkHttpFullRequest.Builder, OperationInfo> customizer = (request, operation) -> {
+            invocations.incrementAndGet();
+            request.putHeader("X-Amz-Target", operation.operationIdentifier());
+        };
+        OperationInfo operationInfo = OperationInfo.builder()
+                                                   .httpMethod(SdkHttpMethod.POST)
+                                                   .operationIdentifier("Service.Operation")
+                                                   .build();
+
+        SdkHttpFullRequest.Builder first = templates.createSdkHttpRequest(operationInfo,
+                                                                          URI.create("http://localhost"),
+                                                                          customizer);
+        SdkHttpFullRequest.Builder second = templates.createSdkHttpRequest(operationInfo,
+                                                                           URI.create("http://localhost"),
+                                                                           customizer);
+
+        assertThat(invocations).hasValue(1);
+        assertThat(first.firstMatchingHeader("X-Amz-Target")).hasValue("Service.Operation");
+        assertThat(second.firstMatchingHeader("X-Amz-Target")).hasValue("Service.Operation");
+    }
+
+    @Test
+    public void createSdkHttpRequest_EndpointChanged_RequestUsesNewEndpoint() {
+        OperationRequestTemplates templates = OperationRequestTemplates.create();
+        OperationInfo operationInfo = OperationInfo.builder()
+                                                   .httpMethod(SdkHttpMethod.GET)
+                                                   .requestUri("/baz")
+                                                   .build();
+
+        templates.createSdkHttpRequest(operationInfo, URI.create("http://localhost/foo"));
+        SdkHttpFullRequest.Builder request = templates.createSdkHttpRequest(operationInfo,
+                                                                            URI.create("https://example.com:8443/bar"));
+
+        assertThat(request.protocol()).isEqualTo("https");
+        assertThat(request.host()).isEqualTo("example.com");
+        assertThat(request.port()).isEqualTo(8443);
+        assertThat(request.encodedPath()).isEqualTo("/bar/baz");
+    }
+
+    @Test
+    public void createSdkHttpRequest_SameOperationInDifferentClients_TemplatesAreNotShared() {
+        AtomicInteger invocations = new AtomicInteger();
+        BiConsumer<SdkHttpFullRequest.Builder, OperationInfo> customizer = (request, operation) -> invocations.incrementAndGet();
+        OperationInfo operationInfo = OperationInfo.builder()
+                                                   .httpMethod(SdkHttpMethod.GET)
+                                                   .requestUri("/baz")
+                                                   .build();
+
+        SdkHttpFullRequest.Builder first = OperationRequestTemplates.create()
+                                                                    .createSdkHttpRequest(operationInfo,
+                                                                                          URI.create("http://localhost/foo"),
+                                                                                          customizer);
+        SdkHttpFullRequest.Builder second = OperationRequestTemplates.create()
+                                                                     .createSdkHttpRequest(operationInfo,
+                                                                                           URI.create("http://example.com/bar"),
+                                                                                           customizer);
+
+        assertThat(invocations).hasValue(2);
+        assertThat(first.host()).isEqualTo("localhost");
+        assertThat(second.host()).isEqualTo("example.com");
+    }
+}
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.retries;
 
+import java.nio.file.Path;
 import java.util.function.Predicate;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
@@ -82,6 +83,19 @@ public interface AdaptiveRetryStrategy extends RetryStrategy {
          */
         Builder treatAsThrottling(Predicate<Throwable> treatAsThrottling);
 
+        /**
+         * Configure a file in which the state of the client-side rate limiter is kept, instead of in memory. All the
+         * strategies, including those of other processes on the same host, that are configured with the same file share one
+         * rate limiter per scope, so that they adapt their combined send rate to the throttling responses of the service
+         * together, instead of each ramping up on its own. The file is created if it does not exist.
+         *
+         * <p>By default, the rate limiter state is kept in memory and only shared by the clients using the same strategy
+         * instance.
+         */
+        default Builder sharedRateLimiterStateFile(Path sharedRateLimiterStateFile) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         AdaptiveRetryStrategy build();
     }
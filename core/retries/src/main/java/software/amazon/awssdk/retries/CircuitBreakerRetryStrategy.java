@@ -0,0 +1,139 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.retries.api.TokenAcquisitionFailedException;
+import software.amazon.awssdk.retries.internal.DefaultCircuitBreakerRetryStrategy;
+
+/**
+ * A {@link RetryStrategy} that decorates another strategy with a circuit breaker per scope.
+ *
+ * <p>Unlike the circuit breaking of the {@link StandardRetryStrategy}, which only disables retries, this strategy also
+ * short-circuits first attempts while the circuit is open, so that calls to an endpoint that is hard down fail fast instead
+ * of piling up. The circuit breaker by default:
+ * <ol>
+ *     <li>Tracks the outcome of the last 20 attempts for each scope. Adjust with {@link Builder#slidingWindowSize(int)}
+ *     <li>Opens when at least half of them failed, once at least 10 outcomes have been recorded. Adjust with
+ *     {@link Builder#failureRateThreshold(double)} and {@link Builder#minimumNumberOfCalls(int)}
+ *     <li>Rejects all attempts, by throwing a {@link TokenAcquisitionFailedException}, for 10 seconds once open. Adjust with
+ *     {@link Builder#openStateDuration(Duration)}
+ *     <li>Then admits 3 probe attempts, closing the circuit if all of them succeed or opening it again if any of them
+ *     fails. Adjust with {@link Builder#permittedProbes(int)}
+ * </ol>
+ *
+ * <p>Retrying, backoff and retry circuit breaking are left to the delegate strategy, which by default is the
+ * {@link StandardRetryStrategy}.
+ *
+ * <p>Note: SDK clients use a single scope for all the calls they make, so the circuit state is effectively per endpoint as
+ * long as each client talks to a single endpoint, and the same {@link RetryStrategy} is not shared between clients that use
+ * different endpoints.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface CircuitBreakerRetryStrategy extends RetryStrategy {
+    /**
+     * Create a new {@link CircuitBreakerRetryStrategy.Builder}.
+     *
+     * <p>Example Usage
+     * <pre>
+     * CircuitBreakerRetryStrategy retryStrategy =
+     *     CircuitBreakerRetryStrategy.builder()
+     *                                .delegate(DefaultRetryStrategy.standardStrategyBuilder().build())
+     *                                .openStateDuration(Duration.ofSeconds(30))
+     *                                .build();
+     * </pre>
+     */
+    static Builder builder() {
+        return DefaultCircuitBreakerRetryStrategy
+            .builder()
+            .delegate(DefaultRetryStrategy.standardStrategyBuilder().build())
+            .failureRateThreshold(DefaultRetryStrategy.CircuitBreaker.FAILURE_RATE_THRESHOLD)
+            .slidingWindowSize(DefaultRetryStrategy.CircuitBreaker.SLIDING_WINDOW_SIZE)
+            .minimumNumberOfCalls(DefaultRetryStrategy.CircuitBreaker.MINIMUM_NUMBER_OF_CALLS)
+            .openStateDuration(DefaultRetryStrategy.CircuitBreaker.OPEN_STATE_DURATION)
+            .permittedProbes(DefaultRetryStrategy.CircuitBreaker.PERMITTED_PROBES);
+    }
+
+    @Override
+    Builder toBuilder();
+
+    interface Builder extends RetryStrategy.Builder<Builder, CircuitBreakerRetryStrategy> {
+        /**
+         * The strategy that decides whether and when failed attempts are retried. The retry configuration methods of this
+         * builder, such as {@link #retryOnException(Predicate)} and {@link #maxAttempts(int)}, are applied to this strategy.
+         *
+         * <p>By default, this is the {@link StandardRetryStrategy}.
+         */
+        Builder delegate(RetryStrategy delegate);
+
+        /**
+         * The ratio of failed attempts in the sliding window, between 0 (exclusive) and 1 (inclusive), at or above which the
+         * circuit opens.
+         *
+         * <p>By default, this is {@code 0.5}.
+         */
+        Builder failureRateThreshold(double failureRateThreshold);
+
+        /**
+         * The number of most recent attempt outcomes used to compute the failure rate of a scope.
+         *
+         * <p>By default, this is {@code 20}.
+         */
+        Builder slidingWindowSize(int slidingWindowSize);
+
+        /**
+         * The number of attempt outcomes that must be recorded before the circuit can open. It must not be greater than the
+         * {@link #slidingWindowSize(int)}.
+         *
+         * <p>By default, this is {@code 10}.
+         */
+        Builder minimumNumberOfCalls(int minimumNumberOfCalls);
+
+        /**
+         * How long all attempts are rejected after the circuit opens, before probe attempts are admitted.
+         *
+         * <p>By default, this is 10 seconds.
+         */
+        Builder openStateDuration(Duration openStateDuration);
+
+        /**
+         * The number of probe attempts admitted while the circuit is half-open. All of them must succeed for the circuit to
+         * close.
+         *
+         * <p>By default, this is {@code 3}.
+         */
+        Builder permittedProbes(int permittedProbes);
+
+        /**
+         * Configure a predicate that determines whether a failed attempt counts towards the failure rate of its scope.
+         * Failures for which the predicate returns false count as successes, since the endpoint did respond.
+         *
+         * <p>By default, the failures that the {@link #delegate(RetryStrategy) delegate} strategy retries count, which for the
+         * strategies of the SDK are the failures that indicate the endpoint is unavailable, such as I/O errors, throttling and
+         * server errors. Other failures, such as client errors caused by the request, do not count. If the delegate is not
+         * one of the strategies of the SDK, all failures count.
+         */
+        Builder treatAsFailure(Predicate<Throwable> treatAsFailure);
+
+        @Override
+        CircuitBreakerRetryStrategy build();
+    }
+}
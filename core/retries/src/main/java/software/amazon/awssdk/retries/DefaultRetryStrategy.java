@@ -121,6 +121,17 @@ public final class DefaultRetryStrategy {
         }
     }
 
+    static final class CircuitBreaker {
+        static final double FAILURE_RATE_THRESHOLD = 0.5;
+        static final int SLIDING_WINDOW_SIZE = 20;
+        static final int MINIMUM_NUMBER_OF_CALLS = 10;
+        static final Duration OPEN_STATE_DURATION = Duration.ofSeconds(10);
+        static final int PERMITTED_PROBES = 3;
+
+        private CircuitBreaker() {
+        }
+    }
+
     static final class Legacy {
         static final int MAX_ATTEMPTS = 4;
         static final Duration BASE_DELAY = Duration.ofMillis(100);
@@ -44,7 +44,7 @@ import software.amazon.awssdk.utils.Validate;
  * tailor the behavior to its needs.
  */
 @SdkInternalApi
-public abstract class BaseRetryStrategy implements RetryStrategy {
+public abstract class BaseRetryStrategy implements RetryStrategy, HedgingCapacity, ReleasableRetryCapacity {
 
     protected final Logger log;
     protected final List<Predicate<Throwable>> retryPredicates;
@@ -139,6 +139,43 @@ public abstract class BaseRetryStrategy implements RetryStrategy {
         return maxAttempts;
     }
 
+    /**
+     * Only the capacity is returned; the state the strategy updated for the failure that was going to be retried is kept.
+     */
+    @Override
+    public final void releaseRetryCapacity(RetryToken token) {
+        DefaultRetryToken defaultToken = asDefaultRetryToken(token);
+        ReleaseResponse releaseResponse = tokenBucketStore.tokenBucketForScope(defaultToken.scope())
+                                                          .release(defaultToken.capacityAcquired());
+        log.debug(() -> String.format("Abandoned retry capacity released (released: %d, capacity: %d/%d)",
+                                      releaseResponse.capacityReleased(),
+                                      releaseResponse.currentCapacity(),
+                                      releaseResponse.maxCapacity()));
+    }
+
+    /**
+     * A hedge costs as much retry capacity as a retry, but it does not update the state the strategy keeps for retries.
+     */
+    @Override
+    public final boolean tryAcquireHedgeCapacity(String scope) {
+        TokenBucket tokenBucket = tokenBucketStore.tokenBucketForScope(scope);
+        AcquireResponse acquireResponse = tokenBucket.tryAcquire(hedgeCost());
+        log.debug(() -> String.format("Hedged request capacity %s (cost: %d, capacity: %d/%d)",
+                                      acquireResponse.acquisitionFailed() ? "not acquired" : "acquired",
+                                      acquireResponse.capacityRequested(),
+                                      acquireResponse.capacityRemaining(),
+                                      acquireResponse.maxCapacity()));
+        return !acquireResponse.acquisitionFailed();
+    }
+
+    @Override
+    public final void releaseHedgeCapacity(String scope) {
+        int cost = hedgeCost();
+        if (cost > 0) {
+            tokenBucketStore.tokenBucketForScope(scope).release(cost);
+        }
+    }
+
 
     /**
      * Computes the backoff before the first attempt, by default {@link Duration#ZERO}. Extending classes can override this method
@@ -187,6 +224,10 @@ public abstract class BaseRetryStrategy implements RetryStrategy {
         return 0;
     }
 
+    private int hedgeCost() {
+        return circuitBreakerEnabled ? exceptionCost : 0;
+    }
+
     private DefaultRetryToken refreshToken(RefreshRetryTokenRequest request, AcquireResponse acquireResponse) {
         DefaultRetryToken token = asDefaultRetryToken(request.token());
         return token.toBuilder()
@@ -320,13 +361,19 @@ public abstract class BaseRetryStrategy implements RetryStrategy {
     }
 
     private boolean isNonRetryableException(RefreshRetryTokenRequest request) {
-        Throwable failure = request.failure();
+        return !isRetryableException(request.failure());
+    }
+
+    /**
+     * Returns true if this strategy is configured to retry the given failure.
+     */
+    boolean isRetryableException(Throwable failure) {
         for (Predicate<Throwable> retryPredicate : retryPredicates) {
             if (retryPredicate.test(failure)) {
-                return false;
+                return true;
             }
         }
-        return true;
+        return false;
     }
 
     static Duration maxOf(Duration left, Duration right) {
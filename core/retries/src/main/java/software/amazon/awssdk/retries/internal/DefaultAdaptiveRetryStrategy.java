@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.retries.internal;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.function.Predicate;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -23,6 +24,7 @@ import software.amazon.awssdk.retries.api.AcquireInitialTokenRequest;
 import software.amazon.awssdk.retries.api.BackoffStrategy;
 import software.amazon.awssdk.retries.api.RefreshRetryTokenRequest;
 import software.amazon.awssdk.retries.internal.circuitbreaker.TokenBucketStore;
+import software.amazon.awssdk.retries.internal.ratelimiter.RateLimiterAcquireResponse;
 import software.amazon.awssdk.retries.internal.ratelimiter.RateLimiterTokenBucket;
 import software.amazon.awssdk.retries.internal.ratelimiter.RateLimiterTokenBucketStore;
 import software.amazon.awssdk.utils.Logger;
@@ -47,20 +49,19 @@ public final class DefaultAdaptiveRetryStrategy
         return bucket.tryAcquire().delay();
     }
 
+    /**
+     * Computes the backoff before a retry, including the delay suggested by the rate limiter. After a throttling response the
+     * send rate is updated in the same state update that acquires the token for the retry, so that a token bucket kept in a
+     * shared state file is only locked once per retry.
+     */
     @Override
     protected Duration computeBackoff(RefreshRetryTokenRequest request, DefaultRetryToken token) {
         Duration backoff = super.computeBackoff(request, token);
         RateLimiterTokenBucket bucket = rateLimiterTokenBucketStore.tokenBucketForScope(token.scope());
-        return backoff.plus(bucket.tryAcquire().delay());
-    }
-
-    @Override
-    protected void updateStateForRetry(RefreshRetryTokenRequest request) {
-        if (treatAsThrottling.test(request.failure())) {
-            DefaultRetryToken token = asDefaultRetryToken(request.token());
-            RateLimiterTokenBucket bucket = rateLimiterTokenBucketStore.tokenBucketForScope(token.scope());
-            bucket.updateRateAfterThrottling();
-        }
+        RateLimiterAcquireResponse acquireResponse = treatAsThrottling.test(request.failure())
+                                                     ? bucket.tryAcquireAfterThrottling()
+                                                     : bucket.tryAcquire();
+        return backoff.plus(acquireResponse.delay());
     }
 
     @Override
@@ -129,6 +130,15 @@ public final class DefaultAdaptiveRetryStrategy
             return this;
         }
 
+        @Override
+        public Builder sharedRateLimiterStateFile(Path sharedRateLimiterStateFile) {
+            RateLimiterTokenBucketStore.Builder storeBuilder = rateLimiterTokenBucketStore == null
+                                                               ? RateLimiterTokenBucketStore.builder()
+                                                               : rateLimiterTokenBucketStore.toBuilder();
+            this.rateLimiterTokenBucketStore = storeBuilder.sharedStateFile(sharedRateLimiterStateFile).build();
+            return this;
+        }
+
         public Builder rateLimiterTokenBucketStore(RateLimiterTokenBucketStore rateLimiterTokenBucketStore) {
             this.rateLimiterTokenBucketStore = rateLimiterTokenBucketStore;
             return this;
@@ -0,0 +1,342 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.retries.CircuitBreakerRetryStrategy;
+import software.amazon.awssdk.retries.api.AcquireInitialTokenRequest;
+import software.amazon.awssdk.retries.api.AcquireInitialTokenResponse;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.retries.api.RecordSuccessRequest;
+import software.amazon.awssdk.retries.api.RecordSuccessResponse;
+import software.amazon.awssdk.retries.api.RefreshRetryTokenRequest;
+import software.amazon.awssdk.retries.api.RefreshRetryTokenResponse;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.retries.api.RetryToken;
+import software.amazon.awssdk.retries.api.TokenAcquisitionFailedException;
+import software.amazon.awssdk.retries.internal.circuitbreaker.EndpointCircuitBreaker;
+import software.amazon.awssdk.retries.internal.circuitbreaker.EndpointCircuitBreaker.Permission;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.cache.lru.LruCache;
+
+@SdkInternalApi
+public final class DefaultCircuitBreakerRetryStrategy implements CircuitBreakerRetryStrategy, HedgingCapacity {
+    private static final Logger LOG = Logger.loggerFor(DefaultCircuitBreakerRetryStrategy.class);
+    private static final int MAX_ENTRIES = 128;
+
+    private final RetryStrategy delegate;
+    private final double failureRateThreshold;
+    private final int slidingWindowSize;
+    private final int minimumNumberOfCalls;
+    private final Duration openStateDuration;
+    private final int permittedProbes;
+    private final Predicate<Throwable> treatAsFailure;
+    private final LongSupplier nanoClock;
+    private final LruCache<String, EndpointCircuitBreaker> scopeToCircuitBreaker;
+
+    DefaultCircuitBreakerRetryStrategy(Builder builder) {
+        this.delegate = Validate.paramNotNull(builder.delegate, "delegate");
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slidingWindowSize = builder.slidingWindowSize;
+        this.minimumNumberOfCalls = builder.minimumNumberOfCalls;
+        this.openStateDuration = Validate.paramNotNull(builder.openStateDuration, "openStateDuration");
+        this.permittedProbes = builder.permittedProbes;
+        this.treatAsFailure = builder.treatAsFailure;
+        this.nanoClock = Validate.paramNotNull(builder.nanoClock, "nanoClock");
+
+        // Fail fast on invalid circuit breaker settings instead of on the first call.
+        newCircuitBreaker();
+
+        // Keep the circuit state when the strategy is rebuilt with the same circuit breaker settings, in the same way the
+        // standard strategy keeps its token buckets.
+        this.scopeToCircuitBreaker = builder.scopeToCircuitBreaker != null
+                                     ? builder.scopeToCircuitBreaker
+                                     : LruCache.<String, EndpointCircuitBreaker>builder(x -> newCircuitBreaker())
+                                               .maxSize(MAX_ENTRIES)
+                                               .build();
+    }
+
+    @Override
+    public AcquireInitialTokenResponse acquireInitialToken(AcquireInitialTokenRequest request) {
+        String scope = Validate.paramNotNull(request.scope(), "scope");
+        EndpointCircuitBreaker circuitBreaker = scopeToCircuitBreaker.get(scope);
+        Permission permission = circuitBreaker.tryAcquirePermission();
+        if (permission == Permission.REJECTED) {
+            LOG.debug(() -> "Circuit breaker is open for scope " + scope + ", rejecting the request");
+            throw new TokenAcquisitionFailedException("Request short-circuited, the circuit breaker for scope " + scope
+                                                      + " is open after too many failures.");
+        }
+
+        AcquireInitialTokenResponse response;
+        try {
+            response = delegate.acquireInitialToken(request);
+        } catch (RuntimeException e) {
+            // The attempt is not going to be made, don't hold on to the probe.
+            circuitBreaker.recordOutcome(permission, false);
+            throw e;
+        }
+        CircuitBreakerRetryToken token = new CircuitBreakerRetryToken(scope, permission, response.token());
+        return AcquireInitialTokenResponse.create(token, response.delay());
+    }
+
+    @Override
+    public RefreshRetryTokenResponse refreshRetryToken(RefreshRetryTokenRequest request) {
+        CircuitBreakerRetryToken token = asCircuitBreakerRetryToken(request.token());
+        EndpointCircuitBreaker circuitBreaker = scopeToCircuitBreaker.get(token.scope);
+        circuitBreaker.recordOutcome(token.permission, isFailure(request.failure()));
+
+        if (!circuitBreaker.isClosed()) {
+            throw new TokenAcquisitionFailedException("Request will not be retried, the circuit breaker for scope "
+                                                      + token.scope + " is open.",
+                                                      token.withDelegateToken(token.delegateToken),
+                                                      request.failure());
+        }
+
+        RefreshRetryTokenRequest delegateRequest = RefreshRetryTokenRequest.builder()
+                                                                           .token(token.delegateToken)
+                                                                           .failure(request.failure())
+                                                                           .suggestedDelay(request.suggestedDelay()
+                                                                                                  .orElse(Duration.ZERO))
+                                                                           .build();
+        RefreshRetryTokenResponse response;
+        try {
+            response = delegate.refreshRetryToken(delegateRequest);
+        } catch (TokenAcquisitionFailedException e) {
+            throw new TokenAcquisitionFailedException(e.getMessage(), token.withDelegateToken(e.token()), e.getCause());
+        }
+        return RefreshRetryTokenResponse.create(token.withDelegateToken(response.token()), response.delay());
+    }
+
+    @Override
+    public RecordSuccessResponse recordSuccess(RecordSuccessRequest request) {
+        CircuitBreakerRetryToken token = asCircuitBreakerRetryToken(request.token());
+        scopeToCircuitBreaker.get(token.scope).recordOutcome(token.permission, false);
+        RecordSuccessResponse response = delegate.recordSuccess(RecordSuccessRequest.create(token.delegateToken));
+        return RecordSuccessResponse.create(token.withDelegateToken(response.token()));
+    }
+
+    @Override
+    public int maxAttempts() {
+        return delegate.maxAttempts();
+    }
+
+    /**
+     * Hedges are charged to the delegate strategy, and are not recorded by the circuit breaker. They are only sent while the
+     * circuit is closed.
+     */
+    @Override
+    public boolean tryAcquireHedgeCapacity(String scope) {
+        if (!(delegate instanceof HedgingCapacity) || !scopeToCircuitBreaker.get(scope).isClosed()) {
+            return false;
+        }
+        return ((HedgingCapacity) delegate).tryAcquireHedgeCapacity(scope);
+    }
+
+    @Override
+    public void releaseHedgeCapacity(String scope) {
+        if (delegate instanceof HedgingCapacity) {
+            ((HedgingCapacity) delegate).releaseHedgeCapacity(scope);
+        }
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Unless configured otherwise, a failure counts if the delegate strategy would retry it, since those are the failures
+     * that indicate the endpoint is unavailable, such as I/O errors, throttling and server errors, rather than errors in
+     * the request. All failures count if the delegate strategy does not expose what it retries.
+     */
+    private boolean isFailure(Throwable failure) {
+        if (treatAsFailure != null) {
+            return treatAsFailure.test(failure);
+        }
+        return !(delegate instanceof BaseRetryStrategy) || ((BaseRetryStrategy) delegate).isRetryableException(failure);
+    }
+
+    private EndpointCircuitBreaker newCircuitBreaker() {
+        return new EndpointCircuitBreaker(failureRateThreshold, slidingWindowSize, minimumNumberOfCalls, openStateDuration,
+                                          permittedProbes, nanoClock);
+    }
+
+    private static CircuitBreakerRetryToken asCircuitBreakerRetryToken(RetryToken token) {
+        return Validate.isInstanceOf(CircuitBreakerRetryToken.class, token,
+                                     "RetryToken is of unexpected class (%s), "
+                                     + "This token was not created by this retry strategy.",
+                                     token.getClass().getName());
+    }
+
+    /**
+     * A token that remembers how the circuit breaker admitted the execution, wrapping the token of the delegate strategy.
+     */
+    private static final class CircuitBreakerRetryToken implements RetryToken {
+        private final String scope;
+        private final Permission permission;
+        private final RetryToken delegateToken;
+
+        private CircuitBreakerRetryToken(String scope, Permission permission, RetryToken delegateToken) {
+            this.scope = scope;
+            this.permission = permission;
+            this.delegateToken = delegateToken;
+        }
+
+        private CircuitBreakerRetryToken withDelegateToken(RetryToken newDelegateToken) {
+            // Only the first attempt can be a probe, retries are admitted once the circuit closed again.
+            return new CircuitBreakerRetryToken(scope, Permission.ADMITTED, newDelegateToken);
+        }
+
+        @Override
+        public String toString() {
+            return ToString.builder("CircuitBreakerRetryToken")
+                           .add("scope", scope)
+                           .add("permission", permission)
+                           .add("delegateToken", delegateToken)
+                           .build();
+        }
+    }
+
+    public static class Builder implements CircuitBreakerRetryStrategy.Builder {
+        private RetryStrategy delegate;
+        private double failureRateThreshold;
+        private int slidingWindowSize;
+        private int minimumNumberOfCalls;
+        private Duration openStateDuration;
+        private int permittedProbes;
+        private Predicate<Throwable> treatAsFailure;
+        private LongSupplier nanoClock = System::nanoTime;
+        private LruCache<String, EndpointCircuitBreaker> scopeToCircuitBreaker;
+
+        Builder() {
+        }
+
+        Builder(DefaultCircuitBreakerRetryStrategy strategy) {
+            this.delegate = strategy.delegate;
+            this.failureRateThreshold = strategy.failureRateThreshold;
+            this.slidingWindowSize = strategy.slidingWindowSize;
+            this.minimumNumberOfCalls = strategy.minimumNumberOfCalls;
+            this.openStateDuration = strategy.openStateDuration;
+            this.permittedProbes = strategy.permittedProbes;
+            this.treatAsFailure = strategy.treatAsFailure;
+            this.nanoClock = strategy.nanoClock;
+            this.scopeToCircuitBreaker = strategy.scopeToCircuitBreaker;
+        }
+
+        @Override
+        public Builder delegate(RetryStrategy delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        @Override
+        public Builder failureRateThreshold(double failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+            this.scopeToCircuitBreaker = null;
+            return this;
+        }
+
+        @Override
+        public Builder slidingWindowSize(int slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+            this.scopeToCircuitBreaker = null;
+            return this;
+        }
+
+        @Override
+        public Builder minimumNumberOfCalls(int minimumNumberOfCalls) {
+            this.minimumNumberOfCalls = minimumNumberOfCalls;
+            this.scopeToCircuitBreaker = null;
+            return this;
+        }
+
+        @Override
+        public Builder openStateDuration(Duration openStateDuration) {
+            this.openStateDuration = openStateDuration;
+            this.scopeToCircuitBreaker = null;
+            return this;
+        }
+
+        @Override
+        public Builder permittedProbes(int permittedProbes) {
+            this.permittedProbes = permittedProbes;
+            this.scopeToCircuitBreaker = null;
+            return this;
+        }
+
+        @Override
+        public Builder treatAsFailure(Predicate<Throwable> treatAsFailure) {
+            this.treatAsFailure = treatAsFailure;
+            return this;
+        }
+
+        @SdkTestInternalApi
+        public Builder nanoClock(LongSupplier nanoClock) {
+            this.nanoClock = nanoClock;
+            this.scopeToCircuitBreaker = null;
+            return this;
+        }
+
+        @Override
+        public Builder retryOnException(Predicate<Throwable> shouldRetry) {
+            this.delegate = delegateBuilder().retryOnException(shouldRetry).build();
+            return this;
+        }
+
+        @Override
+        public Builder maxAttempts(int maxAttempts) {
+            this.delegate = delegateBuilder().maxAttempts(maxAttempts).build();
+            return this;
+        }
+
+        @Override
+        public Builder backoffStrategy(BackoffStrategy backoffStrategy) {
+            this.delegate = delegateBuilder().backoffStrategy(backoffStrategy).build();
+            return this;
+        }
+
+        @Override
+        public Builder throttlingBackoffStrategy(BackoffStrategy throttlingBackoffStrategy) {
+            this.delegate = delegateBuilder().throttlingBackoffStrategy(throttlingBackoffStrategy).build();
+            return this;
+        }
+
+        @Override
+        public Builder treatAsThrottling(Predicate<Throwable> treatAsThrottling) {
+            this.delegate = delegateBuilder().treatAsThrottling(treatAsThrottling).build();
+            return this;
+        }
+
+        @Override
+        public CircuitBreakerRetryStrategy build() {
+            return new DefaultCircuitBreakerRetryStrategy(this);
+        }
+
+        private RetryStrategy.Builder<?, ?> delegateBuilder() {
+            return Validate.paramNotNull(delegate, "delegate").toBuilder();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * Implemented by the retry strategies that can pay for hedged requests out of their retry capacity. A hedge is a second
+ * request for an attempt that has not received a response yet; it is not a retry of a failure, so it is charged only
+ * against the retry capacity, and is kept out of the failure accounting of the strategy.
+ */
+@SdkProtectedApi
+public interface HedgingCapacity {
+    /**
+     * Try to withdraw the capacity for one hedged request from the retry capacity of the given scope.
+     *
+     * @return true if the capacity was withdrawn and the hedge may be sent, false otherwise.
+     */
+    boolean tryAcquireHedgeCapacity(String scope);
+
+    /**
+     * Return the capacity withdrawn by a successful call to {@link #tryAcquireHedgeCapacity(String)} for the given scope.
+     */
+    void releaseHedgeCapacity(String scope);
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.retries.api.RetryToken;
+
+/**
+ * Implemented by the retry strategies that can return the retry capacity withdrawn by
+ * {@link software.amazon.awssdk.retries.api.RetryStrategy#refreshRetryToken} when the caller abandons the retry it was
+ * granted, e.g. because its backoff delay would not end before the api call timeout of the request expires.
+ */
+@SdkProtectedApi
+public interface ReleasableRetryCapacity {
+    /**
+     * Return the retry capacity withdrawn by the refresh that returned the given token, for a retry that won't be attempted.
+     */
+    void releaseRetryCapacity(RetryToken token);
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal.circuitbreaker;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A circuit breaker for a single scope, tracking the outcome of the most recent attempts in a count based sliding window.
+ *
+ * <ul>
+ *     <li>While closed, all attempts are admitted. Once at least {@code minimumNumberOfCalls} outcomes have been recorded and
+ *     the ratio of failures in the window reaches the {@code failureRateThreshold}, the circuit opens.</li>
+ *     <li>While open, all attempts are rejected. After {@code openStateDuration} the circuit becomes half-open.</li>
+ *     <li>While half-open, only {@code permittedProbes} attempts are admitted as probes. If all of them succeed the circuit
+ *     closes, if any of them fails the circuit opens again. Probes that never report an outcome, e.g., because the call was
+ *     cancelled, are given up on after another {@code openStateDuration}.</li>
+ * </ul>
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class EndpointCircuitBreaker {
+    private final double failureRateThreshold;
+    private final int minimumNumberOfCalls;
+    private final long openStateDurationNanos;
+    private final int permittedProbes;
+    private final LongSupplier nanoClock;
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long stateChangedAtNanos;
+    private int probesAdmitted;
+    private int probesSucceeded;
+
+    public EndpointCircuitBreaker(double failureRateThreshold,
+                                  int slidingWindowSize,
+                                  int minimumNumberOfCalls,
+                                  Duration openStateDuration,
+                                  int permittedProbes,
+                                  LongSupplier nanoClock) {
+        Validate.isTrue(failureRateThreshold > 0 && failureRateThreshold <= 1,
+                        "failureRateThreshold must be greater than 0 and at most 1");
+        this.failureRateThreshold = failureRateThreshold;
+        this.window = new boolean[Validate.isPositive(slidingWindowSize, "slidingWindowSize")];
+        this.minimumNumberOfCalls = Validate.isPositive(minimumNumberOfCalls, "minimumNumberOfCalls");
+        Validate.isTrue(minimumNumberOfCalls <= slidingWindowSize,
+                        "minimumNumberOfCalls must not be greater than slidingWindowSize");
+        this.openStateDurationNanos = Validate.isPositive(openStateDuration, "openStateDuration").toNanos();
+        this.permittedProbes = Validate.isPositive(permittedProbes, "permittedProbes");
+        this.nanoClock = Validate.paramNotNull(nanoClock, "nanoClock");
+    }
+
+    /**
+     * Ask for permission to make an attempt.
+     */
+    public synchronized Permission tryAcquirePermission() {
+        long now = nanoClock.getAsLong();
+        switch (state) {
+            case CLOSED:
+                return Permission.ADMITTED;
+            case OPEN:
+                if (now - stateChangedAtNanos < openStateDurationNanos) {
+                    return Permission.REJECTED;
+                }
+                transitionTo(State.HALF_OPEN, now);
+                break;
+            case HALF_OPEN:
+                if (probesAdmitted >= permittedProbes && now - stateChangedAtNanos >= openStateDurationNanos) {
+                    // The outstanding probes never reported back, start a fresh round of probing.
+                    transitionTo(State.HALF_OPEN, now);
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unknown circuit breaker state: " + state);
+        }
+
+        if (probesAdmitted >= permittedProbes) {
+            return Permission.REJECTED;
+        }
+        probesAdmitted++;
+        return Permission.PROBE;
+    }
+
+    /**
+     * Record the outcome of an attempt admitted with the given permission.
+     */
+    public synchronized void recordOutcome(Permission permission, boolean failed) {
+        long now = nanoClock.getAsLong();
+        if (permission == Permission.PROBE) {
+            recordProbeOutcome(failed, now);
+        } else if (permission == Permission.ADMITTED && state == State.CLOSED) {
+            recordInWindow(failed, now);
+        }
+        // Outcomes of attempts admitted before the circuit opened are not relevant anymore.
+    }
+
+    /**
+     * Returns true if attempts are currently admitted without restriction.
+     */
+    public synchronized boolean isClosed() {
+        return state == State.CLOSED;
+    }
+
+    private void recordProbeOutcome(boolean failed, long now) {
+        if (state != State.HALF_OPEN) {
+            return;
+        }
+        if (failed) {
+            transitionTo(State.OPEN, now);
+            return;
+        }
+        probesSucceeded++;
+        if (probesSucceeded >= permittedProbes) {
+            transitionTo(State.CLOSED, now);
+        }
+    }
+
+    private void recordInWindow(boolean failed, long now) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+
+        if (windowCount >= minimumNumberOfCalls && (double) windowFailures / windowCount >= failureRateThreshold) {
+            transitionTo(State.OPEN, now);
+        }
+    }
+
+    private void transitionTo(State newState, long now) {
+        state = newState;
+        stateChangedAtNanos = now;
+        probesAdmitted = 0;
+        probesSucceeded = 0;
+        if (newState == State.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+    }
+
+    /**
+     * The outcome of {@link #tryAcquirePermission()}.
+     */
+    public enum Permission {
+        /**
+         * The circuit is closed and the attempt may proceed.
+         */
+        ADMITTED,
+
+        /**
+         * The circuit is half-open and the attempt may proceed as one of the probes.
+         */
+        PROBE,
+
+        /**
+         * The circuit is open and the attempt must not be made.
+         */
+        REJECTED
+    }
+
+    private enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal.ratelimiter;
+
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A {@link RateLimiterTokenBucket} whose state is kept in a slot of a {@link RateLimiterStateFile} instead of in memory, so
+ * that it is shared with the token buckets of the same scope in all the processes that use the same file.
+ */
+@SdkInternalApi
+final class MappedFileRateLimiterTokenBucket extends RateLimiterTokenBucket {
+    private final RateLimiterStateFile stateFile;
+    private final int slot;
+
+    MappedFileRateLimiterTokenBucket(RateLimiterClock clock, RateLimiterStateFile stateFile, int slot) {
+        super(clock);
+        this.stateFile = stateFile;
+        this.slot = slot;
+    }
+
+    @Override
+    <T> StateUpdate<T> updateState(Function<TransientState, T> mutator) {
+        return stateFile.updateState(slot, mutator);
+    }
+}
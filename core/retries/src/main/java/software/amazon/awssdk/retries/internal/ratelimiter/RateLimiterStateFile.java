@@ -0,0 +1,235 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal.ratelimiter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.retries.internal.ratelimiter.RateLimiterTokenBucket.StateUpdate;
+import software.amazon.awssdk.retries.internal.ratelimiter.RateLimiterTokenBucket.TransientState;
+
+/**
+ * A memory-mapped file holding the state of up to {@value #SLOT_COUNT} rate limiter token buckets, one per scope, shared by
+ * all the processes of a host that map the same file.
+ *
+ * <p>The file starts with a header, followed by fixed-size slots. Each slot holds a hash of its scope, and the serialized
+ * state of the token bucket. Slots are claimed for a scope with open addressing, and are never released.
+ *
+ * <p>State updates are read-modify-write operations on a slot, guarded by a byte-range {@link FileLock} on the slot for
+ * mutual exclusion between processes. File locks are held on behalf of the whole JVM, so the threads of a process are
+ * additionally serialized with a monitor per slot, and a file is only ever opened once per JVM, see {@link #open(Path)}.
+ *
+ * <p>The state includes timestamps from the {@link RateLimiterClock}. The default {@link SystemClock} is based on
+ * {@link System#nanoTime()}, which on all mainstream platforms uses a monotonic clock shared by all the processes of a host.
+ */
+@SdkInternalApi
+final class RateLimiterStateFile {
+    static final int SLOT_COUNT = 128;
+
+    private static final int MAGIC = 0x41525354;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_SIZE = 128;
+    private static final int STATE_OFFSET = 8;
+    private static final int FILE_SIZE = HEADER_SIZE + SLOT_COUNT * SLOT_SIZE;
+    private static final long MIN_LOCK_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long MAX_LOCK_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final ConcurrentMap<Path, RateLimiterStateFile> OPEN_FILES = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final Object headerMonitor = new Object();
+    private final Object[] slotMonitors = new Object[SLOT_COUNT];
+    private final FileChannel channel;
+
+    private RateLimiterStateFile(Path path) throws IOException {
+        this.path = path;
+        this.channel = openChannel(path);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_SIZE);
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            slotMonitors[i] = new Object();
+        }
+        initializeHeader();
+    }
+
+    /**
+     * Return the state file for the given path, opening and mapping it if this JVM has not done so yet. The file is created
+     * if it does not exist, and stays mapped until the JVM exits.
+     *
+     * <p>Files are keyed by their real path, so that paths reaching the same file through symbolic links share one instance.
+     * File locks are held per process, so two instances for the same file would not exclude each other.
+     */
+    static RateLimiterStateFile open(Path path) {
+        return OPEN_FILES.computeIfAbsent(realPath(path), p -> {
+            try {
+                return new RateLimiterStateFile(p);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to open the rate limiter state file " + p, e);
+            }
+        });
+    }
+
+    private static Path realPath(Path path) {
+        try {
+            try {
+                Files.createFile(path);
+            } catch (FileAlreadyExistsException e) {
+                // Created by another process, or by an earlier call.
+            }
+            return path.toRealPath();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to create the rate limiter state file " + path, e);
+        }
+    }
+
+    /**
+     * Return the slot holding the state of the given scope, claiming a free slot if the scope does not have one yet, or -1 if
+     * all slots are claimed by other scopes.
+     */
+    int slotForScope(String scope) {
+        long hash = hash(scope);
+        int start = (int) ((hash & Long.MAX_VALUE) % SLOT_COUNT);
+        synchronized (headerMonitor) {
+            return withFileLock(0, HEADER_SIZE, () -> {
+                for (int i = 0; i < SLOT_COUNT; i++) {
+                    int slot = (start + i) % SLOT_COUNT;
+                    long slotHash = buffer.getLong(slotOffset(slot));
+                    if (slotHash == hash) {
+                        return slot;
+                    }
+                    if (slotHash == 0) {
+                        buffer.putLong(slotOffset(slot), hash);
+                        return slot;
+                    }
+                }
+                return -1;
+            });
+        }
+    }
+
+    /**
+     * Atomically apply the given mutator to the state stored in the given slot, with respect to all threads and processes
+     * using this file.
+     */
+    <T> StateUpdate<T> updateState(int slot, Function<TransientState, T> mutator) {
+        int stateOffset = slotOffset(slot) + STATE_OFFSET;
+        synchronized (slotMonitors[slot]) {
+            return withFileLock(slotOffset(slot), SLOT_SIZE, () -> {
+                TransientState state = TransientState.readFrom(buffer, stateOffset);
+                T result = mutator.apply(state);
+                state.writeTo(buffer, stateOffset);
+                return new StateUpdate<>(state.toPersistent(), result);
+            });
+        }
+    }
+
+    private void initializeHeader() {
+        synchronized (headerMonitor) {
+            withFileLock(0, HEADER_SIZE, () -> {
+                int magic = buffer.getInt(0);
+                if (magic == 0) {
+                    buffer.putInt(4, VERSION);
+                    buffer.putInt(0, MAGIC);
+                } else if (magic != MAGIC || buffer.getInt(4) != VERSION) {
+                    throw new IllegalStateException(path + " is not a rate limiter state file of a supported version.");
+                }
+                return null;
+            });
+        }
+    }
+
+    private static int slotOffset(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    /**
+     * FNV-1a hash of the scope. Zero marks a free slot, so it is never returned.
+     */
+    private static long hash(String scope) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : scope.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * Run the action while holding a file lock on the given region.
+     *
+     * <p>{@link FileChannel#lock} is interruptible: an interrupt while waiting for the lock closes the channel, which releases
+     * the locks held by all the other threads of this process. {@link FileChannel#tryLock} and {@link FileLock#release()}
+     * are not, so the lock is polled with {@code tryLock} instead, backing off while another process holds it. The interrupt
+     * status of the thread is cleared while polling, so that it does not cut the backoff short, and restored afterwards.
+     */
+    private <T> T withFileLock(long position, long size, LockedAction<T> action) {
+        FileLock lock = acquireFileLock(position, size);
+        try {
+            return action.run();
+        } finally {
+            try {
+                lock.release();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to unlock the rate limiter state file " + path, e);
+            }
+        }
+    }
+
+    private FileLock acquireFileLock(long position, long size) {
+        boolean interrupted = false;
+        long backoffNanos = MIN_LOCK_BACKOFF_NANOS;
+        try {
+            while (true) {
+                FileLock lock = channel.tryLock(position, size, false);
+                if (lock != null) {
+                    return lock;
+                }
+                interrupted |= Thread.interrupted();
+                LockSupport.parkNanos(backoffNanos);
+                backoffNanos = Math.min(backoffNanos * 2, MAX_LOCK_BACKOFF_NANOS);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to lock the rate limiter state file " + path, e);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static FileChannel openChannel(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    @FunctionalInterface
+    private interface LockedAction<T> {
+        T run();
+    }
+}
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.retries.internal.ratelimiter;
 
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -65,6 +66,18 @@ public class RateLimiterTokenBucket {
                                         .build();
     }
 
+    /**
+     * Updates the estimated send rate after a throttling response, then acquires tokens from the bucket, as a single state
+     * update. This is equivalent to calling {@link #updateRateAfterThrottling()} followed by {@link #tryAcquire()}.
+     */
+    public RateLimiterAcquireResponse tryAcquireAfterThrottling() {
+        StateUpdate<Duration> update = updateState(ts -> {
+            ts.updateClientSendingRate(clock, true);
+            return ts.tokenBucketAcquire(clock, 1.0);
+        });
+        return RateLimiterAcquireResponse.create(update.result);
+    }
+
     /**
      * Updates the estimated send rate after a successful response.
      */
@@ -93,8 +106,10 @@ public class RateLimiterTokenBucket {
      * {@link StateUpdate#result} field. The mutated transient value is converted back to a persistent one and stored in the
      * atomic reference if no changes were made in-between. If another thread changes the value in-between, the operation is
      * retried until succeeded.
+     *
+     * <p>Subclasses that keep the state somewhere else override this method, see {@link MappedFileRateLimiterTokenBucket}.
      */
-    private <T> StateUpdate<T> updateState(Function<TransientState, T> mutator) {
+    <T> StateUpdate<T> updateState(Function<TransientState, T> mutator) {
         PersistentState current;
         PersistentState updated;
         T result;
@@ -119,6 +134,7 @@ public class RateLimiterTokenBucket {
     }
 
     static final class TransientState {
+        static final int SERIALIZED_SIZE = 104;
         private static final double MIN_FILL_RATE = 0.5;
         private static final double MIN_CAPACITY = 1.0;
         private static final double SMOOTH = 0.8;
@@ -158,6 +174,47 @@ public class RateLimiterTokenBucket {
             return new PersistentState(this);
         }
 
+        /**
+         * Read a state written by {@link #writeTo(ByteBuffer, int)} at the given position of the buffer. A zeroed region reads
+         * as the initial state.
+         */
+        static TransientState readFrom(ByteBuffer buffer, int offset) {
+            TransientState state = new PersistentState().toTransient();
+            state.fillRate = buffer.getDouble(offset);
+            state.maxCapacity = buffer.getDouble(offset + 8);
+            state.currentCapacity = buffer.getDouble(offset + 16);
+            state.lastTimestampIsSet = buffer.getLong(offset + 24) != 0;
+            state.lastTimestamp = buffer.getDouble(offset + 32);
+            state.enabled = buffer.getLong(offset + 40) != 0;
+            state.measuredTxRate = buffer.getDouble(offset + 48);
+            state.lastTxRateBucket = buffer.getDouble(offset + 56);
+            state.requestCount = buffer.getLong(offset + 64);
+            state.lastMaxRate = buffer.getDouble(offset + 72);
+            state.lastThrottleTime = buffer.getDouble(offset + 80);
+            state.timeWindow = buffer.getDouble(offset + 88);
+            state.newTokenBucketRate = buffer.getDouble(offset + 96);
+            return state;
+        }
+
+        /**
+         * Write this state at the given position of the buffer, using {@link #SERIALIZED_SIZE} bytes.
+         */
+        void writeTo(ByteBuffer buffer, int offset) {
+            buffer.putDouble(offset, fillRate);
+            buffer.putDouble(offset + 8, maxCapacity);
+            buffer.putDouble(offset + 16, currentCapacity);
+            buffer.putLong(offset + 24, lastTimestampIsSet ? 1 : 0);
+            buffer.putDouble(offset + 32, lastTimestamp);
+            buffer.putLong(offset + 40, enabled ? 1 : 0);
+            buffer.putDouble(offset + 48, measuredTxRate);
+            buffer.putDouble(offset + 56, lastTxRateBucket);
+            buffer.putLong(offset + 64, requestCount);
+            buffer.putDouble(offset + 72, lastMaxRate);
+            buffer.putDouble(offset + 80, lastThrottleTime);
+            buffer.putDouble(offset + 88, timeWindow);
+            buffer.putDouble(offset + 96, newTokenBucketRate);
+        }
+
         /**
          * Acquire tokens from the bucket. If the bucket contains enough capacity to satisfy the request, this method will return
          * a {@link Duration#ZERO} value, otherwise it will return the amount of time the callers need to wait until enough tokens
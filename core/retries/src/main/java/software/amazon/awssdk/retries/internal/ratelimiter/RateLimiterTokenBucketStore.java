@@ -15,8 +15,10 @@
 
 package software.amazon.awssdk.retries.internal.ratelimiter;
 
+import java.nio.file.Path;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.ToBuilderIgnoreField;
+import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
@@ -24,22 +26,42 @@ import software.amazon.awssdk.utils.cache.lru.LruCache;
 
 /**
  * A store to keep token buckets per scope.
+ *
+ * <p>By default the token buckets are kept in memory. If a {@link Builder#sharedStateFile(Path) shared state file} is
+ * configured, their state is kept in that memory-mapped file instead, so that all the processes of a host using the same file
+ * share one token bucket per scope, and adapt their combined send rate to the service together.
  */
 @SdkInternalApi
 public final class RateLimiterTokenBucketStore
     implements ToCopyableBuilder<RateLimiterTokenBucketStore.Builder, RateLimiterTokenBucketStore> {
+    private static final Logger LOG = Logger.loggerFor(RateLimiterTokenBucketStore.class);
     private static final int MAX_ENTRIES = 128;
     private static final RateLimiterClock DEFAULT_CLOCK = new SystemClock();
     private final LruCache<String, RateLimiterTokenBucket> scopeToTokenBucket;
     private final RateLimiterClock clock;
+    private final Path sharedStateFile;
 
     private RateLimiterTokenBucketStore(Builder builder) {
         this.clock = Validate.paramNotNull(builder.clock, "clock");
-        this.scopeToTokenBucket = LruCache.<String, RateLimiterTokenBucket>builder(x -> new RateLimiterTokenBucket(clock))
+        this.sharedStateFile = builder.sharedStateFile;
+        RateLimiterStateFile stateFile = sharedStateFile == null ? null : RateLimiterStateFile.open(sharedStateFile);
+        this.scopeToTokenBucket = LruCache.<String, RateLimiterTokenBucket>builder(x -> createTokenBucket(stateFile, x))
                                           .maxSize(MAX_ENTRIES)
                                           .build();
     }
 
+    private RateLimiterTokenBucket createTokenBucket(RateLimiterStateFile stateFile, String scope) {
+        if (stateFile != null) {
+            int slot = stateFile.slotForScope(scope);
+            if (slot >= 0) {
+                return new MappedFileRateLimiterTokenBucket(clock, stateFile, slot);
+            }
+            LOG.warn(() -> "The rate limiter state file " + sharedStateFile + " has no free slot left for the scope " + scope
+                           + ", its token bucket will not be shared with other processes.");
+        }
+        return new RateLimiterTokenBucket(clock);
+    }
+
     public RateLimiterTokenBucket tokenBucketForScope(String scope) {
         return scopeToTokenBucket.get(scope);
     }
@@ -56,6 +78,7 @@ public final class RateLimiterTokenBucketStore
 
     public static class Builder implements CopyableBuilder<Builder, RateLimiterTokenBucketStore> {
         private RateLimiterClock clock;
+        private Path sharedStateFile;
 
         Builder() {
             this.clock = DEFAULT_CLOCK;
@@ -63,6 +86,7 @@ public final class RateLimiterTokenBucketStore
 
         Builder(RateLimiterTokenBucketStore store) {
             this.clock = store.clock;
+            this.sharedStateFile = store.sharedStateFile;
         }
 
         public Builder clock(RateLimiterClock clock) {
@@ -70,6 +94,15 @@ public final class RateLimiterTokenBucketStore
             return this;
         }
 
+        /**
+         * Keep the state of the token buckets in the given memory-mapped file, shared with the other processes of the host that
+         * use the same file. The file is created if it does not exist.
+         */
+        public Builder sharedStateFile(Path sharedStateFile) {
+            this.sharedStateFile = sharedStateFile;
+            return this;
+        }
+
         @Override
         public RateLimiterTokenBucketStore build() {
             return new RateLimiterTokenBucketStore(this);
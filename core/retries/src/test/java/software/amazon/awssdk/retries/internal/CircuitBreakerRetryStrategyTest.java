@@ -0,0 +1,194 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.retries.CircuitBreakerRetryStrategy;
+import software.amazon.awssdk.retries.DefaultRetryStrategy;
+import software.amazon.awssdk.retries.api.AcquireInitialTokenRequest;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.retries.api.RecordSuccessRequest;
+import software.amazon.awssdk.retries.api.RefreshRetryTokenRequest;
+import software.amazon.awssdk.retries.api.RetryToken;
+import software.amazon.awssdk.retries.api.TokenAcquisitionFailedException;
+
+class CircuitBreakerRetryStrategyTest {
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(10);
+    private static final IOException FAILURE = new IOException("connection refused");
+
+    private AtomicLong nanoTime;
+    private CircuitBreakerRetryStrategy strategy;
+
+    @BeforeEach
+    void setup() {
+        nanoTime = new AtomicLong();
+        strategy = ((DefaultCircuitBreakerRetryStrategy.Builder) CircuitBreakerRetryStrategy.builder())
+            .nanoClock(nanoTime::get)
+            .delegate(DefaultRetryStrategy.standardStrategyBuilder()
+                                          .backoffStrategy(BackoffStrategy.retryImmediately())
+                                          .build())
+            .retryOnExceptionInstanceOf(IOException.class)
+            .maxAttempts(2)
+            .slidingWindowSize(4)
+            .minimumNumberOfCalls(4)
+            .openStateDuration(OPEN_DURATION)
+            .permittedProbes(1)
+            .build();
+    }
+
+    @Test
+    void closed_retriesThroughDelegate() {
+        RetryToken token = acquire("scope");
+        RetryToken refreshed = strategy.refreshRetryToken(refreshRequest(token)).token();
+
+        assertThat(strategy.recordSuccess(RecordSuccessRequest.create(refreshed)).token()).isNotNull();
+        assertThat(strategy.maxAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    void failureRateReached_shortCircuitsFirstAttempts() {
+        open("scope");
+
+        assertThatThrownBy(() -> acquire("scope")).isInstanceOf(TokenAcquisitionFailedException.class)
+                                                  .hasMessageContaining("circuit breaker for scope scope is open");
+    }
+
+    @Test
+    void failureRateReached_doesNotAffectOtherScopes() {
+        open("scope");
+
+        assertThat(acquire("other-scope")).isNotNull();
+    }
+
+    @Test
+    void failureOpensCircuit_inFlightRequestIsNotRetried() {
+        RetryToken inFlight = acquire("scope");
+        open("scope");
+
+        assertThatThrownBy(() -> strategy.refreshRetryToken(refreshRequest(inFlight)))
+            .isInstanceOf(TokenAcquisitionFailedException.class)
+            .hasCause(FAILURE);
+    }
+
+    @Test
+    void halfOpen_successfulProbeClosesCircuit() {
+        open("scope");
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+
+        RetryToken probe = acquire("scope");
+        assertThatThrownBy(() -> acquire("scope")).isInstanceOf(TokenAcquisitionFailedException.class);
+
+        strategy.recordSuccess(RecordSuccessRequest.create(probe));
+        assertThat(acquire("scope")).isNotNull();
+    }
+
+    @Test
+    void halfOpen_failedProbeIsNotRetriedAndReopensCircuit() {
+        open("scope");
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+
+        RetryToken probe = acquire("scope");
+        assertThatThrownBy(() -> strategy.refreshRetryToken(refreshRequest(probe)))
+            .isInstanceOf(TokenAcquisitionFailedException.class);
+        assertThatThrownBy(() -> acquire("scope")).isInstanceOf(TokenAcquisitionFailedException.class);
+    }
+
+    @Test
+    void failuresNotTreatedAsFailure_doNotOpenCircuit() {
+        strategy = strategy.toBuilder().treatAsFailure(t -> !(t instanceof IOException)).build();
+        open("scope");
+
+        assertThat(acquire("scope")).isNotNull();
+    }
+
+    @Test
+    void defaultTreatAsFailure_clientErrorNotRetriedByDelegate_doesNotOpenCircuit() {
+        for (int i = 0; i < 4; i++) {
+            RetryToken token = acquire("scope");
+            RefreshRetryTokenRequest request = RefreshRetryTokenRequest.builder()
+                                                                       .token(token)
+                                                                       .failure(new ClientErrorException())
+                                                                       .build();
+            assertThatThrownBy(() -> strategy.refreshRetryToken(request)).isInstanceOf(TokenAcquisitionFailedException.class)
+                                                                          .hasMessageContaining("non-retryable");
+        }
+
+        assertThat(acquire("scope")).isNotNull();
+    }
+
+    @Test
+    void toBuilder_sameCircuitBreakerSettings_remembersState() {
+        open("scope");
+        CircuitBreakerRetryStrategy rebuilt = strategy.toBuilder().maxAttempts(5).build();
+
+        assertThat(rebuilt.maxAttempts()).isEqualTo(5);
+        assertThatThrownBy(() -> rebuilt.acquireInitialToken(AcquireInitialTokenRequest.create("scope")))
+            .isInstanceOf(TokenAcquisitionFailedException.class);
+    }
+
+    @Test
+    void hedges_areNotRecordedAsFailures() {
+        HedgingCapacity hedging = (HedgingCapacity) strategy;
+        for (int i = 0; i < 4; i++) {
+            assertThat(hedging.tryAcquireHedgeCapacity("scope")).isTrue();
+        }
+
+        assertThat(acquire("scope")).isNotNull();
+    }
+
+    @Test
+    void open_disallowsHedges() {
+        open("scope");
+
+        assertThat(((HedgingCapacity) strategy).tryAcquireHedgeCapacity("scope")).isFalse();
+        assertThat(((HedgingCapacity) strategy).tryAcquireHedgeCapacity("other-scope")).isTrue();
+    }
+
+    private void open(String scope) {
+        for (int i = 0; i < 4; i++) {
+            RetryToken token = acquire(scope);
+            try {
+                strategy.refreshRetryToken(refreshRequest(token));
+            } catch (TokenAcquisitionFailedException e) {
+                // The last failure opens the circuit, which also disallows its retry.
+            }
+        }
+    }
+
+    private RetryToken acquire(String scope) {
+        return strategy.acquireInitialToken(AcquireInitialTokenRequest.create(scope)).token();
+    }
+
+    private static RefreshRetryTokenRequest refreshRequest(RetryToken token) {
+        return RefreshRetryTokenRequest.builder().token(token).failure(FAILURE).build();
+    }
+
+    /**
+     * A failure caused by the request, like a 4xx response from a service, which the delegate strategy does not retry.
+     */
+    private static final class ClientErrorException extends RuntimeException {
+        private ClientErrorException() {
+            super("400 Bad Request");
+        }
+    }
+}
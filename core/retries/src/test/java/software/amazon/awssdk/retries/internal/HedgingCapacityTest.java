@@ -0,0 +1,55 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.retries.DefaultRetryStrategy;
+import software.amazon.awssdk.retries.internal.circuitbreaker.TokenBucketStore;
+
+class HedgingCapacityTest {
+    private static final String SCOPE = "scope";
+
+    @Test
+    void tryAcquireHedgeCapacity_withdrawsRetryCapacityUntilExhausted() {
+        TokenBucketStore store = TokenBucketStore.builder().tokenBucketMaxCapacity(10).build();
+        HedgingCapacity strategy = standardStrategy(store, 5);
+
+        assertThat(strategy.tryAcquireHedgeCapacity(SCOPE)).isTrue();
+        assertThat(strategy.tryAcquireHedgeCapacity(SCOPE)).isTrue();
+        assertThat(strategy.tryAcquireHedgeCapacity(SCOPE)).isFalse();
+        assertThat(store.tokenBucketForScope(SCOPE).currentCapacity()).isZero();
+    }
+
+    @Test
+    void releaseHedgeCapacity_refundsWithdrawnCapacity() {
+        TokenBucketStore store = TokenBucketStore.builder().tokenBucketMaxCapacity(10).build();
+        HedgingCapacity strategy = standardStrategy(store, 5);
+
+        assertThat(strategy.tryAcquireHedgeCapacity(SCOPE)).isTrue();
+        strategy.releaseHedgeCapacity(SCOPE);
+
+        assertThat(store.tokenBucketForScope(SCOPE).currentCapacity()).isEqualTo(10);
+    }
+
+    private static HedgingCapacity standardStrategy(TokenBucketStore store, int exceptionCost) {
+        return (HedgingCapacity) ((DefaultStandardRetryStrategy.Builder) DefaultRetryStrategy.standardStrategyBuilder())
+            .tokenBucketStore(store)
+            .tokenBucketExceptionCost(exceptionCost)
+            .build();
+    }
+}
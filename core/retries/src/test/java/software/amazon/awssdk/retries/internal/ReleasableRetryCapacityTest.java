@@ -0,0 +1,56 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.retries.DefaultRetryStrategy;
+import software.amazon.awssdk.retries.api.AcquireInitialTokenRequest;
+import software.amazon.awssdk.retries.api.RefreshRetryTokenRequest;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.retries.api.RetryToken;
+import software.amazon.awssdk.retries.internal.circuitbreaker.TokenBucketStore;
+
+class ReleasableRetryCapacityTest {
+    private static final String SCOPE = "scope";
+
+    @Test
+    void releaseRetryCapacity_refundsCapacityWithdrawnByRefresh() {
+        TokenBucketStore store = TokenBucketStore.builder().tokenBucketMaxCapacity(10).build();
+        RetryStrategy strategy = standardStrategy(store, 5);
+
+        RetryToken token = strategy.acquireInitialToken(AcquireInitialTokenRequest.create(SCOPE)).token();
+        RetryToken refreshed = strategy.refreshRetryToken(RefreshRetryTokenRequest.builder()
+                                                                                  .token(token)
+                                                                                  .failure(new IllegalArgumentException())
+                                                                                  .build())
+                                       .token();
+        assertThat(store.tokenBucketForScope(SCOPE).currentCapacity()).isEqualTo(5);
+
+        ((ReleasableRetryCapacity) strategy).releaseRetryCapacity(refreshed);
+
+        assertThat(store.tokenBucketForScope(SCOPE).currentCapacity()).isEqualTo(10);
+    }
+
+    private static RetryStrategy standardStrategy(TokenBucketStore store, int exceptionCost) {
+        return ((DefaultStandardRetryStrategy.Builder) DefaultRetryStrategy.standardStrategyBuilder())
+            .tokenBucketStore(store)
+            .tokenBucketExceptionCost(exceptionCost)
+            .retryOnException(IllegalArgumentException.class)
+            .build();
+    }
+}
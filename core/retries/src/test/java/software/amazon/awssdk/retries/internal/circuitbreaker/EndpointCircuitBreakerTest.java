@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal.circuitbreaker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.retries.internal.circuitbreaker.EndpointCircuitBreaker.Permission;
+
+class EndpointCircuitBreakerTest {
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(10);
+
+    private AtomicLong nanoTime;
+    private EndpointCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setup() {
+        nanoTime = new AtomicLong();
+        circuitBreaker = new EndpointCircuitBreaker(0.5, 10, 4, OPEN_DURATION, 2, nanoTime::get);
+    }
+
+    @Test
+    void closed_belowMinimumNumberOfCalls_staysClosed() {
+        recordOutcomes(true, true, true);
+
+        assertThat(circuitBreaker.isClosed()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isEqualTo(Permission.ADMITTED);
+    }
+
+    @Test
+    void closed_failureRateBelowThreshold_staysClosed() {
+        recordOutcomes(true, false, false, false, true);
+
+        assertThat(circuitBreaker.isClosed()).isTrue();
+    }
+
+    @Test
+    void closed_failureRateReachesThreshold_opensAndRejects() {
+        recordOutcomes(false, true, false, true);
+
+        assertThat(circuitBreaker.isClosed()).isFalse();
+        assertThat(circuitBreaker.tryAcquirePermission()).isEqualTo(Permission.REJECTED);
+    }
+
+    @Test
+    void closed_failureRateIsComputedOverSlidingWindow() {
+        recordOutcomes(false, false, false, false, false, false, false, false, false, false);
+        recordOutcomes(true, true, true, true);
+        assertThat(circuitBreaker.isClosed()).isTrue();
+
+        // 5 failures out of the last 10 outcomes, even though only 5 out of 15 outcomes failed overall.
+        recordOutcomes(true);
+        assertThat(circuitBreaker.isClosed()).isFalse();
+    }
+
+    @Test
+    void open_afterOpenStateDuration_admitsPermittedProbesOnly() {
+        open();
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isEqualTo(Permission.PROBE);
+        assertThat(circuitBreaker.tryAcquirePermission()).isEqualTo(Permission.PROBE);
+        assertThat(circuitBreaker.tryAcquirePermission()).isEqualTo(Permission.REJECTED);
+    }
+
+    @Test
+    void halfOpen_allProbesSucceed_closes() {
+        open();
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+        Permission first = circuitBreaker.tryAcquirePermission();
+        Permission second = circuitBreaker.tryAcquirePermission();
+
+        circuitBreaker.recordOutcome(first, false);
+        assertThat(circuitBreaker.isClosed()).isFalse();
+        circuitBreaker.recordOutcome(second, false);
+
+        assertThat(circuitBreaker.isClosed()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isEqualTo(Permission.ADMITTED);
+    }
+
+    @Test
+    void halfOpen_probeFails_opensAgain() {
+        open();
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+        circuitBreaker.recordOutcome(circuitBreaker.tryAcquirePermission(), true);
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isEqualTo(Permission.REJECTED);
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+        assertThat(circuitBreaker.tryAcquirePermission()).isEqualTo(Permission.PROBE);
+    }
+
+    @Test
+    void halfOpen_probesNeverReportBack_probingRestartsAfterOpenStateDuration() {
+        open();
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.tryAcquirePermission();
+        assertThat(circuitBreaker.tryAcquirePermission()).isEqualTo(Permission.REJECTED);
+
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+        assertThat(circuitBreaker.tryAcquirePermission()).isEqualTo(Permission.PROBE);
+    }
+
+    @Test
+    void outcomesAdmittedBeforeOpening_areIgnored() {
+        open();
+        recordOutcomes(false, false, false, false);
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isEqualTo(Permission.REJECTED);
+    }
+
+    @Test
+    void minimumNumberOfCallsGreaterThanWindow_throws() {
+        assertThatThrownBy(() -> new EndpointCircuitBreaker(0.5, 5, 6, OPEN_DURATION, 1, nanoTime::get))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void open() {
+        recordOutcomes(true, true, true, true);
+        assertThat(circuitBreaker.isClosed()).isFalse();
+    }
+
+    private void recordOutcomes(boolean... failures) {
+        for (boolean failed : failures) {
+            circuitBreaker.recordOutcome(Permission.ADMITTED, failed);
+        }
+    }
+}
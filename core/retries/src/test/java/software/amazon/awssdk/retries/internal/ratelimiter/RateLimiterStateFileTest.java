@@ -0,0 +1,176 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal.ratelimiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.retries.internal.ratelimiter.RateLimiterTokenBucketTest.MutableClock;
+
+class RateLimiterStateFileTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void tokenBucketForScope_sameSharedStateFile_sharesStateBetweenStores() {
+        Path file = tempDir.resolve("shared");
+        MutableClock clock = new MutableClock();
+        RateLimiterTokenBucketStore first = store(file, clock);
+        RateLimiterTokenBucketStore second = store(file, clock);
+
+        throttle(first.tokenBucketForScope("scope"), clock);
+
+        RateLimiterTokenBucket bucket = second.tokenBucketForScope("scope");
+        bucket.tryAcquire();
+        assertThat(bucket.tryAcquire().delay()).isGreaterThan(Duration.ZERO);
+    }
+
+    @Test
+    void tokenBucketForScope_differentScopes_doNotShareState() {
+        Path file = tempDir.resolve("scopes");
+        MutableClock clock = new MutableClock();
+        RateLimiterTokenBucketStore store = store(file, clock);
+
+        throttle(store.tokenBucketForScope("throttled"), clock);
+
+        RateLimiterTokenBucket bucket = store.tokenBucketForScope("other");
+        bucket.tryAcquire();
+        assertThat(bucket.tryAcquire().delay()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void tokenBucketForScope_inMemoryStore_doesNotShareStateBetweenStores() {
+        MutableClock clock = new MutableClock();
+        RateLimiterTokenBucketStore first = RateLimiterTokenBucketStore.builder().clock(clock).build();
+        RateLimiterTokenBucketStore second = RateLimiterTokenBucketStore.builder().clock(clock).build();
+
+        throttle(first.tokenBucketForScope("scope"), clock);
+
+        RateLimiterTokenBucket bucket = second.tokenBucketForScope("scope");
+        bucket.tryAcquire();
+        assertThat(bucket.tryAcquire().delay()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void slotForScope_allSlotsClaimed_returnsMinusOne() {
+        RateLimiterStateFile stateFile = RateLimiterStateFile.open(tempDir.resolve("full"));
+
+        for (int i = 0; i < RateLimiterStateFile.SLOT_COUNT; i++) {
+            assertThat(stateFile.slotForScope("scope-" + i)).isNotNegative();
+        }
+
+        assertThat(stateFile.slotForScope("scope-0")).isNotNegative();
+        assertThat(stateFile.slotForScope("one-too-many")).isEqualTo(-1);
+    }
+
+    @Test
+    void open_fileWithOtherContent_throws() throws IOException {
+        Path file = tempDir.resolve("other");
+        Files.write(file, "not a rate limiter state file".getBytes());
+
+        assertThatThrownBy(() -> RateLimiterStateFile.open(file)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void open_symbolicLinkToOpenFile_returnsSameInstance() throws IOException {
+        Path file = tempDir.resolve("target");
+        RateLimiterStateFile stateFile = RateLimiterStateFile.open(file);
+
+        Path link = Files.createSymbolicLink(tempDir.resolve("link"), file);
+        Path linkedDirectory = Files.createSymbolicLink(tempDir.resolve("directory"), tempDir);
+
+        assertThat(RateLimiterStateFile.open(link)).isSameAs(stateFile);
+        assertThat(RateLimiterStateFile.open(linkedDirectory.resolve("target"))).isSameAs(stateFile);
+    }
+
+    @Test
+    void tryAcquireAfterThrottling_sharedStateFile_sameAsUpdatingRateThenAcquiring() {
+        MutableClock clock = new MutableClock();
+        RateLimiterTokenBucket shared = store(tempDir.resolve("combined"), clock).tokenBucketForScope("scope");
+        RateLimiterTokenBucket inMemory = RateLimiterTokenBucketStore.builder().clock(clock).build().tokenBucketForScope("scope");
+        clock.setCurrent(1.0);
+        shared.tryAcquire();
+        inMemory.tryAcquire();
+
+        Duration combinedDelay = shared.tryAcquireAfterThrottling().delay();
+        inMemory.updateRateAfterThrottling();
+        Duration separateDelay = inMemory.tryAcquire().delay();
+
+        assertThat(combinedDelay).isEqualTo(separateDelay);
+        assertThat(shared.updateRateAfterSuccess().fillRate()).isEqualTo(inMemory.updateRateAfterSuccess().fillRate());
+    }
+
+    @Test
+    void updateState_threadInterruptedWhileAnotherHoldsLock_doesNotReleaseOtherLocks() throws Exception {
+        RateLimiterStateFile stateFile = RateLimiterStateFile.open(tempDir.resolve("interrupted"));
+        int heldSlot = stateFile.slotForScope("held");
+        int otherSlot = stateFile.slotForScope("other");
+        CountDownLatch lockHeld = new CountDownLatch(1);
+        CountDownLatch releaseLock = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> holder = executor.submit(() -> stateFile.updateState(heldSlot, state -> {
+                lockHeld.countDown();
+                awaitUninterruptibly(releaseLock);
+                return null;
+            }));
+            assertThat(lockHeld.await(10, TimeUnit.SECONDS)).isTrue();
+
+            Thread.currentThread().interrupt();
+            try {
+                stateFile.updateState(otherSlot, state -> null);
+                assertThat(Thread.currentThread().isInterrupted()).isTrue();
+            } finally {
+                Thread.interrupted();
+            }
+
+            releaseLock.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+            stateFile.updateState(heldSlot, state -> null);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static RateLimiterTokenBucketStore store(Path file, MutableClock clock) {
+        return RateLimiterTokenBucketStore.builder().clock(clock).sharedStateFile(file).build();
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void throttle(RateLimiterTokenBucket bucket, MutableClock clock) {
+        clock.setCurrent(1.0);
+        bucket.tryAcquire();
+        bucket.updateRateAfterThrottling();
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.config;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.exception.ConcurrencyLimitExceededException;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration for the adaptive concurrency limit of an async client, configured via
+ * {@link SdkAdvancedAsyncClientOption#CONCURRENCY_LIMIT_CONFIGURATION}.
+ *
+ * <p>When configured, the client limits the number of API calls that are in flight at the same time. The limit starts at
+ * {@link #initialLimit()} and adapts to the latency of the service: it grows while the latency stays close to the lowest
+ * latency observed, and shrinks as the latency increases, or when calls are throttled, time out or fail with a server error.
+ * API calls that are started while the limit is reached fail immediately with a {@link ConcurrencyLimitExceededException},
+ * instead of queueing in the HTTP client.
+ */
+@SdkPublicApi
+public final class ConcurrencyLimitConfiguration
+    implements ToCopyableBuilder<ConcurrencyLimitConfiguration.Builder, ConcurrencyLimitConfiguration> {
+    private static final int DEFAULT_INITIAL_LIMIT = 20;
+    private static final int DEFAULT_MINIMUM_LIMIT = 1;
+    private static final int DEFAULT_MAXIMUM_LIMIT = 1000;
+
+    private final Integer initialLimit;
+    private final Integer minimumLimit;
+    private final Integer maximumLimit;
+
+    private ConcurrencyLimitConfiguration(DefaultBuilder builder) {
+        int minimum = Validate.isPositive(builder.minimumLimit == null ? DEFAULT_MINIMUM_LIMIT : builder.minimumLimit,
+                                          "minimumLimit");
+        int maximum = builder.maximumLimit == null ? Math.max(DEFAULT_MAXIMUM_LIMIT, minimum) : builder.maximumLimit;
+        int initial = builder.initialLimit == null ? Math.min(Math.max(DEFAULT_INITIAL_LIMIT, minimum), maximum)
+                                                   : builder.initialLimit;
+        Validate.isTrue(minimum <= initial && initial <= maximum,
+                        "The limits must satisfy minimumLimit <= initialLimit <= maximumLimit, but were %s, %s and %s",
+                        minimum, initial, maximum);
+        this.minimumLimit = minimum;
+        this.maximumLimit = maximum;
+        this.initialLimit = initial;
+    }
+
+    /**
+     * The number of API calls that may be in flight at the same time when the client is created.
+     */
+    public Integer initialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * The lowest value the limit can decrease to.
+     */
+    public Integer minimumLimit() {
+        return minimumLimit;
+    }
+
+    /**
+     * The highest value the limit can increase to.
+     */
+    public Integer maximumLimit() {
+        return maximumLimit;
+    }
+
+    /**
+     * Create a {@link ConcurrencyLimitConfiguration.Builder}, used to create a {@link ConcurrencyLimitConfiguration}.
+     */
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ConcurrencyLimitConfiguration")
+                       .add("initialLimit", initialLimit)
+                       .add("minimumLimit", minimumLimit)
+                       .add("maximumLimit", maximumLimit)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ConcurrencyLimitConfiguration that = (ConcurrencyLimitConfiguration) o;
+
+        if (!initialLimit.equals(that.initialLimit)) {
+            return false;
+        }
+        if (!minimumLimit.equals(that.minimumLimit)) {
+            return false;
+        }
+        return maximumLimit.equals(that.maximumLimit);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = initialLimit.hashCode();
+        result = 31 * result + minimumLimit.hashCode();
+        result = 31 * result + maximumLimit.hashCode();
+        return result;
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, ConcurrencyLimitConfiguration> {
+
+        /**
+         * Configures the number of API calls that may be in flight at the same time when the client is created. The default
+         * value is 20.
+         *
+         * @param initialLimit
+         * @return This object for method chaining.
+         */
+        Builder initialLimit(Integer initialLimit);
+
+        /**
+         * Configures the lowest value the limit can decrease to. The value must be positive. The default value is 1.
+         *
+         * @param minimumLimit
+         * @return This object for method chaining.
+         */
+        Builder minimumLimit(Integer minimumLimit);
+
+        /**
+         * Configures the highest value the limit can increase to. The default value is 1000.
+         *
+         * @param maximumLimit
+         * @return This object for method chaining.
+         */
+        Builder maximumLimit(Integer maximumLimit);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Integer initialLimit;
+        private Integer minimumLimit;
+        private Integer maximumLimit;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(ConcurrencyLimitConfiguration configuration) {
+            this.initialLimit = configuration.initialLimit;
+            this.minimumLimit = configuration.minimumLimit;
+            this.maximumLimit = configuration.maximumLimit;
+        }
+
+        @Override
+        public Builder initialLimit(Integer initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        @Override
+        public Builder minimumLimit(Integer minimumLimit) {
+            this.minimumLimit = minimumLimit;
+            return this;
+        }
+
+        @Override
+        public Builder maximumLimit(Integer maximumLimit) {
+            this.maximumLimit = maximumLimit;
+            return this;
+        }
+
+        @Override
+        public ConcurrencyLimitConfiguration build() {
+            return new ConcurrencyLimitConfiguration(this);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.config;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration for hedged requests on an async client, configured via
+ * {@link SdkAdvancedAsyncClientOption#HEDGING_CONFIGURATION}.
+ *
+ * <p>When hedging is enabled for an operation, and a request attempt has not received a response after a delay, the SDK sends
+ * a second, identical request. The first response to arrive is used and the other request is cancelled. The delay is the
+ * configured {@link #latencyPercentile()} of the latencies previously observed by the client for the same operation, so that
+ * only the slowest requests are hedged.
+ *
+ * <p>Hedged requests consume the retry capacity of the client's {@link software.amazon.awssdk.retries.api.RetryStrategy} in
+ * the same way as retries, so that hedging stops when the service is failing and the retry capacity is exhausted. The capacity
+ * is returned when the original request receives the first response. Hedged requests are not failures, so they do not
+ * otherwise affect the retry strategy, such as the rate of an adaptive strategy or the state of a circuit breaker. Hedging is
+ * only performed for clients that use one of the SDK's {@code RetryStrategy} implementations, and never for operations with a
+ * streaming request body.
+ *
+ * <p><b>Only operations that are idempotent should be hedged</b>, because the service may receive and process both requests.
+ */
+@SdkPublicApi
+public final class HedgingConfiguration implements ToCopyableBuilder<HedgingConfiguration.Builder, HedgingConfiguration> {
+    private static final Double DEFAULT_LATENCY_PERCENTILE = 95.0;
+    private static final Duration DEFAULT_MINIMUM_DELAY = Duration.ofMillis(10);
+
+    private final Set<String> operations;
+    private final Double latencyPercentile;
+    private final Duration minimumDelay;
+
+    private HedgingConfiguration(DefaultBuilder builder) {
+        this.operations = Collections.unmodifiableSet(new HashSet<>(Validate.paramNotNull(builder.operations, "operations")));
+        this.latencyPercentile = Validate.getOrDefault(builder.latencyPercentile, () -> DEFAULT_LATENCY_PERCENTILE);
+        this.minimumDelay = Validate.getOrDefault(builder.minimumDelay, () -> DEFAULT_MINIMUM_DELAY);
+        Validate.isTrue(latencyPercentile > 0 && latencyPercentile < 100,
+                        "latencyPercentile must be greater than 0 and less than 100, but was %s", latencyPercentile);
+        Validate.isNotNegative(minimumDelay, "minimumDelay");
+    }
+
+    /**
+     * The names of the operations that may be hedged.
+     */
+    public Set<String> operations() {
+        return operations;
+    }
+
+    /**
+     * The percentile of the observed operation latencies after which a request is hedged.
+     */
+    public Double latencyPercentile() {
+        return latencyPercentile;
+    }
+
+    /**
+     * The minimum time to wait for a response before a request is hedged.
+     */
+    public Duration minimumDelay() {
+        return minimumDelay;
+    }
+
+    /**
+     * Create a {@link HedgingConfiguration.Builder}, used to create a {@link HedgingConfiguration}.
+     */
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("HedgingConfiguration")
+                       .add("operations", operations)
+                       .add("latencyPercentile", latencyPercentile)
+                       .add("minimumDelay", minimumDelay)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        HedgingConfiguration that = (HedgingConfiguration) o;
+
+        if (!operations.equals(that.operations)) {
+            return false;
+        }
+        if (!latencyPercentile.equals(that.latencyPercentile)) {
+            return false;
+        }
+        return minimumDelay.equals(that.minimumDelay);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = operations.hashCode();
+        result = 31 * result + latencyPercentile.hashCode();
+        result = 31 * result + minimumDelay.hashCode();
+        return result;
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, HedgingConfiguration> {
+
+        /**
+         * Configures the names of the operations that may be hedged, for example {@code "GetItem"}. Only idempotent operations
+         * should be configured. This is required.
+         *
+         * @param operations
+         * @return This object for method chaining.
+         */
+        Builder operations(Collection<String> operations);
+
+        /**
+         * Configures the names of the operations that may be hedged, for example {@code "GetItem"}. Only idempotent operations
+         * should be configured. This is required.
+         *
+         * @param operations
+         * @return This object for method chaining.
+         */
+        Builder operations(String... operations);
+
+        /**
+         * Configures the percentile of the observed operation latencies after which a request is hedged. The value must be
+         * greater than 0 and less than 100. The default value is 95.
+         *
+         * @param latencyPercentile
+         * @return This object for method chaining.
+         */
+        Builder latencyPercentile(Double latencyPercentile);
+
+        /**
+         * Configures the minimum time to wait for a response before a request is hedged, regardless of the observed
+         * operation latencies. The default value is 10 milliseconds.
+         *
+         * @param minimumDelay
+         * @return This object for method chaining.
+         */
+        Builder minimumDelay(Duration minimumDelay);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Set<String> operations;
+        private Double latencyPercentile;
+        private Duration minimumDelay;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(HedgingConfiguration hedgingConfiguration) {
+            this.operations = new HashSet<>(hedgingConfiguration.operations);
+            this.latencyPercentile = hedgingConfiguration.latencyPercentile;
+            this.minimumDelay = hedgingConfiguration.minimumDelay;
+        }
+
+        @Override
+        public Builder operations(Collection<String> operations) {
+            this.operations = operations == null ? null : new HashSet<>(operations);
+            return this;
+        }
+
+        @Override
+        public Builder operations(String... operations) {
+            return operations(operations == null ? null : Arrays.asList(operations));
+        }
+
+        @Override
+        public Builder latencyPercentile(Double latencyPercentile) {
+            this.latencyPercentile = latencyPercentile;
+            return this;
+        }
+
+        @Override
+        public Builder minimumDelay(Duration minimumDelay) {
+            this.minimumDelay = minimumDelay;
+            return this;
+        }
+
+        @Override
+        public HedgingConfiguration build() {
+            return new HedgingConfiguration(this);
+        }
+    }
+}
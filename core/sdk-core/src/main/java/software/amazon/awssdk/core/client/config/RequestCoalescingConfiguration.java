@@ -0,0 +1,146 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.config;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration for the coalescing of identical in-flight requests on a client, configured via
+ * {@link SdkAdvancedClientOption#REQUEST_COALESCING_CONFIGURATION}.
+ *
+ * <p>When coalescing is enabled for an operation, and a request is sent while an identical request for the same operation is
+ * already in flight on the same client, no new HTTP request is sent. Instead, the caller receives a copy of the HTTP response,
+ * or the failure, of the request that is already in flight. Each caller still unmarshalls the response, and runs its execution
+ * interceptors, retries and metrics, as if it had sent the request itself. Two requests are identical if their marshalled HTTP
+ * requests, including the headers and the body, are the same.
+ *
+ * <p>Requests that specify a {@link software.amazon.awssdk.core.RequestOverrideConfiguration}, or that have a streaming
+ * request or response body, are never coalesced. Neither are requests that are hedged.
+ *
+ * <p><b>Only operations that read data should be coalesced</b>, because callers of a coalesced request may receive a
+ * response that was generated before they made their call.
+ */
+@SdkPublicApi
+public final class RequestCoalescingConfiguration
+    implements ToCopyableBuilder<RequestCoalescingConfiguration.Builder, RequestCoalescingConfiguration> {
+
+    private final Set<String> operations;
+
+    private RequestCoalescingConfiguration(DefaultBuilder builder) {
+        this.operations = Collections.unmodifiableSet(new HashSet<>(Validate.paramNotNull(builder.operations, "operations")));
+    }
+
+    /**
+     * The names of the operations whose identical in-flight requests are coalesced.
+     */
+    public Set<String> operations() {
+        return operations;
+    }
+
+    /**
+     * Create a {@link RequestCoalescingConfiguration.Builder}, used to create a {@link RequestCoalescingConfiguration}.
+     */
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("RequestCoalescingConfiguration")
+                       .add("operations", operations)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        RequestCoalescingConfiguration that = (RequestCoalescingConfiguration) o;
+        return operations.equals(that.operations);
+    }
+
+    @Override
+    public int hashCode() {
+        return operations.hashCode();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, RequestCoalescingConfiguration> {
+
+        /**
+         * Configures the names of the operations whose identical in-flight requests are coalesced, for example
+         * {@code "GetParameter"}. Only operations that read data should be configured. This is required.
+         *
+         * @param operations
+         * @return This object for method chaining.
+         */
+        Builder operations(Collection<String> operations);
+
+        /**
+         * Configures the names of the operations whose identical in-flight requests are coalesced, for example
+         * {@code "GetParameter"}. Only operations that read data should be configured. This is required.
+         *
+         * @param operations
+         * @return This object for method chaining.
+         */
+        Builder operations(String... operations);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Set<String> operations;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(RequestCoalescingConfiguration requestCoalescingConfiguration) {
+            this.operations = new HashSet<>(requestCoalescingConfiguration.operations);
+        }
+
+        @Override
+        public Builder operations(Collection<String> operations) {
+            this.operations = operations == null ? null : new HashSet<>(operations);
+            return this;
+        }
+
+        @Override
+        public Builder operations(String... operations) {
+            return operations(operations == null ? null : Arrays.asList(operations));
+        }
+
+        @Override
+        public RequestCoalescingConfiguration build() {
+            return new RequestCoalescingConfiguration(this);
+        }
+    }
+}
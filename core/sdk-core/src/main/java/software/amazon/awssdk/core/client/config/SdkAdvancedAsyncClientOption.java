@@ -55,6 +55,26 @@ public final class SdkAdvancedAsyncClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedAsyncClientOption<Executor> FUTURE_COMPLETION_EXECUTOR =
             new SdkAdvancedAsyncClientOption<>(Executor.class);
 
+    /**
+     * Configure hedged requests for idempotent operations. When configured, a request to one of the configured operations
+     * that has not received a response after a delay derived from the previously observed latencies of that operation is
+     * sent a second time, and the first response is used. See {@link HedgingConfiguration}.
+     * <p>
+     * By default, requests are not hedged.
+     */
+    public static final SdkAdvancedAsyncClientOption<HedgingConfiguration> HEDGING_CONFIGURATION =
+            new SdkAdvancedAsyncClientOption<>(HedgingConfiguration.class);
+
+    /**
+     * Configure an adaptive limit on the number of API calls the client may have in flight at the same time. API calls that
+     * are started while the limit is reached fail immediately, instead of queueing in the HTTP client. See
+     * {@link ConcurrencyLimitConfiguration}.
+     * <p>
+     * By default, the number of in-flight API calls is not limited by the client, only by the HTTP client.
+     */
+    public static final SdkAdvancedAsyncClientOption<ConcurrencyLimitConfiguration> CONCURRENCY_LIMIT_CONFIGURATION =
+            new SdkAdvancedAsyncClientOption<>(ConcurrencyLimitConfiguration.class);
+
     private SdkAdvancedAsyncClientOption(Class<T> valueClass) {
         super(valueClass);
     }
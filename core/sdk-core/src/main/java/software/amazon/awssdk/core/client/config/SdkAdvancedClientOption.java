@@ -64,6 +64,26 @@ public class SdkAdvancedClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedClientOption<Boolean> DISABLE_HOST_PREFIX_INJECTION =
         new SdkAdvancedClientOption<>(Boolean.class);
 
+    /**
+     * Schedule the API call timeouts, API call attempt timeouts and asynchronous retry attempts of the client with a hashed
+     * wheel timer with a millisecond tick, instead of directly on the client's scheduled executor service. Scheduling and
+     * cancelling a task on the wheel take constant time, which reduces the overhead of timeouts for clients that execute a
+     * large number of requests per second. The scheduled tasks still run on the client's scheduled executor service.
+     *
+     * <p>Customers can set this value to True to enable the behavior. By default, it is disabled.
+     */
+    public static final SdkAdvancedClientOption<Boolean> ENABLE_HASHED_WHEEL_TIMER =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
+    /**
+     * Coalesce identical in-flight requests for the configured operations, so that concurrent callers making the same read
+     * request share a single HTTP request and its response. See {@link RequestCoalescingConfiguration}.
+     *
+     * <p>By default, requests are not coalesced.
+     */
+    public static final SdkAdvancedClientOption<RequestCoalescingConfiguration> REQUEST_COALESCING_CONFIGURATION =
+        new SdkAdvancedClientOption<>(RequestCoalescingConfiguration.class);
+
     protected SdkAdvancedClientOption(Class<T> valueClass) {
         super(valueClass);
         OPTIONS.add(this);
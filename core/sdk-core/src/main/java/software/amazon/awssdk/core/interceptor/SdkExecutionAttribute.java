@@ -33,6 +33,7 @@ import software.amazon.awssdk.core.checksums.Algorithm;
 import software.amazon.awssdk.core.checksums.ChecksumSpecs;
 import software.amazon.awssdk.core.checksums.ChecksumValidation;
 import software.amazon.awssdk.core.signer.Signer;
+import software.amazon.awssdk.http.RequestPriority;
 import software.amazon.awssdk.http.auth.aws.signer.AwsV4FamilyHttpSigner;
 import software.amazon.awssdk.http.auth.spi.scheme.AuthSchemeOption;
 import software.amazon.awssdk.http.auth.spi.signer.AsyncSignRequest;
@@ -139,6 +140,16 @@ public class SdkExecutionAttribute {
     public static final ExecutionAttribute<ChecksumValidation> HTTP_RESPONSE_CHECKSUM_VALIDATION = new ExecutionAttribute<>(
         "HttpResponseChecksumValidation");
 
+    /**
+     * The priority with which the HTTP client should hand out a connection to this request when the client's maximum
+     * concurrency has been reached and requests are waiting for a connection. This can be configured per request via
+     * {@link software.amazon.awssdk.core.RequestOverrideConfiguration.Builder#putExecutionAttribute(ExecutionAttribute,
+     * Object)}. HTTP clients that do not support request priorities ignore it.
+     *
+     * @see RequestPriority
+     */
+    public static final ExecutionAttribute<RequestPriority> REQUEST_PRIORITY = new ExecutionAttribute<>("RequestPriority");
+
     private static final ImmutableMap<ChecksumAlgorithm, Algorithm> ALGORITHM_MAP = ImmutableMap.of(
         SHA256, Algorithm.SHA256,
         SHA1, Algorithm.SHA1,
@@ -24,6 +24,7 @@ import software.amazon.awssdk.core.SelectedAuthScheme;
 import software.amazon.awssdk.core.checksums.ChecksumSpecs;
 import software.amazon.awssdk.core.interceptor.trait.HttpChecksum;
 import software.amazon.awssdk.core.interceptor.trait.HttpChecksumRequired;
+import software.amazon.awssdk.core.internal.handler.InFlightRequestCoalescer;
 import software.amazon.awssdk.core.internal.interceptor.trait.RequestCompression;
 import software.amazon.awssdk.endpoints.Endpoint;
 import software.amazon.awssdk.endpoints.EndpointProvider;
@@ -160,6 +161,12 @@ public final class SdkInternalExecutionAttribute extends SdkExecutionAttribute {
     public static final ExecutionAttribute<SdkClient> SDK_CLIENT =
         new ExecutionAttribute<>("SdkClient");
 
+    /**
+     * The handle used to coalesce the HTTP call of the request with identical requests in flight, if the request is coalesced.
+     */
+    public static final ExecutionAttribute<InFlightRequestCoalescer.CoalescedRequest> COALESCED_REQUEST =
+        new ExecutionAttribute<>("CoalescedRequest");
+
     /**
      * The backing attribute for RESOLVED_CHECKSUM_SPECS.
      * This holds the real ChecksumSpecs value, and is used to map to the ChecksumAlgorithm signer property
@@ -77,7 +77,7 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
             TransformingAsyncResponseHandler<Response<OutputT>> combinedResponseHandler =
                 createCombinedResponseHandler(executionParams, executionContext);
 
-            return doExecute(executionParams, executionContext, combinedResponseHandler);
+            return doExecute(executionParams, executionContext, combinedResponseHandler, true);
         });
     }
 
@@ -126,7 +126,7 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
             TransformingAsyncResponseHandler<Response<ReturnT>> combinedResponseHandler =
                 new CombinedResponseAsyncHttpResponseHandler<>(wrappedAsyncStreamingResponseHandler, errorHandler);
 
-            return doExecute(executionParams, context, combinedResponseHandler);
+            return doExecute(executionParams, context, combinedResponseHandler, false);
         });
     }
 
@@ -188,7 +188,8 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
     private <InputT extends SdkRequest, OutputT extends SdkResponse, ReturnT> CompletableFuture<ReturnT> doExecute(
         ClientExecutionParams<InputT, OutputT> executionParams,
         ExecutionContext executionContext,
-        TransformingAsyncResponseHandler<Response<ReturnT>> asyncResponseHandler) {
+        TransformingAsyncResponseHandler<Response<ReturnT>> asyncResponseHandler,
+        boolean coalescable) {
 
         try {
 
@@ -223,10 +224,14 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
             }
 
             SdkClientConfiguration clientConfiguration = resolveRequestConfiguration(executionParams);
+            AsyncRequestBody asyncRequestBody = finalizeSdkHttpRequestContext.asyncRequestBody().orElse(null);
+            if (coalescable && asyncRequestBody == null) {
+                coalesceIfEnabled(executionParams, executionContext, inputT, marshalled);
+            }
             CompletableFuture<ReturnT> invokeFuture =
                 invoke(clientConfiguration,
                        marshalled,
-                       finalizeSdkHttpRequestContext.asyncRequestBody().orElse(null),
+                       asyncRequestBody,
                        inputT,
                        executionContext,
                        new AsyncAfterTransmissionInterceptorCallingResponseHandler<>(asyncResponseHandler,
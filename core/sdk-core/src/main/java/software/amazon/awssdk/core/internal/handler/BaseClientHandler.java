@@ -53,9 +53,12 @@ import software.amazon.awssdk.utils.StringUtils;
 @SdkInternalApi
 public abstract class BaseClientHandler {
     private SdkClientConfiguration clientConfiguration;
+    private final InFlightRequestCoalescer requestCoalescer;
 
     protected BaseClientHandler(SdkClientConfiguration clientConfiguration) {
         this.clientConfiguration = clientConfiguration;
+        this.requestCoalescer = InFlightRequestCoalescer.create(
+            clientConfiguration.option(SdkAdvancedClientOption.REQUEST_COALESCING_CONFIGURATION));
     }
 
     /**
@@ -344,4 +347,29 @@ public abstract class BaseClientHandler {
         }
         return metricCollector;
     }
+
+    /**
+     * Mark the request for coalescing, if request coalescing is enabled for its operation. The HTTP stages of the request then
+     * share the HTTP response of an identical request in flight, if there is one, while the request is still handled, with
+     * its own interceptors, retries and metrics, as if it had made its own HTTP call. Requests with a streaming body are never
+     * coalesced, because their body may not be readable more than once.
+     */
+    protected void coalesceIfEnabled(ClientExecutionParams<?, ?> executionParams,
+                                     ExecutionContext executionContext,
+                                     SdkRequest originalRequest,
+                                     SdkHttpFullRequest request) {
+        if (requestCoalescer == null || hasStreamingRequestBody(executionParams)) {
+            return;
+        }
+        InFlightRequestCoalescer.CoalescedRequest coalescedRequest =
+            requestCoalescer.coalescedRequest(executionParams.getOperationName(), originalRequest, request);
+        if (coalescedRequest != null) {
+            executionContext.executionAttributes().putAttribute(SdkInternalExecutionAttribute.COALESCED_REQUEST,
+                                                                coalescedRequest);
+        }
+    }
+
+    private static boolean hasStreamingRequestBody(ClientExecutionParams<?, ?> executionParams) {
+        return executionParams.getRequestBody() != null || executionParams.getAsyncRequestBody() != null;
+    }
 }
@@ -63,7 +63,7 @@ public abstract class BaseSyncClientHandler extends BaseClientHandler implements
 
             CombinedResponseHandler<ReturnT> streamingCombinedResponseHandler =
                 createStreamingCombinedResponseHandler(executionParams, responseTransformer, executionContext);
-            return doExecute(executionParams, executionContext, streamingCombinedResponseHandler);
+            return doExecute(executionParams, executionContext, streamingCombinedResponseHandler, false);
         });
     }
 
@@ -77,7 +77,7 @@ public abstract class BaseSyncClientHandler extends BaseClientHandler implements
 
             HttpResponseHandler<Response<OutputT>> combinedResponseHandler =
                 createCombinedResponseHandler(executionParams, executionContext);
-            return doExecute(executionParams, executionContext, combinedResponseHandler);
+            return doExecute(executionParams, executionContext, combinedResponseHandler, true);
         });
     }
 
@@ -144,7 +144,8 @@ public abstract class BaseSyncClientHandler extends BaseClientHandler implements
     private <InputT extends SdkRequest, OutputT, ReturnT> ReturnT doExecute(
         ClientExecutionParams<InputT, OutputT> executionParams,
         ExecutionContext executionContext,
-        HttpResponseHandler<Response<ReturnT>> responseHandler) {
+        HttpResponseHandler<Response<ReturnT>> responseHandler,
+        boolean coalescable) {
 
         InputT inputT = (InputT) executionContext.interceptorContext().request();
 
@@ -170,6 +171,9 @@ public abstract class BaseSyncClientHandler extends BaseClientHandler implements
         }
 
         SdkClientConfiguration clientConfiguration = resolveRequestConfiguration(executionParams);
+        if (coalescable) {
+            coalesceIfEnabled(executionParams, executionContext, inputT, marshalled);
+        }
         return invoke(clientConfiguration,
                       marshalled,
                       inputT,
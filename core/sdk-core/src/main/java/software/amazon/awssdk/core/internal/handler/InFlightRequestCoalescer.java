@@ -0,0 +1,440 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.handler;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.client.config.RequestCoalescingConfiguration;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * Coalesces identical in-flight requests of a client, configured with a {@link RequestCoalescingConfiguration}.
+ *
+ * <p>Requests are coalesced at the HTTP level: the first caller of a request sends it, and callers sending an identical
+ * request before its response has been received share that response instead of sending their own. The response is buffered,
+ * and each caller receives its own copy of it, so that it still runs its own response handling, interceptors, retries and
+ * metrics. Requests are identified by their operation name and their marshalled HTTP request. Requests whose body is larger
+ * than {@link #MAX_CONTENT_LENGTH} bytes are not coalesced, to bound the cost of comparing them.
+ */
+@SdkInternalApi
+public final class InFlightRequestCoalescer {
+    static final int MAX_CONTENT_LENGTH = 64 * 1024;
+
+    private final Set<String> operations;
+    private final ConcurrentMap<RequestKey, InFlightCall> inFlightCalls = new ConcurrentHashMap<>();
+
+    private InFlightRequestCoalescer(RequestCoalescingConfiguration configuration) {
+        this.operations = configuration.operations();
+    }
+
+    /**
+     * Create a coalescer for the given configuration, or return null if request coalescing is not configured.
+     */
+    public static InFlightRequestCoalescer create(RequestCoalescingConfiguration configuration) {
+        return configuration == null ? null : new InFlightRequestCoalescer(configuration);
+    }
+
+    /**
+     * Return the handle used by the HTTP stages to coalesce the given marshalled request with identical requests in flight,
+     * or null if the request is not coalesced.
+     */
+    public CoalescedRequest coalescedRequest(String operationName, SdkRequest originalRequest, SdkHttpFullRequest request) {
+        RequestKey key = keyFor(operationName, originalRequest, request);
+        return key == null ? null : new CoalescedRequest(key);
+    }
+
+    @SdkTestInternalApi
+    int inFlightCalls() {
+        return inFlightCalls.size();
+    }
+
+    /**
+     * Register the given new call for the key, and return null, or return the call already in flight for the key after
+     * joining it.
+     */
+    private InFlightCall join(RequestKey key, InFlightCall newCall) {
+        while (true) {
+            InFlightCall existingCall = inFlightCalls.putIfAbsent(key, newCall);
+            if (existingCall == null) {
+                return null;
+            }
+            if (existingCall.tryJoin()) {
+                return existingCall;
+            }
+            // All the callers of the existing call left it, don't share its response.
+            inFlightCalls.remove(key, existingCall);
+        }
+    }
+
+    /**
+     * The failure of a shared call, as seen by a caller that joined it. Each caller gets its own exception, of the same kind
+     * as the failure of the shared call, so that callers can't interfere with each other through it.
+     */
+    private static Exception joinerFailure(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        String message = "The identical request in flight that this request was coalesced with failed: " + cause.getMessage();
+        if (cause instanceof IOException) {
+            return new IOException(message, cause);
+        }
+        return SdkClientException.create(message, cause);
+    }
+
+    /**
+     * A request that may share the HTTP exchange of an identical request in flight.
+     */
+    @SdkInternalApi
+    public final class CoalescedRequest {
+        private final RequestKey key;
+
+        private CoalescedRequest(RequestKey key) {
+            this.key = key;
+        }
+
+        /**
+         * Execute the given synchronous HTTP call on the calling thread, or wait for the response of an identical call
+         * already in flight. The returned response has its own copy of the buffered response body.
+         */
+        public HttpExecuteResponse execute(Callable<HttpExecuteResponse> call) throws Exception {
+            InFlightCall newCall = new InFlightCall();
+            InFlightCall existingCall = join(key, newCall);
+            if (existingCall != null) {
+                try {
+                    return existingCall.result.get().toExecuteResponse();
+                } catch (ExecutionException e) {
+                    throw joinerFailure(e.getCause());
+                }
+            }
+
+            try {
+                BufferedHttpResponse response = BufferedHttpResponse.read(call.call());
+                newCall.result.complete(response);
+                return response.toExecuteResponse();
+            } catch (Throwable t) {
+                newCall.result.completeExceptionally(t);
+                throw t;
+            } finally {
+                inFlightCalls.remove(key, newCall);
+            }
+        }
+
+        /**
+         * Start the given asynchronous HTTP call, or join an identical call already in flight. The call is made with a
+         * response handler that buffers the response, which is then replayed to the response handler of each caller. The
+         * shared call is only cancelled once all of its callers have failed or cancelled their future.
+         */
+        public CompletableFuture<Void> executeAsync(SdkAsyncHttpResponseHandler responseHandler,
+                                                    Function<SdkAsyncHttpResponseHandler, CompletableFuture<Void>> call) {
+            InFlightCall newCall = new InFlightCall();
+            InFlightCall existingCall = join(key, newCall);
+            if (existingCall != null) {
+                return callerFuture(existingCall, responseHandler, true);
+            }
+
+            CompletableFuture<Void> callerFuture = callerFuture(newCall, responseHandler, false);
+            newCall.result.whenComplete((r, t) -> inFlightCalls.remove(key, newCall));
+            CompletableFuture<Void> execution;
+            try {
+                execution = call.apply(new BufferingResponseHandler(newCall.result));
+            } catch (Throwable t) {
+                execution = CompletableFutureUtils.failedFuture(t);
+            }
+            newCall.execution(execution);
+            execution.whenComplete((r, t) -> {
+                if (t != null) {
+                    newCall.result.completeExceptionally(t);
+                }
+            });
+            return callerFuture;
+        }
+
+        private CompletableFuture<Void> callerFuture(InFlightCall call,
+                                                     SdkAsyncHttpResponseHandler responseHandler,
+                                                     boolean joined) {
+            CompletableFuture<Void> callerFuture = new CompletableFuture<>();
+            call.result.whenComplete((r, t) -> {
+                if (callerFuture.isDone()) {
+                    return;
+                }
+                if (t != null) {
+                    Throwable failure = joined ? joinerFailure(t) : t;
+                    responseHandler.onError(failure);
+                    callerFuture.completeExceptionally(failure);
+                } else {
+                    responseHandler.onHeaders(r.response);
+                    responseHandler.onStream(AsyncRequestBody.fromBytes(r.content));
+                    callerFuture.complete(null);
+                }
+            });
+            callerFuture.whenComplete((r, t) -> {
+                if (t != null && call.leave()) {
+                    inFlightCalls.remove(key, call);
+                }
+            });
+            return callerFuture;
+        }
+    }
+
+    private RequestKey keyFor(String operationName, SdkRequest originalRequest, SdkHttpFullRequest request) {
+        if (operationName == null || !operations.contains(operationName)
+            || originalRequest.overrideConfiguration().isPresent()) {
+            return null;
+        }
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            writeString(out, request.method().name());
+            writeString(out, request.getUri().toString());
+            writeInt(out, request.numHeaders());
+            request.forEachHeader((name, values) -> {
+                writeString(out, name);
+                writeInt(out, values.size());
+                values.forEach(v -> writeString(out, v));
+            });
+            writeContent(out, request.contentStreamProvider().orElse(null));
+            return new RequestKey(operationName, bytes.toByteArray());
+        } catch (IOException | UncheckedIOException e) {
+            // The request can't be read, send it on its own.
+            return null;
+        }
+    }
+
+    private static void writeContent(DataOutputStream out, ContentStreamProvider contentStreamProvider) throws IOException {
+        if (contentStreamProvider == null) {
+            out.writeInt(-1);
+            return;
+        }
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        try (InputStream in = contentStreamProvider.newStream()) {
+            // Throws if the content is larger than the maximum, in which case the request is not coalesced.
+            IoUtils.copy(in, content, MAX_CONTENT_LENGTH + 1);
+        }
+        out.writeInt(content.size());
+        content.writeTo(out);
+    }
+
+    private static void writeString(DataOutputStream out, String value) {
+        try {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeInt(DataOutputStream out, int value) {
+        try {
+            out.writeInt(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The state of a call in flight, shared by all of its callers.
+     */
+    private static final class InFlightCall {
+        private final CompletableFuture<BufferedHttpResponse> result = new CompletableFuture<>();
+        private CompletableFuture<Void> execution;
+        private int callers = 1;
+        private boolean cancelled;
+
+        private synchronized boolean tryJoin() {
+            if (cancelled) {
+                return false;
+            }
+            callers++;
+            return true;
+        }
+
+        /**
+         * Called when a caller gave up on the call before it completed. Returns true, and cancels the execution, if it was the
+         * last caller.
+         */
+        private boolean leave() {
+            CompletableFuture<Void> executionToCancel;
+            synchronized (this) {
+                if (--callers > 0 || result.isDone()) {
+                    return false;
+                }
+                cancelled = true;
+                executionToCancel = execution;
+            }
+            if (executionToCancel != null) {
+                executionToCancel.cancel(true);
+            }
+            return true;
+        }
+
+        private void execution(CompletableFuture<Void> execution) {
+            boolean cancelExecution;
+            synchronized (this) {
+                this.execution = execution;
+                cancelExecution = cancelled;
+            }
+            if (cancelExecution) {
+                execution.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * A response whose body has been read into memory, so that it can be handed to each caller of a shared call.
+     */
+    private static final class BufferedHttpResponse {
+        private final SdkHttpResponse response;
+        private final byte[] content;
+
+        private BufferedHttpResponse(SdkHttpResponse response, byte[] content) {
+            this.response = response;
+            this.content = content;
+        }
+
+        private static BufferedHttpResponse read(HttpExecuteResponse executeResponse) throws IOException {
+            Optional<AbortableInputStream> responseBody = executeResponse.responseBody();
+            if (!responseBody.isPresent()) {
+                return new BufferedHttpResponse(executeResponse.httpResponse(), null);
+            }
+            try (AbortableInputStream in = responseBody.get()) {
+                return new BufferedHttpResponse(executeResponse.httpResponse(), IoUtils.toByteArray(in));
+            }
+        }
+
+        private HttpExecuteResponse toExecuteResponse() {
+            AbortableInputStream responseBody = content == null
+                                                ? null
+                                                : AbortableInputStream.create(new ByteArrayInputStream(content));
+            return HttpExecuteResponse.builder()
+                                      .response(response)
+                                      .responseBody(responseBody)
+                                      .build();
+        }
+    }
+
+    /**
+     * The response handler of a shared asynchronous call, which buffers the response to complete the result of the call.
+     */
+    private static final class BufferingResponseHandler implements SdkAsyncHttpResponseHandler {
+        private final CompletableFuture<BufferedHttpResponse> result;
+        private volatile SdkHttpResponse response;
+
+        private BufferingResponseHandler(CompletableFuture<BufferedHttpResponse> result) {
+            this.result = result;
+        }
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+            this.response = headers;
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            stream.subscribe(new Subscriber<ByteBuffer>() {
+                private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+                @Override
+                public void onSubscribe(Subscription s) {
+                    s.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(ByteBuffer byteBuffer) {
+                    byte[] bytes = BinaryUtils.copyBytesFrom(byteBuffer);
+                    content.write(bytes, 0, bytes.length);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    result.completeExceptionally(t);
+                }
+
+                @Override
+                public void onComplete() {
+                    result.complete(new BufferedHttpResponse(response, content.toByteArray()));
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            result.completeExceptionally(error);
+        }
+    }
+
+    private static final class RequestKey {
+        private final String operationName;
+        private final byte[] request;
+        private final int hashCode;
+
+        private RequestKey(String operationName, byte[] request) {
+            this.operationName = operationName;
+            this.request = request;
+            this.hashCode = 31 * operationName.hashCode() + Arrays.hashCode(request);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RequestKey)) {
+                return false;
+            }
+            RequestKey that = (RequestKey) o;
+            return hashCode == that.hashCode
+                   && operationName.equals(that.operationName)
+                   && Arrays.equals(request, that.request);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -36,6 +36,7 @@ import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncApiCallAtt
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncApiCallMetricCollectionStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncApiCallTimeoutTrackingStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncBeforeTransmissionExecutionInterceptorsStage;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncConcurrencyLimitingStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncExecutionFailureExceptionReportingStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncRetryableStage2;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncSigningStage;
@@ -209,6 +210,7 @@ public final class AmazonAsyncHttpClient implements SdkAutoCloseable {
                                                                                                    wrapped))
                                         .then(async(() -> new UnwrapResponseContainer<>()))
                                         .then(async(() -> new AfterExecutionInterceptorsStage<>()))
+                                        .wrappedWith(AsyncConcurrencyLimitingStage::new)
                                         .wrappedWith(AsyncExecutionFailureExceptionReportingStage::new)
                                         .wrappedWith(AsyncApiCallTimeoutTrackingStage::new)
                                         .wrappedWith(AsyncApiCallMetricCollectionStage::new)::build)::build)
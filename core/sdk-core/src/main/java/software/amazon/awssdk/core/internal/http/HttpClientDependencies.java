@@ -19,9 +19,14 @@ import static software.amazon.awssdk.utils.Validate.paramNotNull;
 
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.client.config.ConcurrencyLimitConfiguration;
+import software.amazon.awssdk.core.client.config.HedgingConfiguration;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.utils.AdaptiveConcurrencyLimiter;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.utils.HedgingLatencyTracker;
 import software.amazon.awssdk.core.internal.retry.ClockSkewAdjuster;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 
@@ -37,11 +42,29 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
     private final SdkClientTime sdkClientTime;
     private final ClockSkewAdjuster clockSkewAdjuster;
     private final SdkClientConfiguration clientConfiguration;
+    private final HedgingLatencyTracker hedgingLatencyTracker;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
 
     private HttpClientDependencies(Builder builder) {
         this.sdkClientTime = builder.sdkClientTime != null ? builder.sdkClientTime : new SdkClientTime();
         this.clockSkewAdjuster = builder.clockSkewAdjuster != null ? builder.clockSkewAdjuster : new ClockSkewAdjuster();
         this.clientConfiguration = paramNotNull(builder.clientConfiguration, "ClientConfiguration");
+        this.hedgingLatencyTracker = builder.hedgingLatencyTracker != null ? builder.hedgingLatencyTracker
+                                                                           : createHedgingLatencyTracker(clientConfiguration);
+        this.concurrencyLimiter = builder.concurrencyLimiter != null ? builder.concurrencyLimiter
+                                                                     : createConcurrencyLimiter(clientConfiguration);
+    }
+
+    private static HedgingLatencyTracker createHedgingLatencyTracker(SdkClientConfiguration clientConfiguration) {
+        HedgingConfiguration hedgingConfiguration =
+            clientConfiguration.option(SdkAdvancedAsyncClientOption.HEDGING_CONFIGURATION);
+        return hedgingConfiguration != null ? new HedgingLatencyTracker(hedgingConfiguration) : null;
+    }
+
+    private static AdaptiveConcurrencyLimiter createConcurrencyLimiter(SdkClientConfiguration clientConfiguration) {
+        ConcurrencyLimitConfiguration concurrencyLimitConfiguration =
+            clientConfiguration.option(SdkAdvancedAsyncClientOption.CONCURRENCY_LIMIT_CONFIGURATION);
+        return concurrencyLimitConfiguration != null ? new AdaptiveConcurrencyLimiter(concurrencyLimitConfiguration) : null;
     }
 
     public static Builder builder() {
@@ -59,6 +82,20 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         return clockSkewAdjuster;
     }
 
+    /**
+     * @return The tracker of the latencies of hedged operations for this client, or null if hedging is not configured.
+     */
+    public HedgingLatencyTracker hedgingLatencyTracker() {
+        return hedgingLatencyTracker;
+    }
+
+    /**
+     * @return The limiter of the in-flight API calls for this client, or null if no concurrency limit is configured.
+     */
+    public AdaptiveConcurrencyLimiter concurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
     /**
      * @return Current time offset. This is mutable and should not be cached.
      */
@@ -89,6 +126,8 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         private SdkClientTime sdkClientTime;
         private ClockSkewAdjuster clockSkewAdjuster;
         private SdkClientConfiguration clientConfiguration;
+        private HedgingLatencyTracker hedgingLatencyTracker;
+        private AdaptiveConcurrencyLimiter concurrencyLimiter;
 
         private Builder() {
         }
@@ -97,6 +136,8 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
             this.sdkClientTime = from.sdkClientTime;
             this.clientConfiguration = from.clientConfiguration;
             this.clockSkewAdjuster = from.clockSkewAdjuster;
+            this.hedgingLatencyTracker = from.hedgingLatencyTracker;
+            this.concurrencyLimiter = from.concurrencyLimiter;
         }
 
         public Builder clockSkewAdjuster(ClockSkewAdjuster clockSkewAdjuster) {
@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.ConcurrencyLimitExceededException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.utils.AdaptiveConcurrencyLimiter;
+import software.amazon.awssdk.core.internal.metrics.SdkErrorType;
+import software.amazon.awssdk.core.internal.util.MetricUtils;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpStatusFamily;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+/**
+ * Wrapper around the retryable stage that limits the number of in-flight API calls with the client's
+ * {@link AdaptiveConcurrencyLimiter}, if one is configured. API calls over the limit fail immediately with a
+ * {@link ConcurrencyLimitExceededException}, and the outcome of every other call is fed back to the limiter. The latency fed
+ * back is the latency of the last attempt of the call, rather than of the whole call, so that retries and the backoff
+ * between them are not mistaken for a slower service.
+ */
+@SdkInternalApi
+public final class AsyncConcurrencyLimitingStage<OutputT>
+    implements RequestPipeline<SdkHttpFullRequest, CompletableFuture<OutputT>> {
+
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final RequestPipeline<SdkHttpFullRequest, CompletableFuture<OutputT>> wrapped;
+
+    public AsyncConcurrencyLimitingStage(HttpClientDependencies dependencies,
+                                         RequestPipeline<SdkHttpFullRequest, CompletableFuture<OutputT>> wrapped) {
+        this.concurrencyLimiter = dependencies.concurrencyLimiter();
+        this.wrapped = wrapped;
+    }
+
+    @Override
+    public CompletableFuture<OutputT> execute(SdkHttpFullRequest input, RequestExecutionContext context) throws Exception {
+        if (concurrencyLimiter == null) {
+            return wrapped.execute(input, context);
+        }
+
+        int inFlightAtStart = concurrencyLimiter.tryAcquire();
+        int limit = concurrencyLimiter.limit();
+        context.executionContext().metricCollector().reportMetric(CoreMetric.CONCURRENCY_LIMIT, limit);
+        if (inFlightAtStart < 0) {
+            return CompletableFutureUtils.failedFuture(ConcurrencyLimitExceededException.create(limit));
+        }
+
+        long callStart = System.nanoTime();
+        CompletableFuture<OutputT> executeFuture;
+        try {
+            executeFuture = wrapped.execute(input, context);
+        } catch (Throwable t) {
+            concurrencyLimiter.onIgnored();
+            throw t;
+        }
+
+        CompletableFuture<OutputT> future = new CompletableFuture<>();
+        // Outer stages may complete the returned future first, e.g. when the API call times out, so the permit is released
+        // when it completes rather than when the wrapped future does.
+        future.whenComplete((r, t) -> {
+            if (t == null) {
+                long attemptStart = MetricUtils.apiCallAttemptStartNanoTime(context).orElse(callStart);
+                concurrencyLimiter.onSuccess(Duration.ofNanos(System.nanoTime() - attemptStart), inFlightAtStart);
+            } else if (indicatesOverload(t)) {
+                concurrencyLimiter.onDropped();
+            } else {
+                concurrencyLimiter.onIgnored();
+            }
+        });
+        CompletableFutureUtils.forwardResultTo(executeFuture, future);
+        return CompletableFutureUtils.forwardExceptionTo(future, executeFuture);
+    }
+
+    private static boolean indicatesOverload(Throwable t) {
+        Throwable error = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+        switch (SdkErrorType.fromException(error)) {
+            case THROTTLING:
+            case CONFIGURED_TIMEOUT:
+            case IO:
+                return true;
+            case SERVER_ERROR:
+                return error instanceof SdkServiceException
+                       && HttpStatusFamily.of(((SdkServiceException) error).statusCode()) == HttpStatusFamily.SERVER_ERROR;
+            default:
+                return error.getCause() instanceof IOException;
+        }
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static software.amazon.awssdk.core.internal.http.pipeline.stages.utils.RetryableStageHelper2.RETRY_TOKEN_SCOPE;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.utils.HedgingLatencyTracker;
+import software.amazon.awssdk.core.internal.util.MetricUtils;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.retries.internal.HedgingCapacity;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Executes a single request attempt against the HTTP client, and sends a second, identical request (a hedge) if the first
+ * one has not received the response headers after the delay computed by the {@link HedgingLatencyTracker}. The first
+ * request to receive the response headers wins: the response handler only ever sees the events of that request, and the
+ * other request is cancelled.
+ *
+ * <p>This sits below {@link AsyncRetryableStage2}, so that hedging happens within a single attempt and the state of the
+ * attempt shared with the rest of the pipeline is only touched by the winning request. Hedges are only charged against the
+ * retry capacity of the {@link RetryStrategy} of the client, through {@link HedgingCapacity}: a hedge is only sent if there
+ * is enough capacity for a retry, and the capacity is returned if the first request wins. A hedge is not a failure, so it
+ * is kept out of the failure accounting of the strategy.
+ *
+ * <p>The latency recorded for the operation is the time from the start of the first request to the first response, so that
+ * the hedge delay is computed from the latencies requests would have without hedging, rather than from the latencies of
+ * hedges, which are cut short.
+ */
+@SdkInternalApi
+final class AsyncHedgedRequestExecution {
+    private static final Logger log = Logger.loggerFor(AsyncHedgedRequestExecution.class);
+
+    private final SdkAsyncHttpClient httpClient;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final HedgingCapacity hedgingCapacity;
+    private final HedgingLatencyTracker latencyTracker;
+    private final RequestExecutionContext context;
+    private final String operationName;
+    private final AsyncExecuteRequest.Builder executeRequestBuilder;
+    private final SdkAsyncHttpResponseHandler responseHandler;
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+    private final Object lock = new Object();
+    private Attempt primary;
+    private Attempt hedge;
+    private Attempt winner;
+    private int attemptsInFlight;
+    private boolean done;
+    private ScheduledFuture<?> hedgeTimer;
+    private long startNanos;
+    private boolean hedgeCapacityAcquired;
+
+    AsyncHedgedRequestExecution(HttpClientDependencies dependencies,
+                                RequestExecutionContext context,
+                                String operationName,
+                                AsyncExecuteRequest.Builder executeRequestBuilder,
+                                SdkAsyncHttpResponseHandler responseHandler) {
+        this.httpClient = dependencies.clientConfiguration().option(SdkClientOption.ASYNC_HTTP_CLIENT);
+        this.scheduledExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.hedgingCapacity = (HedgingCapacity) dependencies.clientConfiguration().option(SdkClientOption.RETRY_STRATEGY);
+        this.latencyTracker = dependencies.hedgingLatencyTracker();
+        this.context = context;
+        this.operationName = operationName;
+        this.executeRequestBuilder = executeRequestBuilder;
+        this.responseHandler = responseHandler;
+    }
+
+    /**
+     * Start the request, and schedule the hedge if enough latencies of the operation have been recorded.
+     *
+     * @return A future that completes with the result of the winning request, or with the error of the last request to
+     * fail if no request received a response. Completing it exceptionally cancels all requests.
+     */
+    CompletableFuture<Void> execute() {
+        Attempt primaryAttempt = new Attempt();
+        synchronized (lock) {
+            primary = primaryAttempt;
+            attemptsInFlight = 1;
+            startNanos = System.nanoTime();
+        }
+
+        result.whenComplete((r, t) -> onResultCompleted(t));
+        primaryAttempt.start(executeRequestBuilder.responseHandler(primaryAttempt).build());
+
+        latencyTracker.hedgeDelay(operationName).ifPresent(this::scheduleHedge);
+        return result;
+    }
+
+    private void scheduleHedge(Duration delay) {
+        synchronized (lock) {
+            if (!done && winner == null) {
+                hedgeTimer = scheduledExecutor.schedule(this::startHedge, delay.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private void startHedge() {
+        synchronized (lock) {
+            if (done || winner != null) {
+                return;
+            }
+        }
+
+        if (!hedgingCapacity.tryAcquireHedgeCapacity(RETRY_TOKEN_SCOPE)) {
+            log.debug(() -> "Not sending a hedged request for " + operationName + ", because there is not enough retry "
+                            + "capacity.");
+            return;
+        }
+
+        Attempt hedgeAttempt = new Attempt();
+        synchronized (lock) {
+            if (done || winner != null) {
+                hedgingCapacity.releaseHedgeCapacity(RETRY_TOKEN_SCOPE);
+                return;
+            }
+            hedge = hedgeAttempt;
+            hedgeCapacityAcquired = true;
+            attemptsInFlight++;
+        }
+
+        log.debug(() -> "Sending a hedged request for " + operationName);
+        hedgeAttempt.start(executeRequestBuilder.responseHandler(hedgeAttempt)
+                                                .metricCollector(MetricUtils.createHttpMetricsCollector(context))
+                                                .build());
+    }
+
+    /**
+     * Try to make the given attempt the winner. Returns true if the attempt is, or has just become, the winner.
+     */
+    private boolean claimWin(Attempt attempt) {
+        Attempt loser;
+        long latencyNanos;
+        synchronized (lock) {
+            if (winner != null || done) {
+                return winner == attempt;
+            }
+            winner = attempt;
+            loser = attempt == primary ? hedge : primary;
+            latencyNanos = System.nanoTime() - startNanos;
+            cancelHedgeTimer();
+        }
+
+        latencyTracker.recordLatency(operationName, Duration.ofNanos(latencyNanos));
+        if (loser != null) {
+            loser.cancel();
+        }
+        return true;
+    }
+
+    private boolean isWinner(Attempt attempt) {
+        synchronized (lock) {
+            return winner == attempt;
+        }
+    }
+
+    private void onAttemptCompleted(Attempt attempt, Throwable error) {
+        if (error == null) {
+            if (claimWin(attempt)) {
+                result.complete(null);
+            }
+            return;
+        }
+
+        boolean attemptWon;
+        synchronized (lock) {
+            attemptWon = winner == attempt;
+            if (!attemptWon) {
+                // Only fail once no request is left in flight. If the first request fails before the hedge was sent,
+                // there is no point in sending it: the failure is left to the retry strategy instead.
+                if (winner != null || done || --attemptsInFlight > 0) {
+                    return;
+                }
+                done = true;
+                cancelHedgeTimer();
+            }
+        }
+
+        if (!attemptWon) {
+            responseHandler.onError(error);
+        }
+        result.completeExceptionally(error);
+    }
+
+    private void onResultCompleted(Throwable error) {
+        Attempt primaryAttempt;
+        Attempt hedgeAttempt;
+        boolean primaryWon;
+        boolean capacityAcquired;
+        synchronized (lock) {
+            done = true;
+            cancelHedgeTimer();
+            primaryAttempt = primary;
+            hedgeAttempt = hedge;
+            primaryWon = winner == primary;
+            capacityAcquired = hedgeCapacityAcquired;
+        }
+
+        if (error != null) {
+            primaryAttempt.cancel(error);
+            if (hedgeAttempt != null) {
+                hedgeAttempt.cancel(error);
+            }
+        } else if (capacityAcquired && primaryWon) {
+            // The hedge turned out to be unnecessary, so it should not reduce the capacity left for retries.
+            hedgingCapacity.releaseHedgeCapacity(RETRY_TOKEN_SCOPE);
+        }
+    }
+
+    private void cancelHedgeTimer() {
+        if (hedgeTimer != null) {
+            hedgeTimer.cancel(false);
+        }
+    }
+
+    /**
+     * One of the requests sent to the HTTP client. Only forwards the events of the request to the response handler if it
+     * is the winner.
+     */
+    private final class Attempt implements SdkAsyncHttpResponseHandler {
+        private CompletableFuture<Void> future;
+        private Throwable cancellation;
+
+        private void start(AsyncExecuteRequest executeRequest) {
+            CompletableFuture<Void> attemptFuture;
+            try {
+                attemptFuture = httpClient.execute(executeRequest);
+            } catch (Throwable t) {
+                attemptFuture = CompletableFutureUtils.failedFuture(t);
+            }
+            Throwable pendingCancellation;
+            synchronized (this) {
+                future = attemptFuture;
+                pendingCancellation = cancellation;
+            }
+            attemptFuture.whenComplete((r, t) -> onAttemptCompleted(this, t));
+            if (pendingCancellation != null) {
+                attemptFuture.completeExceptionally(pendingCancellation);
+            }
+        }
+
+        private void cancel() {
+            cancel(new CancellationException("A hedged request received a response first."));
+        }
+
+        private void cancel(Throwable error) {
+            CompletableFuture<Void> attemptFuture;
+            synchronized (this) {
+                cancellation = error;
+                attemptFuture = future;
+            }
+            if (attemptFuture != null) {
+                attemptFuture.completeExceptionally(error);
+            }
+        }
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+            if (claimWin(this)) {
+                responseHandler.onHeaders(headers);
+            }
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            if (isWinner(this)) {
+                responseHandler.onStream(stream);
+            } else {
+                stream.subscribe(new CancellingSubscriber());
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            if (isWinner(this)) {
+                responseHandler.onError(error);
+            }
+        }
+    }
+
+    private static final class CancellingSubscriber implements Subscriber<ByteBuffer> {
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.cancel();
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
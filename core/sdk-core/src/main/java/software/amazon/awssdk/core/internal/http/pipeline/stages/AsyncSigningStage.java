@@ -47,6 +47,7 @@ import software.amazon.awssdk.http.auth.spi.signer.SignRequest;
 import software.amazon.awssdk.http.auth.spi.signer.SignedRequest;
 import software.amazon.awssdk.identity.spi.Identity;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
 
 @SdkInternalApi
@@ -90,19 +91,41 @@ public class AsyncSigningStage implements RequestPipeline<SdkHttpFullRequest,
                                                                                       SelectedAuthScheme<T> selectedAuthScheme) {
         adjustForClockSkew(context.executionAttributes());
         CompletableFuture<? extends T> identityFuture = selectedAuthScheme.identity();
-        return identityFuture.thenCompose(identity -> {
-            CompletableFuture<SdkHttpFullRequest> signedRequestFuture = MetricUtils.reportDuration(
-                () -> doSraSign(request, context, selectedAuthScheme, identity),
-                context.attemptMetricCollector(),
-                CoreMetric.SIGNING_DURATION);
-
-            return signedRequestFuture.thenApply(r -> {
-                updateHttpRequestInInterceptorContext(r, context.executionContext());
-                return r;
-            });
+
+        // Most identity providers return an already completed future, in which case sign without chaining any stages on it.
+        if (isCompletedNormally(identityFuture)) {
+            try {
+                return sraSignRequest(request, context, selectedAuthScheme, identityFuture.join());
+            } catch (RuntimeException e) {
+                return CompletableFutureUtils.failedFuture(e);
+            }
+        }
+        return identityFuture.thenCompose(identity -> sraSignRequest(request, context, selectedAuthScheme, identity));
+    }
+
+    private <T extends Identity> CompletableFuture<SdkHttpFullRequest> sraSignRequest(SdkHttpFullRequest request,
+                                                                                      RequestExecutionContext context,
+                                                                                      SelectedAuthScheme<T> selectedAuthScheme,
+                                                                                      T identity) {
+        CompletableFuture<SdkHttpFullRequest> signedRequestFuture = MetricUtils.reportDuration(
+            () -> doSraSign(request, context, selectedAuthScheme, identity),
+            context.attemptMetricCollector(),
+            CoreMetric.SIGNING_DURATION);
+
+        if (isCompletedNormally(signedRequestFuture)) {
+            updateHttpRequestInInterceptorContext(signedRequestFuture.join(), context.executionContext());
+            return signedRequestFuture;
+        }
+        return signedRequestFuture.thenApply(r -> {
+            updateHttpRequestInInterceptorContext(r, context.executionContext());
+            return r;
         });
     }
 
+    private static boolean isCompletedNormally(CompletableFuture<?> future) {
+        return future.isDone() && !future.isCompletedExceptionally();
+    }
+
     private <T extends Identity> CompletableFuture<SdkHttpFullRequest> doSraSign(SdkHttpFullRequest request,
                                                                                  RequestExecutionContext context,
                                                                                  SelectedAuthScheme<T> selectedAuthScheme,
@@ -16,6 +16,8 @@
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
 import static software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute.SDK_HTTP_EXECUTION_ATTRIBUTES;
+import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.apiCallTimeoutExpired;
+import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.capToRemainingApiCallTime;
 import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.resolveTimeoutInMillis;
 import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
 
@@ -32,12 +34,17 @@ import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.Response;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.client.config.HedgingConfiguration;
 import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.internal.handler.InFlightRequestCoalescer;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
@@ -49,13 +56,17 @@ import software.amazon.awssdk.core.internal.http.timers.TimerUtils;
 import software.amazon.awssdk.core.internal.metrics.BytesReadTrackingPublisher;
 import software.amazon.awssdk.core.internal.util.MetricUtils;
 import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.RequestPriority;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequestExecutionAttribute;
 import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.retries.internal.HedgingCapacity;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
 
@@ -73,10 +84,14 @@ public final class MakeAsyncHttpRequestStage<OutputT>
     private final Executor futureCompletionExecutor;
     private final ScheduledExecutorService timeoutExecutor;
     private final Duration apiCallAttemptTimeout;
+    private final HttpClientDependencies dependencies;
+    private final HedgingConfiguration hedgingConfiguration;
 
     public MakeAsyncHttpRequestStage(TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
                                      HttpClientDependencies dependencies) {
         this.responseHandler = responseHandler;
+        this.dependencies = dependencies;
+        this.hedgingConfiguration = resolveHedgingConfiguration(dependencies.clientConfiguration());
         this.futureCompletionExecutor =
                 dependencies.clientConfiguration().option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR);
         this.sdkAsyncHttpClient = dependencies.clientConfiguration().option(SdkClientOption.ASYNC_HTTP_CLIENT);
@@ -147,6 +162,10 @@ public final class MakeAsyncHttpRequestStage<OutputT>
                 context.executionAttributes()
                        .getAttribute(SDK_HTTP_EXECUTION_ATTRIBUTES));
         }
+        RequestPriority requestPriority = context.executionAttributes().getAttribute(SdkExecutionAttribute.REQUEST_PRIORITY);
+        if (requestPriority != null) {
+            executeRequestBuilder.putHttpExecutionAttribute(SdkHttpRequestExecutionAttribute.REQUEST_PRIORITY, requestPriority);
+        }
 
         CompletableFuture<Void> httpClientFuture = doExecuteHttpRequest(context, executeRequestBuilder, responseHandler);
 
@@ -197,11 +216,26 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         ReadMetricsTrackingResponseHandler<Response<OutputT>> wrappedResponseHandler =
             new ReadMetricsTrackingResponseHandler<>(responseHandler, context);
 
-        AsyncExecuteRequest executeRequest = executeRequestBuilder.responseHandler(wrappedResponseHandler)
-                                                                  .build();
-
         long startTime = MetricUtils.resetApiCallAttemptStartNanoTime(context);
-        CompletableFuture<Void> httpClientFuture = sdkAsyncHttpClient.execute(executeRequest);
+        CompletableFuture<Void> httpClientFuture;
+        if (isHedgingEnabled(context)) {
+            String operationName = context.executionAttributes().getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+            httpClientFuture = new AsyncHedgedRequestExecution(dependencies, context, operationName, executeRequestBuilder,
+                                                               wrappedResponseHandler).execute();
+        } else {
+            InFlightRequestCoalescer.CoalescedRequest coalescedRequest =
+                context.executionAttributes().getAttribute(SdkInternalExecutionAttribute.COALESCED_REQUEST);
+            if (coalescedRequest != null) {
+                // Hedged requests are not coalesced, so that a hedge is never coalesced with its own primary request.
+                httpClientFuture = coalescedRequest.executeAsync(
+                    wrappedResponseHandler,
+                    handler -> sdkAsyncHttpClient.execute(executeRequestBuilder.responseHandler(handler).build()));
+            } else {
+                AsyncExecuteRequest executeRequest = executeRequestBuilder.responseHandler(wrappedResponseHandler)
+                                                                          .build();
+                httpClientFuture = sdkAsyncHttpClient.execute(executeRequest);
+            }
+        }
 
         CompletableFuture<Void> result = httpClientFuture.whenComplete((r, t) -> {
             long d = System.nanoTime() - startTime;
@@ -214,6 +248,35 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         return result;
     }
 
+    /**
+     * Hedges are charged to the retry capacity of the retry strategy of the client, so hedging is only supported for clients
+     * that are configured with a retry strategy that exposes its {@link HedgingCapacity}, which excludes legacy retry policies.
+     * A strategy that makes a single attempt does not retry, so requests are not hedged either.
+     */
+    private static HedgingConfiguration resolveHedgingConfiguration(SdkClientConfiguration clientConfiguration) {
+        RetryStrategy retryStrategy = clientConfiguration.option(SdkClientOption.RETRY_STRATEGY);
+        if (clientConfiguration.option(SdkClientOption.RETRY_POLICY) != null
+            || !(retryStrategy instanceof HedgingCapacity)
+            || retryStrategy.maxAttempts() <= 1) {
+            return null;
+        }
+        return clientConfiguration.option(SdkAdvancedAsyncClientOption.HEDGING_CONFIGURATION);
+    }
+
+    /**
+     * Requests are only hedged for the configured operations, and only when they can safely be sent twice, which requires the
+     * request body to be in memory.
+     */
+    private boolean isHedgingEnabled(RequestExecutionContext context) {
+        if (hedgingConfiguration == null
+            || context.requestProvider() != null
+            || isFullDuplex(context.executionAttributes())) {
+            return false;
+        }
+        String operationName = context.executionAttributes().getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        return operationName != null && hedgingConfiguration.operations().contains(operationName);
+    }
+
     private boolean isFullDuplex(ExecutionAttributes executionAttributes) {
         return executionAttributes.getAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX) != null &&
                executionAttributes.getAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX);
@@ -239,8 +302,16 @@ public final class MakeAsyncHttpRequestStage<OutputT>
     }
 
     private TimeoutTracker setupAttemptTimer(CompletableFuture<Response<OutputT>> executeFuture, RequestExecutionContext ctx) {
-        long timeoutMillis = resolveTimeoutInMillis(ctx.requestConfig()::apiCallAttemptTimeout, apiCallAttemptTimeout);
-        Supplier<SdkClientException> exceptionSupplier = () -> ApiCallAttemptTimeoutException.create(timeoutMillis);
+        long attemptTimeoutMillis = resolveTimeoutInMillis(ctx.requestConfig()::apiCallAttemptTimeout, apiCallAttemptTimeout);
+        long timeoutMillis = capToRemainingApiCallTime(attemptTimeoutMillis, ctx);
+        Supplier<SdkClientException> exceptionSupplier = () -> {
+            if (apiCallTimeoutExpired(ctx)) {
+                return ApiCallTimeoutException.create(
+                    resolveTimeoutInMillis(ctx.requestConfig()::apiCallTimeout,
+                                           dependencies.clientConfiguration().option(SdkClientOption.API_CALL_TIMEOUT)));
+            }
+            return ApiCallAttemptTimeoutException.create(attemptTimeoutMillis);
+        };
 
         return TimerUtils.timeAsyncTaskIfNeeded(executeFuture,
                                                 timeoutExecutor,
@@ -16,9 +16,11 @@
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
 import java.time.Duration;
+import java.util.concurrent.Callable;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.internal.handler.InFlightRequestCoalescer;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.InterruptMonitor;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
@@ -75,8 +77,15 @@ public class MakeHttpRequestStage
         context.apiCallTimeoutTracker().abortable(requestCallable);
         context.apiCallAttemptTimeoutTracker().abortable(requestCallable);
 
+        // A coalesced request waits for, and gets a copy of, the response of an identical request in flight, if there is one.
+        InFlightRequestCoalescer.CoalescedRequest coalescedRequest =
+            context.executionAttributes().getAttribute(SdkInternalExecutionAttribute.COALESCED_REQUEST);
+        Callable<HttpExecuteResponse> execution = coalescedRequest == null
+                                                  ? requestCallable
+                                                  : () -> coalescedRequest.execute(requestCallable);
+
         long start = updateMetricCollectionAttributes(context);
-        Pair<HttpExecuteResponse, Duration> measuredExecute = MetricUtils.measureDurationUnsafe(requestCallable, start);
+        Pair<HttpExecuteResponse, Duration> measuredExecute = MetricUtils.measureDurationUnsafe(execution, start);
         Duration executeDuration = measuredExecute.right();
         attemptMetricCollector.reportMetric(CoreMetric.SERVICE_CALL_DURATION, executeDuration);
 
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
+import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.apiCallTimeoutExpired;
 import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.resolveTimeoutInMillis;
 import static software.amazon.awssdk.utils.FunctionalUtils.runAndLogError;
 
@@ -25,6 +26,7 @@ import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.AbortedException;
 import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkInterruptedException;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
@@ -114,6 +116,10 @@ public final class TimeoutExceptionHandlingStage<OutputT> implements RequestToRe
         if (isCausedByApiCallAttemptTimeout(context)) {
             // Clear the interrupt status
             Thread.interrupted();
+            if (apiCallTimeoutExpired(context)) {
+                // The attempt timeout was capped to the time left before the api call timeout, which is what fired.
+                return generateApiCallTimeoutException(context);
+            }
             return generateApiCallAttemptTimeoutException(context);
         }
 
@@ -145,6 +151,12 @@ public final class TimeoutExceptionHandlingStage<OutputT> implements RequestToRe
         return context.apiCallTimeoutTracker().hasExecuted();
     }
 
+    private ApiCallTimeoutException generateApiCallTimeoutException(RequestExecutionContext context) {
+        return ApiCallTimeoutException.create(
+            resolveTimeoutInMillis(context.requestConfig()::apiCallTimeout,
+                                   dependencies.clientConfiguration().option(SdkClientOption.API_CALL_TIMEOUT)));
+    }
+
     private ApiCallAttemptTimeoutException generateApiCallAttemptTimeoutException(RequestExecutionContext context) {
         return ApiCallAttemptTimeoutException.create(
             resolveTimeoutInMillis(context.requestConfig()::apiCallAttemptTimeout,
@@ -0,0 +1,155 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages.utils;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.core.client.config.ConcurrencyLimitConfiguration;
+
+/**
+ * Limits the number of in-flight API calls of a client, and adapts the limit with a TCP Vegas-like algorithm.
+ *
+ * <p>The lowest latency observed is taken as the latency of the service without load. The number of calls queued because of
+ * the current concurrency is estimated from how much the latency of each successful call exceeds that latency. The limit is
+ * increased while that estimate is small, and decreased when it is large. Calls that fail in a way indicating overload
+ * (throttling, timeouts, I/O and server errors) decrease the limit multiplicatively. The no-load latency is periodically
+ * re-learnt, so that the limiter follows permanent changes of the latency of the service.
+ */
+@SdkInternalApi
+public final class AdaptiveConcurrencyLimiter {
+    private static final int ALPHA = 3;
+    private static final int BETA = 6;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int PROBE_MULTIPLIER = 30;
+
+    private final int minimumLimit;
+    private final int maximumLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // Guarded by this
+    private double estimatedLimit;
+    private long noLoadLatencyNanos;
+    private long samplesUntilProbe;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitConfiguration configuration) {
+        this.minimumLimit = configuration.minimumLimit();
+        this.maximumLimit = configuration.maximumLimit();
+        this.limit = configuration.initialLimit();
+        this.estimatedLimit = limit;
+        this.samplesUntilProbe = nextProbeInterval();
+    }
+
+    /**
+     * Try to start an API call.
+     *
+     * @return The number of in-flight calls including the new one, or -1 if the limit is reached and the call must be
+     * rejected.
+     */
+    public int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Finish an API call that succeeded.
+     *
+     * @param latency The duration of the call.
+     * @param inFlightAtStart The value returned by {@link #tryAcquire()} when the call was started.
+     */
+    public void onSuccess(Duration latency, int inFlightAtStart) {
+        inFlight.decrementAndGet();
+        updateLimit(latency.toNanos(), inFlightAtStart);
+    }
+
+    /**
+     * Finish an API call that failed in a way that indicates the service is overloaded.
+     */
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            setLimit(estimatedLimit * BACKOFF_RATIO);
+        }
+    }
+
+    /**
+     * Finish an API call whose outcome does not tell anything about the load of the service.
+     */
+    public void onIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * The current limit.
+     */
+    public int limit() {
+        return limit;
+    }
+
+    @SdkTestInternalApi
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void updateLimit(long latencyNanos, int inFlightAtStart) {
+        if (latencyNanos <= 0) {
+            return;
+        }
+
+        if (--samplesUntilProbe <= 0) {
+            samplesUntilProbe = nextProbeInterval();
+            noLoadLatencyNanos = latencyNanos;
+            return;
+        }
+
+        if (noLoadLatencyNanos == 0 || latencyNanos < noLoadLatencyNanos) {
+            noLoadLatencyNanos = latencyNanos;
+            return;
+        }
+
+        double log = Math.max(1, Math.log10(estimatedLimit));
+        double queueSize = Math.ceil(estimatedLimit * (1 - (double) noLoadLatencyNanos / latencyNanos));
+
+        if (queueSize <= ALPHA * log) {
+            // The client does not use the current limit, so there is no evidence that a higher limit would not overload
+            // the service.
+            if (inFlightAtStart * 2 >= estimatedLimit) {
+                setLimit(estimatedLimit + log);
+            }
+        } else if (queueSize >= BETA * log) {
+            setLimit(estimatedLimit - log);
+        }
+    }
+
+    private void setLimit(double newLimit) {
+        estimatedLimit = Math.min(maximumLimit, Math.max(minimumLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    private long nextProbeInterval() {
+        return PROBE_MULTIPLIER * (long) limit + ThreadLocalRandom.current().nextInt(PROBE_MULTIPLIER * 2);
+    }
+}
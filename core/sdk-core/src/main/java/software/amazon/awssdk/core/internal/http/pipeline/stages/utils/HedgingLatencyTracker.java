@@ -0,0 +1,153 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages.utils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.client.config.HedgingConfiguration;
+
+/**
+ * Tracks the time to first byte of the operations configured in a {@link HedgingConfiguration}, and derives from it the delay
+ * after which a request to an operation should be hedged.
+ *
+ * <p>Latencies are recorded in a log-linear histogram per operation, with 8 buckets per power of two microseconds, so that
+ * the computed delay is within 12.5% of the actual percentile. The percentile is recomputed every
+ * {@value #RECOMPUTE_INTERVAL} samples, and the histogram counts are periodically halved so that the delay follows changes
+ * in the latency of the service. No delay is returned until enough samples have been recorded.
+ */
+@SdkInternalApi
+public final class HedgingLatencyTracker {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+    private static final long MAX_TRACKED_MICROS = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    private static final int RECOMPUTE_INTERVAL = 64;
+    private static final long MIN_SAMPLES = 2 * RECOMPUTE_INTERVAL;
+    private static final long DECAY_THRESHOLD = 128 * RECOMPUTE_INTERVAL;
+
+    private final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final double latencyPercentile;
+    private final Duration minimumDelay;
+
+    public HedgingLatencyTracker(HedgingConfiguration hedgingConfiguration) {
+        this.latencyPercentile = hedgingConfiguration.latencyPercentile();
+        this.minimumDelay = hedgingConfiguration.minimumDelay();
+    }
+
+    /**
+     * Record the time to first byte of a request to the given operation.
+     */
+    public void recordLatency(String operationName, Duration latency) {
+        histograms.computeIfAbsent(operationName, n -> new LatencyHistogram())
+                  .record(TimeUnit.NANOSECONDS.toMicros(latency.toNanos()));
+    }
+
+    /**
+     * Return the delay after which a request to the given operation should be hedged, or empty if not enough latencies have
+     * been recorded for the operation yet.
+     */
+    public Optional<Duration> hedgeDelay(String operationName) {
+        LatencyHistogram histogram = histograms.get(operationName);
+        if (histogram == null) {
+            return Optional.empty();
+        }
+        long percentileMicros = histogram.percentileMicros;
+        if (percentileMicros < 0) {
+            return Optional.empty();
+        }
+        Duration delay = Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(percentileMicros));
+        return Optional.of(delay.compareTo(minimumDelay) < 0 ? minimumDelay : delay);
+    }
+
+    static int bucketIndex(long micros) {
+        long value = Math.min(Math.max(micros, 0), MAX_TRACKED_MICROS);
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * The largest value, in microseconds, that is recorded in the given bucket.
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        long lowerBound = (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    private final class LatencyHistogram {
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+        private final AtomicLong samples = new AtomicLong();
+        private volatile long percentileMicros = -1;
+
+        private void record(long micros) {
+            buckets.incrementAndGet(bucketIndex(micros));
+            long count = samples.incrementAndGet();
+            if (count % RECOMPUTE_INTERVAL != 0) {
+                return;
+            }
+            if (count >= DECAY_THRESHOLD) {
+                decay();
+            }
+            if (count >= MIN_SAMPLES) {
+                percentileMicros = computePercentile();
+            }
+        }
+
+        /**
+         * Halve all counts. Concurrent updates may be lost while this runs, which only makes the histogram slightly less
+         * accurate.
+         */
+        private void decay() {
+            long total = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                total += buckets.updateAndGet(i, c -> c / 2);
+            }
+            samples.set(total);
+        }
+
+        private long computePercentile() {
+            long total = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                total += buckets.get(i);
+            }
+            long target = (long) Math.ceil(total * latencyPercentile / 100);
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += buckets.get(i);
+                if (seen >= target) {
+                    return bucketUpperBound(i);
+                }
+            }
+            return bucketUpperBound(BUCKET_COUNT - 1);
+        }
+    }
+}
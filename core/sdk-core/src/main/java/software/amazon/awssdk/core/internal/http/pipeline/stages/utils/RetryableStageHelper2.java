@@ -35,6 +35,7 @@ import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncRetryableStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.RetryableStage;
+import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.core.internal.retry.ClockSkewAdjuster;
 import software.amazon.awssdk.core.internal.retry.RetryPolicyAdapter;
 import software.amazon.awssdk.core.retry.RetryPolicy;
@@ -50,6 +51,7 @@ import software.amazon.awssdk.retries.api.RefreshRetryTokenResponse;
 import software.amazon.awssdk.retries.api.RetryStrategy;
 import software.amazon.awssdk.retries.api.RetryToken;
 import software.amazon.awssdk.retries.api.TokenAcquisitionFailedException;
+import software.amazon.awssdk.retries.internal.ReleasableRetryCapacity;
 
 /**
  * Contains the logic shared by {@link RetryableStage} and {@link AsyncRetryableStage} when querying and interacting with a
@@ -58,6 +60,12 @@ import software.amazon.awssdk.retries.api.TokenAcquisitionFailedException;
 @SdkInternalApi
 public final class RetryableStageHelper2 {
     public static final String SDK_RETRY_INFO_HEADER = "amz-sdk-request";
+
+    /**
+     * The scope of the retry tokens acquired for every request, and so of the retry capacity they are charged to.
+     */
+    public static final String RETRY_TOKEN_SCOPE = "GLOBAL";
+
     private final SdkHttpFullRequest request;
     private final RequestExecutionContext context;
     private RetryPolicyAdapter retryPolicyAdapter;
@@ -99,11 +107,18 @@ public final class RetryableStageHelper2 {
      * This method returns a delay that the caller have to wait before attempting the first request. If this method returns
      * {@link Duration#ZERO} if the calling code does not have to wait. As of today the only strategy that might return a non-zero
      * value is {@link AdaptiveRetryStrategy}.
+     *
+     * <p>If the retry strategy refuses to make the first attempt, e.g., because its circuit breaker is open, an
+     * {@link SdkClientException} is thrown.
      */
     public Duration acquireInitialToken() {
-        String scope = "GLOBAL";
-        AcquireInitialTokenRequest acquireRequest = AcquireInitialTokenRequest.create(scope);
-        AcquireInitialTokenResponse acquireResponse = retryStrategy().acquireInitialToken(acquireRequest);
+        AcquireInitialTokenRequest acquireRequest = AcquireInitialTokenRequest.create(RETRY_TOKEN_SCOPE);
+        AcquireInitialTokenResponse acquireResponse;
+        try {
+            acquireResponse = retryStrategy().acquireInitialToken(acquireRequest);
+        } catch (TokenAcquisitionFailedException e) {
+            throw SdkClientException.create(e.getMessage(), e);
+        }
         RetryToken retryToken = acquireResponse.token();
         Duration delay = acquireResponse.delay();
         context.executionAttributes().putAttribute(RETRY_TOKEN, retryToken);
@@ -126,12 +141,20 @@ public final class RetryableStageHelper2 {
      * empty if the retry-strategy disallows the retry. The calling code is expected to wait the delay represented in the duration
      * if present before retrying the request.
      *
+     * <p>The retry is also disallowed if the backoff delay would not end before the api call timeout of the request expires,
+     * because the next attempt could not complete in time anyway. No retry capacity is kept for a retry that is disallowed
+     * for this reason.
+     *
      * @param suggestedDelay A suggested delay, presumably coming from the server response. The response when present will be at
      *                       least this amount.
      * @return An optional time to wait. If the value is not present the retry strategy disallowed the retry and the calling code
      * should not retry.
      */
     public Optional<Duration> tryRefreshToken(Duration suggestedDelay) {
+        // The delay is at least the suggested delay, don't withdraw retry capacity if that already ends too late.
+        if (exceedsRemainingApiCallTime(suggestedDelay)) {
+            return Optional.empty();
+        }
         RetryToken retryToken = context.executionAttributes().getAttribute(RETRY_TOKEN);
         RefreshRetryTokenResponse refreshResponse;
         try {
@@ -147,10 +170,32 @@ public final class RetryableStageHelper2 {
         }
         Duration delay = refreshResponse.delay();
         context.executionAttributes().putAttribute(RETRY_TOKEN, refreshResponse.token());
+        if (exceedsRemainingApiCallTime(delay)) {
+            if (retryStrategy() instanceof ReleasableRetryCapacity) {
+                ((ReleasableRetryCapacity) retryStrategy()).releaseRetryCapacity(refreshResponse.token());
+            }
+            return Optional.empty();
+        }
         context.executionAttributes().putAttribute(LAST_BACKOFF_DELAY_DURATION, delay);
         return Optional.of(delay);
     }
 
+    private boolean exceedsRemainingApiCallTime(Duration backoffDelay) {
+        TimeoutTracker apiCallTimeoutTracker = context.apiCallTimeoutTracker();
+        if (apiCallTimeoutTracker == null) {
+            return false;
+        }
+        Optional<Duration> remaining = apiCallTimeoutTracker.remainingTime();
+        if (!remaining.isPresent() || backoffDelay.compareTo(remaining.get()) < 0) {
+            return false;
+        }
+        SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Retryable error detected, but the backoff delay of " +
+                                                     backoffDelay.toMillis() + "ms exceeds the " +
+                                                     remaining.get().toMillis() + "ms left before the api call timeout. "
+                                                     + "Not retrying.", lastException);
+        return true;
+    }
+
     /**
      * Return the exception that should be thrown, because the retry strategy did not allow the request to be retried.
      */
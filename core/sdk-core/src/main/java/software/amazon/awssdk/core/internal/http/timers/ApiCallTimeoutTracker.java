@@ -15,7 +15,10 @@
 
 package software.amazon.awssdk.core.internal.http.timers;
 
+import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Abortable;
 import software.amazon.awssdk.utils.Validate;
@@ -57,4 +60,12 @@ public final class ApiCallTimeoutTracker implements TimeoutTracker {
     public void abortable(Abortable abortable) {
         timeoutTask.abortable(abortable);
     }
+
+    @Override
+    public Optional<Duration> remainingTime() {
+        if (future.isDone()) {
+            return Optional.of(Duration.ZERO);
+        }
+        return Optional.of(Duration.ofNanos(Math.max(0, future.getDelay(TimeUnit.NANOSECONDS))));
+    }
 }
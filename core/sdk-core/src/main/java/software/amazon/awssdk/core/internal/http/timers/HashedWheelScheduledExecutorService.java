@@ -0,0 +1,383 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link ScheduledExecutorService} that keeps one-shot delayed tasks in a hashed timing wheel instead of the priority
+ * queue of a {@link java.util.concurrent.ScheduledThreadPoolExecutor}, so that scheduling and cancelling a task are O(1).
+ * This suits the SDK's API call and attempt timeouts, which are scheduled for nearly every request and are nearly always
+ * cancelled before they expire.
+ *
+ * <p>A single daemon thread advances the wheel once per tick and hands expired tasks to the delegate executor, so tasks
+ * still run on the delegate's threads. The thread parks while no tasks are scheduled. Tasks may run up to one tick late.
+ * Periodic tasks and immediate executions are passed to the delegate unchanged.
+ */
+@SdkInternalApi
+public final class HashedWheelScheduledExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+    private static final Logger log = Logger.loggerFor(HashedWheelScheduledExecutorService.class);
+
+    private static final long DEFAULT_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final ScheduledExecutorService delegate;
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<WheelTask<?>> newTasks = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTask<?>> cancelledTasks = new ConcurrentLinkedQueue<>();
+    private final AtomicLong scheduledTasks = new AtomicLong();
+    private final AtomicLong taskSequence = new AtomicLong();
+    private final Thread worker;
+    private final long startNanos;
+
+    private volatile boolean shutdown;
+    private volatile boolean idle;
+    private long tick;
+
+    public HashedWheelScheduledExecutorService(ScheduledExecutorService delegate) {
+        this(delegate, DEFAULT_TICK_NANOS, DEFAULT_WHEEL_SIZE);
+    }
+
+    @SdkTestInternalApi
+    HashedWheelScheduledExecutorService(ScheduledExecutorService delegate, long tickNanos, int wheelSize) {
+        this.delegate = Validate.paramNotNull(delegate, "delegate");
+        this.tickNanos = Validate.isPositive(tickNanos, "tickNanos");
+        Validate.isTrue(Integer.bitCount(wheelSize) == 1, "wheelSize must be a power of two");
+        this.wheel = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheelSize - 1;
+        this.startNanos = System.nanoTime();
+
+        this.worker = new Thread(this::runWorker, "sdk-HashedWheelTimer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        Validate.paramNotNull(command, "command");
+        return schedule(Executors.callable(command), delay, unit);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        Validate.paramNotNull(callable, "callable");
+        if (shutdown) {
+            throw new RejectedExecutionException("The executor has been shut down.");
+        }
+
+        WheelTask<V> task = new WheelTask<>(callable, System.nanoTime() + unit.toNanos(Math.max(0, delay)));
+        scheduledTasks.incrementAndGet();
+        newTasks.add(task);
+        // The worker only needs to be woken up if it is parked because no tasks were scheduled.
+        if (idle) {
+            LockSupport.unpark(worker);
+        }
+        return task;
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        return delegate.scheduleAtFixedRate(command, initialDelay, period, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        return delegate.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(command);
+    }
+
+    @Override
+    public void shutdown() {
+        stopWorker();
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        stopWorker();
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && !worker.isAlive() && delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        worker.join(Math.max(1, unit.toMillis(timeout)));
+        return !worker.isAlive() && delegate.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @SdkTestInternalApi
+    long scheduledTasks() {
+        return scheduledTasks.get();
+    }
+
+    private void stopWorker() {
+        shutdown = true;
+        LockSupport.unpark(worker);
+    }
+
+    private void runWorker() {
+        while (!shutdown) {
+            if (scheduledTasks.get() == 0) {
+                idle = true;
+                if (scheduledTasks.get() == 0 && !shutdown) {
+                    LockSupport.park(this);
+                }
+                idle = false;
+                // The wheel was empty while parked, so the ticks that elapsed in the meantime can be skipped.
+                tick = Math.max(tick, (System.nanoTime() - startNanos) / tickNanos);
+                continue;
+            }
+
+            long deadline = waitForNextTick();
+            if (shutdown) {
+                break;
+            }
+
+            removeCancelledTasks();
+            transferNewTasks();
+            wheel[(int) (tick & mask)].expireTasks(deadline);
+            tick++;
+        }
+
+        cancelRemainingTasks();
+    }
+
+    /**
+     * Sleep until the end of the current tick, and return its deadline relative to {@link #startNanos}.
+     */
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (!shutdown) {
+            long sleepNanos = deadline - (System.nanoTime() - startNanos);
+            if (sleepNanos <= 0) {
+                break;
+            }
+            LockSupport.parkNanos(this, sleepNanos);
+        }
+        return deadline;
+    }
+
+    private void removeCancelledTasks() {
+        WheelTask<?> task;
+        while ((task = cancelledTasks.poll()) != null) {
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+                scheduledTasks.decrementAndGet();
+            }
+        }
+    }
+
+    private void transferNewTasks() {
+        WheelTask<?> task;
+        while ((task = newTasks.poll()) != null) {
+            if (task.isCancelled()) {
+                scheduledTasks.decrementAndGet();
+                continue;
+            }
+
+            long calculatedTick = Math.max(0, task.deadlineNanos - startNanos) / tickNanos;
+            task.remainingRounds = (calculatedTick - tick) / wheel.length;
+            // Tasks that are already due are put in the current bucket, so that they run at the end of this tick.
+            long taskTick = Math.max(calculatedTick, tick);
+            wheel[(int) (taskTick & mask)].add(task);
+        }
+    }
+
+    private void cancelRemainingTasks() {
+        List<WheelTask<?>> remaining = new ArrayList<>();
+        WheelTask<?> task;
+        while ((task = newTasks.poll()) != null) {
+            remaining.add(task);
+        }
+        for (Bucket bucket : wheel) {
+            bucket.drainTo(remaining);
+        }
+        remaining.forEach(t -> t.cancel(false));
+        scheduledTasks.set(0);
+    }
+
+    private void dispatch(WheelTask<?> task) {
+        scheduledTasks.decrementAndGet();
+        try {
+            delegate.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.debug(() -> "Could not run a scheduled task, because its executor rejected it.", e);
+            task.cancel(false);
+        }
+    }
+
+    /**
+     * A scheduled task. The bucket links are only accessed by the worker thread.
+     */
+    private final class WheelTask<V> extends FutureTask<V> implements ScheduledFuture<V> {
+        private final long deadlineNanos;
+        private final long sequenceNumber;
+        private long remainingRounds;
+        private Bucket bucket;
+        private WheelTask<?> next;
+        private WheelTask<?> prev;
+
+        private WheelTask(Callable<V> callable, long deadlineNanos) {
+            super(callable);
+            this.deadlineNanos = deadlineNanos;
+            this.sequenceNumber = taskSequence.getAndIncrement();
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                cancelledTasks.add(this);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Tasks of this executor are ordered by deadline, and then by submission order, so that only a task compares equal to
+         * itself, consistently with {@link #equals(Object)}.
+         */
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            if (other instanceof WheelTask) {
+                WheelTask<?> otherTask = (WheelTask<?>) other;
+                int byDeadline = Long.compare(deadlineNanos - otherTask.deadlineNanos, 0);
+                return byDeadline != 0 ? byDeadline : Long.compare(sequenceNumber, otherTask.sequenceNumber);
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+
+    /**
+     * A doubly-linked list of the tasks that expire in the same tick of the wheel, modulo the wheel size.
+     */
+    private final class Bucket {
+        private WheelTask<?> head;
+        private WheelTask<?> tail;
+
+        private void add(WheelTask<?> task) {
+            task.bucket = this;
+            if (head == null) {
+                head = task;
+                tail = task;
+            } else {
+                tail.next = task;
+                task.prev = tail;
+                tail = task;
+            }
+        }
+
+        private void expireTasks(long deadline) {
+            WheelTask<?> task = head;
+            while (task != null) {
+                WheelTask<?> next = task.next;
+                if (task.isCancelled()) {
+                    remove(task);
+                    scheduledTasks.decrementAndGet();
+                } else if (task.remainingRounds <= 0 && task.deadlineNanos - startNanos <= deadline) {
+                    remove(task);
+                    dispatch(task);
+                } else {
+                    task.remainingRounds--;
+                }
+                task = next;
+            }
+        }
+
+        private void remove(WheelTask<?> task) {
+            if (task.bucket != this) {
+                return;
+            }
+            if (task.prev != null) {
+                task.prev.next = task.next;
+            } else {
+                head = task.next;
+            }
+            if (task.next != null) {
+                task.next.prev = task.prev;
+            } else {
+                tail = task.prev;
+            }
+            task.next = null;
+            task.prev = null;
+            task.bucket = null;
+        }
+
+        private void drainTo(List<WheelTask<?>> tasks) {
+            WheelTask<?> task = head;
+            while (task != null) {
+                WheelTask<?> next = task.next;
+                remove(task);
+                tasks.add(task);
+                task = next;
+            }
+        }
+    }
+}
@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.core.internal.http.timers;
 
+import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.ScheduledFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Abortable;
@@ -48,4 +50,12 @@ public interface TimeoutTracker {
      * @param abortable the abortable task
      */
     void abortable(Abortable abortable);
+
+    /**
+     * @return The time left before the timeout task executes, or empty if the timeout is disabled for this request. Once the
+     *         timeout task has executed or has been cancelled, this is {@link Duration#ZERO}.
+     */
+    default Optional<Duration> remainingTime() {
+        return Optional.empty();
+    }
 }
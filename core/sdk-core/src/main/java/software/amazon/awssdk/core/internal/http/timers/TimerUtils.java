@@ -24,6 +24,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.utils.OptionalUtils;
 
 @SdkInternalApi
@@ -88,6 +89,37 @@ public final class TimerUtils {
         return new ApiCallTimeoutTracker(timeoutTask, scheduledFuture);
     }
 
+    /**
+     * Cap the given api call attempt timeout to the time left before the api call timeout of the request expires, so that the
+     * final attempt of a request is aborted no later than the request itself.
+     *
+     * @param attemptTimeoutInMillis the resolved api call attempt timeout in milliseconds, or 0 if it is disabled
+     * @param context the request execution context
+     * @return the attempt timeout to use in milliseconds, or 0 if the api call attempt timeout is disabled
+     */
+    public static long capToRemainingApiCallTime(long attemptTimeoutInMillis, RequestExecutionContext context) {
+        TimeoutTracker apiCallTimeoutTracker = context.apiCallTimeoutTracker();
+        if (attemptTimeoutInMillis <= 0 || apiCallTimeoutTracker == null) {
+            return attemptTimeoutInMillis;
+        }
+
+        return apiCallTimeoutTracker.remainingTime()
+                                    // A timeout of 0 disables the timer, so never cap below one millisecond.
+                                    .map(remaining -> Math.max(1, Math.min(attemptTimeoutInMillis, remaining.toMillis())))
+                                    .orElse(attemptTimeoutInMillis);
+    }
+
+    /**
+     * Return whether the api call timeout of the request has expired. When an api call attempt timer fires and this is true,
+     * the attempt timeout was capped by {@link #capToRemainingApiCallTime(long, RequestExecutionContext)}, and it is the
+     * api call that timed out.
+     */
+    public static boolean apiCallTimeoutExpired(RequestExecutionContext context) {
+        TimeoutTracker apiCallTimeoutTracker = context.apiCallTimeoutTracker();
+        return apiCallTimeoutTracker != null
+               && apiCallTimeoutTracker.remainingTime().map(Duration::isZero).orElse(false);
+    }
+
     public static long resolveTimeoutInMillis(Supplier<Optional<Duration>> supplier, Duration fallback) {
         return OptionalUtils.firstPresent(supplier.get(), () -> fallback)
                             .map(Duration::toMillis)
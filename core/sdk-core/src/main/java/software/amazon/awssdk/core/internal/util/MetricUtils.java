@@ -75,6 +75,11 @@ public final class MetricUtils {
                                                           SdkMetric<Duration> metric) {
         long start = System.nanoTime();
         CompletableFuture<T> result = c.get();
+        if (result.isDone()) {
+            // Report synchronously, rather than allocating a dependent stage on an already completed future.
+            metricCollector.reportMetric(metric, Duration.ofNanos(System.nanoTime() - start));
+            return result;
+        }
         result.whenComplete((r, t) -> {
             Duration d = Duration.ofNanos(System.nanoTime() - start);
             metricCollector.reportMetric(metric, d);
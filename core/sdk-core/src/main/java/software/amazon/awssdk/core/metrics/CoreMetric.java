@@ -179,6 +179,14 @@ public final class CoreMetric {
     public static final SdkMetric<String> ERROR_TYPE =
         metric("ErrorType", String.class, MetricLevel.INFO);
 
+    /**
+     * The adaptive concurrency limit of the client when the API call was started, that is the number of API calls the client
+     * allowed to be in flight at the same time. This is only reported if a
+     * {@link software.amazon.awssdk.core.client.config.ConcurrencyLimitConfiguration} is configured on the client.
+     */
+    public static final SdkMetric<Integer> CONCURRENCY_LIMIT =
+        metric("ConcurrencyLimit", Integer.class, MetricLevel.INFO);
+
     private CoreMetric() {
     }
 
@@ -72,6 +72,7 @@ import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelScheduledExecutorService;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.signer.NoOpSigner;
 import software.amazon.awssdk.core.signer.Signer;
@@ -302,6 +303,19 @@ public class DefaultClientBuilderTest {
                 .isEqualTo(TEST_SIGNER);
     }
 
+    @Test
+    public void buildWithHashedWheelTimerEnabled_wrapsScheduledExecutorService() {
+        ClientOverrideConfiguration overrideConfig =
+            ClientOverrideConfiguration.builder()
+                                       .putAdvancedOption(SdkAdvancedClientOption.ENABLE_HASHED_WHEEL_TIMER, true)
+                                       .build();
+        TestClient client = testClientBuilder().overrideConfiguration(overrideConfig).build();
+
+        assertThat(client.clientConfiguration.option(SCHEDULED_EXECUTOR_SERVICE))
+            .isInstanceOf(HashedWheelScheduledExecutorService.class);
+        client.clientConfiguration.close();
+    }
+
     @Test
     public void buildWithEndpointShouldHaveCorrectEndpointAndSigningRegion() {
         TestClient client = testClientBuilder().endpointOverride(ENDPOINT).build();
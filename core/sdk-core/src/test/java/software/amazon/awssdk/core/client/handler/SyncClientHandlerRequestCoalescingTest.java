@@ -0,0 +1,209 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.client.config.RequestCoalescingConfiguration;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.protocol.VoidSdkResponse;
+import software.amazon.awssdk.core.runtime.transform.Marshaller;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.retries.DefaultRetryStrategy;
+import utils.HttpTestUtils;
+import utils.ValidSdkObjects;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SyncClientHandlerRequestCoalescingTest {
+    private static final String OPERATION = "GetParameter";
+
+    private final List<Integer> afterExecutionStatusCodes = new CopyOnWriteArrayList<>();
+    private final List<Throwable> executionFailures = new CopyOnWriteArrayList<>();
+
+    private SdkSyncClientHandler syncClientHandler;
+
+    @Mock
+    private SdkRequest request;
+
+    @Mock
+    private Marshaller<SdkRequest> marshaller;
+
+    private SdkHttpFullRequest marshalledRequest = ValidSdkObjects.sdkHttpFullRequest().build();
+
+    @Mock
+    private SdkHttpClient httpClient;
+
+    @Mock
+    private ExecutableHttpRequest leaderCall;
+
+    @Mock
+    private ExecutableHttpRequest joinerCall;
+
+    @Mock
+    private HttpResponseHandler<SdkResponse> responseHandler;
+
+    @Mock
+    private HttpResponseHandler<SdkServiceException> errorResponseHandler;
+
+    @Before
+    public void setup() {
+        this.syncClientHandler = new SdkSyncClientHandler(clientConfiguration());
+        when(request.overrideConfiguration()).thenReturn(Optional.empty());
+        when(marshaller.marshall(request)).thenReturn(marshalledRequest);
+        when(httpClient.prepareRequest(any())).thenReturn(leaderCall, joinerCall);
+    }
+
+    @Test
+    public void identicalRequestInFlight_sharesHttpResponse_andRunsInterceptorsOfEachCaller() throws Exception {
+        when(responseHandler.handle(any(), any())).thenReturn(VoidSdkResponse.builder().build());
+        AtomicReference<CompletableFuture<SdkResponse>> joiner = new AtomicReference<>();
+        when(leaderCall.call()).thenAnswer(i -> {
+            joiner.set(startJoiner());
+            return HttpExecuteResponse.builder()
+                                      .response(SdkHttpResponse.builder().statusCode(200).build())
+                                      .responseBody(AbortableInputStream.create(
+                                          new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8))))
+                                      .build();
+        });
+
+        SdkResponse leaderResponse = syncClientHandler.execute(clientExecutionParams());
+        SdkResponse joinerResponse = joiner.get().get(5, TimeUnit.SECONDS);
+
+        assertThat(leaderResponse.sdkHttpResponse().statusCode()).isEqualTo(200);
+        assertThat(joinerResponse.sdkHttpResponse().statusCode()).isEqualTo(200);
+        verify(leaderCall, times(1)).call();
+        verify(joinerCall, times(0)).call();
+        verify(responseHandler, times(2)).handle(any(), any());
+        assertThat(afterExecutionStatusCodes).containsExactly(200, 200);
+    }
+
+    @Test
+    public void identicalRequestInFlightFails_eachCallerGetsItsOwnFailure_andRunsItsFailureInterceptors() throws Exception {
+        IOException failure = new IOException("Connection reset");
+        AtomicReference<CompletableFuture<SdkResponse>> joiner = new AtomicReference<>();
+        when(leaderCall.call()).thenAnswer(i -> {
+            joiner.set(startJoiner());
+            throw failure;
+        });
+
+        Throwable leaderFailure = null;
+        try {
+            syncClientHandler.execute(clientExecutionParams());
+        } catch (SdkClientException e) {
+            leaderFailure = e;
+        }
+        CompletableFuture<SdkResponse> joinerFuture = joiner.get();
+        assertThatThrownBy(() -> joinerFuture.get(5, TimeUnit.SECONDS)).hasRootCause(failure);
+        Throwable joinerFailure = joinerFuture.handle((r, t) -> t).join();
+
+        assertThat(leaderFailure).isNotNull().hasRootCause(failure);
+        assertThat(joinerFailure).isNotSameAs(leaderFailure);
+        assertThat(joinerFailure.getCause()).isNotSameAs(failure);
+        verify(joinerCall, times(0)).call();
+        assertThat(executionFailures).hasSize(2).doesNotHaveDuplicates();
+    }
+
+    /**
+     * Start an identical call on another thread, and wait until it has joined the call in flight on this thread.
+     */
+    private CompletableFuture<SdkResponse> startJoiner() throws InterruptedException {
+        CompletableFuture<SdkResponse> joiner = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                joiner.complete(syncClientHandler.execute(clientExecutionParams()));
+            } catch (Throwable t) {
+                joiner.completeExceptionally(t);
+            }
+        });
+        thread.start();
+        verify(httpClient, timeout(5_000).times(2)).prepareRequest(any());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return joiner;
+    }
+
+    private ClientExecutionParams<SdkRequest, SdkResponse> clientExecutionParams() {
+        return new ClientExecutionParams<SdkRequest, SdkResponse>()
+            .withOperationName(OPERATION)
+            .withInput(request)
+            .withMarshaller(marshaller)
+            .withResponseHandler(responseHandler)
+            .withErrorResponseHandler(errorResponseHandler);
+    }
+
+    private SdkClientConfiguration clientConfiguration() {
+        List<ExecutionInterceptor> interceptors = new ArrayList<>();
+        interceptors.add(new ExecutionInterceptor() {
+            @Override
+            public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+                afterExecutionStatusCodes.add(context.httpResponse().statusCode());
+            }
+
+            @Override
+            public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+                executionFailures.add(context.exception());
+            }
+        });
+        return HttpTestUtils.testClientConfiguration().toBuilder()
+                            .option(SdkClientOption.SYNC_HTTP_CLIENT, httpClient)
+                            .option(SdkClientOption.EXECUTION_INTERCEPTORS, interceptors)
+                            .option(SdkClientOption.RETRY_STRATEGY, DefaultRetryStrategy.doNotRetry())
+                            .option(SdkAdvancedClientOption.REQUEST_COALESCING_CONFIGURATION,
+                                    RequestCoalescingConfiguration.builder()
+                                                                  .operations(Collections.singleton(OPERATION))
+                                                                  .build())
+                            .build();
+    }
+}
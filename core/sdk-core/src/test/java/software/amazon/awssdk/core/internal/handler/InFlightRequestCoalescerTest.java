@@ -0,0 +1,331 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkRequestOverrideConfiguration;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.client.config.RequestCoalescingConfiguration;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class InFlightRequestCoalescerTest {
+    private static final String OPERATION = "GetParameter";
+    private static final SdkRequest ORIGINAL_REQUEST = NoopTestRequest.builder().build();
+    private static final SdkHttpResponse RESPONSE = SdkHttpResponse.builder().statusCode(200).build();
+
+    private InFlightRequestCoalescer coalescer;
+    private AtomicInteger executions;
+    private AtomicReference<SdkAsyncHttpResponseHandler> sharedResponseHandler;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        coalescer = InFlightRequestCoalescer.create(RequestCoalescingConfiguration.builder().operations(OPERATION).build());
+        executions = new AtomicInteger();
+        sharedResponseHandler = new AtomicReference<>();
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void create_notConfigured_returnsNull() {
+        assertThat(InFlightRequestCoalescer.create(null)).isNull();
+    }
+
+    @Test
+    public void coalescedRequest_operationNotConfigured_returnsNull() {
+        assertThat(coalescer.coalescedRequest("PutParameter", ORIGINAL_REQUEST, request("a"))).isNull();
+    }
+
+    @Test
+    public void coalescedRequest_requestOverrideConfiguration_returnsNull() {
+        SdkRequest requestWithOverride =
+            NoopTestRequest.builder()
+                           .overrideConfiguration(SdkRequestOverrideConfiguration.builder().putHeader("x", "y").build())
+                           .build();
+
+        assertThat(coalescer.coalescedRequest(OPERATION, requestWithOverride, request("a"))).isNull();
+    }
+
+    @Test
+    public void coalescedRequest_contentLargerThanMaximum_returnsNull() {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i <= InFlightRequestCoalescer.MAX_CONTENT_LENGTH; i++) {
+            content.append('a');
+        }
+
+        assertThat(coalescer.coalescedRequest(OPERATION, ORIGINAL_REQUEST, request(content.toString()))).isNull();
+    }
+
+    @Test
+    public void executeAsync_identicalRequestsInFlight_shareSingleHttpCall_andEachCallerGetsTheResponse() {
+        CompletableFuture<Void> execution = new CompletableFuture<>();
+        RecordingResponseHandler first = new RecordingResponseHandler();
+        RecordingResponseHandler second = new RecordingResponseHandler();
+
+        CompletableFuture<Void> firstFuture = executeAsync(request("a"), first, execution);
+        CompletableFuture<Void> secondFuture = executeAsync(request("a"), second, execution);
+        respond("body");
+        execution.complete(null);
+
+        assertThat(firstFuture).isCompleted();
+        assertThat(secondFuture).isCompleted();
+        assertThat(first.headers).isSameAs(RESPONSE);
+        assertThat(second.headers).isSameAs(RESPONSE);
+        assertThat(first.body.join()).isEqualTo("body");
+        assertThat(second.body.join()).isEqualTo("body");
+        assertThat(executions).hasValue(1);
+        assertThat(coalescer.inFlightCalls()).isZero();
+    }
+
+    @Test
+    public void executeAsync_failure_eachJoiningCallerGetsItsOwnFailure() {
+        CompletableFuture<Void> execution = new CompletableFuture<>();
+        IOException failure = new IOException("failed");
+        RecordingResponseHandler first = new RecordingResponseHandler();
+        RecordingResponseHandler second = new RecordingResponseHandler();
+        RecordingResponseHandler third = new RecordingResponseHandler();
+
+        executeAsync(request("a"), first, execution);
+        executeAsync(request("a"), second, execution);
+        executeAsync(request("a"), third, execution);
+        execution.completeExceptionally(failure);
+
+        assertThat(first.error).isSameAs(failure);
+        assertThat(second.error).isInstanceOf(IOException.class).hasCause(failure);
+        assertThat(third.error).isInstanceOf(IOException.class).hasCause(failure);
+        assertThat(second.error).isNotSameAs(third.error);
+        assertThat(executions).hasValue(1);
+        assertThat(coalescer.inFlightCalls()).isZero();
+    }
+
+    @Test
+    public void executeAsync_differentRequests_executeSeparately() {
+        executeAsync(request("a"), new RecordingResponseHandler(), new CompletableFuture<>());
+        executeAsync(request("b"), new RecordingResponseHandler(), new CompletableFuture<>());
+        executeAsync(request("a").toBuilder().putHeader("x-header", "value").build(), new RecordingResponseHandler(),
+                     new CompletableFuture<>());
+
+        assertThat(executions).hasValue(3);
+    }
+
+    @Test
+    public void executeAsync_afterCompletion_executesAgain() {
+        executeAsync(request("a"), new RecordingResponseHandler(), new CompletableFuture<>());
+        respond("first");
+        executeAsync(request("a"), new RecordingResponseHandler(), new CompletableFuture<>());
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    public void executeAsync_someCallersFail_executionContinuesForTheOthers() {
+        CompletableFuture<Void> execution = new CompletableFuture<>();
+        RecordingResponseHandler second = new RecordingResponseHandler();
+
+        CompletableFuture<Void> first = executeAsync(request("a"), new RecordingResponseHandler(), execution);
+        executeAsync(request("a"), second, execution);
+        first.completeExceptionally(new RuntimeException("Attempt timed out"));
+        respond("body");
+
+        assertThat(execution).isNotCancelled();
+        assertThat(second.body.join()).isEqualTo("body");
+    }
+
+    @Test
+    public void executeAsync_allCallersFail_cancelsExecutionAndStopsSharingIt() {
+        CompletableFuture<Void> execution = new CompletableFuture<>();
+
+        CompletableFuture<Void> first = executeAsync(request("a"), new RecordingResponseHandler(), execution);
+        CompletableFuture<Void> second = executeAsync(request("a"), new RecordingResponseHandler(), execution);
+        first.cancel(true);
+        second.completeExceptionally(new RuntimeException("Attempt timed out"));
+
+        assertThat(execution).isCancelled();
+
+        executeAsync(request("a"), new RecordingResponseHandler(), new CompletableFuture<>());
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    public void execute_identicalRequestInFlight_waitsForItsResponse() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        InFlightRequestCoalescer.CoalescedRequest leaderRequest =
+            coalescer.coalescedRequest(OPERATION, ORIGINAL_REQUEST, request("a"));
+        InFlightRequestCoalescer.CoalescedRequest followerRequest =
+            coalescer.coalescedRequest(OPERATION, ORIGINAL_REQUEST, request("a"));
+
+        Future<HttpExecuteResponse> leader = executor.submit(() -> leaderRequest.execute(() -> {
+            executions.incrementAndGet();
+            leaderStarted.countDown();
+            await(releaseLeader);
+            return executeResponse("result");
+        }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<HttpExecuteResponse> follower = CompletableFuture.supplyAsync(() -> {
+            try {
+                return followerRequest.execute(() -> {
+                    executions.incrementAndGet();
+                    return executeResponse("result");
+                });
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        releaseLeader.countDown();
+
+        assertThat(body(leader.get(5, TimeUnit.SECONDS))).isEqualTo("result");
+        assertThat(body(follower.get(5, TimeUnit.SECONDS))).isEqualTo("result");
+        assertThat(coalescer.inFlightCalls()).isZero();
+    }
+
+    @Test
+    public void execute_leaderFails_failureIsRethrown() {
+        IOException failure = new IOException("failed");
+
+        assertThatThrownBy(() -> coalescer.coalescedRequest(OPERATION, ORIGINAL_REQUEST, request("a")).execute(() -> {
+            throw failure;
+        })).isSameAs(failure);
+        assertThat(coalescer.inFlightCalls()).isZero();
+    }
+
+    private CompletableFuture<Void> executeAsync(SdkHttpFullRequest request,
+                                                 SdkAsyncHttpResponseHandler responseHandler,
+                                                 CompletableFuture<Void> execution) {
+        return coalescer.coalescedRequest(OPERATION, ORIGINAL_REQUEST, request)
+                        .executeAsync(responseHandler, handler -> {
+                            executions.incrementAndGet();
+                            sharedResponseHandler.set(handler);
+                            return execution;
+                        });
+    }
+
+    /**
+     * Deliver a response to the response handler of the last shared call.
+     */
+    private void respond(String body) {
+        sharedResponseHandler.get().onHeaders(RESPONSE);
+        sharedResponseHandler.get().onStream(AsyncRequestBody.fromString(body));
+    }
+
+    private static HttpExecuteResponse executeResponse(String body) {
+        return HttpExecuteResponse.builder()
+                                  .response(RESPONSE)
+                                  .responseBody(AbortableInputStream.create(
+                                      new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))))
+                                  .build();
+    }
+
+    private static String body(HttpExecuteResponse response) throws IOException {
+        return IoUtils.toUtf8String(response.responseBody().get());
+    }
+
+    private static SdkHttpFullRequest request(String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        return SdkHttpFullRequest.builder()
+                                 .method(SdkHttpMethod.POST)
+                                 .protocol("https")
+                                 .host("ssm.us-east-1.amazonaws.com")
+                                 .putHeader("Content-Type", "application/x-amz-json-1.1")
+                                 .contentStreamProvider(() -> new ByteArrayInputStream(bytes))
+                                 .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class RecordingResponseHandler implements SdkAsyncHttpResponseHandler {
+        private final CompletableFuture<String> body = new CompletableFuture<>();
+        private volatile SdkHttpResponse headers;
+        private volatile Throwable error;
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+            this.headers = headers;
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            stream.subscribe(new Subscriber<ByteBuffer>() {
+                private final StringBuilder content = new StringBuilder();
+
+                @Override
+                public void onSubscribe(Subscription s) {
+                    s.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(ByteBuffer byteBuffer) {
+                    content.append(StandardCharsets.UTF_8.decode(byteBuffer));
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    body.completeExceptionally(t);
+                }
+
+                @Override
+                public void onComplete() {
+                    body.complete(content.toString());
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            this.error = error;
+        }
+    }
+}
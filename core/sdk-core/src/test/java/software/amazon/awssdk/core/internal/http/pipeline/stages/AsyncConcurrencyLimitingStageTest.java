@@ -0,0 +1,151 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.client.config.ConcurrencyLimitConfiguration;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.exception.ConcurrencyLimitExceededException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.metrics.MetricCollection;
+import utils.ValidSdkObjects;
+
+class AsyncConcurrencyLimitingStageTest {
+    private RequestPipeline<SdkHttpFullRequest, CompletableFuture<String>> wrapped;
+    private CompletableFuture<String> wrappedFuture;
+    private SdkHttpFullRequest request;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() throws Exception {
+        wrapped = mock(RequestPipeline.class);
+        wrappedFuture = new CompletableFuture<>();
+        when(wrapped.execute(any(), any())).thenAnswer(i -> wrappedFuture);
+        request = ValidSdkObjects.sdkHttpFullRequest().build();
+    }
+
+    @Test
+    void execute_noConcurrencyLimitConfigured_returnsWrappedFuture() throws Exception {
+        HttpClientDependencies dependencies =
+            HttpClientDependencies.builder().clientConfiguration(SdkClientConfiguration.builder().build()).build();
+
+        assertThat(new AsyncConcurrencyLimitingStage<>(dependencies, wrapped).execute(request, context()))
+            .isSameAs(wrappedFuture);
+    }
+
+    @Test
+    void execute_limitReached_failsFastWithoutCallingWrappedPipeline() throws Exception {
+        HttpClientDependencies dependencies = dependencies(1);
+        AsyncConcurrencyLimitingStage<String> stage = new AsyncConcurrencyLimitingStage<>(dependencies, wrapped);
+
+        CompletableFuture<String> first = stage.execute(request, context());
+        RequestExecutionContext rejectedContext = context();
+        CompletableFuture<String> rejected = stage.execute(request, rejectedContext);
+
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(ConcurrencyLimitExceededException.class);
+        verify(wrapped).execute(any(), any());
+        MetricCollection metrics = rejectedContext.executionContext().metricCollector().collect();
+        assertThat(metrics.metricValues(CoreMetric.CONCURRENCY_LIMIT)).containsExactly(1);
+
+        wrappedFuture.complete("result");
+        assertThat(first.join()).isEqualTo("result");
+        assertThat(dependencies.concurrencyLimiter().tryAcquire()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_callTimesOut_decreasesLimit() throws Exception {
+        HttpClientDependencies dependencies = dependencies(10);
+        CompletableFuture<String> future = new AsyncConcurrencyLimitingStage<>(dependencies, wrapped).execute(request, context());
+
+        future.completeExceptionally(ApiCallTimeoutException.create(1));
+
+        assertThat(wrappedFuture).isCompletedExceptionally();
+        assertThat(dependencies.concurrencyLimiter().limit()).isEqualTo(9);
+    }
+
+    @Test
+    void execute_callFailsWithClientError_keepsLimit() throws Exception {
+        HttpClientDependencies dependencies = dependencies(10);
+        CompletableFuture<String> future = new AsyncConcurrencyLimitingStage<>(dependencies, wrapped).execute(request, context());
+
+        wrappedFuture.completeExceptionally(SdkClientException.create("validation"));
+
+        assertThat(future).isCompletedExceptionally();
+        assertThat(dependencies.concurrencyLimiter().limit()).isEqualTo(10);
+        for (int i = 1; i <= 10; i++) {
+            assertThat(dependencies.concurrencyLimiter().tryAcquire()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void execute_callSucceeds_feedsBackLatencyOfLastAttempt() throws Exception {
+        HttpClientDependencies dependencies = dependencies(10);
+        AsyncConcurrencyLimitingStage<String> stage = new AsyncConcurrencyLimitingStage<>(dependencies, wrapped);
+
+        // Learn the latency without load from a call that completes immediately.
+        stage.execute(request, context());
+        wrappedFuture.complete("result");
+
+        // A call whose last attempt took much longer indicates that requests are queueing.
+        wrappedFuture = new CompletableFuture<>();
+        RequestExecutionContext slowContext = context();
+        CompletableFuture<String> slow = stage.execute(request, slowContext);
+        slowContext.executionAttributes().putAttribute(SdkInternalExecutionAttribute.API_CALL_ATTEMPT_START_NANO_TIME,
+                                                       System.nanoTime() - Duration.ofSeconds(1).toNanos());
+        wrappedFuture.complete("result");
+
+        assertThat(slow.join()).isEqualTo("result");
+        assertThat(dependencies.concurrencyLimiter().limit()).isEqualTo(9);
+    }
+
+    private static HttpClientDependencies dependencies(int limit) {
+        ConcurrencyLimitConfiguration configuration = ConcurrencyLimitConfiguration.builder()
+                                                                                   .initialLimit(limit)
+                                                                                   .build();
+        SdkClientConfiguration clientConfiguration =
+            SdkClientConfiguration.builder()
+                                  .option(SdkAdvancedAsyncClientOption.CONCURRENCY_LIMIT_CONFIGURATION, configuration)
+                                  .build();
+        return HttpClientDependencies.builder().clientConfiguration(clientConfiguration).build();
+    }
+
+    private RequestExecutionContext context() {
+        return RequestExecutionContext.builder()
+                                      .executionContext(ClientExecutionAndRequestTimerTestUtils.executionContext(request))
+                                      .originalRequest(NoopTestRequest.builder().build())
+                                      .build();
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.client.config.HedgingConfiguration;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.retries.internal.HedgingCapacity;
+import utils.ValidSdkObjects;
+
+class AsyncHedgedRequestExecutionTest {
+    private static final String OPERATION = "GetItem";
+
+    private SdkAsyncHttpClient httpClient;
+    private ScheduledExecutorService scheduledExecutor;
+    private ScheduledFuture<?> hedgeTimer;
+    private RetryStrategy retryStrategy;
+    private HedgingCapacity hedgingCapacity;
+    private SdkAsyncHttpResponseHandler responseHandler;
+    private HttpClientDependencies dependencies;
+    private List<AsyncExecuteRequest> executeRequests;
+    private List<CompletableFuture<Void>> executeFutures;
+
+    @BeforeEach
+    void setup() {
+        httpClient = mock(SdkAsyncHttpClient.class);
+        scheduledExecutor = mock(ScheduledExecutorService.class);
+        hedgeTimer = mock(ScheduledFuture.class);
+        retryStrategy = mock(RetryStrategy.class, withSettings().extraInterfaces(HedgingCapacity.class));
+        hedgingCapacity = (HedgingCapacity) retryStrategy;
+        responseHandler = mock(SdkAsyncHttpResponseHandler.class);
+        executeRequests = new ArrayList<>();
+        executeFutures = new ArrayList<>();
+
+        when(httpClient.execute(any())).thenAnswer(i -> {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            executeRequests.add(i.getArgument(0));
+            executeFutures.add(future);
+            return future;
+        });
+        when(scheduledExecutor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+            .thenAnswer(i -> hedgeTimer);
+        when(hedgingCapacity.tryAcquireHedgeCapacity(any())).thenReturn(true);
+
+        SdkClientConfiguration config =
+            SdkClientConfiguration.builder()
+                                  .option(SdkClientOption.ASYNC_HTTP_CLIENT, httpClient)
+                                  .option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE, scheduledExecutor)
+                                  .option(SdkClientOption.RETRY_STRATEGY, retryStrategy)
+                                  .option(SdkAdvancedAsyncClientOption.HEDGING_CONFIGURATION,
+                                          HedgingConfiguration.builder()
+                                                              .operations(OPERATION)
+                                                              .minimumDelay(Duration.ofMillis(20))
+                                                              .build())
+                                  .build();
+        dependencies = HttpClientDependencies.builder().clientConfiguration(config).build();
+    }
+
+    @Test
+    void execute_noLatenciesRecorded_doesNotHedge() {
+        CompletableFuture<Void> result = execute();
+
+        verify(scheduledExecutor, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        completeWithResponse(0);
+
+        assertThat(result).isCompleted();
+        assertThat(dependencies.hedgingLatencyTracker().hedgeDelay(OPERATION)).isEmpty();
+    }
+
+    @Test
+    void execute_primaryRespondsBeforeDelay_cancelsHedge() {
+        recordLatencies();
+        CompletableFuture<Void> result = execute();
+
+        verify(scheduledExecutor).schedule(any(Runnable.class), eq(Duration.ofMillis(20).toNanos()), eq(TimeUnit.NANOSECONDS));
+        completeWithResponse(0);
+
+        assertThat(result).isCompleted();
+        verify(hedgeTimer, atLeastOnce()).cancel(false);
+        verify(responseHandler).onHeaders(any());
+        verify(hedgingCapacity, never()).tryAcquireHedgeCapacity(any());
+    }
+
+    @Test
+    void execute_primaryRespondsAfterHedgeSent_refundsHedgeCapacity() {
+        recordLatencies();
+        CompletableFuture<Void> result = execute();
+        runHedgeTimer();
+
+        completeWithResponse(0);
+
+        assertThat(result).isCompleted();
+        assertThat(executeFutures.get(1)).isCompletedExceptionally();
+        verify(hedgingCapacity).tryAcquireHedgeCapacity("GLOBAL");
+        verify(hedgingCapacity).releaseHedgeCapacity("GLOBAL");
+    }
+
+    @Test
+    void execute_hedgeRespondsFirst_usesHedgeAndCancelsPrimary() {
+        recordLatencies();
+        CompletableFuture<Void> result = execute();
+        runHedgeTimer();
+
+        assertThat(executeRequests).hasSize(2);
+        completeWithResponse(1);
+        executeRequests.get(0).responseHandler().onHeaders(response());
+
+        assertThat(result).isCompleted();
+        assertThat(executeFutures.get(0)).isCompletedExceptionally();
+        assertThatThrownBy(executeFutures.get(0)::join).isInstanceOf(CancellationException.class);
+        verify(responseHandler, times(1)).onHeaders(any());
+        verify(hedgingCapacity).tryAcquireHedgeCapacity("GLOBAL");
+        verify(hedgingCapacity, never()).releaseHedgeCapacity(any());
+        verify(retryStrategy, never()).refreshRetryToken(any());
+        verify(retryStrategy, never()).recordSuccess(any());
+    }
+
+    @Test
+    void execute_noRetryCapacity_doesNotHedge() {
+        when(hedgingCapacity.tryAcquireHedgeCapacity(any())).thenReturn(false);
+        recordLatencies();
+        CompletableFuture<Void> result = execute();
+        runHedgeTimer();
+
+        assertThat(executeRequests).hasSize(1);
+        completeWithResponse(0);
+        assertThat(result).isCompleted();
+    }
+
+    @Test
+    void execute_primaryFailsAfterHedgeSent_usesHedge() {
+        recordLatencies();
+        CompletableFuture<Void> result = execute();
+        runHedgeTimer();
+
+        executeFutures.get(0).completeExceptionally(new RuntimeException("primary"));
+        assertThat(result).isNotDone();
+
+        completeWithResponse(1);
+        assertThat(result).isCompleted();
+        verify(responseHandler, never()).onError(any());
+    }
+
+    @Test
+    void execute_primaryFailsBeforeHedgeSent_failsWithoutHedging() {
+        recordLatencies();
+        CompletableFuture<Void> result = execute();
+
+        RuntimeException error = new RuntimeException("primary");
+        executeFutures.get(0).completeExceptionally(error);
+        runHedgeTimer();
+
+        assertThat(executeRequests).hasSize(1);
+        assertThatThrownBy(result::join).hasCause(error);
+        verify(responseHandler).onError(error);
+    }
+
+    @Test
+    void execute_allRequestsFail_failsWithLastError() {
+        recordLatencies();
+        CompletableFuture<Void> result = execute();
+        runHedgeTimer();
+
+        executeFutures.get(0).completeExceptionally(new RuntimeException("primary"));
+        RuntimeException hedgeError = new RuntimeException("hedge");
+        executeFutures.get(1).completeExceptionally(hedgeError);
+
+        assertThatThrownBy(result::join).hasCause(hedgeError);
+        verify(responseHandler, times(1)).onError(hedgeError);
+        verify(hedgingCapacity, never()).releaseHedgeCapacity(any());
+    }
+
+    @Test
+    void execute_resultCancelled_cancelsAllRequests() {
+        recordLatencies();
+        CompletableFuture<Void> result = execute();
+        runHedgeTimer();
+
+        result.completeExceptionally(new CancellationException());
+
+        assertThat(executeFutures).allSatisfy(f -> assertThat(f).isCompletedExceptionally());
+    }
+
+    private CompletableFuture<Void> execute() {
+        SdkHttpFullRequest request = ValidSdkObjects.sdkHttpFullRequest().build();
+        RequestExecutionContext context =
+            RequestExecutionContext.builder()
+                                   .executionContext(ClientExecutionAndRequestTimerTestUtils.executionContext(request))
+                                   .originalRequest(NoopTestRequest.builder().build())
+                                   .build();
+        AsyncExecuteRequest.Builder executeRequest = AsyncExecuteRequest.builder().request(request);
+        return new AsyncHedgedRequestExecution(dependencies, context, OPERATION, executeRequest, responseHandler).execute();
+    }
+
+    private void recordLatencies() {
+        for (int i = 0; i < 1_000; i++) {
+            dependencies.hedgingLatencyTracker().recordLatency(OPERATION, Duration.ofMillis(1));
+        }
+    }
+
+    private void runHedgeTimer() {
+        ArgumentCaptor<Runnable> hedge = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduledExecutor).schedule(hedge.capture(), anyLong(), any(TimeUnit.class));
+        hedge.getValue().run();
+    }
+
+    private void completeWithResponse(int request) {
+        executeRequests.get(request).responseHandler().onHeaders(response());
+        executeFutures.get(request).complete(null);
+    }
+
+    private static SdkHttpResponse response() {
+        return SdkHttpResponse.builder().statusCode(200).build();
+    }
+}
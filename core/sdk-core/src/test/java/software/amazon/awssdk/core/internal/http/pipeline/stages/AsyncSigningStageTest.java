@@ -16,6 +16,7 @@
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.within;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -525,6 +526,69 @@ public class AsyncSigningStageTest {
         verifyNoInteractions(httpSigner);
     }
 
+    @Test
+    public void execute_selectedAuthScheme_completedIdentity_signsBeforeReturning() throws Exception {
+        SelectedAuthScheme<Identity> selectedAuthScheme = new SelectedAuthScheme<>(
+            CompletableFuture.completedFuture(identity),
+            httpSigner,
+            AuthSchemeOption.builder().schemeId("my.auth#myAuth").build());
+        RequestExecutionContext context = createContext(selectedAuthScheme, null);
+
+        SdkHttpRequest signedRequest = ValidSdkObjects.sdkHttpFullRequest().build();
+        when(httpSigner.sign(ArgumentMatchers.<SignRequest<? extends Identity>>any()))
+            .thenReturn(SignedRequest.builder()
+                                     .request(signedRequest)
+                                     .build());
+
+        CompletableFuture<SdkHttpFullRequest> result = stage.execute(ValidSdkObjects.sdkHttpFullRequest().build(), context);
+
+        assertThat(result).isCompleted();
+        assertThat(context.executionContext().interceptorContext().httpRequest()).isSameAs(result.join());
+        verify(metricCollector).reportMetric(eq(SIGNING_DURATION), any());
+    }
+
+    @Test
+    public void execute_selectedAuthScheme_pendingIdentity_signsWhenIdentityIsResolved() throws Exception {
+        CompletableFuture<Identity> identityFuture = new CompletableFuture<>();
+        SelectedAuthScheme<Identity> selectedAuthScheme = new SelectedAuthScheme<>(
+            identityFuture,
+            httpSigner,
+            AuthSchemeOption.builder().schemeId("my.auth#myAuth").build());
+        RequestExecutionContext context = createContext(selectedAuthScheme, null);
+
+        SdkHttpRequest signedRequest = ValidSdkObjects.sdkHttpFullRequest().build();
+        when(httpSigner.sign(ArgumentMatchers.<SignRequest<? extends Identity>>any()))
+            .thenReturn(SignedRequest.builder()
+                                     .request(signedRequest)
+                                     .build());
+
+        CompletableFuture<SdkHttpFullRequest> result = stage.execute(ValidSdkObjects.sdkHttpFullRequest().build(), context);
+        assertThat(result).isNotDone();
+        verifyNoInteractions(httpSigner);
+
+        identityFuture.complete(identity);
+
+        assertThat(result.join()).usingRecursiveComparison().isEqualTo(signedRequest);
+        assertThat(context.executionContext().interceptorContext().httpRequest()).isSameAs(result.join());
+    }
+
+    @Test
+    public void execute_selectedAuthScheme_completedIdentity_signerFails_returnsFailedFuture() throws Exception {
+        SelectedAuthScheme<Identity> selectedAuthScheme = new SelectedAuthScheme<>(
+            CompletableFuture.completedFuture(identity),
+            httpSigner,
+            AuthSchemeOption.builder().schemeId("my.auth#myAuth").build());
+        RequestExecutionContext context = createContext(selectedAuthScheme, null);
+
+        RuntimeException exception = new RuntimeException("sign failed");
+        when(httpSigner.sign(ArgumentMatchers.<SignRequest<? extends Identity>>any())).thenThrow(exception);
+
+        CompletableFuture<SdkHttpFullRequest> result = stage.execute(ValidSdkObjects.sdkHttpFullRequest().build(), context);
+
+        assertThat(result).isCompletedExceptionally();
+        assertThatThrownBy(result::join).hasCause(exception);
+    }
+
     private RequestExecutionContext createContext(SelectedAuthScheme<Identity> selectedAuthScheme, Signer oldSigner) {
         return createContext(selectedAuthScheme, null, oldSigner);
     }
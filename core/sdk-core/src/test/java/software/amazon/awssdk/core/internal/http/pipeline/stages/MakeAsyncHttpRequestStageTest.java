@@ -29,10 +29,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL_ATTEMPT_TIMEOUT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.ASYNC_HTTP_CLIENT;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.RETRY_STRATEGY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
 import static software.amazon.awssdk.core.internal.util.AsyncResponseHandlerTestUtils.combinedAsyncResponseHandler;
 
 import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -46,27 +48,36 @@ import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import software.amazon.awssdk.core.client.config.HedgingConfiguration;
 import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
 import software.amazon.awssdk.core.http.ExecutionContext;
 import software.amazon.awssdk.core.http.NoopTestRequest;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.core.internal.util.AsyncResponseHandlerTestUtils;
+import software.amazon.awssdk.http.RequestPriority;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequestExecutionAttribute;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.retries.DefaultRetryStrategy;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import utils.ValidSdkObjects;
 
 @RunWith(MockitoJUnitRunner.class)
 public class MakeAsyncHttpRequestStageTest {
+    private static final String HEDGED_OPERATION = "GetItem";
 
     @Mock
     private SdkAsyncHttpClient sdkAsyncHttpClient;
@@ -116,6 +127,36 @@ public class MakeAsyncHttpRequestStageTest {
         verify(timeoutExecutor, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
     }
 
+    @Test
+    public void hedgingConfigured_retryStrategyRetries_schedulesHedge() {
+        executeHedgeableRequest(3);
+
+        verify(timeoutExecutor, times(1)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void hedgingConfigured_retryStrategyMakesSingleAttempt_doesNotHedge() {
+        executeHedgeableRequest(1);
+
+        verify(sdkAsyncHttpClient, times(1)).execute(any());
+        verify(timeoutExecutor, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void attemptTimeoutFires_apiCallTimeLeft_failsWithApiCallAttemptTimeoutException() throws Exception {
+        CompletableFuture<?> executeFuture = executeAndFireAttemptTimeout(Duration.ofSeconds(10));
+
+        assertThatThrownBy(executeFuture::join).hasCauseInstanceOf(ApiCallAttemptTimeoutException.class)
+                                               .hasMessageContaining("1000");
+    }
+
+    @Test
+    public void attemptTimeoutFires_cappedToExpiredApiCallTimeout_failsWithApiCallTimeoutException() throws Exception {
+        CompletableFuture<?> executeFuture = executeAndFireAttemptTimeout(Duration.ZERO);
+
+        assertThatThrownBy(executeFuture::join).hasCauseInstanceOf(ApiCallTimeoutException.class);
+    }
+
     @Test
     public void testExecute_contextContainsMetricCollector_addsChildToExecuteRequest() {
         stage = new MakeAsyncHttpRequestStage<>(
@@ -161,6 +202,26 @@ public class MakeAsyncHttpRequestStageTest {
         }
     }
 
+    @Test
+    public void execute_requestPriorityConfigured_addsPriorityToHttpExecutionAttributes() throws Exception {
+        stage = new MakeAsyncHttpRequestStage<>(
+            combinedAsyncResponseHandler(AsyncResponseHandlerTestUtils.noOpResponseHandler(),
+                                         AsyncResponseHandlerTestUtils.noOpResponseHandler()),
+            clientDependencies(null));
+
+        RequestExecutionContext context = requestContext();
+        context.executionAttributes().putAttribute(SdkExecutionAttribute.REQUEST_PRIORITY, RequestPriority.LOW);
+
+        stage.execute(CompletableFuture.completedFuture(ValidSdkObjects.sdkHttpFullRequest().build()), context);
+
+        ArgumentCaptor<AsyncExecuteRequest> httpRequestCaptor = ArgumentCaptor.forClass(AsyncExecuteRequest.class);
+        verify(sdkAsyncHttpClient).execute(httpRequestCaptor.capture());
+        assertThat(httpRequestCaptor.getValue()
+                                    .httpExecutionAttributes()
+                                    .getAttribute(SdkHttpRequestExecutionAttribute.REQUEST_PRIORITY))
+            .isEqualTo(RequestPriority.LOW);
+    }
+
     @Test
     public void execute_handlerFutureCompletedNormally_futureCompletionExecutorRejectsWhenCompleteAsync_futureCompletedSynchronously() {
         ExecutorService mockExecutor = mock(ExecutorService.class);
@@ -237,6 +298,51 @@ public class MakeAsyncHttpRequestStageTest {
         }
     }
 
+    private CompletableFuture<?> executeAndFireAttemptTimeout(Duration remainingApiCallTime) throws Exception {
+        stage = new MakeAsyncHttpRequestStage<>(
+            combinedAsyncResponseHandler(AsyncResponseHandlerTestUtils.noOpResponseHandler(),
+                                         AsyncResponseHandlerTestUtils.noOpResponseHandler()),
+            clientDependencies(Duration.ofMillis(1000)));
+        RequestExecutionContext context = requestContext();
+        TimeoutTracker apiCallTimeoutTracker = mock(TimeoutTracker.class);
+        when(apiCallTimeoutTracker.remainingTime()).thenReturn(Optional.of(remainingApiCallTime));
+        context.apiCallTimeoutTracker(apiCallTimeoutTracker);
+
+        CompletableFuture<?> executeFuture =
+            stage.execute(CompletableFuture.completedFuture(ValidSdkObjects.sdkHttpFullRequest().build()), context);
+        ArgumentCaptor<Runnable> timeoutTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(timeoutExecutor).schedule(timeoutTask.capture(), anyLong(), any(TimeUnit.class));
+        timeoutTask.getValue().run();
+        return executeFuture;
+    }
+
+    private void executeHedgeableRequest(int maxAttempts) {
+        when(sdkAsyncHttpClient.execute(any())).thenReturn(new CompletableFuture<>());
+        SdkClientConfiguration configuration =
+            SdkClientConfiguration.builder()
+                                  .option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR, Runnable::run)
+                                  .option(ASYNC_HTTP_CLIENT, sdkAsyncHttpClient)
+                                  .option(SCHEDULED_EXECUTOR_SERVICE, timeoutExecutor)
+                                  .option(RETRY_STRATEGY, DefaultRetryStrategy.standardStrategyBuilder()
+                                                                              .maxAttempts(maxAttempts)
+                                                                              .build())
+                                  .option(SdkAdvancedAsyncClientOption.HEDGING_CONFIGURATION,
+                                          HedgingConfiguration.builder().operations(HEDGED_OPERATION).build())
+                                  .build();
+        HttpClientDependencies dependencies = HttpClientDependencies.builder().clientConfiguration(configuration).build();
+        for (int i = 0; i < 1_000; i++) {
+            dependencies.hedgingLatencyTracker().recordLatency(HEDGED_OPERATION, Duration.ofMillis(1));
+        }
+        stage = new MakeAsyncHttpRequestStage<>(
+            combinedAsyncResponseHandler(AsyncResponseHandlerTestUtils.noOpResponseHandler(),
+                                         AsyncResponseHandlerTestUtils.noOpResponseHandler()),
+            dependencies);
+        RequestExecutionContext context = requestContext();
+        context.executionAttributes().putAttribute(SdkExecutionAttribute.OPERATION_NAME, HEDGED_OPERATION);
+
+        stage.execute(CompletableFuture.completedFuture(ValidSdkObjects.sdkHttpFullRequest().build()), context);
+    }
+
     private HttpClientDependencies clientDependencies(Duration timeout) {
         SdkClientConfiguration configuration = SdkClientConfiguration.builder()
                                                                      .option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR, Runnable::run)
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -28,6 +29,7 @@ import java.io.InputStream;
 import java.net.SocketException;
 import java.util.Optional;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -39,6 +41,7 @@ import software.amazon.awssdk.core.SdkRequestOverrideConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.exception.AbortedException;
 import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkInterruptedException;
 import software.amazon.awssdk.core.http.NoopTestRequest;
@@ -75,6 +78,8 @@ public class TimeoutExceptionHandlingStageTest {
 
     @Before
     public void setup() {
+        // The api call timeout has not expired yet, unless a test says otherwise.
+        lenient().when(scheduledFuture.getDelay(TimeUnit.NANOSECONDS)).thenReturn(TimeUnit.SECONDS.toNanos(10));
         stage = new TimeoutExceptionHandlingStage<>(HttpClientDependencies.builder()
                                                                           .clientConfiguration(SdkClientConfiguration.builder().build())
                                                                           .build(), requestPipeline);
@@ -210,6 +215,16 @@ public class TimeoutExceptionHandlingStageTest {
         verifyExceptionThrown(ApiCallAttemptTimeoutException.class);
     }
 
+    @Test
+    public void interruptedException_causedByAttemptTimeoutCappedToExpiredApiCallTimeout_shouldThrowApiCallTimeoutException()
+        throws Exception {
+        when(apiCallAttemptTimeoutTask.hasExecuted()).thenReturn(true);
+        when(scheduledFuture.getDelay(TimeUnit.NANOSECONDS)).thenReturn(0L);
+        when(requestPipeline.execute(any(), any())).thenThrow(new InterruptedException());
+        verifyExceptionThrown(ApiCallTimeoutException.class);
+        verifyInterruptStatusClear();
+    }
+
     private void verifyInterruptStatusPreserved() {
         assertThat(Thread.currentThread().isInterrupted()).isTrue();
     }
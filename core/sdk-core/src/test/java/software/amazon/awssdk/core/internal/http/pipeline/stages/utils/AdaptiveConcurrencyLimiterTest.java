@@ -0,0 +1,100 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.client.config.ConcurrencyLimitConfiguration;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void tryAcquire_limitReached_rejectsUntilReleased() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 1, 10);
+
+        assertThat(limiter.tryAcquire()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isEqualTo(2);
+        assertThat(limiter.tryAcquire()).isEqualTo(-1);
+
+        limiter.onIgnored();
+        assertThat(limiter.tryAcquire()).isEqualTo(2);
+        assertThat(limiter.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void onSuccess_latencyStable_increasesLimitUpToMaximum() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 50);
+
+        for (int i = 0; i < 1_000; i++) {
+            int inFlight = limiter.tryAcquire();
+            limiter.onSuccess(Duration.ofMillis(10), limiter.limit());
+            assertThat(inFlight).isPositive();
+        }
+
+        assertThat(limiter.limit()).isEqualTo(50);
+    }
+
+    @Test
+    void onSuccess_clientDoesNotUseLimit_doesNotIncreaseLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 50);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.onSuccess(Duration.ofMillis(10), limiter.tryAcquire());
+        }
+
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void onSuccess_latencyIncreases_decreasesLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(100, 1, 100);
+        limiter.tryAcquire();
+        limiter.onSuccess(Duration.ofMillis(10), 100);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire();
+            limiter.onSuccess(Duration.ofMillis(100), 100);
+        }
+
+        assertThat(limiter.limit()).isLessThan(100);
+    }
+
+    @Test
+    void onDropped_decreasesLimitDownToMinimum() {
+        AdaptiveConcurrencyLimiter limiter = limiter(100, 5, 100);
+
+        limiter.tryAcquire();
+        limiter.onDropped();
+        assertThat(limiter.limit()).isEqualTo(90);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.onDropped();
+        }
+        assertThat(limiter.limit()).isEqualTo(5);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(int initial, int minimum, int maximum) {
+        return new AdaptiveConcurrencyLimiter(ConcurrencyLimitConfiguration.builder()
+                                                                           .initialLimit(initial)
+                                                                           .minimumLimit(minimum)
+                                                                           .maximumLimit(maximum)
+                                                                           .build());
+    }
+}
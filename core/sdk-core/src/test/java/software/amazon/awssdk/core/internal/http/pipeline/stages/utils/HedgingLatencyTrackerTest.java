@@ -0,0 +1,91 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.client.config.HedgingConfiguration;
+
+class HedgingLatencyTrackerTest {
+    private static final String OPERATION = "GetItem";
+
+    @Test
+    void bucketUpperBound_isUpperBoundOfAllValuesInBucket() {
+        for (long micros = 0; micros < 100_000; micros++) {
+            int index = HedgingLatencyTracker.bucketIndex(micros);
+            assertThat(HedgingLatencyTracker.bucketUpperBound(index)).isGreaterThanOrEqualTo(micros);
+            if (index > 0) {
+                assertThat(HedgingLatencyTracker.bucketUpperBound(index - 1)).isLessThan(micros);
+            }
+        }
+    }
+
+    @Test
+    void hedgeDelay_notEnoughSamples_isEmpty() {
+        HedgingLatencyTracker tracker = tracker(95.0, Duration.ZERO);
+        assertThat(tracker.hedgeDelay(OPERATION)).isEmpty();
+
+        record(tracker, 100, Duration.ofMillis(5));
+        assertThat(tracker.hedgeDelay(OPERATION)).isEmpty();
+    }
+
+    @Test
+    void hedgeDelay_enoughSamples_returnsConfiguredPercentile() {
+        HedgingLatencyTracker tracker = tracker(90.0, Duration.ZERO);
+        for (int i = 0; i < 10; i++) {
+            record(tracker, 90, Duration.ofMillis(10));
+            record(tracker, 10, Duration.ofMillis(200));
+        }
+
+        assertThat(tracker.hedgeDelay(OPERATION)).hasValueSatisfying(
+            d -> assertThat(d).isBetween(Duration.ofMillis(10), Duration.ofMillis(12)));
+        assertThat(tracker.hedgeDelay("PutItem")).isEmpty();
+    }
+
+    @Test
+    void hedgeDelay_percentileBelowMinimumDelay_returnsMinimumDelay() {
+        HedgingLatencyTracker tracker = tracker(95.0, Duration.ofMillis(50));
+        record(tracker, 1_000, Duration.ofMillis(1));
+
+        assertThat(tracker.hedgeDelay(OPERATION)).hasValue(Duration.ofMillis(50));
+    }
+
+    @Test
+    void hedgeDelay_latencyChanges_followsRecentLatencies() {
+        HedgingLatencyTracker tracker = tracker(50.0, Duration.ZERO);
+        record(tracker, 10_000, Duration.ofMillis(100));
+        record(tracker, 50_000, Duration.ofMillis(1));
+
+        assertThat(tracker.hedgeDelay(OPERATION)).hasValueSatisfying(
+            d -> assertThat(d).isLessThan(Duration.ofMillis(2)));
+    }
+
+    private static HedgingLatencyTracker tracker(double percentile, Duration minimumDelay) {
+        return new HedgingLatencyTracker(HedgingConfiguration.builder()
+                                                             .operations(OPERATION)
+                                                             .latencyPercentile(percentile)
+                                                             .minimumDelay(minimumDelay)
+                                                             .build());
+    }
+
+    private static void record(HedgingLatencyTracker tracker, int count, Duration latency) {
+        for (int i = 0; i < count; i++) {
+            tracker.recordLatency(OPERATION, latency);
+        }
+    }
+}
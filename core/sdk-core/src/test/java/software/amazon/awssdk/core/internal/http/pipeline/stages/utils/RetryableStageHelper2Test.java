@@ -0,0 +1,164 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute.RETRY_TOKEN;
+import static software.amazon.awssdk.core.internal.http.pipeline.stages.utils.RetryableStageHelper.LAST_BACKOFF_DELAY_DURATION;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.timers.NoOpTimeoutTracker;
+import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import software.amazon.awssdk.retries.DefaultRetryStrategy;
+import software.amazon.awssdk.retries.api.AcquireInitialTokenRequest;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.retries.api.RefreshRetryTokenRequest;
+import software.amazon.awssdk.retries.api.RefreshRetryTokenResponse;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.retries.api.RetryToken;
+import software.amazon.awssdk.retries.api.TokenAcquisitionFailedException;
+import software.amazon.awssdk.retries.internal.DefaultStandardRetryStrategy;
+import software.amazon.awssdk.retries.internal.circuitbreaker.TokenBucketStore;
+
+public class RetryableStageHelper2Test {
+    private static final Duration BACKOFF = Duration.ofMillis(500);
+
+    private RetryStrategy retryStrategy;
+    private RequestExecutionContext context;
+    private RetryableStageHelper2 helper;
+
+    @BeforeEach
+    public void setup() {
+        retryStrategy = mock(RetryStrategy.class);
+        when(retryStrategy.refreshRetryToken(any(RefreshRetryTokenRequest.class)))
+            .thenReturn(RefreshRetryTokenResponse.create(mock(RetryToken.class), BACKOFF));
+
+        context = RequestExecutionContext.builder()
+                                         .originalRequest(NoopTestRequest.builder().build())
+                                         .executionContext(ExecutionContext.builder()
+                                                                           .executionAttributes(new ExecutionAttributes())
+                                                                           .metricCollector(NoOpMetricCollector.create())
+                                                                           .build())
+                                         .build();
+        helper = helperWithRetryStrategy(retryStrategy);
+        context.executionAttributes().putAttribute(RETRY_TOKEN, mock(RetryToken.class));
+        helper.startingAttempt();
+        helper.setLastException(SdkClientException.create("failed"));
+    }
+
+    @Test
+    public void tryRefreshToken_noApiCallTimeout_returnsBackoff() {
+        context.apiCallTimeoutTracker(NoOpTimeoutTracker.INSTANCE);
+
+        assertThat(helper.tryRefreshToken(Duration.ZERO)).contains(BACKOFF);
+    }
+
+    @Test
+    public void tryRefreshToken_backoffEndsBeforeApiCallTimeout_returnsBackoff() {
+        context.apiCallTimeoutTracker(trackerWithRemainingTime(Duration.ofSeconds(2)));
+
+        assertThat(helper.tryRefreshToken(Duration.ZERO)).contains(BACKOFF);
+    }
+
+    @Test
+    public void tryRefreshToken_backoffExceedsRemainingApiCallTime_disallowsRetry() {
+        context.apiCallTimeoutTracker(trackerWithRemainingTime(Duration.ofMillis(100)));
+
+        assertThat(helper.tryRefreshToken(Duration.ZERO)).isEmpty();
+        assertThat(helper.retryPolicyDisallowedRetryException()).hasMessage("failed");
+    }
+
+    @Test
+    public void tryRefreshToken_noApiCallTimeLeft_doesNotRefreshToken() {
+        context.apiCallTimeoutTracker(trackerWithRemainingTime(Duration.ZERO));
+
+        assertThat(helper.tryRefreshToken(Duration.ZERO)).isEmpty();
+        verify(retryStrategy, never()).refreshRetryToken(any(RefreshRetryTokenRequest.class));
+    }
+
+    @Test
+    public void tryRefreshToken_backoffExceedsRemainingApiCallTime_releasesRetryCapacity() {
+        TokenBucketStore tokenBucketStore = TokenBucketStore.builder().tokenBucketMaxCapacity(10).build();
+        RetryStrategy standardStrategy =
+            ((DefaultStandardRetryStrategy.Builder) DefaultRetryStrategy.standardStrategyBuilder())
+                .tokenBucketStore(tokenBucketStore)
+                .tokenBucketExceptionCost(5)
+                .backoffStrategy(BackoffStrategy.fixedDelayWithoutJitter(BACKOFF))
+                .retryOnException(SdkClientException.class)
+                .build();
+        RetryableStageHelper2 standardHelper = helperWithRetryStrategy(standardStrategy);
+        standardHelper.acquireInitialToken();
+        standardHelper.startingAttempt();
+        standardHelper.setLastException(SdkClientException.create("failed"));
+        context.apiCallTimeoutTracker(trackerWithRemainingTime(Duration.ofMillis(100)));
+
+        assertThat(standardHelper.tryRefreshToken(Duration.ZERO)).isEmpty();
+        assertThat(tokenBucketStore.tokenBucketForScope(RetryableStageHelper2.RETRY_TOKEN_SCOPE).currentCapacity()).isEqualTo(10);
+        assertThat(context.executionAttributes().getAttribute(LAST_BACKOFF_DELAY_DURATION)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void acquireInitialToken_tokenAcquisitionFails_throwsSdkClientException() {
+        TokenAcquisitionFailedException failure = new TokenAcquisitionFailedException("circuit breaker is open");
+        when(retryStrategy.acquireInitialToken(any(AcquireInitialTokenRequest.class))).thenThrow(failure);
+
+        assertThatThrownBy(() -> helper.acquireInitialToken()).isInstanceOf(SdkClientException.class)
+                                                              .hasMessage("circuit breaker is open")
+                                                              .hasCause(failure);
+    }
+
+    private RetryableStageHelper2 helperWithRetryStrategy(RetryStrategy retryStrategy) {
+        SdkClientConfiguration clientConfiguration = SdkClientConfiguration.builder()
+                                                                           .option(SdkClientOption.RETRY_STRATEGY, retryStrategy)
+                                                                           .build();
+        HttpClientDependencies dependencies = HttpClientDependencies.builder()
+                                                                    .clientConfiguration(clientConfiguration)
+                                                                    .build();
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .method(SdkHttpMethod.GET)
+                                                       .protocol("https")
+                                                       .host("amazon.com")
+                                                       .build();
+        return new RetryableStageHelper2(request, context, dependencies);
+    }
+
+    private static TimeoutTracker trackerWithRemainingTime(Duration remaining) {
+        TimeoutTracker tracker = mock(TimeoutTracker.class);
+        when(tracker.isEnabled()).thenReturn(true);
+        when(tracker.remainingTime()).thenReturn(Optional.of(remaining));
+        return tracker;
+    }
+}
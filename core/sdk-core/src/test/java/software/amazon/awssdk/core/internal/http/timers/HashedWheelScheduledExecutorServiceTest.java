@@ -0,0 +1,144 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class HashedWheelScheduledExecutorServiceTest {
+    private ScheduledExecutorService delegate;
+    private HashedWheelScheduledExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        delegate = Executors.newScheduledThreadPool(2);
+        executor = new HashedWheelScheduledExecutorService(delegate, TimeUnit.MILLISECONDS.toNanos(1), 8);
+    }
+
+    @AfterEach
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void schedule_runsTaskAfterDelayOnDelegate() throws Exception {
+        AtomicReference<String> threadName = new AtomicReference<>();
+        long start = System.nanoTime();
+        ScheduledFuture<String> future = executor.schedule(() -> {
+            threadName.set(Thread.currentThread().getName());
+            return "done";
+        }, 20, TimeUnit.MILLISECONDS);
+
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+        assertThat(threadName.get()).startsWith("pool-");
+        assertThat(executor.scheduledTasks()).isZero();
+    }
+
+    @Test
+    public void schedule_delayLongerThanWheel_runsAfterSeveralRounds() throws Exception {
+        long start = System.nanoTime();
+        ScheduledFuture<?> future = executor.schedule(() -> { }, 50, TimeUnit.MILLISECONDS);
+
+        future.get(5, TimeUnit.SECONDS);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    public void schedule_tasksRunInDeadlineOrder() throws Exception {
+        List<Integer> order = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        executor.schedule(() -> record(order, 3, done), 30, TimeUnit.MILLISECONDS);
+        executor.schedule(() -> record(order, 1, done), 5, TimeUnit.MILLISECONDS);
+        executor.schedule(() -> record(order, 2, done), 15, TimeUnit.MILLISECONDS);
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void cancel_taskDoesNotRun() throws Exception {
+        AtomicBoolean ran = new AtomicBoolean();
+        ScheduledFuture<?> future = executor.schedule(() -> ran.set(true), 20, TimeUnit.MILLISECONDS);
+
+        assertThat(future.cancel(false)).isTrue();
+        Thread.sleep(100);
+
+        assertThat(ran).isFalse();
+        assertThat(future.isCancelled()).isTrue();
+        assertThat(executor.scheduledTasks()).isZero();
+    }
+
+    @Test
+    public void schedule_afterIdle_runsTask() throws Exception {
+        executor.schedule(() -> { }, 1, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS);
+        Thread.sleep(50);
+
+        assertThat(executor.schedule(() -> "again", 1, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS)).isEqualTo("again");
+    }
+
+    @Test
+    public void getDelay_reflectsRemainingTime() {
+        ScheduledFuture<?> future = executor.schedule(() -> { }, 10, TimeUnit.SECONDS);
+
+        assertThat(future.getDelay(TimeUnit.MILLISECONDS)).isBetween(9_000L, 10_000L);
+        future.cancel(false);
+    }
+
+    @Test
+    public void compareTo_tasksWithSameDelay_areOrderedBySubmissionAndConsistentWithEquals() {
+        ScheduledFuture<?> first = executor.schedule(() -> { }, 1, TimeUnit.HOURS);
+        ScheduledFuture<?> second = executor.schedule(() -> { }, 1, TimeUnit.HOURS);
+
+        assertThat(first.compareTo(second)).isNegative();
+        assertThat(second.compareTo(first)).isPositive();
+        assertThat(first.compareTo(first)).isZero();
+        assertThat(first.equals(second)).isFalse();
+    }
+
+    @Test
+    public void shutdown_rejectsNewTasksAndCancelsScheduledTasks() throws Exception {
+        ScheduledFuture<?> future = executor.schedule(() -> { }, 10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.isCancelled()).isTrue();
+        assertThat(delegate.isShutdown()).isTrue();
+        assertThatThrownBy(() -> executor.schedule(() -> { }, 1, TimeUnit.MILLISECONDS))
+            .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    private static void record(List<Integer> order, int value, CountDownLatch done) {
+        synchronized (order) {
+            order.add(value);
+        }
+        done.countDown();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+
+public class TimerUtilsTest {
+    private ScheduledExecutorService executor;
+    private RequestExecutionContext context;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+        context = RequestExecutionContext.builder()
+                                         .originalRequest(NoopTestRequest.builder().build())
+                                         .executionContext(ExecutionContext.builder()
+                                                                           .executionAttributes(new ExecutionAttributes())
+                                                                           .metricCollector(NoOpMetricCollector.create())
+                                                                           .build())
+                                         .build();
+    }
+
+    @AfterEach
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void remainingTime_timeoutDisabled_isEmpty() {
+        assertThat(TimerUtils.timeSyncTaskIfNeeded(executor, 0, Thread.currentThread()).remainingTime()).isEmpty();
+    }
+
+    @Test
+    public void remainingTime_timeoutEnabled_decreasesUntilCancelled() {
+        TimeoutTracker tracker = TimerUtils.timeSyncTaskIfNeeded(executor, 10_000, Thread.currentThread());
+
+        assertThat(tracker.remainingTime()).hasValueSatisfying(
+            remaining -> assertThat(remaining).isGreaterThan(Duration.ZERO).isLessThanOrEqualTo(Duration.ofSeconds(10)));
+
+        tracker.cancel();
+        assertThat(tracker.remainingTime()).contains(Duration.ZERO);
+    }
+
+    @Test
+    public void capToRemainingApiCallTime_noApiCallTimeout_returnsAttemptTimeout() {
+        context.apiCallTimeoutTracker(NoOpTimeoutTracker.INSTANCE);
+
+        assertThat(TimerUtils.capToRemainingApiCallTime(5_000, context)).isEqualTo(5_000);
+    }
+
+    @Test
+    public void capToRemainingApiCallTime_attemptTimeoutDisabled_staysDisabled() {
+        context.apiCallTimeoutTracker(TimerUtils.timeSyncTaskIfNeeded(executor, 1_000, Thread.currentThread()));
+
+        assertThat(TimerUtils.capToRemainingApiCallTime(0, context)).isZero();
+        context.apiCallTimeoutTracker().cancel();
+    }
+
+    @Test
+    public void capToRemainingApiCallTime_lessTimeRemaining_capsAttemptTimeout() {
+        context.apiCallTimeoutTracker(TimerUtils.timeSyncTaskIfNeeded(executor, 1_000, Thread.currentThread()));
+
+        assertThat(TimerUtils.capToRemainingApiCallTime(5_000, context)).isBetween(1L, 1_000L);
+        assertThat(TimerUtils.capToRemainingApiCallTime(100, context)).isEqualTo(100);
+        context.apiCallTimeoutTracker().cancel();
+    }
+
+    @Test
+    public void capToRemainingApiCallTime_noTimeRemaining_neverDisablesTimer() {
+        context.apiCallTimeoutTracker(TimerUtils.timeSyncTaskIfNeeded(executor, 1_000, Thread.currentThread()));
+        context.apiCallTimeoutTracker().cancel();
+
+        assertThat(TimerUtils.capToRemainingApiCallTime(5_000, context)).isEqualTo(1);
+    }
+}
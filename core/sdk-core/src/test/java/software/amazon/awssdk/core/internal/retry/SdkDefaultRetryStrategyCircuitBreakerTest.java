@@ -0,0 +1,77 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.retries.CircuitBreakerRetryStrategy;
+import software.amazon.awssdk.retries.api.AcquireInitialTokenRequest;
+import software.amazon.awssdk.retries.api.RefreshRetryTokenRequest;
+import software.amazon.awssdk.retries.api.RetryToken;
+import software.amazon.awssdk.retries.api.TokenAcquisitionFailedException;
+
+class SdkDefaultRetryStrategyCircuitBreakerTest {
+    private static final String SCOPE = "GLOBAL";
+
+    private CircuitBreakerRetryStrategy strategy;
+
+    @BeforeEach
+    void setup() {
+        strategy = CircuitBreakerRetryStrategy.builder()
+                                              .delegate(SdkDefaultRetryStrategy.standardRetryStrategy())
+                                              .slidingWindowSize(4)
+                                              .minimumNumberOfCalls(4)
+                                              .build();
+    }
+
+    @Test
+    void clientErrors_doNotOpenCircuit() {
+        failAttempts(400);
+
+        assertThat(acquire()).isNotNull();
+    }
+
+    @Test
+    void serverErrors_openCircuit() {
+        failAttempts(503);
+
+        assertThatThrownBy(this::acquire).isInstanceOf(TokenAcquisitionFailedException.class)
+                                         .hasMessageContaining("circuit breaker");
+    }
+
+    private void failAttempts(int statusCode) {
+        for (int i = 0; i < 4; i++) {
+            RefreshRetryTokenRequest request =
+                RefreshRetryTokenRequest.builder()
+                                        .token(acquire())
+                                        .failure(SdkServiceException.builder().statusCode(statusCode).build())
+                                        .build();
+            try {
+                strategy.refreshRetryToken(request);
+            } catch (TokenAcquisitionFailedException e) {
+                // Client errors are not retried, and the last server error opens the circuit.
+            }
+        }
+    }
+
+    private RetryToken acquire() {
+        return strategy.acquireInitialToken(AcquireInitialTokenRequest.create(SCOPE)).token();
+    }
+}
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.core.internal.util;
 
 import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -139,6 +140,18 @@ public class MetricUtilsTest {
         }
     }
 
+    @Test
+    public void reportDuration_completedFuture_reportsDurationImmediately() {
+        MetricCollector mockCollector = mock(MetricCollector.class);
+        SdkMetric<Duration> mockMetric = mock(SdkMetric.class);
+
+        CompletableFuture<String> future = CompletableFuture.completedFuture("foo");
+        CompletableFuture<String> result = MetricUtils.reportDuration(() -> future, mockCollector, mockMetric);
+
+        assertThat(result).isSameAs(future);
+        verify(mockCollector).reportMetric(eq(mockMetric), any(Duration.class));
+    }
+
     @Test
     public void reportDuration_completableFuture_returnsCallableReturnValue() {
         MetricCollector mockCollector = mock(MetricCollector.class);
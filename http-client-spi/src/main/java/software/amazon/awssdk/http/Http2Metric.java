@@ -42,6 +42,13 @@ public final class Http2Metric {
     public static final SdkMetric<Integer> REMOTE_STREAM_WINDOW_SIZE_IN_BYTES =
         metric("RemoteStreamWindowSize", Integer.class, MetricLevel.TRACE);
 
+    /**
+     * The number of active streams on the HTTP/2 connection that this request was executed on, including the stream of this
+     * request, at the time the request was sent.
+     */
+    public static final SdkMetric<Integer> CONNECTION_ACTIVE_STREAMS =
+        metric("ConnectionActiveStreams", Integer.class, MetricLevel.TRACE);
+
     private Http2Metric() {
     }
 
@@ -121,6 +121,49 @@ public final class HttpMetric {
     public static final SdkMetric<Duration> CONCURRENCY_ACQUIRE_DURATION =
         metric("ConcurrencyAcquireDuration", Duration.class, MetricLevel.INFO);
 
+    /**
+     * Whether the TLS handshake of a new connection resumed a previously cached TLS session, rather than performing a full
+     * handshake.
+     *
+     * <p>This is only reported for the request that caused a new TLS connection to be established. Requests that reuse an
+     * existing connection do not perform a handshake, and do not report this metric.
+     */
+    public static final SdkMetric<Boolean> TLS_SESSION_RESUMED =
+        metric("TlsSessionResumed", Boolean.class, MetricLevel.INFO);
+
+    /**
+     * The time taken to establish a new connection, including the TCP connect and, for HTTPS, the TLS handshake.
+     *
+     * <p>This is only reported for the request that caused a new connection to be established. Requests that reuse an
+     * existing connection do not report this metric.
+     */
+    public static final SdkMetric<Duration> CONNECTION_ESTABLISHMENT_DURATION =
+        metric("ConnectionEstablishmentDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The time taken by the TLS handshake of a new connection. This is part of the
+     * {@link #CONNECTION_ESTABLISHMENT_DURATION}.
+     *
+     * <p>This is only reported for the request that caused a new TLS connection to be established. Requests that reuse an
+     * existing connection do not perform a handshake, and do not report this metric.
+     */
+    public static final SdkMetric<Duration> TLS_HANDSHAKE_DURATION =
+        metric("TlsHandshakeDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The time elapsed between the creation of the connection used by a request and the moment it was used by the request.
+     */
+    public static final SdkMetric<Duration> CONNECTION_AGE =
+        metric("ConnectionAge", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The number of requests that have been executed on the connection used by a request, including this request.
+     *
+     * <p>For HTTP/2 connections, this is the number of streams that have been opened on the connection.
+     */
+    public static final SdkMetric<Integer> CONNECTION_REQUEST_COUNT =
+        metric("ConnectionRequestCount", Integer.class, MetricLevel.INFO);
+
     private HttpMetric() {
     }
 
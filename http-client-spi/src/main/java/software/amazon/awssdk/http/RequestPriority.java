@@ -0,0 +1,47 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * The priority with which an HTTP client should hand out connections (or HTTP/2 streams) to a request when the client's
+ * maximum concurrency has been reached and requests are waiting for a connection.
+ *
+ * <p>HTTP clients that support request priorities serve waiting requests with a higher priority first, but still
+ * periodically serve the longest-waiting request regardless of its priority so that lower-priority requests are not starved.
+ * HTTP clients that do not support request priorities ignore it.
+ *
+ * @see SdkHttpRequestExecutionAttribute#REQUEST_PRIORITY
+ */
+@SdkPublicApi
+public enum RequestPriority {
+    /**
+     * Latency-sensitive requests, such as interactive traffic, that should be served before other waiting requests.
+     */
+    HIGH,
+
+    /**
+     * The priority of requests that do not have a priority configured.
+     */
+    NORMAL,
+
+    /**
+     * Throughput-oriented requests, such as batch or backfill traffic, that should only be served when no higher-priority
+     * request is waiting.
+     */
+    LOW
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * {@link SdkHttpExecutionAttribute}s that are not specific to a particular HTTP client implementation. HTTP clients that do
+ * not support an attribute ignore it.
+ *
+ * @param <T> The type of data associated with the attribute.
+ */
+@SdkPublicApi
+public final class SdkHttpRequestExecutionAttribute<T> extends SdkHttpExecutionAttribute<T> {
+
+    /**
+     * The priority with which the HTTP client should hand out a connection to this request when the client's maximum
+     * concurrency has been reached. When not set, the request is treated as {@link RequestPriority#NORMAL}.
+     */
+    public static final SdkHttpRequestExecutionAttribute<RequestPriority> REQUEST_PRIORITY =
+        new SdkHttpRequestExecutionAttribute<>(RequestPriority.class);
+
+    private SdkHttpRequestExecutionAttribute(Class<T> valueType) {
+        super(valueType);
+    }
+}
@@ -59,6 +59,7 @@ import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.conn.DefaultSchemePortResolver;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.ConnPoolControl;
 import org.apache.http.pool.PoolStats;
 import org.apache.http.protocol.HttpRequestExecutor;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -81,6 +82,7 @@ import software.amazon.awssdk.http.apache.internal.conn.ClientConnectionManagerF
 import software.amazon.awssdk.http.apache.internal.conn.IdleConnectionReaper;
 import software.amazon.awssdk.http.apache.internal.conn.SdkConnectionKeepAliveStrategy;
 import software.amazon.awssdk.http.apache.internal.conn.SdkTlsSocketFactory;
+import software.amazon.awssdk.http.apache.internal.conn.StripedHttpClientConnectionManager;
 import software.amazon.awssdk.http.apache.internal.impl.ApacheHttpRequestFactory;
 import software.amazon.awssdk.http.apache.internal.impl.ApacheSdkHttpClient;
 import software.amazon.awssdk.http.apache.internal.impl.ConnectionManagerAwareHttpClient;
@@ -311,9 +313,8 @@ public final class ApacheHttpClient implements SdkHttpClient {
 
     private void collectPoolMetric(MetricCollector metricCollector) {
         HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
-        if (cm instanceof PoolingHttpClientConnectionManager && !(metricCollector instanceof NoOpMetricCollector)) {
-            PoolingHttpClientConnectionManager poolingCm = (PoolingHttpClientConnectionManager) cm;
-            PoolStats totalStats = poolingCm.getTotalStats();
+        if (cm instanceof ConnPoolControl && !(metricCollector instanceof NoOpMetricCollector)) {
+            PoolStats totalStats = ((ConnPoolControl<?>) cm).getTotalStats();
             metricCollector.reportMetric(MAX_CONCURRENCY, totalStats.getMax());
             metricCollector.reportMetric(AVAILABLE_CONCURRENCY, totalStats.getAvailable());
             metricCollector.reportMetric(LEASED_CONCURRENCY, totalStats.getLeased());
@@ -451,6 +452,38 @@ public final class ApacheHttpClient implements SdkHttpClient {
          * when constructing the SSL context.
          */
         Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * Configure the maximum number of TLS sessions cached by this client. New connections to a host for which a session
+         * is cached resume that session with an abbreviated handshake, instead of performing a full TLS handshake, which
+         * reduces the latency and CPU cost of reconnecting.
+         * <p>
+         * By default, the JDK's default for the SSL context is used. This is ignored if a custom {@link #socketFactory} is
+         * configured.
+         */
+        Builder tlsSessionCacheSize(Integer tlsSessionCacheSize);
+
+        /**
+         * Configure the amount of time after which a cached TLS session can no longer be resumed by new connections.
+         * <p>
+         * By default, the JDK's default for the SSL context is used. This is ignored if a custom {@link #socketFactory} is
+         * configured.
+         */
+        Builder tlsSessionTimeout(Duration tlsSessionTimeout);
+
+        /**
+         * Configure the number of independent sub-pools that the connection pool is split into. Each sub-pool is guarded by
+         * its own lock, which reduces lock contention when many threads use the client concurrently. The
+         * {@link #maxConnections(Integer)} are split between the sub-pools, and each request uses a connection from the less
+         * loaded of the sub-pool of its thread and the next sub-pool in round-robin order.
+         * <p>
+         * Because connections are not shared between sub-pools, a request may wait for a connection from its sub-pool while
+         * another sub-pool has idle connections. Striping is therefore only recommended for clients used by many threads
+         * concurrently. The number of sub-pools is capped to the maximum number of connections.
+         * <p>
+         * By default, the connection pool is not split.
+         */
+        Builder connectionPoolStripes(Integer connectionPoolStripes);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -462,6 +495,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
         private CredentialsProvider credentialsProvider;
         private DnsResolver dnsResolver;
         private ConnectionSocketFactory socketFactory;
+        private Integer connectionPoolStripes;
 
         private DefaultBuilder() {
         }
@@ -642,6 +676,39 @@ public final class ApacheHttpClient implements SdkHttpClient {
             tlsTrustManagersProvider(tlsTrustManagersProvider);
         }
 
+        @Override
+        public Builder tlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            Validate.isPositiveOrNull(tlsSessionCacheSize, "tlsSessionCacheSize");
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE, tlsSessionCacheSize);
+            return this;
+        }
+
+        public void setTlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            tlsSessionCacheSize(tlsSessionCacheSize);
+        }
+
+        @Override
+        public Builder tlsSessionTimeout(Duration tlsSessionTimeout) {
+            Validate.isPositiveOrNull(tlsSessionTimeout, "tlsSessionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT, tlsSessionTimeout);
+            return this;
+        }
+
+        public void setTlsSessionTimeout(Duration tlsSessionTimeout) {
+            tlsSessionTimeout(tlsSessionTimeout);
+        }
+
+        @Override
+        public Builder connectionPoolStripes(Integer connectionPoolStripes) {
+            Validate.isPositiveOrNull(connectionPoolStripes, "connectionPoolStripes");
+            this.connectionPoolStripes = connectionPoolStripes;
+            return this;
+        }
+
+        public void setConnectionPoolStripes(Integer connectionPoolStripes) {
+            connectionPoolStripes(connectionPoolStripes);
+        }
+
         @Override
         public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             AttributeMap resolvedOptions = standardOptions.build().merge(serviceDefaults).merge(
@@ -655,7 +722,21 @@ public final class ApacheHttpClient implements SdkHttpClient {
         public HttpClientConnectionManager create(ApacheHttpClient.DefaultBuilder configuration,
                                                   AttributeMap standardOptions) {
             ConnectionSocketFactory sslsf = getPreferredSocketFactory(configuration, standardOptions);
+            int maxConnections = standardOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS);
+
+            if (configuration.connectionPoolStripes != null && configuration.connectionPoolStripes > 1) {
+                return new StripedHttpClientConnectionManager(configuration.connectionPoolStripes, maxConnections,
+                                                              () -> createPool(configuration, standardOptions, sslsf,
+                                                                               maxConnections));
+            }
+
+            return createPool(configuration, standardOptions, sslsf, maxConnections);
+        }
 
+        private PoolingHttpClientConnectionManager createPool(ApacheHttpClient.DefaultBuilder configuration,
+                                                              AttributeMap standardOptions,
+                                                              ConnectionSocketFactory sslsf,
+                                                              int maxConnections) {
             PoolingHttpClientConnectionManager cm = new
                     PoolingHttpClientConnectionManager(
                     createSocketFactoryRegistry(sslsf),
@@ -665,8 +746,8 @@ public final class ApacheHttpClient implements SdkHttpClient {
                     standardOptions.get(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE).toMillis(),
                     TimeUnit.MILLISECONDS);
 
-            cm.setDefaultMaxPerRoute(standardOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS));
-            cm.setMaxTotal(standardOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS));
+            cm.setDefaultMaxPerRoute(maxConnections);
+            cm.setMaxTotal(maxConnections);
             cm.setDefaultSocketConfig(buildSocketConfig(standardOptions));
 
             return cm;
@@ -708,12 +789,25 @@ public final class ApacheHttpClient implements SdkHttpClient {
                 SSLContext sslcontext = SSLContext.getInstance("TLS");
                 // http://download.java.net/jdk9/docs/technotes/guides/security/jsse/JSSERefGuide.html
                 sslcontext.init(keyManagers, trustManagers, null);
+                configureSessionCache(sslcontext, standardOptions);
                 return sslcontext;
             } catch (final NoSuchAlgorithmException | KeyManagementException ex) {
                 throw new SSLInitializationException(ex.getMessage(), ex);
             }
         }
 
+        private void configureSessionCache(SSLContext sslcontext, AttributeMap standardOptions) {
+            Integer sessionCacheSize = standardOptions.get(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE);
+            if (sessionCacheSize != null) {
+                sslcontext.getClientSessionContext().setSessionCacheSize(sessionCacheSize);
+            }
+
+            Duration sessionTimeout = standardOptions.get(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT);
+            if (sessionTimeout != null) {
+                sslcontext.getClientSessionContext().setSessionTimeout(saturatedCast(sessionTimeout.getSeconds()));
+            }
+        }
+
         /**
          * Insecure trust manager to trust all certs. Should only be used for testing.
          */
@@ -15,7 +15,10 @@
 
 package software.amazon.awssdk.http.apache.internal.conn;
 
+import static software.amazon.awssdk.http.apache.internal.conn.ClientConnectionRequestFactory.THREAD_LOCAL_REQUEST_METRIC_COLLECTOR;
+
 import java.io.IOException;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 import org.apache.http.HttpClientConnection;
 import org.apache.http.conn.ConnectionRequest;
@@ -23,6 +26,8 @@ import org.apache.http.conn.HttpClientConnectionManager;
 import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.protocol.HttpContext;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
 
 @SdkInternalApi
 public final class ClientConnectionManagerFactory {
@@ -57,6 +62,22 @@ public final class ClientConnectionManagerFactory {
             ConnectionRequest connectionRequest = super.requestConnection(route, state);
             return ClientConnectionRequestFactory.wrap(connectionRequest);
         }
+
+        /**
+         * Measures the time taken to establish a new connection. For HTTPS connections that are not tunneled through a
+         * proxy, this includes the TLS handshake.
+         */
+        @Override
+        public void connect(HttpClientConnection conn, HttpRoute route, int connectTimeout, HttpContext context)
+                throws IOException {
+            long startNanos = System.nanoTime();
+            super.connect(conn, route, connectTimeout, context);
+            MetricCollector metricCollector = THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.get();
+            if (metricCollector != null) {
+                metricCollector.reportMetric(HttpMetric.CONNECTION_ESTABLISHMENT_DURATION,
+                                             Duration.ofNanos(System.nanoTime() - startNanos));
+            }
+        }
     }
 
     /**
@@ -23,6 +23,7 @@ import java.util.concurrent.TimeUnit;
 import org.apache.http.HttpClientConnection;
 import org.apache.http.conn.ConnectionPoolTimeoutException;
 import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.protocol.HttpContext;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.apache.ApacheHttpClient;
@@ -36,6 +37,12 @@ public final class ClientConnectionRequestFactory {
      */
     public static final ThreadLocal<MetricCollector> THREAD_LOCAL_REQUEST_METRIC_COLLECTOR = new ThreadLocal<>();
 
+    /**
+     * The {@link HttpContext} attribute of a connection in which the {@link System#nanoTime()} at which it was first leased
+     * from the pool is stored.
+     */
+    private static final String CONNECTION_CREATION_NANOS = "aws.sdk.apache.connectionCreationNanos";
+
     private ClientConnectionRequestFactory() {
     }
 
@@ -53,7 +60,8 @@ public final class ClientConnectionRequestFactory {
     }
 
     /**
-     * Measures the latency of {@link ConnectionRequest#get(long, java.util.concurrent.TimeUnit)}.
+     * Measures the latency of {@link ConnectionRequest#get(long, java.util.concurrent.TimeUnit)}, and reports the age and
+     * request count of the leased connection.
      */
     private static class InstrumentedConnectionRequest extends DelegatingConnectionRequest {
 
@@ -65,14 +73,41 @@ public final class ClientConnectionRequestFactory {
         public HttpClientConnection get(long timeout, TimeUnit timeUnit) throws InterruptedException, ExecutionException,
                                                                                 ConnectionPoolTimeoutException {
             Instant startTime = Instant.now();
+            MetricCollector metricCollector = THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.get();
             try {
-                return super.get(timeout, timeUnit);
+                HttpClientConnection connection = super.get(timeout, timeUnit);
+                reportConnectionMetrics(connection, metricCollector);
+                return connection;
             } finally {
                 Duration elapsed = Duration.between(startTime, Instant.now());
-                MetricCollector metricCollector = THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.get();
                 metricCollector.reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION, elapsed);
             }
         }
+
+        /**
+         * A connection that is not open yet was just created by the pool, and will be connected by the caller. Its creation
+         * time is stored on the connection itself, so that it is available when the connection is reused.
+         */
+        private static void reportConnectionMetrics(HttpClientConnection connection, MetricCollector metricCollector) {
+            if (!(connection instanceof HttpContext)) {
+                return;
+            }
+
+            HttpContext connectionContext = (HttpContext) connection;
+            long nowNanos = System.nanoTime();
+            if (!connection.isOpen()) {
+                connectionContext.setAttribute(CONNECTION_CREATION_NANOS, nowNanos);
+            }
+
+            Object creationNanos = connectionContext.getAttribute(CONNECTION_CREATION_NANOS);
+            if (creationNanos instanceof Long) {
+                metricCollector.reportMetric(HttpMetric.CONNECTION_AGE, Duration.ofNanos(nowNanos - (Long) creationNanos));
+            }
+
+            // The request count is incremented when the request headers are sent, so it does not include this request yet.
+            long requestCount = connection.getMetrics().getRequestCount() + 1;
+            metricCollector.reportMetric(HttpMetric.CONNECTION_REQUEST_COUNT, (int) Math.min(requestCount, Integer.MAX_VALUE));
+        }
     }
 
     /**
@@ -15,10 +15,17 @@
 
 package software.amazon.awssdk.http.apache.internal.conn;
 
+import static software.amazon.awssdk.http.apache.internal.conn.ClientConnectionRequestFactory.THREAD_LOCAL_REQUEST_METRIC_COLLECTOR;
+
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSocket;
@@ -26,9 +33,11 @@ import org.apache.http.HttpHost;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.protocol.HttpContext;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.apache.internal.net.InputShutdownCheckingSslSocket;
 import software.amazon.awssdk.http.apache.internal.net.SdkSocket;
 import software.amazon.awssdk.http.apache.internal.net.SdkSslSocket;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.Logger;
 
 @SdkInternalApi
@@ -36,12 +45,15 @@ public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
 
     private static final Logger log = Logger.loggerFor(SdkTlsSocketFactory.class);
 
+    private final SSLContext sslContext;
+
     public SdkTlsSocketFactory(SSLContext sslContext, HostnameVerifier hostnameVerifier) {
         super(sslContext, hostnameVerifier);
         if (sslContext == null) {
             throw new IllegalArgumentException(
                     "sslContext must not be null. " + "Use SSLContext.getDefault() if you are unsure.");
         }
+        this.sslContext = sslContext;
     }
 
     @Override
@@ -60,13 +72,58 @@ public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
             HttpContext context) throws IOException {
         log.trace(() -> String.format("Connecting to %s:%s", remoteAddress.getAddress(), remoteAddress.getPort()));
 
+        MetricCollector metricCollector = THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.get();
+        Set<ByteBuffer> cachedSessionIds = metricCollector == null ? null : cachedSessionIds();
         Socket connectedSocket = super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
 
         if (connectedSocket instanceof SSLSocket) {
-            return new InputShutdownCheckingSslSocket(new SdkSslSocket((SSLSocket) connectedSocket));
+            SSLSocket sslSocket = (SSLSocket) connectedSocket;
+            if (metricCollector != null) {
+                reportTlsSessionMetrics(metricCollector, sslSocket, cachedSessionIds);
+            }
+            return new InputShutdownCheckingSslSocket(new SdkSslSocket(sslSocket));
         }
 
         return new SdkSocket(connectedSocket);
     }
 
+    /**
+     * Layers TLS over a connected plain socket. This performs the TLS handshake, which is timed.
+     */
+    @Override
+    public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context) throws IOException {
+        long handshakeStartNanos = System.nanoTime();
+        Socket layeredSocket = super.createLayeredSocket(socket, target, port, context);
+        MetricCollector metricCollector = THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.get();
+        if (metricCollector != null) {
+            metricCollector.reportMetric(HttpMetric.TLS_HANDSHAKE_DURATION,
+                                         Duration.ofNanos(System.nanoTime() - handshakeStartNanos));
+        }
+        return layeredSocket;
+    }
+
+    private Set<ByteBuffer> cachedSessionIds() {
+        Set<ByteBuffer> sessionIds = new HashSet<>();
+        Enumeration<byte[]> ids = sslContext.getClientSessionContext().getIds();
+        while (ids.hasMoreElements()) {
+            sessionIds.add(ByteBuffer.wrap(ids.nextElement()));
+        }
+        return sessionIds;
+    }
+
+    /**
+     * The handshake has completed by the time the socket is connected. The session was resumed if its id was in the client
+     * session cache before the connection attempt started: a resumed TLS 1.2 session keeps its id, and a TLS 1.3 session
+     * resumed from a ticket takes the id the ticket was cached under. A full handshake negotiates a session with a new id.
+     */
+    private void reportTlsSessionMetrics(MetricCollector metricCollector,
+                                         SSLSocket sslSocket,
+                                         Set<ByteBuffer> cachedSessionIds) {
+        byte[] sessionId = sslSocket.getSession().getId();
+        boolean resumed = sessionId != null
+                          && sessionId.length > 0
+                          && cachedSessionIds.contains(ByteBuffer.wrap(sessionId));
+        metricCollector.reportMetric(HttpMetric.TLS_SESSION_RESUMED, resumed);
+    }
+
 }
@@ -0,0 +1,251 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link HttpClientConnectionManager} that shards its connections across several independent
+ * {@link PoolingHttpClientConnectionManager}s, each guarded by its own lock, to reduce lock contention when many threads
+ * lease and release connections concurrently.
+ *
+ * <p>The maximum total and per-route connections are split between the stripes, so that the stripes together never hold
+ * more connections than configured. Each connection request is served by the less loaded of two stripes: the stripe of the
+ * calling thread, and another stripe in round-robin order. A leased connection is always released to the stripe it was
+ * leased from.
+ */
+@SdkInternalApi
+public final class StripedHttpClientConnectionManager implements HttpClientConnectionManager, ConnPoolControl<HttpRoute> {
+
+    private final List<Stripe> stripes;
+    private final Map<HttpClientConnection, Stripe> leasedConnections = new ConcurrentHashMap<>();
+    private final AtomicInteger nextStripe = new AtomicInteger();
+
+    /**
+     * Create a connection manager with the given number of stripes, each created by the given supplier. The number of
+     * stripes is capped to the maximum number of connections, so that each stripe can hold at least one connection.
+     */
+    public StripedHttpClientConnectionManager(int stripeCount,
+                                              int maxConnections,
+                                              Supplier<PoolingHttpClientConnectionManager> stripeSupplier) {
+        Validate.isPositive(stripeCount, "stripeCount");
+        Validate.isPositive(maxConnections, "maxConnections");
+        int effectiveStripeCount = Math.min(stripeCount, maxConnections);
+
+        List<Stripe> stripeList = new ArrayList<>(effectiveStripeCount);
+        for (int i = 0; i < effectiveStripeCount; i++) {
+            stripeList.add(new Stripe(stripeSupplier.get()));
+        }
+        this.stripes = Collections.unmodifiableList(stripeList);
+
+        setMaxTotal(maxConnections);
+        setDefaultMaxPerRoute(maxConnections);
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+        Stripe stripe = selectStripe();
+        ConnectionRequest delegate = stripe.manager.requestConnection(route, state);
+        return new ConnectionRequest() {
+            @Override
+            public HttpClientConnection get(long timeout, TimeUnit timeUnit)
+                    throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                HttpClientConnection connection = delegate.get(timeout, timeUnit);
+                leasedConnections.put(connection, stripe);
+                stripe.leased.incrementAndGet();
+                return connection;
+            }
+
+            @Override
+            public boolean cancel() {
+                return delegate.cancel();
+            }
+        };
+    }
+
+    @Override
+    public void releaseConnection(HttpClientConnection conn, Object newState, long validDuration, TimeUnit timeUnit) {
+        Stripe stripe = leasedConnections.remove(conn);
+        if (stripe == null) {
+            throw new IllegalStateException("Connection not obtained from this manager");
+        }
+        stripe.leased.decrementAndGet();
+        stripe.manager.releaseConnection(conn, newState, validDuration, timeUnit);
+    }
+
+    @Override
+    public void connect(HttpClientConnection conn, HttpRoute route, int connectTimeout, HttpContext context)
+            throws IOException {
+        owner(conn).connect(conn, route, connectTimeout, context);
+    }
+
+    @Override
+    public void upgrade(HttpClientConnection conn, HttpRoute route, HttpContext context) throws IOException {
+        owner(conn).upgrade(conn, route, context);
+    }
+
+    @Override
+    public void routeComplete(HttpClientConnection conn, HttpRoute route, HttpContext context) throws IOException {
+        owner(conn).routeComplete(conn, route, context);
+    }
+
+    @Override
+    public void closeIdleConnections(long idletime, TimeUnit timeUnit) {
+        stripes.forEach(s -> s.manager.closeIdleConnections(idletime, timeUnit));
+    }
+
+    @Override
+    public void closeExpiredConnections() {
+        stripes.forEach(s -> s.manager.closeExpiredConnections());
+    }
+
+    @Override
+    public void shutdown() {
+        stripes.forEach(s -> s.manager.shutdown());
+    }
+
+    @Override
+    public void setMaxTotal(int max) {
+        for (int i = 0; i < stripes.size(); i++) {
+            stripes.get(i).manager.setMaxTotal(share(max, i));
+        }
+    }
+
+    @Override
+    public int getMaxTotal() {
+        return stripes.stream().mapToInt(s -> s.manager.getMaxTotal()).sum();
+    }
+
+    @Override
+    public void setDefaultMaxPerRoute(int max) {
+        for (int i = 0; i < stripes.size(); i++) {
+            stripes.get(i).manager.setDefaultMaxPerRoute(share(max, i));
+        }
+    }
+
+    @Override
+    public int getDefaultMaxPerRoute() {
+        return stripes.stream().mapToInt(s -> s.manager.getDefaultMaxPerRoute()).sum();
+    }
+
+    @Override
+    public void setMaxPerRoute(HttpRoute route, int max) {
+        for (int i = 0; i < stripes.size(); i++) {
+            stripes.get(i).manager.setMaxPerRoute(route, share(max, i));
+        }
+    }
+
+    @Override
+    public int getMaxPerRoute(HttpRoute route) {
+        return stripes.stream().mapToInt(s -> s.manager.getMaxPerRoute(route)).sum();
+    }
+
+    @Override
+    public PoolStats getTotalStats() {
+        return sum(stripes.stream().map(s -> s.manager.getTotalStats()).collect(Collectors.toList()));
+    }
+
+    @Override
+    public PoolStats getStats(HttpRoute route) {
+        return sum(stripes.stream().map(s -> s.manager.getStats(route)).collect(Collectors.toList()));
+    }
+
+    @SdkTestInternalApi
+    int stripeCount() {
+        return stripes.size();
+    }
+
+    @SdkTestInternalApi
+    PoolingHttpClientConnectionManager stripe(int index) {
+        return stripes.get(index).manager;
+    }
+
+    private Stripe selectStripe() {
+        int stripeCount = stripes.size();
+        int threadIndex = (int) (Thread.currentThread().getId() % stripeCount);
+        Stripe threadStripe = stripes.get(threadIndex);
+        if (stripeCount == 1) {
+            return threadStripe;
+        }
+
+        // The round-robin stripe is chosen among the other stripes, so that two different stripes are always compared.
+        int offset = 1 + Math.floorMod(nextStripe.getAndIncrement(), stripeCount - 1);
+        Stripe roundRobinStripe = stripes.get((threadIndex + offset) % stripeCount);
+        return roundRobinStripe.leased.get() < threadStripe.leased.get() ? roundRobinStripe : threadStripe;
+    }
+
+    private HttpClientConnectionManager owner(HttpClientConnection conn) {
+        Stripe stripe = leasedConnections.get(conn);
+        if (stripe == null) {
+            throw new IllegalStateException("Connection not obtained from this manager");
+        }
+        return stripe.manager;
+    }
+
+    /**
+     * The share of {@code max} for the stripe at the given index. The remainder is given to the first stripes. Each stripe
+     * gets at least one, because the underlying pools do not accept a maximum of zero.
+     */
+    private int share(int max, int index) {
+        int stripeCount = stripes.size();
+        return Math.max(1, max / stripeCount + (index < max % stripeCount ? 1 : 0));
+    }
+
+    private static PoolStats sum(List<PoolStats> stats) {
+        int leased = 0;
+        int pending = 0;
+        int available = 0;
+        int max = 0;
+        for (PoolStats s : stats) {
+            leased += s.getLeased();
+            pending += s.getPending();
+            available += s.getAvailable();
+            max += s.getMax();
+        }
+        return new PoolStats(leased, pending, available, max);
+    }
+
+    private static final class Stripe {
+        private final PoolingHttpClientConnectionManager manager;
+        private final AtomicInteger leased = new AtomicInteger();
+
+        private Stripe(PoolingHttpClientConnectionManager manager) {
+            this.manager = manager;
+        }
+    }
+}
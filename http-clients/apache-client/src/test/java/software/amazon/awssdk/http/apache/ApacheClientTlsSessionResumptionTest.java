@@ -0,0 +1,124 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.http.HttpMetric.TLS_SESSION_RESUMED;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLServerSocket;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.http.FileStoreTlsKeyManagersProvider;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class ApacheClientTlsSessionResumptionTest extends ClientTlsAuthTestBase {
+    private SSLServerSocket serverSocket;
+    private Thread serverThread;
+    private SdkHttpClient client;
+
+    @AfterEach
+    public void methodTeardown() throws Exception {
+        if (client != null) {
+            client.close();
+        }
+        if (serverSocket != null) {
+            serverSocket.close();
+            serverThread.join(5_000);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"TLSv1.2", "TLSv1.3"})
+    public void tlsSessionResumed_newConnectionsToSameHost_secondConnectionResumesSession(String tlsProtocol) throws Exception {
+        startServer(tlsProtocol);
+        client = ApacheHttpClient.builder()
+                                 .buildWithDefaults(AttributeMap.builder().put(TRUST_ALL_CERTIFICATES, true).build());
+
+        List<Boolean> resumed = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            MetricCollector collector = MetricCollector.create("test");
+            HttpExecuteResponse response = client.prepareRequest(HttpExecuteRequest.builder()
+                                                                                   .request(request())
+                                                                                   .metricCollector(collector)
+                                                                                   .build())
+                                                 .call();
+            response.responseBody().ifPresent(body -> IoUtils.closeQuietly(body, null));
+            resumed.addAll(collector.collect().metricValues(TLS_SESSION_RESUMED));
+        }
+
+        assertThat(resumed).containsExactly(false, true, true);
+    }
+
+    private SdkHttpFullRequest request() {
+        return SdkHttpFullRequest.builder()
+                                 .method(SdkHttpMethod.GET)
+                                 .protocol("https")
+                                 .host("localhost")
+                                 .port(serverSocket.getLocalPort())
+                                 .build();
+    }
+
+    /**
+     * Start a server that only accepts the given TLS protocol version, and answers each request on a new connection.
+     */
+    private void startServer(String tlsProtocol) throws Exception {
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(FileStoreTlsKeyManagersProvider.create(serverKeyStore, "jks", STORE_PASSWORD).keyManagers(), null, null);
+        serverSocket = (SSLServerSocket) sslContext.getServerSocketFactory().createServerSocket(0);
+        serverSocket.setEnabledProtocols(new String[] {tlsProtocol});
+        serverThread = new Thread(() -> {
+            while (!serverSocket.isClosed()) {
+                try (Socket socket = serverSocket.accept()) {
+                    respond(socket);
+                } catch (IOException e) {
+                    // The server socket was closed, or the client went away
+                }
+            }
+        });
+        serverThread.setDaemon(true);
+        serverThread.start();
+    }
+
+    private static void respond(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line;
+        do {
+            line = reader.readLine();
+        } while (line != null && !line.isEmpty());
+
+        OutputStream out = socket.getOutputStream();
+        out.write("HTTP/1.1 200 OK\r\nContent-Length: 2\r\nConnection: close\r\n\r\n{}".getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+}
@@ -18,8 +18,17 @@ package software.amazon.awssdk.http.apache;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.any;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.assertj.core.api.Assertions.assertThat;
 import static software.amazon.awssdk.http.HttpMetric.CONCURRENCY_ACQUIRE_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.CONNECTION_AGE;
+import static software.amazon.awssdk.http.HttpMetric.CONNECTION_ESTABLISHMENT_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.CONNECTION_REQUEST_COUNT;
+import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.MAX_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.TLS_HANDSHAKE_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.TLS_SESSION_RESUMED;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
 import java.io.IOException;
@@ -38,6 +47,7 @@ import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
 
 
 public class ApacheMetricsTest {
@@ -49,7 +59,7 @@ public class ApacheMetricsTest {
 
     @BeforeClass
     public static void setUp() throws IOException {
-        wireMockServer = new WireMockServer();
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort().dynamicHttpsPort());
         wireMockServer.start();
     }
 
@@ -82,11 +92,107 @@ public class ApacheMetricsTest {
         assertThat(collection.metricValues(CONCURRENCY_ACQUIRE_DURATION)).isNotEmpty();
     }
 
+    @Test
+    public void poolMetrics_stripedConnectionPool_reportTotalsOfAllStripes() throws IOException {
+        client = ApacheHttpClient.builder()
+                                 .maxConnections(10)
+                                 .connectionPoolStripes(4)
+                                 .build();
+        MetricCollector collector = MetricCollector.create("test");
+        makeRequestWithMetrics(client, collector).responseBody().ifPresent(this::closeQuietly);
+
+        MetricCollection collection = collector.collect();
+        assertThat(collection.metricValues(MAX_CONCURRENCY)).containsExactly(10);
+        assertThat(collection.metricValues(LEASED_CONCURRENCY)).containsExactly(1);
+        assertThat(collection.metricValues(CONCURRENCY_ACQUIRE_DURATION)).isNotEmpty();
+    }
+
+    @Test
+    public void tlsSessionResumed_isRecordedForNewConnections() throws IOException {
+        client = ApacheHttpClient.builder()
+                                 .tlsSessionCacheSize(10)
+                                 .buildWithDefaults(AttributeMap.builder().put(TRUST_ALL_CERTIFICATES, true).build());
+        wireMockServer.stubFor(any(urlMatching(".*")).willReturn(aResponse().withStatus(200)
+                                                                            .withHeader("Connection", "close")
+                                                                            .withBody("{}")));
+
+        MetricCollector firstCollector = MetricCollector.create("test");
+        makeHttpsRequestWithMetrics(client, firstCollector).responseBody().ifPresent(this::closeQuietly);
+        assertThat(firstCollector.collect().metricValues(TLS_SESSION_RESUMED)).containsExactly(false);
+
+        MetricCollector secondCollector = MetricCollector.create("test");
+        makeHttpsRequestWithMetrics(client, secondCollector).responseBody().ifPresent(this::closeQuietly);
+        assertThat(secondCollector.collect().metricValues(TLS_SESSION_RESUMED)).containsExactly(true);
+    }
+
+    @Test
+    public void tlsSessionResumed_isNotRecordedForPlainTextConnections() throws IOException {
+        client = ApacheHttpClient.create();
+        MetricCollector collector = MetricCollector.create("test");
+        makeRequestWithMetrics(client, collector);
+
+        assertThat(collector.collect().metricValues(TLS_SESSION_RESUMED)).isEmpty();
+    }
+
+    @Test
+    public void connectionLifecycleMetrics_areRecordedForNewAndReusedConnections() throws IOException {
+        client = ApacheHttpClient.builder()
+                                 .buildWithDefaults(AttributeMap.builder().put(TRUST_ALL_CERTIFICATES, true).build());
+        wireMockServer.stubFor(any(urlMatching(".*")).willReturn(aResponse().withStatus(200).withBody("{}")));
+
+        MetricCollector firstCollector = MetricCollector.create("test");
+        makeHttpsRequestWithMetrics(client, firstCollector).responseBody().ifPresent(this::closeQuietly);
+        MetricCollection first = firstCollector.collect();
+        assertThat(first.metricValues(CONNECTION_REQUEST_COUNT)).containsExactly(1);
+        assertThat(first.metricValues(CONNECTION_AGE)).hasSize(1);
+        assertThat(first.metricValues(CONNECTION_ESTABLISHMENT_DURATION)).hasSize(1);
+        assertThat(first.metricValues(TLS_HANDSHAKE_DURATION)).hasSize(1);
+        assertThat(first.metricValues(TLS_HANDSHAKE_DURATION).get(0))
+            .isLessThanOrEqualTo(first.metricValues(CONNECTION_ESTABLISHMENT_DURATION).get(0));
+
+        MetricCollector secondCollector = MetricCollector.create("test");
+        makeHttpsRequestWithMetrics(client, secondCollector).responseBody().ifPresent(this::closeQuietly);
+        MetricCollection second = secondCollector.collect();
+        assertThat(second.metricValues(CONNECTION_REQUEST_COUNT)).containsExactly(2);
+        assertThat(second.metricValues(CONNECTION_AGE).get(0)).isGreaterThanOrEqualTo(first.metricValues(CONNECTION_AGE).get(0));
+        assertThat(second.metricValues(CONNECTION_ESTABLISHMENT_DURATION)).isEmpty();
+        assertThat(second.metricValues(TLS_HANDSHAKE_DURATION)).isEmpty();
+    }
+
+    @Test
+    public void tlsHandshakeDuration_isNotRecordedForPlainTextConnections() throws IOException {
+        client = ApacheHttpClient.create();
+        MetricCollector collector = MetricCollector.create("test");
+        makeRequestWithMetrics(client, collector);
+
+        MetricCollection metrics = collector.collect();
+        assertThat(metrics.metricValues(CONNECTION_ESTABLISHMENT_DURATION)).hasSize(1);
+        assertThat(metrics.metricValues(TLS_HANDSHAKE_DURATION)).isEmpty();
+    }
+
+    private void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            // Ignored
+        }
+    }
+
     private HttpExecuteResponse makeRequestWithMetrics(SdkHttpClient httpClient, MetricCollector metricCollector) throws IOException {
+        return makeRequestWithMetrics(httpClient, metricCollector, "http", wireMockServer.port());
+    }
+
+    private HttpExecuteResponse makeHttpsRequestWithMetrics(SdkHttpClient httpClient, MetricCollector metricCollector)
+            throws IOException {
+        return makeRequestWithMetrics(httpClient, metricCollector, "https", wireMockServer.httpsPort());
+    }
+
+    private HttpExecuteResponse makeRequestWithMetrics(SdkHttpClient httpClient, MetricCollector metricCollector,
+                                                       String protocol, int port) throws IOException {
         SdkHttpRequest httpRequest = SdkHttpFullRequest.builder()
                                                        .method(SdkHttpMethod.GET)
-                                                       .protocol("http")
-                                                       .host("localhost:" + wireMockServer.port())
+                                                       .protocol(protocol)
+                                                       .host("localhost:" + port)
                                                        .build();
 
         HttpExecuteRequest request = HttpExecuteRequest.builder()
@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class StripedHttpClientConnectionManagerTest {
+    private static final HttpRoute ROUTE = new HttpRoute(new HttpHost("localhost", 80));
+
+    private StripedHttpClientConnectionManager manager;
+
+    @AfterEach
+    public void teardown() {
+        if (manager != null) {
+            manager.shutdown();
+        }
+    }
+
+    @Test
+    public void maxConnections_isSplitBetweenStripes() {
+        manager = new StripedHttpClientConnectionManager(3, 10, PoolingHttpClientConnectionManager::new);
+
+        assertThat(manager.stripeCount()).isEqualTo(3);
+        assertThat(manager.stripe(0).getMaxTotal()).isEqualTo(4);
+        assertThat(manager.stripe(1).getMaxTotal()).isEqualTo(3);
+        assertThat(manager.stripe(2).getMaxTotal()).isEqualTo(3);
+        assertThat(manager.getMaxTotal()).isEqualTo(10);
+        assertThat(manager.getDefaultMaxPerRoute()).isEqualTo(10);
+    }
+
+    @Test
+    public void stripeCount_isCappedToMaxConnections() {
+        manager = new StripedHttpClientConnectionManager(8, 2, PoolingHttpClientConnectionManager::new);
+
+        assertThat(manager.stripeCount()).isEqualTo(2);
+        assertThat(manager.getMaxTotal()).isEqualTo(2);
+    }
+
+    @Test
+    public void leasedConnections_areSpreadAcrossStripesAndReleasedToTheirStripe() throws Exception {
+        manager = new StripedHttpClientConnectionManager(2, 4, PoolingHttpClientConnectionManager::new);
+
+        List<HttpClientConnection> connections = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            connections.add(manager.requestConnection(ROUTE, null).get(1, TimeUnit.SECONDS));
+        }
+
+        assertThat(manager.stripe(0).getTotalStats().getLeased()).isEqualTo(2);
+        assertThat(manager.stripe(1).getTotalStats().getLeased()).isEqualTo(2);
+        PoolStats totalStats = manager.getTotalStats();
+        assertThat(totalStats.getLeased()).isEqualTo(4);
+        assertThat(totalStats.getMax()).isEqualTo(4);
+        assertThat(manager.getStats(ROUTE).getLeased()).isEqualTo(4);
+
+        for (HttpClientConnection connection : connections) {
+            manager.releaseConnection(connection, null, 0, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(manager.getTotalStats().getLeased()).isZero();
+    }
+
+    @Test
+    public void releaseConnection_notObtainedFromManager_throws() {
+        manager = new StripedHttpClientConnectionManager(2, 4, PoolingHttpClientConnectionManager::new);
+
+        assertThatThrownBy(() -> manager.releaseConnection(mock(HttpClientConnection.class), null, 0, TimeUnit.MILLISECONDS))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
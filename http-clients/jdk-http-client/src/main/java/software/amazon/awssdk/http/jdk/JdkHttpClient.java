@@ -0,0 +1,347 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.jdk.internal.JdkHttpAdapter;
+import software.amazon.awssdk.http.jdk.internal.JdkHttpClientFactory;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An implementation of {@link SdkHttpClient} that uses the JDK's {@link HttpClient} to communicate with the service. Unlike
+ * the URL connection based client, it supports HTTP/2 and keeps its own connection pool, while still adding no dependencies
+ * outside of the JDK. This client requires Java 11 or later.
+ *
+ * <p>See software.amazon.awssdk.http.apache.ApacheHttpClient for an alternative implementation.</p>
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ */
+@SdkPublicApi
+public final class JdkHttpClient implements SdkHttpClient {
+
+    private static final String CLIENT_NAME = "JdkHttpClient";
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+
+    private JdkHttpClient(AttributeMap options, DefaultBuilder builder) {
+        this.httpClient = JdkHttpClientFactory.create(options, builder.executor, builder.proxySelector);
+        this.requestTimeout = JdkHttpClientFactory.requestTimeout(options, builder.requestTimeout);
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link JdkHttpClient} with the default properties
+     *
+     * @return a {@link JdkHttpClient}
+     */
+    public static SdkHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+        request.metricCollector().ifPresent(metrics -> metrics.reportMetric(HTTP_CLIENT_NAME, clientName()));
+        return new RequestCallable(request);
+    }
+
+    @Override
+    public void close() {
+        // HttpClient only became AutoCloseable in Java 21. On older versions its resources are released once it is
+        // garbage collected.
+        if (httpClient instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) httpClient).close();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    private final class RequestCallable implements ExecutableHttpRequest {
+        private final HttpExecuteRequest request;
+        private volatile CompletableFuture<HttpResponse<InputStream>> responseFuture;
+        private volatile boolean aborted;
+
+        private RequestCallable(HttpExecuteRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public HttpExecuteResponse call() throws IOException {
+            SdkHttpRequest sdkRequest = request.httpRequest();
+            HttpRequest jdkRequest = JdkHttpAdapter.toJdkRequest(sdkRequest, bodyPublisher(), requestTimeout);
+
+            responseFuture = httpClient.sendAsync(jdkRequest, HttpResponse.BodyHandlers.ofInputStream());
+            if (aborted) {
+                responseFuture.cancel(true);
+            }
+
+            HttpResponse<InputStream> response = awaitResponse();
+            AbortableInputStream responseBody = null;
+            if (JdkHttpAdapter.responseNeverHasPayload(sdkRequest, response.statusCode())) {
+                response.body().close();
+            } else {
+                InputStream body = response.body();
+                responseBody = AbortableInputStream.create(body, () -> IoUtils.closeQuietly(body, null));
+            }
+
+            return HttpExecuteResponse.builder()
+                                      .response(JdkHttpAdapter.toSdkResponse(response))
+                                      .responseBody(responseBody)
+                                      .build();
+        }
+
+        private HttpRequest.BodyPublisher bodyPublisher() {
+            Optional<ContentStreamProvider> contentStreamProvider = request.contentStreamProvider();
+            if (!contentStreamProvider.isPresent()) {
+                return HttpRequest.BodyPublishers.noBody();
+            }
+
+            long contentLength = request.httpRequest()
+                                        .firstMatchingHeader(CONTENT_LENGTH)
+                                        .map(Long::parseLong)
+                                        .orElse(-1L);
+            if (contentLength == 0) {
+                return HttpRequest.BodyPublishers.noBody();
+            }
+
+            HttpRequest.BodyPublisher streamPublisher =
+                HttpRequest.BodyPublishers.ofInputStream(() -> contentStreamProvider.get().newStream());
+            return contentLength > 0
+                   ? HttpRequest.BodyPublishers.fromPublisher(streamPublisher, contentLength)
+                   : streamPublisher;
+        }
+
+        private HttpResponse<InputStream> awaitResponse() throws IOException {
+            try {
+                return responseFuture.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                responseFuture.cancel(true);
+                throw new IOException("Interrupted while waiting for the response", e);
+            } catch (CancellationException e) {
+                throw new IOException("Request was aborted", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IOException(cause);
+            }
+        }
+
+        @Override
+        public void abort() {
+            aborted = true;
+            CompletableFuture<HttpResponse<InputStream>> future = responseFuture;
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * A builder for an instance of {@link SdkHttpClient} that uses the JDK's {@link HttpClient}. A builder can be created
+     * via {@link #builder()}.
+     *
+     * <pre class="brush: java">
+     * SdkHttpClient httpClient = JdkHttpClient.builder()
+     * .connectionTimeout(Duration.ofSeconds(1))
+     * .protocol(Protocol.HTTP2)
+     * .build();
+     * </pre>
+     *
+     * <p>The {@link HttpClient} manages its connection pool itself, so the maximum number of connections, the connection
+     * max idle time and the connection time to live can't be configured per client. When they are set through the service
+     * defaults, a warning is logged and they are ignored. The JDK's {@code jdk.httpclient.connectionPoolSize} and
+     * {@code jdk.httpclient.keepalive.timeout} system properties configure the connection pool for the whole JVM.
+     */
+    public interface Builder extends SdkHttpClient.Builder<JdkHttpClient.Builder> {
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * The amount of time to wait for the response headers of a request, including the time taken to send the request
+         * body, before the request is timed out. By default, the read timeout of the HTTP configuration is used, which is 30
+         * seconds unless overridden by the service. Once the headers are received, reading the response body does not time
+         * out, and {@code ClientOverrideConfiguration#apiCallAttemptTimeout()} should be used to bound it.
+         */
+        Builder requestTimeout(Duration requestTimeout);
+
+        /**
+         * The HTTP protocol to use. If set to {@link Protocol#HTTP2}, HTTP/2 is negotiated via ALPN for HTTPS requests and
+         * the client falls back to HTTP/1.1 if the server does not support it. Defaults to {@link Protocol#HTTP1_1}.
+         */
+        Builder protocol(Protocol protocol);
+
+        /**
+         * The executor used by the underlying {@link HttpClient} for asynchronous and dependent tasks. This can be a
+         * virtual-thread-per-task executor on Java 21 or later. By default, the JDK creates a cached thread pool per client.
+         */
+        Builder executor(Executor executor);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * The {@link ProxySelector} used to choose the proxy for each request. By default, {@link ProxySelector#getDefault()}
+         * is used, which is configured with the standard {@code http.proxyHost} and {@code https.proxyHost} system
+         * properties. Proxy authentication is handled by the default {@link java.net.Authenticator}, if any.
+         */
+        Builder proxySelector(ProxySelector proxySelector);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private Duration requestTimeout;
+        private Executor executor;
+        private ProxySelector proxySelector;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            Validate.isPositive(connectionTimeout, "connectionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = Validate.isPositiveOrNull(requestTimeout, "requestTimeout");
+            return this;
+        }
+
+        public void setRequestTimeout(Duration requestTimeout) {
+            requestTimeout(requestTimeout);
+        }
+
+        @Override
+        public Builder protocol(Protocol protocol) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+            return this;
+        }
+
+        public void setProtocol(Protocol protocol) {
+            protocol(protocol);
+        }
+
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public void setExecutor(Executor executor) {
+            executor(executor);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public Builder proxySelector(ProxySelector proxySelector) {
+            this.proxySelector = proxySelector;
+            return this;
+        }
+
+        public void setProxySelector(ProxySelector proxySelector) {
+            proxySelector(proxySelector);
+        }
+
+        @Override
+        public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JdkHttpClient(standardOptions.build()
+                                                    .merge(serviceDefaults)
+                                                    .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS),
+                                     this);
+        }
+    }
+}
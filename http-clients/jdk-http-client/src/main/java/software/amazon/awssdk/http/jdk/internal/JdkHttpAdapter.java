@@ -0,0 +1,103 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+/**
+ * Converts between SDK HTTP requests and responses and their {@code java.net.http} equivalents.
+ */
+@SdkInternalApi
+public final class JdkHttpAdapter {
+    /**
+     * Headers that {@link HttpRequest.Builder} refuses to set, because the JDK computes them itself. The
+     * {@code Transfer-Encoding} header is also derived by the JDK from the body publisher's content length.
+     */
+    private static final Set<String> JDK_MANAGED_HEADERS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        "connection", "content-length", "date", "expect", "from", "host", "transfer-encoding", "upgrade", "via",
+        "warning")));
+
+    private JdkHttpAdapter() {
+    }
+
+    /**
+     * Create a {@link HttpRequest} for the given SDK request.
+     *
+     * @param request The SDK request.
+     * @param body The body of the request.
+     * @param timeout The maximum time to wait for the response headers, or null for no timeout.
+     */
+    public static HttpRequest toJdkRequest(SdkHttpRequest request, HttpRequest.BodyPublisher body, Duration timeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request.getUri())
+                                                 .method(request.method().name(), body);
+        if (timeout != null) {
+            builder.timeout(timeout);
+        }
+
+        request.forEachHeader((name, values) -> {
+            String lowerCaseName = name.toLowerCase(Locale.US);
+            if ("expect".equals(lowerCaseName)) {
+                builder.expectContinue(values.stream().anyMatch("100-continue"::equalsIgnoreCase));
+            } else if (!JDK_MANAGED_HEADERS.contains(lowerCaseName)) {
+                values.forEach(value -> builder.header(name, value));
+            }
+        });
+
+        return builder.build();
+    }
+
+    /**
+     * Create a {@link SdkHttpResponse} from the status and headers of the given response.
+     */
+    public static SdkHttpResponse toSdkResponse(HttpResponse<?> response) {
+        Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        response.headers().map().forEach((name, values) -> {
+            // HTTP/2 pseudo-headers such as ":status" are not real response headers
+            if (!name.startsWith(":")) {
+                headers.put(name, values);
+            }
+        });
+
+        return SdkHttpResponse.builder()
+                              .statusCode(response.statusCode())
+                              .headers(headers)
+                              .build();
+    }
+
+    /**
+     * Whether a response to the given request can never have a payload.
+     */
+    public static boolean responseNeverHasPayload(SdkHttpRequest request, int statusCode) {
+        return request.method() == SdkHttpMethod.HEAD
+               || statusCode == 204
+               || statusCode == 304
+               || statusCode >= 100 && statusCode < 200;
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.net.ProxySelector;
+import java.net.Socket;
+import java.net.http.HttpClient;
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Creates the {@link HttpClient} shared by all requests of a JDK-based SDK HTTP client.
+ */
+@SdkInternalApi
+public final class JdkHttpClientFactory {
+    private static final Logger log = Logger.loggerFor(JdkHttpClientFactory.class);
+
+    private JdkHttpClientFactory() {
+    }
+
+    /**
+     * Create an {@link HttpClient} from the given SDK HTTP configuration options.
+     *
+     * @param options The resolved {@link SdkHttpConfigurationOption}s.
+     * @param executor The executor used for asynchronous and dependent tasks, or null to use the JDK default.
+     * @param proxySelector The proxy selector used to choose a proxy for each request, or null to use
+     * {@link ProxySelector#getDefault()}.
+     */
+    public static HttpClient create(AttributeMap options, Executor executor, ProxySelector proxySelector) {
+        warnAboutUnsupportedOptions(options);
+
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                                               // Disable following redirects since it breaks SDK error handling.
+                                               .followRedirects(HttpClient.Redirect.NEVER)
+                                               .version(httpVersion(options.get(SdkHttpConfigurationOption.PROTOCOL)))
+                                               .sslContext(sslContext(options));
+
+        Duration connectionTimeout = options.get(SdkHttpConfigurationOption.CONNECTION_TIMEOUT);
+        if (connectionTimeout != null && !connectionTimeout.isZero()) {
+            builder.connectTimeout(connectionTimeout);
+        }
+
+        ProxySelector resolvedProxySelector = proxySelector != null ? proxySelector : ProxySelector.getDefault();
+        if (resolvedProxySelector != null) {
+            builder.proxy(resolvedProxySelector);
+        }
+
+        if (executor != null) {
+            builder.executor(executor);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Resolve the timeout for receiving the response headers of a request. This is the configured request timeout, or the
+     * {@link SdkHttpConfigurationOption#READ_TIMEOUT} if none is configured, since the {@link HttpClient} has no timeout for
+     * individual socket reads.
+     *
+     * @return The timeout, or null if requests should not time out.
+     */
+    public static Duration requestTimeout(AttributeMap options, Duration requestTimeout) {
+        if (requestTimeout != null) {
+            return requestTimeout;
+        }
+        Duration readTimeout = options.get(SdkHttpConfigurationOption.READ_TIMEOUT);
+        return readTimeout == null || readTimeout.isZero() ? null : readTimeout;
+    }
+
+    /**
+     * The {@link HttpClient} manages its connections itself, and only allows configuring its connection pool for the whole JVM
+     * with system properties. Options that can't be applied are logged rather than silently ignored, unless they keep their
+     * default value.
+     */
+    private static void warnAboutUnsupportedOptions(AttributeMap options) {
+        warnIfConfigured(options, SdkHttpConfigurationOption.MAX_CONNECTIONS,
+                         " Use the jdk.httpclient.connectionPoolSize system property to limit the number of idle connections.");
+        warnIfConfigured(options, SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT,
+                         " Use the jdk.httpclient.keepalive.timeout system property instead.");
+        warnIfConfigured(options, SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE, "");
+        warnIfConfigured(options, SdkHttpConfigurationOption.WRITE_TIMEOUT, "");
+    }
+
+    private static void warnIfConfigured(AttributeMap options, SdkHttpConfigurationOption<?> option, String advice) {
+        Object value = options.get(option);
+        if (!Objects.equals(value, SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS.get(option))) {
+            log.warn(() -> option.name() + " is set to " + value + ", but is not supported by the JDK HttpClient and will "
+                           + "be ignored." + advice);
+        }
+    }
+
+    private static HttpClient.Version httpVersion(Protocol protocol) {
+        return protocol == Protocol.HTTP2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1;
+    }
+
+    private static SSLContext sslContext(AttributeMap options) {
+        TlsTrustManagersProvider trustManagersProvider = options.get(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER);
+        boolean trustAllCertificates = options.get(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES);
+
+        Validate.isTrue(trustManagersProvider == null || !trustAllCertificates,
+                        "A TlsTrustManagerProvider can't be provided if TrustAllCertificates is also set");
+
+        TrustManager[] trustManagers = null;
+        if (trustManagersProvider != null) {
+            trustManagers = trustManagersProvider.trustManagers();
+        }
+
+        if (trustAllCertificates) {
+            log.warn(() -> "SSL Certificate verification is disabled. This is not a safe setting and should only be "
+                           + "used for testing.");
+            trustManagers = new TrustManager[] { TrustAllManager.INSTANCE };
+        }
+
+        TlsKeyManagersProvider keyManagersProvider = options.get(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER);
+        KeyManager[] keyManagers = keyManagersProvider.keyManagers();
+
+        try {
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(keyManagers, trustManagers, null);
+            return context;
+        } catch (NoSuchAlgorithmException | KeyManagementException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Insecure trust manager to trust all certs. Should only be used for testing.
+     *
+     * <p>This extends {@link X509ExtendedTrustManager} so that the JDK does not wrap it with its own hostname verification,
+     * which can't otherwise be disabled for {@link HttpClient}.
+     */
+    private static final class TrustAllManager extends X509ExtendedTrustManager {
+
+        private static final TrustAllManager INSTANCE = new TrustAllManager();
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) {
+            log.debug(() -> "Accepting a client certificate: " + chain[0].getSubjectDN());
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) {
+            checkClientTrusted(chain, authType);
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+            checkClientTrusted(chain, authType);
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {
+            log.debug(() -> "Accepting a server certificate: " + chain[0].getSubjectDN());
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) {
+            checkServerTrusted(chain, authType);
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+            checkServerTrusted(chain, authType);
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Adapts the {@link Flow.Publisher} of a {@code java.net.http} response body into the {@link Publisher} of
+ * {@link ByteBuffer}s expected by the SDK, completing a future once the body has been fully received.
+ *
+ * <p>Each list of buffers emitted by the JDK is merged into a single buffer, so that demand maps one-to-one between the
+ * two publishers. Empty lists are not forwarded, so a response without a body does not emit any data.
+ */
+@SdkInternalApi
+public final class ResponseBodyPublisher implements Publisher<ByteBuffer> {
+    private final Flow.Publisher<List<ByteBuffer>> delegate;
+    private final CompletableFuture<Void> completionFuture;
+
+    public ResponseBodyPublisher(Flow.Publisher<List<ByteBuffer>> delegate, CompletableFuture<Void> completionFuture) {
+        this.delegate = delegate;
+        this.completionFuture = completionFuture;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        delegate.subscribe(new Flow.Subscriber<List<ByteBuffer>>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscriber.onSubscribe(new Subscription() {
+                    @Override
+                    public void request(long n) {
+                        subscription.request(n);
+                    }
+
+                    @Override
+                    public void cancel() {
+                        subscription.cancel();
+                        completionFuture.complete(null);
+                    }
+                });
+            }
+
+            @Override
+            public void onNext(List<ByteBuffer> buffers) {
+                ByteBuffer merged = merge(buffers);
+                if (merged.hasRemaining()) {
+                    subscriber.onNext(merged);
+                } else {
+                    subscription.request(1);
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                subscriber.onError(throwable);
+                completionFuture.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                subscriber.onComplete();
+                completionFuture.complete(null);
+            }
+        });
+    }
+
+    private static ByteBuffer merge(List<ByteBuffer> buffers) {
+        if (buffers.size() == 1) {
+            return buffers.get(0);
+        }
+
+        int size = 0;
+        for (ByteBuffer buffer : buffers) {
+            size += buffer.remaining();
+        }
+
+        ByteBuffer merged = ByteBuffer.allocate(size);
+        buffers.forEach(merged::put);
+        merged.flip();
+        return merged;
+    }
+}
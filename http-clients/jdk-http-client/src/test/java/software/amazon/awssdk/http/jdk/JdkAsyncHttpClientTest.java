@@ -0,0 +1,182 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.io.IOException;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.utils.AttributeMap;
+
+public class JdkAsyncHttpClientTest {
+    private static WireMockServer server;
+
+    private SdkAsyncHttpClient client;
+
+    @BeforeAll
+    public static void setupServer() {
+        server = new WireMockServer(wireMockConfig().dynamicPort());
+        server.start();
+    }
+
+    @AfterAll
+    public static void teardownServer() {
+        server.stop();
+    }
+
+    @BeforeEach
+    public void setup() {
+        server.resetAll();
+    }
+
+    @AfterEach
+    public void teardown() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Test
+    public void execute_onHeadersThrows_completesExceptionally() {
+        server.stubFor(any(urlEqualTo("/")).willReturn(aResponse().withStatus(200).withBody("body")));
+        client = JdkAsyncHttpClient.create();
+        RuntimeException failure = new IllegalStateException("Failed to handle headers");
+        RecordingResponseHandler handler = new RecordingResponseHandler() {
+            @Override
+            public void onHeaders(SdkHttpResponse headers) {
+                throw failure;
+            }
+        };
+
+        CompletableFuture<Void> execute = client.execute(request(handler));
+
+        assertThatThrownBy(execute::join).isInstanceOf(CompletionException.class).hasCause(failure);
+        assertThat(handler.errors).containsExactly(failure);
+    }
+
+    @Test
+    public void execute_withProxySelector_usesProxySelector() {
+        server.stubFor(any(urlEqualTo("/")).willReturn(aResponse().withStatus(200)));
+        List<URI> selectedUris = new CopyOnWriteArrayList<>();
+        ProxySelector proxySelector = new ProxySelector() {
+            @Override
+            public List<Proxy> select(URI uri) {
+                selectedUris.add(uri);
+                return Collections.singletonList(Proxy.NO_PROXY);
+            }
+
+            @Override
+            public void connectFailed(URI uri, SocketAddress sa, IOException ioe) {
+            }
+        };
+        client = JdkAsyncHttpClient.builder().proxySelector(proxySelector).build();
+
+        client.execute(request(new RecordingResponseHandler())).join();
+
+        assertThat(selectedUris).isNotEmpty();
+    }
+
+    @Test
+    public void execute_responseSlowerThanReadTimeout_timesOut() {
+        server.stubFor(any(urlEqualTo("/")).willReturn(aResponse().withStatus(200).withFixedDelay(2_000)));
+        client = JdkAsyncHttpClient.builder()
+                                   .buildWithDefaults(AttributeMap.builder()
+                                                                  .put(SdkHttpConfigurationOption.READ_TIMEOUT,
+                                                                       Duration.ofMillis(200))
+                                                                  .build());
+        RecordingResponseHandler handler = new RecordingResponseHandler();
+
+        assertThatThrownBy(client.execute(request(handler))::join).hasCauseInstanceOf(HttpTimeoutException.class);
+    }
+
+    private static AsyncExecuteRequest request(SdkAsyncHttpResponseHandler handler) {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(URI.create("http://localhost:" + server.port()))
+                                                       .method(SdkHttpMethod.GET)
+                                                       .build();
+        return AsyncExecuteRequest.builder()
+                                  .request(request)
+                                  .responseHandler(handler)
+                                  .build();
+    }
+
+    private static class RecordingResponseHandler implements SdkAsyncHttpResponseHandler {
+        private final List<Throwable> errors = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            stream.subscribe(new Subscriber<ByteBuffer>() {
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(ByteBuffer byteBuffer) {
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            errors.add(error);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.put;
+import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import org.junit.Test;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpClientTestSuite;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+
+public final class JdkHttpClientWireMockTest extends SdkHttpClientTestSuite {
+
+    @Override
+    protected SdkHttpClient createSdkHttpClient(SdkHttpClientOptions options) {
+        JdkHttpClient.Builder builder = JdkHttpClient.builder();
+        AttributeMap.Builder attributeMap = AttributeMap.builder();
+
+        if (options.tlsTrustManagersProvider() != null) {
+            builder.tlsTrustManagersProvider(options.tlsTrustManagersProvider());
+        }
+
+        if (options.trustAll()) {
+            attributeMap.put(TRUST_ALL_CERTIFICATES, options.trustAll());
+        }
+
+        return builder.buildWithDefaults(attributeMap.build());
+    }
+
+    @Test
+    public void putWithEmptyBody_sendsEmptyBody() throws Exception {
+        mockServer.stubFor(put(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)));
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(URI.create("http://localhost:" + mockServer.port()))
+                                                       .method(SdkHttpMethod.PUT)
+                                                       .putHeader("Content-Length", "0")
+                                                       .build();
+
+        try (SdkHttpClient client = createSdkHttpClient()) {
+            HttpExecuteResponse response =
+                client.prepareRequest(HttpExecuteRequest.builder()
+                                                        .request(request)
+                                                        .contentStreamProvider(() -> new ByteArrayInputStream(new byte[0]))
+                                                        .build())
+                      .call();
+
+            assertThat(response.httpResponse().statusCode()).isEqualTo(200);
+        }
+        mockServer.verify(putRequestedFor(urlPathEqualTo("/")).withHeader("Content-Length", equalTo("0")));
+    }
+
+    @Test
+    public void prepareRequest_withMetricCollector_reportsClientName() throws Exception {
+        mockServer.stubFor(put(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)));
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(URI.create("http://localhost:" + mockServer.port()))
+                                                       .method(SdkHttpMethod.PUT)
+                                                       .build();
+        MetricCollector metricCollector = MetricCollector.create("test");
+
+        try (SdkHttpClient client = createSdkHttpClient()) {
+            client.prepareRequest(HttpExecuteRequest.builder().request(request).metricCollector(metricCollector).build())
+                  .call();
+        }
+
+        MetricCollection metrics = metricCollector.collect();
+        assertThat(metrics.metricValues(HTTP_CLIENT_NAME)).containsExactly("JdkHttpClient");
+    }
+
+    @Override
+    public void connectionsAreNotReusedOn5xxErrors() {
+        // We cannot support this because the JDK HttpClient doesn't allow us to disable connection reuse
+    }
+}
@@ -104,6 +104,8 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                              .sslProvider(resolveSslProvider(builder))
                                              .proxyConfiguration(builder.proxyConfiguration)
                                              .useNonBlockingDnsResolver(builder.useNonBlockingDnsResolver)
+                                             .maxTotalConcurrency(builder.maxTotalConcurrency)
+                                             .hostPoolMaxIdleTime(builder.hostPoolMaxIdleTime)
                                              .build();
     }
 
@@ -254,6 +256,39 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          */
         Builder maxPendingConnectionAcquires(Integer maxPendingAcquires);
 
+        /**
+         * Maximum number of allowed concurrent requests across all hosts this client communicates with. Unlike
+         * {@link #maxConcurrency(Integer)}, which applies to each host separately, this limit is shared by the connection
+         * pools of all hosts. This is useful when a client talks to many different hosts, for example S3 virtual-hosted
+         * buckets, where each bucket hostname gets its own connection pool.
+         *
+         * <p>This limit is only applied once a request can be served by its host's connection pool, so requests waiting for
+         * a busy host do not count against it. With HTTP/2, it limits the number of connections instead of the number of
+         * requests, since concurrent requests to the same host share a connection.
+         *
+         * <p>Requests waiting for this limit are served in the order they were made, regardless of host, and count
+         * against {@link #maxPendingConnectionAcquires(Integer)} and {@link #connectionAcquisitionTimeout(Duration)}. Once
+         * the client holds more open connections than this limit, connections are closed when they are released instead of
+         * being kept idle.
+         *
+         * <p>By default, there is no limit across hosts.
+         *
+         * @param maxTotalConcurrency New value for the max concurrency across all hosts.
+         * @return This builder for method chaining.
+         */
+        Builder maxTotalConcurrency(Integer maxTotalConcurrency);
+
+        /**
+         * Configure the maximum amount of time the connection pool of a host may go unused before it is closed, along with
+         * all of its idle connections. A new pool is created the next time a request is made to that host.
+         *
+         * <p>By default, connection pools are only closed when the client is closed.
+         *
+         * @param hostPoolMaxIdleTime The maximum amount of time a host connection pool may go unused.
+         * @return This builder for method chaining.
+         */
+        Builder hostPoolMaxIdleTime(Duration hostPoolMaxIdleTime);
+
         /**
          * The amount of time to wait for a read on a socket before an exception is thrown.
          * Specify {@code Duration.ZERO} to disable.
@@ -455,6 +490,30 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          */
         Builder tlsTrustManagersProvider(TlsTrustManagersProvider trustManagersProvider);
 
+        /**
+         * Configure the maximum number of TLS sessions cached by this client. New connections to a host for which a session
+         * is cached resume that session with an abbreviated handshake, instead of performing a full TLS handshake, which
+         * reduces the latency and CPU cost of reconnecting.
+         *
+         * <p>By default, the defaults of the configured {@link SslProvider} are used.
+         *
+         * @param tlsSessionCacheSize The maximum number of cached TLS sessions.
+         * @return The builder for method chaining.
+         * @see #tlsSessionTimeout(Duration)
+         */
+        Builder tlsSessionCacheSize(Integer tlsSessionCacheSize);
+
+        /**
+         * Configure the amount of time after which a cached TLS session can no longer be resumed by new connections.
+         *
+         * <p>By default, the defaults of the configured {@link SslProvider} are used.
+         *
+         * @param tlsSessionTimeout The timeout for cached TLS sessions.
+         * @return The builder for method chaining.
+         * @see #tlsSessionCacheSize(Integer)
+         */
+        Builder tlsSessionTimeout(Duration tlsSessionTimeout);
+
         /**
          * Set the HTTP/2 specific configuration for this client.
          * <p>
@@ -503,6 +562,8 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration = ProxyConfiguration.builder().build();
         private Boolean useNonBlockingDnsResolver;
+        private Integer maxTotalConcurrency;
+        private Duration hostPoolMaxIdleTime;
 
         private DefaultBuilder() {
         }
@@ -527,6 +588,26 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             maxPendingConnectionAcquires(maxPendingAcquires);
         }
 
+        @Override
+        public Builder maxTotalConcurrency(Integer maxTotalConcurrency) {
+            this.maxTotalConcurrency = Validate.isPositiveOrNull(maxTotalConcurrency, "maxTotalConcurrency");
+            return this;
+        }
+
+        public void setMaxTotalConcurrency(Integer maxTotalConcurrency) {
+            maxTotalConcurrency(maxTotalConcurrency);
+        }
+
+        @Override
+        public Builder hostPoolMaxIdleTime(Duration hostPoolMaxIdleTime) {
+            this.hostPoolMaxIdleTime = Validate.isPositiveOrNull(hostPoolMaxIdleTime, "hostPoolMaxIdleTime");
+            return this;
+        }
+
+        public void setHostPoolMaxIdleTime(Duration hostPoolMaxIdleTime) {
+            hostPoolMaxIdleTime(hostPoolMaxIdleTime);
+        }
+
         @Override
         public Builder readTimeout(Duration readTimeout) {
             Validate.isNotNegative(readTimeout, "readTimeout");
@@ -710,6 +791,28 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             tlsTrustManagersProvider(tlsTrustManagersProvider);
         }
 
+        @Override
+        public Builder tlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            Validate.isPositiveOrNull(tlsSessionCacheSize, "tlsSessionCacheSize");
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE, tlsSessionCacheSize);
+            return this;
+        }
+
+        public void setTlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            tlsSessionCacheSize(tlsSessionCacheSize);
+        }
+
+        @Override
+        public Builder tlsSessionTimeout(Duration tlsSessionTimeout) {
+            Validate.isPositiveOrNull(tlsSessionTimeout, "tlsSessionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT, tlsSessionTimeout);
+            return this;
+        }
+
+        public void setTlsSessionTimeout(Duration tlsSessionTimeout) {
+            tlsSessionTimeout(tlsSessionTimeout);
+        }
+
         @Override
         public Builder http2Configuration(Http2Configuration http2Configuration) {
             this.http2Configuration = http2Configuration;
@@ -23,6 +23,7 @@ import io.netty.channel.pool.ChannelPool;
 import io.netty.channel.pool.ChannelPoolHandler;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslProvider;
+import io.netty.util.concurrent.ScheduledFuture;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Duration;
@@ -43,6 +44,7 @@ import software.amazon.awssdk.http.nio.netty.ProxyConfiguration;
 import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
 import software.amazon.awssdk.http.nio.netty.internal.http2.HttpOrHttp2ChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
+import software.amazon.awssdk.utils.Lazy;
 
 /**
  * Implementation of {@link SdkChannelPoolMap} that awaits channel pools to be closed upon closing.
@@ -82,8 +84,12 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
     private final SslProvider sslProvider;
     private final ProxyConfiguration proxyConfiguration;
     private final BootstrapProvider bootstrapProvider;
-    private final SslContextProvider sslContextProvider;
+    private final Lazy<SslContext> sslContext;
     private final Boolean useNonBlockingDnsResolver;
+    private final SharedConnectionLimiter sharedConnectionLimiter;
+    private final Duration hostPoolMaxIdleTime;
+    private final Map<URI, HostPool> perHostPools = new ConcurrentHashMap<>();
+    private final ScheduledFuture<?> idlePoolEvictionTask;
 
     private AwaitCloseChannelPoolMap(Builder builder, Function<Builder, BootstrapProvider> createBootStrapProvider) {
         this.configuration = builder.configuration;
@@ -94,8 +100,17 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         this.sslProvider = builder.sslProvider;
         this.proxyConfiguration = builder.proxyConfiguration;
         this.bootstrapProvider = createBootStrapProvider.apply(builder);
-        this.sslContextProvider = new SslContextProvider(configuration, protocol, sslProvider);
+        SslContextProvider sslContextProvider = new SslContextProvider(configuration, protocol, sslProvider);
+        // One context, and so one TLS session cache, is shared by the pools of all hosts
+        this.sslContext = new Lazy<>(sslContextProvider::sslContext);
         this.useNonBlockingDnsResolver = builder.useNonBlockingDnsResolver;
+        this.sharedConnectionLimiter = builder.maxTotalConcurrency == null
+                                       ? null
+                                       : new SharedConnectionLimiter(builder.maxTotalConcurrency,
+                                                                     configuration.maxPendingConnectionAcquires(),
+                                                                     configuration.connectionAcquireTimeoutMillis());
+        this.hostPoolMaxIdleTime = builder.hostPoolMaxIdleTime;
+        this.idlePoolEvictionTask = scheduleIdlePoolEviction(builder);
     }
 
     private AwaitCloseChannelPoolMap(Builder builder) {
@@ -119,7 +134,7 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
 
     @Override
     protected SimpleChannelPoolAwareChannelPool newPool(URI key) {
-        SslContext sslContext = needSslContext(key) ? sslContextProvider.sslContext() : null;
+        SslContext sslContext = needSslContext(key) ? this.sslContext.getValue() : null;
 
         Bootstrap bootstrap = createBootstrap(key);
 
@@ -149,13 +164,30 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
 
         SdkChannelPool wrappedPool = wrapBaseChannelPool(bootstrap, baseChannelPool);
 
-        channelPoolRef.set(wrappedPool);
-        return new SimpleChannelPoolAwareChannelPool(wrappedPool, tcpChannelPool);
+        if (hostPoolMaxIdleTime == null) {
+            channelPoolRef.set(wrappedPool);
+            return new SimpleChannelPoolAwareChannelPool(wrappedPool, tcpChannelPool);
+        }
+
+        AtomicReference<HostPool> hostPoolRef = new AtomicReference<>();
+        PerHostChannelPool perHostPool = new PerHostChannelPool(bootstrap.config().group().next(), wrappedPool,
+                                                                () -> replacementPool(key, hostPoolRef.get()));
+        SimpleChannelPoolAwareChannelPool channelPool = new SimpleChannelPoolAwareChannelPool(perHostPool, tcpChannelPool);
+        HostPool hostPool = new HostPool(perHostPool, channelPool);
+        hostPoolRef.set(hostPool);
+        perHostPools.put(key, hostPool);
+
+        channelPoolRef.set(perHostPool);
+        return channelPool;
     }
 
     @Override
     public void close() {
         log.trace(null, () -> "Closing channel pools");
+        if (idlePoolEvictionTask != null) {
+            idlePoolEvictionTask.cancel(false);
+        }
+
         // If there is a new pool being added while we are iterating the pools, there might be a
         // race condition between the close call of the newly acquired pool and eventLoopGroup.shutdown and it
         // could cause the eventLoopGroup#shutdownGracefully to hang before it times out.
@@ -178,6 +210,48 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         }
     }
 
+    private ScheduledFuture<?> scheduleIdlePoolEviction(Builder builder) {
+        if (hostPoolMaxIdleTime == null) {
+            return null;
+        }
+
+        long periodMillis = Math.max(1, hostPoolMaxIdleTime.toMillis());
+        return builder.sdkEventLoopGroup.eventLoopGroup()
+                                        .next()
+                                        .scheduleAtFixedRate(() -> evictIdlePools(System.nanoTime()), periodMillis, periodMillis,
+                                                             TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Close and remove the channel pools of hosts that have not been used for at least {@link #hostPoolMaxIdleTime} and
+     * have no outstanding acquires or leased channels.
+     */
+    @SdkTestInternalApi
+    void evictIdlePools(long nowNanos) {
+        long maxIdleNanos = hostPoolMaxIdleTime.toNanos();
+        perHostPools.forEach((key, hostPool) -> {
+            if (hostPool.perHostPool.tryRetire(nowNanos, maxIdleNanos)) {
+                log.debug(null, () -> "Closing channel pool for " + key + " because it has been idle for at least "
+                                      + hostPoolMaxIdleTime);
+                removeRetired(key, hostPool);
+            }
+        });
+    }
+
+    /**
+     * Called when an acquire reaches a retired pool, which happens when the pool was looked up just before it was evicted.
+     * The retired pool is removed first if the eviction did not finish yet, so that the returned pool is never the retired one.
+     */
+    private SdkChannelPool replacementPool(URI key, HostPool retiredPool) {
+        removeRetired(key, retiredPool);
+        return get(key);
+    }
+
+    private void removeRetired(URI key, HostPool hostPool) {
+        perHostPools.remove(key, hostPool);
+        remove(key, hostPool.channelPool);
+    }
+
     private Bootstrap createBootstrap(URI poolKey) {
         String host = bootstrapHost(poolKey);
         int port = bootstrapPort(poolKey);
@@ -233,6 +307,12 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         // Wrap the channel pool such that the ChannelAttributeKey.CLOSE_ON_RELEASE flag is honored.
         channelPool = new HonorCloseOnReleaseChannelPool(channelPool);
 
+        // Wrap the channel pool such that each connection leased from it holds a permit of the limit shared by all hosts.
+        if (sharedConnectionLimiter != null) {
+            channelPool = new SharedConnectionLimitingChannelPool(bootstrap.config().group().next(), channelPool,
+                                                                  sharedConnectionLimiter);
+        }
+
         // Wrap the channel pool such that HTTP 2 channels won't be released to the underlying pool while they're still in use.
         SdkChannelPool sdkChannelPool = new HttpOrHttp2ChannelPool(channelPool,
                                                                    bootstrap.config().group(),
@@ -276,6 +356,19 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         return needContext;
     }
 
+    /**
+     * The {@link PerHostChannelPool} of a host and the pool that wraps it in this map.
+     */
+    private static final class HostPool {
+        private final PerHostChannelPool perHostPool;
+        private final SimpleChannelPoolAwareChannelPool channelPool;
+
+        private HostPool(PerHostChannelPool perHostPool, SimpleChannelPoolAwareChannelPool channelPool) {
+            this.perHostPool = perHostPool;
+            this.channelPool = channelPool;
+        }
+    }
+
     public static class Builder {
 
         private SdkChannelOptions sdkChannelOptions;
@@ -288,6 +381,8 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration;
         private Boolean useNonBlockingDnsResolver;
+        private Integer maxTotalConcurrency;
+        private Duration hostPoolMaxIdleTime;
 
         private Builder() {
         }
@@ -342,6 +437,16 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
             return this;
         }
 
+        public Builder maxTotalConcurrency(Integer maxTotalConcurrency) {
+            this.maxTotalConcurrency = maxTotalConcurrency;
+            return this;
+        }
+
+        public Builder hostPoolMaxIdleTime(Duration hostPoolMaxIdleTime) {
+            this.hostPoolMaxIdleTime = hostPoolMaxIdleTime;
+            return this;
+        }
+
         public AwaitCloseChannelPoolMap build() {
             return new AwaitCloseChannelPoolMap(this);
         }
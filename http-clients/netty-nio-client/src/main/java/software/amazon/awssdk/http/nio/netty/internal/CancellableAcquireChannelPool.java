@@ -22,6 +22,7 @@ import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.RequestPriority;
 import software.amazon.awssdk.metrics.MetricCollector;
 
 /**
@@ -47,7 +48,12 @@ public final class CancellableAcquireChannelPool implements SdkChannelPool {
 
     @Override
     public Future<Channel> acquire(Promise<Channel> acquirePromise) {
-        Future<Channel> channelFuture = delegatePool.acquire(executor.newPromise());
+        return acquire(acquirePromise, RequestPriority.NORMAL);
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> acquirePromise, RequestPriority priority) {
+        Future<Channel> channelFuture = delegatePool.acquire(executor.newPromise(), priority);
         channelFuture.addListener((Future<Channel> f) -> {
             if (f.isSuccess()) {
                 Channel ch = f.getNow();
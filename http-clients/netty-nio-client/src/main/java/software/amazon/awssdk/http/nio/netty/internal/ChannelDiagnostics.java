@@ -16,8 +16,14 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import io.netty.channel.Channel;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.utils.ToString;
 
@@ -28,21 +34,37 @@ import software.amazon.awssdk.utils.ToString;
 public class ChannelDiagnostics {
     private final Channel channel;
     private final Instant channelCreationTime;
+    private final long channelCreationNanos;
     private int requestCount = 0;
     private int responseCount = 0;
 
     private long idleStart = -1;
     private long idleStop = -1;
 
+    private long connectedNanos = -1;
+    private long tlsHandshakeCompletedNanos = -1;
+    private Set<ByteBuffer> cachedTlsSessionIds;
+    private Boolean tlsSessionResumed;
+    private boolean connectionEstablishmentClaimed = false;
+
     public ChannelDiagnostics(Channel channel) {
         this.channel = channel;
         this.channelCreationTime = Instant.now();
+        this.channelCreationNanos = System.nanoTime();
     }
 
     public void incrementRequestCount() {
         ++this.requestCount;
     }
 
+    public int requestCount() {
+        return requestCount;
+    }
+
+    public Duration channelAge() {
+        return Duration.ofNanos(System.nanoTime() - channelCreationNanos);
+    }
+
     public void incrementResponseCount() {
         ++responseCount;
     }
@@ -73,14 +95,92 @@ public class ChannelDiagnostics {
         return null;
     }
 
+    /**
+     * Record that the TCP connection of this channel was established.
+     */
+    public void connectionEstablished() {
+        this.connectedNanos = System.nanoTime();
+    }
+
+    /**
+     * Record the ids of the sessions in the client session cache, before the TLS handshake of this channel starts.
+     */
+    public void tlsHandshakeStarting(SSLSessionContext sessionContext) {
+        Set<ByteBuffer> sessionIds = new HashSet<>();
+        Enumeration<byte[]> ids = sessionContext.getIds();
+        while (ids.hasMoreElements()) {
+            sessionIds.add(ByteBuffer.wrap(ids.nextElement()));
+        }
+        this.cachedTlsSessionIds = sessionIds;
+    }
+
+    /**
+     * Record the session negotiated by the TLS handshake of this channel. The session was resumed if its id was in the client
+     * session cache when the handshake started: a resumed TLS 1.2 session keeps its id, and a TLS 1.3 session resumed from a
+     * ticket takes the id the ticket was cached under. A full handshake negotiates a session with a new id.
+     */
+    public void tlsHandshakeCompleted(SSLSession session) {
+        this.tlsHandshakeCompletedNanos = System.nanoTime();
+        byte[] sessionId = session.getId();
+        this.tlsSessionResumed = cachedTlsSessionIds != null
+                                 && sessionId != null
+                                 && sessionId.length > 0
+                                 && cachedTlsSessionIds.contains(ByteBuffer.wrap(sessionId));
+        this.cachedTlsSessionIds = null;
+    }
+
+    /**
+     * Whether the TLS handshake of this channel resumed a cached session, or null if the channel has not completed a TLS
+     * handshake.
+     */
+    public Boolean tlsSessionResumed() {
+        return tlsSessionResumed;
+    }
+
+    /**
+     * The time taken to establish this channel: from its creation until its TLS handshake completed or, if it does not use
+     * TLS, until it was connected. This returns null if the channel is not established yet.
+     */
+    public Duration connectionEstablishmentDuration() {
+        long establishedNanos = tlsHandshakeCompletedNanos > 0 ? tlsHandshakeCompletedNanos : connectedNanos;
+        if (establishedNanos < 0) {
+            return null;
+        }
+        return Duration.ofNanos(establishedNanos - channelCreationNanos);
+    }
+
+    /**
+     * The time taken by the TLS handshake of this channel, or null if the channel has not completed a TLS handshake.
+     */
+    public Duration tlsHandshakeDuration() {
+        if (connectedNanos < 0 || tlsHandshakeCompletedNanos < 0) {
+            return null;
+        }
+        return Duration.ofNanos(tlsHandshakeCompletedNanos - connectedNanos);
+    }
+
+    /**
+     * Claim the reporting of the establishment metrics of this channel. This only returns true for the first invocation, so
+     * that they are only reported by the first request to use the channel.
+     */
+    public boolean claimConnectionEstablishmentMetrics() {
+        if (connectionEstablishmentClaimed) {
+            return false;
+        }
+        connectionEstablishmentClaimed = true;
+        return true;
+    }
+
     @Override
     public String toString() {
         return ToString.builder("ChannelDiagnostics")
                        .add("channel", channel)
-                       .add("channelAge", Duration.between(channelCreationTime, Instant.now()))
+                       .add("channelAge", channelAge())
                        .add("requestCount", requestCount)
                        .add("responseCount", responseCount)
                        .add("lastIdleDuration", lastIdleDuration())
+                       .add("connectionEstablishmentDuration", connectionEstablishmentDuration())
+                       .add("tlsSessionResumed", tlsSessionResumed)
                        .build();
     }
 }
@@ -89,13 +89,26 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
 
     @Override
     public void channelCreated(Channel ch) {
-        ch.attr(CHANNEL_DIAGNOSTICS).set(new ChannelDiagnostics(ch));
+        ChannelDiagnostics channelDiagnostics = new ChannelDiagnostics(ch);
+        ch.attr(CHANNEL_DIAGNOSTICS).set(channelDiagnostics);
         ch.attr(PROTOCOL_FUTURE).set(new CompletableFuture<>());
         ChannelPipeline pipeline = ch.pipeline();
+        if (ch.isActive()) {
+            channelDiagnostics.connectionEstablished();
+        } else {
+            pipeline.addLast(ConnectionEstablishedHandler.getInstance());
+        }
+
         if (sslCtx != null) {
 
             SslHandler sslHandler = newSslHandler(sslCtx, ch.alloc(), poolKey.getHost(), poolKey.getPort(),
                                                   configuration.tlsHandshakeTimeout());
+            channelDiagnostics.tlsHandshakeStarting(sslCtx.sessionContext());
+            sslHandler.handshakeFuture().addListener(f -> {
+                if (f.isSuccess()) {
+                    channelDiagnostics.tlsHandshakeCompleted(sslHandler.engine().getSession());
+                }
+            });
 
             pipeline.addLast(sslHandler);
             pipeline.addLast(SslCloseCompletionEventHandler.getInstance());
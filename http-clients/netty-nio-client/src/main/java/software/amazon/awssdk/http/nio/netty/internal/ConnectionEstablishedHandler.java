@@ -0,0 +1,51 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CHANNEL_DIAGNOSTICS;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Records in the {@link ChannelDiagnostics} of a channel when its TCP connection is established, and then removes itself
+ * from the pipeline.
+ */
+@SdkInternalApi
+@ChannelHandler.Sharable
+public final class ConnectionEstablishedHandler extends ChannelInboundHandlerAdapter {
+
+    private static final ConnectionEstablishedHandler INSTANCE = new ConnectionEstablishedHandler();
+
+    private ConnectionEstablishedHandler() {
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) {
+        ChannelDiagnostics channelDiagnostics = ctx.channel().attr(CHANNEL_DIAGNOSTICS).get();
+        if (channelDiagnostics != null) {
+            channelDiagnostics.connectionEstablished();
+        }
+        ctx.fireChannelActive();
+        ctx.pipeline().remove(this);
+    }
+
+    public static ConnectionEstablishedHandler getInstance() {
+        return INSTANCE;
+    }
+}
@@ -27,6 +27,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.RequestPriority;
 import software.amazon.awssdk.metrics.MetricCollector;
 
 /**
@@ -62,11 +63,16 @@ public class HealthCheckedChannelPool implements SdkChannelPool {
 
     @Override
     public Future<Channel> acquire(Promise<Channel> resultFuture) {
+        return acquire(resultFuture, RequestPriority.NORMAL);
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> resultFuture, RequestPriority priority) {
         // Schedule a task to time out this acquisition, in case we can't acquire a channel fast enough.
         ScheduledFuture<?> timeoutFuture =
                 eventLoopGroup.schedule(() -> timeoutAcquire(resultFuture), acquireTimeoutMillis, TimeUnit.MILLISECONDS);
 
-        tryAcquire(resultFuture, timeoutFuture);
+        tryAcquire(resultFuture, priority, timeoutFuture);
         return resultFuture;
     }
 
@@ -84,17 +90,18 @@ public class HealthCheckedChannelPool implements SdkChannelPool {
      *
      * @param resultFuture The future that should be completed with the acquired channel. If this is completed external to this
      * function, this function will stop trying to acquire a channel.
+     * @param priority The priority of the request the channel is acquired for.
      * @param timeoutFuture The future for the timeout task. This future will be cancelled when a channel is acquired.
      */
-    private void tryAcquire(Promise<Channel> resultFuture, ScheduledFuture<?> timeoutFuture) {
+    private void tryAcquire(Promise<Channel> resultFuture, RequestPriority priority, ScheduledFuture<?> timeoutFuture) {
         // Something else completed the future (probably a timeout). Stop trying to get a channel.
         if (resultFuture.isDone()) {
             return;
         }
 
         Promise<Channel> delegateFuture = eventLoopGroup.next().newPromise();
-        delegate.acquire(delegateFuture);
-        delegateFuture.addListener(f -> ensureAcquiredChannelIsHealthy(delegateFuture, resultFuture, timeoutFuture));
+        delegate.acquire(delegateFuture, priority);
+        delegateFuture.addListener(f -> ensureAcquiredChannelIsHealthy(delegateFuture, resultFuture, priority, timeoutFuture));
     }
 
     /**
@@ -103,10 +110,12 @@ public class HealthCheckedChannelPool implements SdkChannelPool {
      *
      * @param delegateFuture A completed promise as a result of invoking delegate.acquire().
      * @param resultFuture The future that should be completed with the healthy, acquired channel.
+     * @param priority The priority of the request the channel is acquired for.
      * @param timeoutFuture The future for the timeout task. This future will be cancelled when a channel is acquired.
      */
     private void ensureAcquiredChannelIsHealthy(Promise<Channel> delegateFuture,
                                                 Promise<Channel> resultFuture,
+                                                RequestPriority priority,
                                                 ScheduledFuture<?> timeoutFuture) {
         // If our delegate failed to connect, forward down the failure. Don't try again.
         if (!delegateFuture.isSuccess()) {
@@ -120,7 +129,7 @@ public class HealthCheckedChannelPool implements SdkChannelPool {
         if (!isHealthy(channel)) {
             channel.close();
             delegate.release(channel);
-            tryAcquire(resultFuture, timeoutFuture);
+            tryAcquire(resultFuture, priority, timeoutFuture);
             return;
         }
 
@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.RequestPriority;
 import software.amazon.awssdk.http.nio.netty.internal.http2.HttpOrHttp2ChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils;
 import software.amazon.awssdk.metrics.MetricCollector;
@@ -94,7 +95,12 @@ public final class ListenerInvokingChannelPool implements SdkChannelPool {
 
     @Override
     public Future<Channel> acquire(Promise<Channel> returnFuture) {
-        delegatePool.acquire(promiseFactory.get())
+        return acquire(returnFuture, RequestPriority.NORMAL);
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> returnFuture, RequestPriority priority) {
+        delegatePool.acquire(promiseFactory.get(), priority)
                     .addListener(consumeOrPropagate(returnFuture, channel -> {
                         NettyUtils.doInEventLoop(channel.eventLoop(), () -> {
                             invokeChannelAcquired(channel);
@@ -59,6 +59,8 @@ import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.RequestPriority;
+import software.amazon.awssdk.http.SdkHttpRequestExecutionAttribute;
 import software.amazon.awssdk.http.nio.netty.internal.http2.FlushOnReadHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2StreamExceptionHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ToHttpInboundAdapter;
@@ -101,7 +103,14 @@ public final class NettyRequestExecutor {
                 metrics.reportMetric(CONCURRENCY_ACQUIRE_DURATION, duration);
             });
         });
-        context.channelPool().acquire(channelFuture);
+        context.channelPool().acquire(channelFuture, requestPriority());
+    }
+
+    private RequestPriority requestPriority() {
+        RequestPriority priority = context.executeRequest()
+                                          .httpExecutionAttributes()
+                                          .getAttribute(SdkHttpRequestExecutionAttribute.REQUEST_PRIORITY);
+        return priority == null ? RequestPriority.NORMAL : priority;
     }
 
     /**
@@ -198,6 +207,11 @@ public final class NettyRequestExecutor {
         channel.attr(RESPONSE_CONTENT_LENGTH).set(null);
         channel.attr(RESPONSE_DATA_READ).set(null);
         channel.attr(CHANNEL_DIAGNOSTICS).get().incrementRequestCount();
+        // HTTP/2 streams each have their own diagnostics, so the requests are also counted on the parent connection.
+        if (channel.parent() != null && channel.parent().hasAttr(CHANNEL_DIAGNOSTICS)) {
+            channel.parent().attr(CHANNEL_DIAGNOSTICS).get().incrementRequestCount();
+        }
+        NettyRequestMetrics.publishConnectionMetrics(context.metricCollector(), channel);
     }
 
     private void configurePipeline() throws IOException {
@@ -18,6 +18,7 @@ package software.amazon.awssdk.http.nio.netty.internal;
 import io.netty.channel.Channel;
 import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2Stream;
+import io.netty.handler.ssl.SslHandler;
 import io.netty.util.concurrent.Future;
 import java.time.Duration;
 import java.time.Instant;
@@ -25,6 +26,7 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Http2Metric;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.NoOpMetricCollector;
 
@@ -63,6 +65,56 @@ public class NettyRequestMetrics {
         });
     }
 
+    /**
+     * Publish the metrics of the connection used by the provided channel to the provided collector. The establishment
+     * metrics of a connection are only published by the first request that uses it, once the connection has been
+     * established. For TLS connections, this is after the TLS handshake has completed.
+     */
+    public static void publishConnectionMetrics(MetricCollector metricCollector, Channel channel) {
+        Channel connection = channel.parent() == null ? channel : channel.parent();
+        ChannelDiagnostics channelDiagnostics = connection.attr(ChannelAttributeKey.CHANNEL_DIAGNOSTICS).get();
+        if (channelDiagnostics == null || !metricsAreEnabled(metricCollector)) {
+            return;
+        }
+
+        metricCollector.reportMetric(HttpMetric.CONNECTION_AGE, channelDiagnostics.channelAge());
+        metricCollector.reportMetric(HttpMetric.CONNECTION_REQUEST_COUNT, channelDiagnostics.requestCount());
+
+        if (!channelDiagnostics.claimConnectionEstablishmentMetrics()) {
+            return;
+        }
+
+        SslHandler sslHandler = connection.pipeline().get(SslHandler.class);
+        if (sslHandler == null) {
+            publishConnectionEstablishmentMetrics(metricCollector, channelDiagnostics);
+            return;
+        }
+
+        sslHandler.handshakeFuture().addListener(f -> {
+            if (f.isSuccess()) {
+                publishConnectionEstablishmentMetrics(metricCollector, channelDiagnostics);
+            }
+        });
+    }
+
+    private static void publishConnectionEstablishmentMetrics(MetricCollector metricCollector,
+                                                              ChannelDiagnostics channelDiagnostics) {
+        Duration establishmentDuration = channelDiagnostics.connectionEstablishmentDuration();
+        if (establishmentDuration != null) {
+            metricCollector.reportMetric(HttpMetric.CONNECTION_ESTABLISHMENT_DURATION, establishmentDuration);
+        }
+
+        Duration tlsHandshakeDuration = channelDiagnostics.tlsHandshakeDuration();
+        if (tlsHandshakeDuration != null) {
+            metricCollector.reportMetric(HttpMetric.TLS_HANDSHAKE_DURATION, tlsHandshakeDuration);
+        }
+
+        Boolean tlsSessionResumed = channelDiagnostics.tlsSessionResumed();
+        if (tlsSessionResumed != null) {
+            metricCollector.reportMetric(HttpMetric.TLS_SESSION_RESUMED, tlsSessionResumed);
+        }
+    }
+
     private static Optional<Http2Connection> getHttp2Connection(Channel channel) {
         Channel parentChannel = channel.parent();
         if (parentChannel == null) {
@@ -82,6 +134,7 @@ public class NettyRequestMetrics {
                                      http2Connection.local().flowController().windowSize(stream));
         metricCollector.reportMetric(Http2Metric.REMOTE_STREAM_WINDOW_SIZE_IN_BYTES,
                                      http2Connection.remote().flowController().windowSize(stream));
+        metricCollector.reportMetric(Http2Metric.CONNECTION_ACTIVE_STREAMS, http2Connection.numActiveStreams());
     }
 
     /**
@@ -0,0 +1,171 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.RequestPriority;
+import software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+/**
+ * Outermost decorator of the {@link SdkChannelPool} created for each host by {@link AwaitCloseChannelPoolMap}.
+ *
+ * <p>This pool records when it was last used and how many acquires are outstanding, so that
+ * {@link AwaitCloseChannelPoolMap} can evict pools for hosts that have not been used recently. See
+ * {@link #tryRetire(long, long)}. Acquires that reach this pool after it was retired, for example because the pool was
+ * looked up just before it was evicted, are sent to the replacement pool for the same host if one is configured.
+ */
+@SdkInternalApi
+public final class PerHostChannelPool implements SdkChannelPool {
+    private static final AttributeKey<Boolean> LEASED = NettyUtils.getOrCreateAttributeKey(
+        "aws.http.nio.netty.async.perHostChannelPool.leased");
+
+    private static final int RETIRED = -1;
+
+    private final EventExecutor executor;
+    private final SdkChannelPool delegatePool;
+    private final Supplier<SdkChannelPool> replacementPool;
+
+    /**
+     * The number of outstanding acquires and leased channels, or {@link #RETIRED} once this pool has been evicted.
+     */
+    private final AtomicInteger leases = new AtomicInteger();
+    private volatile long lastUsedNanos = System.nanoTime();
+
+    public PerHostChannelPool(EventExecutor executor, SdkChannelPool delegatePool) {
+        this(executor, delegatePool, null);
+    }
+
+    /**
+     * @param replacementPool Supplies the pool that acquires should be sent to once this pool is retired. It must not return
+     * this pool. If null, these acquires fail.
+     */
+    public PerHostChannelPool(EventExecutor executor,
+                              SdkChannelPool delegatePool,
+                              Supplier<SdkChannelPool> replacementPool) {
+        this.executor = executor;
+        this.delegatePool = delegatePool;
+        this.replacementPool = replacementPool;
+    }
+
+    @Override
+    public Future<Channel> acquire() {
+        return acquire(executor.newPromise());
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise) {
+        return acquire(promise, RequestPriority.NORMAL);
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise, RequestPriority priority) {
+        lastUsedNanos = System.nanoTime();
+
+        if (!tryStartLease()) {
+            if (replacementPool != null) {
+                return replacementPool.get().acquire(promise, priority);
+            }
+            promise.tryFailure(new IOException("The connection pool for this host was closed because it was idle."));
+            return promise;
+        }
+
+        delegatePool.acquire(executor.newPromise(), priority).addListener((Future<Channel> f) -> {
+            if (!f.isSuccess()) {
+                endLease();
+                promise.tryFailure(f.cause());
+                return;
+            }
+
+            Channel channel = f.getNow();
+            channel.attr(LEASED).set(Boolean.TRUE);
+
+            if (!promise.trySuccess(channel)) {
+                release(channel);
+            }
+        });
+        return promise;
+    }
+
+    @Override
+    public Future<Void> release(Channel channel) {
+        return release(channel, executor.newPromise());
+    }
+
+    @Override
+    public Future<Void> release(Channel channel, Promise<Void> promise) {
+        if (!Boolean.TRUE.equals(channel.attr(LEASED).getAndSet(null))) {
+            return delegatePool.release(channel, promise);
+        }
+
+        delegatePool.release(channel, executor.newPromise()).addListener((Future<Void> f) -> {
+            // A request that took longer than the idle time must not make the pool look idle as soon as it completes.
+            lastUsedNanos = System.nanoTime();
+            endLease();
+            if (f.isSuccess()) {
+                promise.trySuccess(null);
+            } else {
+                promise.tryFailure(f.cause());
+            }
+        });
+        return promise;
+    }
+
+    /**
+     * Mark this pool as retired if it has no outstanding acquires or leased channels and has not been used for at least
+     * {@code maxIdleNanos}. Once retired, all further acquires fail and the pool should be closed by the caller.
+     *
+     * @return True if the pool was retired by this call.
+     */
+    public boolean tryRetire(long nowNanos, long maxIdleNanos) {
+        return nowNanos - lastUsedNanos >= maxIdleNanos && leases.compareAndSet(0, RETIRED);
+    }
+
+    private boolean tryStartLease() {
+        while (true) {
+            int current = leases.get();
+            if (current == RETIRED) {
+                return false;
+            }
+            if (leases.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void endLease() {
+        leases.decrementAndGet();
+    }
+
+    @Override
+    public void close() {
+        delegatePool.close();
+    }
+
+    @Override
+    public CompletableFuture<Void> collectChannelPoolMetrics(MetricCollector metrics) {
+        return delegatePool.collectChannelPoolMetrics(metrics);
+    }
+}
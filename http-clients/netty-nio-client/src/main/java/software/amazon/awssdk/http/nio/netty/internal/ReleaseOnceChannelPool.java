@@ -26,6 +26,7 @@ import io.netty.util.concurrent.SucceededFuture;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.RequestPriority;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2MultiplexedChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils;
 import software.amazon.awssdk.metrics.MetricCollector;
@@ -57,6 +58,11 @@ public class ReleaseOnceChannelPool implements SdkChannelPool {
         return delegate.acquire(promise).addListener(onAcquire());
     }
 
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise, RequestPriority priority) {
+        return delegate.acquire(promise, priority).addListener(onAcquire());
+    }
+
     private GenericFutureListener<Future<Channel>> onAcquire() {
         return future -> {
             if (future.isSuccess()) {
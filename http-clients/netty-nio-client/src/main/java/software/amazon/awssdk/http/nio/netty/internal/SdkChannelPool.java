@@ -15,9 +15,13 @@
 
 package software.amazon.awssdk.http.nio.netty.internal;
 
+import io.netty.channel.Channel;
 import io.netty.channel.pool.ChannelPool;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.RequestPriority;
 import software.amazon.awssdk.metrics.MetricCollector;
 
 /**
@@ -34,4 +38,19 @@ public interface SdkChannelPool extends ChannelPool {
      * @return A future that is completed when all metric publishing is complete.
      */
     CompletableFuture<Void> collectChannelPoolMetrics(MetricCollector metrics);
+
+    /**
+     * Acquire a {@link Channel} from this pool on behalf of a request with the provided priority, notifying the provided
+     * promise once the channel was acquired.
+     *
+     * <p>Pools that limit concurrency may use the priority to decide which waiting acquire to serve first. Pools that
+     * delegate to another pool should pass the priority along. By default, the priority is ignored.
+     *
+     * @param promise The promise to notify once the acquire completes.
+     * @param priority The priority of the request the channel is acquired for.
+     * @return The provided promise.
+     */
+    default Future<Channel> acquire(Promise<Channel> promise, RequestPriority priority) {
+        return acquire(promise);
+    }
 }
@@ -59,6 +59,18 @@ public abstract class SdkChannelPoolMap<K, P extends ChannelPool>
         return false;
     }
 
+    /**
+     * Remove the {@link ChannelPool} for the key if it is the given pool, and close it. Returns {@code true} if removed,
+     * {@code false} otherwise.
+     */
+    public final boolean remove(K key, P pool) {
+        if (map.remove(paramNotNull(key, "key"), pool)) {
+            pool.close();
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public final Iterator<Map.Entry<K, P>> iterator() {
         return new ReadOnlyIterator<>(map.entrySet().iterator());
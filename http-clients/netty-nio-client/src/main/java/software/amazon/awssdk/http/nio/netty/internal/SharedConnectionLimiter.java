@@ -0,0 +1,157 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Limits the number of concurrently leased connections across all of the per-host channel pools of a single client. See
+ * {@link SharedConnectionLimitingChannelPool}.
+ *
+ * <p>Permits are handed out in FIFO order regardless of which host requested them, so a single busy host cannot starve
+ * the others. The limiter also keeps track of the number of open connections, so that idle connections can be closed on
+ * release once the client holds more connections than the configured limit.
+ */
+@SdkInternalApi
+public final class SharedConnectionLimiter {
+    private static final AttributeKey<Boolean> CONNECTION_COUNTED = NettyUtils.getOrCreateAttributeKey(
+        "aws.http.nio.netty.async.sharedConnectionLimiter.connectionCounted");
+
+    private final int maxConnections;
+    private final int maxPendingAcquires;
+    private final long acquireTimeoutMillis;
+    private final Deque<Promise<Void>> pendingAcquires = new ArrayDeque<>();
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private int leased;
+
+    public SharedConnectionLimiter(int maxConnections, int maxPendingAcquires, long acquireTimeoutMillis) {
+        this.maxConnections = Validate.isPositive(maxConnections, "maxConnections");
+        this.maxPendingAcquires = Validate.isPositive(maxPendingAcquires, "maxPendingAcquires");
+        this.acquireTimeoutMillis = Validate.isPositive(acquireTimeoutMillis, "acquireTimeoutMillis");
+    }
+
+    /**
+     * Acquire a permit. The returned future is completed, on the given executor, once a permit is available, or failed if
+     * too many acquires are already pending or the acquire timeout elapses first.
+     */
+    public Future<Void> acquire(EventExecutor executor) {
+        Promise<Void> promise = executor.newPromise();
+        boolean acquired = false;
+        boolean rejected = false;
+
+        synchronized (this) {
+            if (leased < maxConnections && pendingAcquires.isEmpty()) {
+                leased++;
+                acquired = true;
+            } else if (pendingAcquires.size() >= maxPendingAcquires) {
+                rejected = true;
+            } else {
+                pendingAcquires.addLast(promise);
+            }
+        }
+
+        if (acquired) {
+            promise.setSuccess(null);
+        } else if (rejected) {
+            promise.setFailure(new IllegalStateException("Too many outstanding acquire operations across all hosts"));
+        } else {
+            scheduleTimeout(executor, promise);
+        }
+        return promise;
+    }
+
+    /**
+     * Return a permit. If another acquire is pending, the permit is handed to the oldest one.
+     */
+    public void release() {
+        Promise<Void> next;
+        synchronized (this) {
+            do {
+                next = pendingAcquires.pollFirst();
+            } while (next != null && next.isDone());
+
+            if (next == null) {
+                leased--;
+                return;
+            }
+        }
+
+        // The pending acquire may have timed out since we polled it, in which case the permit moves on to the next one.
+        if (!next.trySuccess(null)) {
+            release();
+        }
+    }
+
+    /**
+     * Record that the given connection is open until its close future completes. Connections are only counted once.
+     */
+    public void connectionOpened(Channel connection) {
+        if (connection.attr(CONNECTION_COUNTED).setIfAbsent(Boolean.TRUE) == null) {
+            openConnections.incrementAndGet();
+            connection.closeFuture().addListener(f -> openConnections.decrementAndGet());
+        }
+    }
+
+    /**
+     * Whether the client currently holds more open connections than the configured maximum.
+     */
+    public boolean isOverConnectionLimit() {
+        return openConnections.get() > maxConnections;
+    }
+
+    @SdkTestInternalApi
+    synchronized int leased() {
+        return leased;
+    }
+
+    @SdkTestInternalApi
+    synchronized int pendingAcquires() {
+        return pendingAcquires.size();
+    }
+
+    @SdkTestInternalApi
+    int openConnections() {
+        return openConnections.get();
+    }
+
+    private void scheduleTimeout(EventExecutor executor, Promise<Void> promise) {
+        ScheduledFuture<?> timeoutFuture = executor.schedule(() -> {
+            TimeoutException timeout =
+                new TimeoutException("Acquire operation took longer than " + acquireTimeoutMillis + " milliseconds.");
+            if (promise.tryFailure(timeout)) {
+                synchronized (this) {
+                    pendingAcquires.remove(promise);
+                }
+            }
+        }, acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+
+        promise.addListener(f -> timeoutFuture.cancel(false));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CLOSE_ON_RELEASE;
+
+import io.netty.channel.Channel;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils;
+
+/**
+ * Wraps the pool of connections to a single host so that each connection leased from it holds a permit of the
+ * {@link SharedConnectionLimiter} shared by all hosts of a client.
+ *
+ * <p>This pool sits below the per-host concurrency limit, so a permit is only requested once the host can use another
+ * connection: for HTTP/1.1 once the request was granted a slot in the host's pool, and for HTTP/2 only when a new connection
+ * is needed, since streams share their connection and its permit. Requests queued on a saturated host therefore hold no
+ * permits and cannot starve the other hosts.
+ *
+ * <p>When the client holds more connections than the shared limit allows, connections are closed on release instead of
+ * being kept idle in the underlying pool.
+ */
+@SdkInternalApi
+public final class SharedConnectionLimitingChannelPool implements ChannelPool {
+    private static final AttributeKey<Boolean> PERMIT_HELD = NettyUtils.getOrCreateAttributeKey(
+        "aws.http.nio.netty.async.sharedConnectionLimitingChannelPool.permitHeld");
+
+    private final EventExecutor executor;
+    private final ChannelPool delegatePool;
+    private final SharedConnectionLimiter connectionLimiter;
+
+    public SharedConnectionLimitingChannelPool(EventExecutor executor,
+                                               ChannelPool delegatePool,
+                                               SharedConnectionLimiter connectionLimiter) {
+        this.executor = executor;
+        this.delegatePool = delegatePool;
+        this.connectionLimiter = connectionLimiter;
+    }
+
+    @Override
+    public Future<Channel> acquire() {
+        return acquire(executor.newPromise());
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise) {
+        connectionLimiter.acquire(executor).addListener((Future<Void> f) -> {
+            if (f.isSuccess()) {
+                acquireFromDelegate(promise);
+            } else {
+                promise.tryFailure(f.cause());
+            }
+        });
+        return promise;
+    }
+
+    private void acquireFromDelegate(Promise<Channel> promise) {
+        delegatePool.acquire(executor.newPromise()).addListener((Future<Channel> f) -> {
+            if (!f.isSuccess()) {
+                connectionLimiter.release();
+                promise.tryFailure(f.cause());
+                return;
+            }
+
+            Channel channel = f.getNow();
+            channel.attr(PERMIT_HELD).set(Boolean.TRUE);
+            connectionLimiter.connectionOpened(channel);
+
+            if (!promise.trySuccess(channel)) {
+                release(channel);
+            }
+        });
+    }
+
+    @Override
+    public Future<Void> release(Channel channel) {
+        return release(channel, executor.newPromise());
+    }
+
+    @Override
+    public Future<Void> release(Channel channel, Promise<Void> promise) {
+        if (!Boolean.TRUE.equals(channel.attr(PERMIT_HELD).getAndSet(null))) {
+            return delegatePool.release(channel, promise);
+        }
+
+        if (connectionLimiter.isOverConnectionLimit()) {
+            channel.attr(CLOSE_ON_RELEASE).set(Boolean.TRUE);
+        }
+
+        delegatePool.release(channel, executor.newPromise()).addListener((Future<Void> f) -> {
+            connectionLimiter.release();
+            if (f.isSuccess()) {
+                promise.trySuccess(null);
+            } else {
+                promise.tryFailure(f.cause());
+            }
+        });
+        return promise;
+    }
+
+    @Override
+    public void close() {
+        delegatePool.close();
+    }
+}
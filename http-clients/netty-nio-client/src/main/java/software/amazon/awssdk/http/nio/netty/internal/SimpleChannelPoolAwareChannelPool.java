@@ -20,6 +20,7 @@ import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.RequestPriority;
 import software.amazon.awssdk.metrics.MetricCollector;
 
 @SdkInternalApi
@@ -42,6 +43,11 @@ final class SimpleChannelPoolAwareChannelPool implements SdkChannelPool {
         return delegate.acquire(promise);
     }
 
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise, RequestPriority priority) {
+        return delegate.acquire(promise, priority);
+    }
+
     @Override
     public Future<Void> release(Channel channel) {
         return delegate.release(channel);
@@ -30,6 +30,7 @@ import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.RequestPriority;
 import software.amazon.awssdk.http.nio.netty.internal.IdleConnectionCountingChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
@@ -73,18 +74,23 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
 
     @Override
     public Future<Channel> acquire(Promise<Channel> promise) {
-        doInEventLoop(eventLoop, () -> acquire0(promise), promise);
+        return acquire(promise, RequestPriority.NORMAL);
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise, RequestPriority priority) {
+        doInEventLoop(eventLoop, () -> acquire0(promise, priority), promise);
         return promise;
     }
 
-    private void acquire0(Promise<Channel> promise) {
+    private void acquire0(Promise<Channel> promise, RequestPriority priority) {
         if (closed) {
             promise.setFailure(new IllegalStateException("Channel pool is closed!"));
             return;
         }
 
         if (protocolImpl != null) {
-            protocolImpl.acquire(promise);
+            protocolImpl.acquire(promise, priority);
             return;
         }
         if (!protocolImplPromiseInitializationStarted) {
@@ -92,7 +98,7 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
         }
         protocolImplPromise.addListener((GenericFutureListener<Future<ChannelPool>>) future -> {
             if (future.isSuccess()) {
-                future.getNow().acquire(promise);
+                protocolImpl.acquire(promise, priority);
             } else {
                 // Couldn't negotiate protocol, fail this acquire.
                 promise.setFailure(future.cause());
@@ -29,18 +29,25 @@ import io.netty.util.internal.ObjectUtil;
 import io.netty.util.internal.ThrowableUtil;
 import java.nio.channels.ClosedChannelException;
 import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.RequestPriority;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
 import software.amazon.awssdk.metrics.MetricCollector;
 
 /**
  * {@link ChannelPool} implementation that takes another {@link ChannelPool} implementation and enforce a maximum
  * number of concurrent connections.
+ *
+ * <p>Acquires that have to wait for a connection are served in order of their {@link RequestPriority}, and in FIFO order
+ * within the same priority. To prevent lower-priority acquires from being starved, the longest-waiting acquire is served
+ * after {@link #MAX_CONSECUTIVE_PRIORITY_BYPASSES} consecutive acquires were served ahead of it.
  */
 //TODO: Contribute me back to Netty
 public class BetterFixedChannelPool implements SdkChannelPool {
@@ -57,6 +64,12 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         new IllegalStateException("BetterFixedChannelPooled was closed"),
         BetterFixedChannelPool.class, "acquire0(...)");
 
+    /**
+     * The number of times in a row a waiting acquire may be overtaken by acquires with a higher priority before the
+     * longest-waiting acquire is served regardless of its priority.
+     */
+    static final int MAX_CONSECUTIVE_PRIORITY_BYPASSES = 4;
+
     public enum AcquireTimeoutAction {
         /**
          * Create a new connection when the timeout is detected.
@@ -76,11 +89,13 @@ public class BetterFixedChannelPool implements SdkChannelPool {
 
     // There is no need to worry about synchronization as everything that modified the queue or counts is done
     // by the above EventExecutor.
-    private final Queue<AcquireTask> pendingAcquireQueue = new ArrayDeque<>();
+    private final Map<RequestPriority, Queue<AcquireTask>> pendingAcquireQueues = new EnumMap<>(RequestPriority.class);
     private final int maxConnections;
     private final int maxPendingAcquires;
     private int acquiredChannelCount;
     private int pendingAcquireCount;
+    private long pendingAcquireSequence;
+    private int consecutivePriorityBypasses;
     private boolean closed;
 
 
@@ -130,6 +145,9 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         }
         this.maxConnections = builder.maxConnections;
         this.maxPendingAcquires = builder.maxPendingAcquires;
+        for (RequestPriority priority : RequestPriority.values()) {
+            pendingAcquireQueues.put(priority, new ArrayDeque<>());
+        }
     }
 
     @Override
@@ -139,11 +157,16 @@ public class BetterFixedChannelPool implements SdkChannelPool {
 
     @Override
     public Future<Channel> acquire(final Promise<Channel> promise) {
+        return acquire(promise, RequestPriority.NORMAL);
+    }
+
+    @Override
+    public Future<Channel> acquire(final Promise<Channel> promise, final RequestPriority priority) {
         try {
             if (executor.inEventLoop()) {
-                acquire0(promise);
+                acquire0(promise, priority);
             } else {
-                executor.execute(() -> acquire0(promise));
+                executor.execute(() -> acquire0(promise, priority));
             }
         } catch (Throwable cause) {
             promise.setFailure(cause);
@@ -168,7 +191,7 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         return CompletableFuture.allOf(result, delegateMetricResult);
     }
 
-    private void acquire0(final Promise<Channel> promise) {
+    private void acquire0(final Promise<Channel> promise, final RequestPriority priority) {
         assert executor.inEventLoop();
 
         if (closed) {
@@ -189,8 +212,8 @@ public class BetterFixedChannelPool implements SdkChannelPool {
             if (pendingAcquireCount >= maxPendingAcquires) {
                 promise.setFailure(FULL_EXCEPTION);
             } else {
-                AcquireTask task = new AcquireTask(promise);
-                if (pendingAcquireQueue.offer(task)) {
+                AcquireTask task = new AcquireTask(promise, pendingAcquireSequence++);
+                if (pendingAcquireQueues.get(priority).offer(task)) {
                     ++pendingAcquireCount;
 
                     if (timeoutTask != null) {
@@ -258,7 +281,7 @@ public class BetterFixedChannelPool implements SdkChannelPool {
 
     private void runTaskQueue() {
         while (acquiredChannelCount < maxConnections) {
-            AcquireTask task = pendingAcquireQueue.poll();
+            AcquireTask task = pollNextTask();
             if (task == null) {
                 break;
             }
@@ -280,14 +303,49 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         assert acquiredChannelCount >= 0;
     }
 
+    /**
+     * Remove and return the next pending acquire to serve: the oldest acquire with the highest priority, unless the
+     * longest-waiting acquire has already been overtaken {@link #MAX_CONSECUTIVE_PRIORITY_BYPASSES} times in a row.
+     */
+    private AcquireTask pollNextTask() {
+        Queue<AcquireTask> highestPriorityQueue = null;
+        Queue<AcquireTask> longestWaitingQueue = null;
+        for (Queue<AcquireTask> queue : pendingAcquireQueues.values()) {
+            AcquireTask head = queue.peek();
+            if (head == null) {
+                continue;
+            }
+            if (highestPriorityQueue == null) {
+                highestPriorityQueue = queue;
+            }
+            if (longestWaitingQueue == null || head.sequence < longestWaitingQueue.peek().sequence) {
+                longestWaitingQueue = queue;
+            }
+        }
+
+        if (highestPriorityQueue == null) {
+            return null;
+        }
+
+        if (highestPriorityQueue == longestWaitingQueue || consecutivePriorityBypasses >= MAX_CONSECUTIVE_PRIORITY_BYPASSES) {
+            consecutivePriorityBypasses = 0;
+            return longestWaitingQueue.poll();
+        }
+
+        ++consecutivePriorityBypasses;
+        return highestPriorityQueue.poll();
+    }
+
     // AcquireTask extends AcquireListener to reduce object creations and so GC pressure
     private final class AcquireTask extends AcquireListener {
         final Promise<Channel> promise;
+        final long sequence;
         final long expireNanoTime = System.nanoTime() + acquireTimeoutNanos;
         ScheduledFuture<?> timeoutFuture;
 
-        public AcquireTask(Promise<Channel> promise) {
+        public AcquireTask(Promise<Channel> promise, long sequence) {
             super(promise);
+            this.sequence = sequence;
             // We need to create a new promise as we need to ensure the AcquireListener runs in the correct
             // EventLoop.
             this.promise = executor.<Channel>newPromise().addListener(this);
@@ -299,19 +357,22 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         public final void run() {
             assert executor.inEventLoop();
             long nanoTime = System.nanoTime();
-            for (; ; ) {
-                AcquireTask task = pendingAcquireQueue.peek();
-                // Compare nanoTime as descripted in the javadocs of System.nanoTime()
-                //
-                // See https://docs.oracle.com/javase/7/docs/api/java/lang/System.html#nanoTime()
-                // See https://github.com/netty/netty/issues/3705
-                if (task == null || nanoTime - task.expireNanoTime < 0) {
-                    break;
-                }
-                pendingAcquireQueue.remove();
+            // All tasks share the same timeout, so each queue is ordered by expiry time.
+            for (Queue<AcquireTask> pendingAcquireQueue : pendingAcquireQueues.values()) {
+                for (; ; ) {
+                    AcquireTask task = pendingAcquireQueue.peek();
+                    // Compare nanoTime as descripted in the javadocs of System.nanoTime()
+                    //
+                    // See https://docs.oracle.com/javase/7/docs/api/java/lang/System.html#nanoTime()
+                    // See https://github.com/netty/netty/issues/3705
+                    if (task == null || nanoTime - task.expireNanoTime < 0) {
+                        break;
+                    }
+                    pendingAcquireQueue.remove();
 
-                --pendingAcquireCount;
-                onTimeout(task);
+                    --pendingAcquireCount;
+                    onTimeout(task);
+                }
             }
         }
 
@@ -373,16 +434,18 @@ public class BetterFixedChannelPool implements SdkChannelPool {
     private void close0() {
         if (!closed) {
             closed = true;
-            for (;;) {
-                AcquireTask task = pendingAcquireQueue.poll();
-                if (task == null) {
-                    break;
-                }
-                ScheduledFuture<?> f = task.timeoutFuture;
-                if (f != null) {
-                    f.cancel(false);
+            for (Queue<AcquireTask> pendingAcquireQueue : pendingAcquireQueues.values()) {
+                for (;;) {
+                    AcquireTask task = pendingAcquireQueue.poll();
+                    if (task == null) {
+                        break;
+                    }
+                    ScheduledFuture<?> f = task.timeoutFuture;
+                    if (f != null) {
+                        f.cancel(false);
+                    }
+                    task.promise.setFailure(new ClosedChannelException());
                 }
-                task.promise.setFailure(new ClosedChannelException());
             }
             acquiredChannelCount = 0;
             pendingAcquireCount = 0;
@@ -0,0 +1,149 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
+import static software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClientTestUtils.createProvider;
+import static software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClientTestUtils.createRequest;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.utils.AttributeMap;
+
+public class NettyClientTlsSessionResumptionTest {
+    private final NioEventLoopGroup serverGroup = new NioEventLoopGroup(1);
+    private Channel serverChannel;
+    private SdkAsyncHttpClient client;
+
+    @AfterEach
+    public void teardown() throws InterruptedException {
+        if (client != null) {
+            client.close();
+        }
+        if (serverChannel != null) {
+            serverChannel.close().sync();
+        }
+        serverGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS).sync();
+    }
+
+    private static Stream<Arguments> tlsProtocolsAndProviders() {
+        return Stream.of(Arguments.of("TLSv1.2", SslProvider.JDK),
+                         Arguments.of("TLSv1.3", SslProvider.JDK),
+                         Arguments.of("TLSv1.2", SslProvider.OPENSSL),
+                         Arguments.of("TLSv1.3", SslProvider.OPENSSL));
+    }
+
+    @ParameterizedTest
+    @MethodSource("tlsProtocolsAndProviders")
+    public void tlsSessionResumed_newConnectionsToSameHost_secondConnectionResumesSession(String tlsProtocol,
+                                                                                       SslProvider sslProvider)
+        throws Exception {
+        startServer(tlsProtocol);
+        client = NettyNioAsyncHttpClient.builder()
+                                        .sslProvider(sslProvider)
+                                        .buildWithDefaults(AttributeMap.builder().put(TRUST_ALL_CERTIFICATES, true).build());
+        URI uri = URI.create("https://localhost:" + ((InetSocketAddress) serverChannel.localAddress()).getPort());
+
+        List<Boolean> resumed = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            RecordingResponseHandler recorder = new RecordingResponseHandler();
+            client.execute(AsyncExecuteRequest.builder()
+                                              .request(createRequest(uri))
+                                              .requestContentPublisher(createProvider(""))
+                                              .responseHandler(recorder)
+                                              .metricCollector(recorder.collector)
+                                              .build())
+                  .get(10, TimeUnit.SECONDS);
+            resumed.addAll(recorder.collector.collect().metricValues(HttpMetric.TLS_SESSION_RESUMED));
+        }
+
+        assertThat(resumed).containsExactly(false, true);
+    }
+
+    /**
+     * Start a server that only accepts the given TLS protocol version, and closes each connection after its first response.
+     */
+    private void startServer(String tlsProtocol) throws Exception {
+        SelfSignedCertificate certificate = new SelfSignedCertificate();
+        SslContext sslContext = SslContextBuilder.forServer(certificate.certificate(), certificate.privateKey())
+                                                 .protocols(tlsProtocol)
+                                                 .build();
+        serverChannel = new ServerBootstrap()
+            .group(serverGroup)
+            .channel(NioServerSocketChannel.class)
+            .childHandler(new ChannelInitializer<Channel>() {
+                @Override
+                protected void initChannel(Channel ch) {
+                    ch.pipeline().addLast(sslContext.newHandler(ch.alloc()),
+                                          new HttpServerCodec(),
+                                          new HttpObjectAggregator(1024),
+                                          new SimpleChannelInboundHandler<Object>() {
+                                              @Override
+                                              protected void channelRead0(ChannelHandlerContext ctx, Object msg) {
+                                                  ctx.writeAndFlush(response())
+                                                     .addListener(ChannelFutureListener.CLOSE);
+                                              }
+                                          });
+                }
+            })
+            .bind(0)
+            .sync()
+            .channel();
+    }
+
+    private static FullHttpResponse response() {
+        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                                                                Unpooled.copiedBuffer("{}", StandardCharsets.UTF_8));
+        response.headers()
+                .set(HttpHeaderNames.CONTENT_LENGTH, 2)
+                .set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+        return response;
+    }
+}
@@ -740,6 +740,68 @@ public class NettyNioAsyncHttpClientWireMockTest {
         assertThat(channel.attr(AttributeKey.valueOf("channelPool")).get()).isNull();
     }
 
+    @Test
+    public void tlsSessionResumedIsCollectedForNewConnections() throws Exception {
+        SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
+                                                                 .tlsSessionCacheSize(10)
+                                                                 .buildWithDefaults(mapWithTrustAllCerts());
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withBody("hello").withHeader("Connection", "close")));
+        URI uri = URI.create("https://localhost:" + mockServer.httpsPort());
+
+        List<Boolean> resumed = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            RecordingResponseHandler recorder = new RecordingResponseHandler();
+            customClient.execute(AsyncExecuteRequest.builder()
+                                                    .request(createRequest(uri))
+                                                    .requestContentPublisher(createProvider(""))
+                                                    .responseHandler(recorder)
+                                                    .metricCollector(recorder.collector)
+                                                    .build())
+                        .get(10, TimeUnit.SECONDS);
+            resumed.addAll(recorder.collector.collect().metricValues(HttpMetric.TLS_SESSION_RESUMED));
+        }
+
+        assertThat(resumed).containsExactly(false, true);
+        customClient.close();
+    }
+
+    @Test
+    public void connectionLifecycleMetricsAreCollected() throws Exception {
+        SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
+                                                                 .maxConcurrency(1)
+                                                                 .buildWithDefaults(mapWithTrustAllCerts());
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withBody("hello")));
+        URI uri = URI.create("https://localhost:" + mockServer.httpsPort());
+
+        List<MetricCollection> metrics = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            RecordingResponseHandler recorder = new RecordingResponseHandler();
+            customClient.execute(AsyncExecuteRequest.builder()
+                                                    .request(createRequest(uri))
+                                                    .requestContentPublisher(createProvider(""))
+                                                    .responseHandler(recorder)
+                                                    .metricCollector(recorder.collector)
+                                                    .build())
+                        .get(10, TimeUnit.SECONDS);
+            metrics.add(recorder.collector.collect());
+        }
+
+        MetricCollection first = metrics.get(0);
+        assertThat(first.metricValues(HttpMetric.CONNECTION_REQUEST_COUNT)).containsExactly(1);
+        assertThat(first.metricValues(HttpMetric.CONNECTION_ESTABLISHMENT_DURATION)).hasSize(1);
+        assertThat(first.metricValues(HttpMetric.TLS_HANDSHAKE_DURATION)).hasSize(1);
+        assertThat(first.metricValues(HttpMetric.TLS_HANDSHAKE_DURATION).get(0))
+            .isLessThanOrEqualTo(first.metricValues(HttpMetric.CONNECTION_ESTABLISHMENT_DURATION).get(0));
+
+        MetricCollection second = metrics.get(1);
+        assertThat(second.metricValues(HttpMetric.CONNECTION_REQUEST_COUNT)).containsExactly(2);
+        assertThat(second.metricValues(HttpMetric.CONNECTION_AGE).get(0))
+            .isGreaterThanOrEqualTo(first.metricValues(HttpMetric.CONNECTION_AGE).get(0));
+        assertThat(second.metricValues(HttpMetric.CONNECTION_ESTABLISHMENT_DURATION)).isEmpty();
+        assertThat(second.metricValues(HttpMetric.TLS_HANDSHAKE_DURATION)).isEmpty();
+        customClient.close();
+    }
+
     private RecordingResponseHandler makeSimpleRequestAndReturnResponseHandler(SdkAsyncHttpClient client) throws Exception {
         return makeSimpleRequestAndReturnResponseHandler(client, null);
     }
@@ -30,6 +30,7 @@ import io.netty.handler.ssl.SslProvider;
 import io.netty.util.CharsetUtil;
 import io.netty.util.concurrent.Future;
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
@@ -97,6 +98,54 @@ public class AwaitCloseChannelPoolMapTest {
         });
     }
 
+    @Test
+    public void evictIdlePools_unusedPoolsAreClosedAndRemoved() {
+        channelPoolMap = AwaitCloseChannelPoolMap.builder()
+                                                 .sdkChannelOptions(new SdkChannelOptions())
+                                                 .sdkEventLoopGroup(SdkEventLoopGroup.builder().build())
+                                                 .configuration(new NettyConfiguration(GLOBAL_HTTP_DEFAULTS))
+                                                 .protocol(Protocol.HTTP1_1)
+                                                 .maxStreams(100)
+                                                 .sslProvider(SslProvider.OPENSSL)
+                                                 .hostPoolMaxIdleTime(Duration.ofHours(1))
+                                                 .build();
+
+        SimpleChannelPoolAwareChannelPool channelPool = channelPoolMap.get(URI.create("http://localhost:" + mockProxy.port()));
+        assertThat(channelPoolMap.pools()).hasSize(1);
+
+        channelPoolMap.evictIdlePools(System.nanoTime());
+        assertThat(channelPoolMap.pools()).hasSize(1);
+
+        channelPoolMap.evictIdlePools(System.nanoTime() + Duration.ofHours(2).toNanos());
+
+        assertThat(channelPoolMap.pools()).isEmpty();
+        assertThat(channelPool.underlyingSimpleChannelPool().closeFuture().join()).isTrue();
+    }
+
+    @Test
+    public void acquire_fromEvictedPool_acquiresFromNewPool() {
+        channelPoolMap = AwaitCloseChannelPoolMap.builder()
+                                                 .sdkChannelOptions(new SdkChannelOptions())
+                                                 .sdkEventLoopGroup(SdkEventLoopGroup.builder().build())
+                                                 .configuration(new NettyConfiguration(GLOBAL_HTTP_DEFAULTS))
+                                                 .protocol(Protocol.HTTP1_1)
+                                                 .maxStreams(100)
+                                                 .sslProvider(SslProvider.OPENSSL)
+                                                 .hostPoolMaxIdleTime(Duration.ofHours(1))
+                                                 .build();
+
+        URI host = URI.create("http://localhost:" + mockProxy.port());
+        SimpleChannelPoolAwareChannelPool evictedPool = channelPoolMap.get(host);
+        channelPoolMap.evictIdlePools(System.nanoTime() + Duration.ofHours(2).toNanos());
+
+        Future<Channel> acquire = evictedPool.acquire().awaitUninterruptibly();
+
+        assertThat(acquire.isSuccess()).isTrue();
+        assertThat(channelPoolMap.pools()).hasSize(1);
+        assertThat(channelPoolMap.pools().get(host)).isNotSameAs(evictedPool);
+        channelPoolMap.get(host).release(acquire.getNow()).awaitUninterruptibly();
+    }
+
     @Test
     public void get_callsInjectedBootstrapProviderCorrectly() {
         BootstrapProvider bootstrapProvider = Mockito.spy(
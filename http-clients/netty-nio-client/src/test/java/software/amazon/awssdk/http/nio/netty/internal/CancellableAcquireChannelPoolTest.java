@@ -26,6 +26,7 @@ import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.mockito.stubbing.Answer;
@@ -45,7 +46,7 @@ public class CancellableAcquireChannelPoolTest {
 
     private EventExecutor eventExecutor;
 
-    @Mock
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private SdkChannelPool mockDelegatePool;
 
     private Channel channel;
@@ -16,8 +16,15 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import io.netty.channel.embedded.EmbeddedChannel;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
 import org.junit.jupiter.api.Test;
 
 public class ChannelDiagnosticsTest {
@@ -45,4 +52,84 @@ public class ChannelDiagnosticsTest {
         }
         assertThat(cd.responseCount()).isEqualTo(count);
     }
+
+    @Test
+    public void tlsSessionResumed_noHandshake_returnsNull() {
+        ChannelDiagnostics cd = new ChannelDiagnostics(new EmbeddedChannel());
+        assertThat(cd.tlsSessionResumed()).isNull();
+        assertThat(cd.tlsHandshakeDuration()).isNull();
+    }
+
+    @Test
+    public void tlsSessionResumed_sessionIdNotCachedBeforeHandshake_notResumed() {
+        ChannelDiagnostics cd = new ChannelDiagnostics(new EmbeddedChannel());
+        cd.tlsHandshakeStarting(sessionContextWithIds(new byte[] {1}));
+        cd.tlsHandshakeCompleted(sessionWithId(new byte[] {2}));
+
+        assertThat(cd.tlsSessionResumed()).isFalse();
+    }
+
+    @Test
+    public void tlsSessionResumed_sessionIdCachedBeforeHandshake_resumed() {
+        ChannelDiagnostics cd = new ChannelDiagnostics(new EmbeddedChannel());
+        cd.tlsHandshakeStarting(sessionContextWithIds(new byte[] {1}, new byte[] {2}));
+        cd.tlsHandshakeCompleted(sessionWithId(new byte[] {2}));
+
+        assertThat(cd.tlsSessionResumed()).isTrue();
+    }
+
+    @Test
+    public void tlsSessionResumed_emptySessionId_notResumed() {
+        ChannelDiagnostics cd = new ChannelDiagnostics(new EmbeddedChannel());
+        cd.tlsHandshakeStarting(sessionContextWithIds(new byte[0]));
+        cd.tlsHandshakeCompleted(sessionWithId(new byte[0]));
+
+        assertThat(cd.tlsSessionResumed()).isFalse();
+    }
+
+    @Test
+    public void connectionEstablishmentDuration_notConnected_returnsNull() {
+        ChannelDiagnostics cd = new ChannelDiagnostics(new EmbeddedChannel());
+        assertThat(cd.connectionEstablishmentDuration()).isNull();
+    }
+
+    @Test
+    public void connectionEstablishmentDuration_connectedWithTls_includesHandshake() {
+        ChannelDiagnostics cd = new ChannelDiagnostics(new EmbeddedChannel());
+        cd.connectionEstablished();
+        Duration connected = cd.connectionEstablishmentDuration();
+
+        cd.tlsHandshakeCompleted(mock(SSLSession.class));
+
+        assertThat(cd.tlsHandshakeDuration()).isGreaterThanOrEqualTo(Duration.ZERO);
+        assertThat(cd.connectionEstablishmentDuration()).isGreaterThanOrEqualTo(connected)
+                                                        .isGreaterThanOrEqualTo(cd.tlsHandshakeDuration());
+    }
+
+    @Test
+    public void claimConnectionEstablishmentMetrics_onlySucceedsOnce() {
+        ChannelDiagnostics cd = new ChannelDiagnostics(new EmbeddedChannel());
+        assertThat(cd.claimConnectionEstablishmentMetrics()).isTrue();
+        assertThat(cd.claimConnectionEstablishmentMetrics()).isFalse();
+    }
+
+    @Test
+    public void incrementRequestCount_reflectsCorrectValue() {
+        ChannelDiagnostics cd = new ChannelDiagnostics(new EmbeddedChannel());
+        cd.incrementRequestCount();
+        cd.incrementRequestCount();
+        assertThat(cd.requestCount()).isEqualTo(2);
+    }
+
+    private static SSLSessionContext sessionContextWithIds(byte[]... ids) {
+        SSLSessionContext sessionContext = mock(SSLSessionContext.class);
+        when(sessionContext.getIds()).thenReturn(Collections.enumeration(Arrays.asList(ids)));
+        return sessionContext;
+    }
+
+    private static SSLSession sessionWithId(byte[] id) {
+        SSLSession session = mock(SSLSession.class);
+        when(session.getId()).thenReturn(id);
+        return session;
+    }
 }
@@ -52,7 +52,7 @@ import software.amazon.awssdk.utils.AttributeMap;
 public class HealthCheckedChannelPoolTest {
     private EventLoopGroup eventLoopGroup = Mockito.mock(EventLoopGroup.class);
     private EventLoop eventLoop = Mockito.mock(EventLoop.class);
-    private SdkChannelPool downstreamChannelPool = Mockito.mock(SdkChannelPool.class);
+    private SdkChannelPool downstreamChannelPool = Mockito.mock(SdkChannelPool.class, Mockito.CALLS_REAL_METHODS);
     private List<Channel> channels = new ArrayList<>();
     private ScheduledFuture<?> scheduledFuture = Mockito.mock(ScheduledFuture.class);
     private Attribute<Boolean> attribute = mock(Attribute.class);
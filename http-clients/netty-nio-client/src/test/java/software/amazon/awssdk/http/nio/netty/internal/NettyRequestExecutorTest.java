@@ -17,6 +17,7 @@ package software.amazon.awssdk.http.nio.netty.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -62,7 +63,7 @@ public class NettyRequestExecutorTest {
 
     @BeforeEach
     public void setup() {
-        mockChannelPool = mock(SdkChannelPool.class);
+        mockChannelPool = mock(SdkChannelPool.class, CALLS_REAL_METHODS);
 
         eventLoopGroup = new NioEventLoopGroup();
 
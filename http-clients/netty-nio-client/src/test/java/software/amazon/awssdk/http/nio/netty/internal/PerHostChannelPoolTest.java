@@ -0,0 +1,130 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PerHostChannelPoolTest {
+    private static EventLoopGroup eventLoopGroup;
+    private static EventExecutor executor;
+
+    private SdkChannelPool delegatePool;
+
+    @BeforeAll
+    public static void setupClass() {
+        eventLoopGroup = new NioEventLoopGroup(1);
+        executor = eventLoopGroup.next();
+    }
+
+    @AfterAll
+    public static void teardown() {
+        eventLoopGroup.shutdownGracefully().awaitUninterruptibly();
+    }
+
+    @BeforeEach
+    public void setup() {
+        delegatePool = mock(SdkChannelPool.class, CALLS_REAL_METHODS);
+        when(delegatePool.release(any(), any())).thenAnswer(i -> i.getArgument(1, Promise.class).setSuccess(null));
+    }
+
+    @Test
+    public void tryRetire_withLeasedChannel_doesNotRetire() throws Exception {
+        PerHostChannelPool pool = new PerHostChannelPool(executor, delegatePool);
+        stubDelegateAcquire(new MockChannel());
+
+        Channel channel = pool.acquire().awaitUninterruptibly().getNow();
+        assertThat(pool.tryRetire(System.nanoTime(), 0)).isFalse();
+
+        pool.release(channel).awaitUninterruptibly();
+        assertThat(pool.tryRetire(System.nanoTime(), 0)).isTrue();
+    }
+
+    @Test
+    public void tryRetire_recentlyUsed_doesNotRetire() throws Exception {
+        PerHostChannelPool pool = new PerHostChannelPool(executor, delegatePool);
+        stubDelegateAcquire(new MockChannel());
+
+        pool.release(pool.acquire().awaitUninterruptibly().getNow()).awaitUninterruptibly();
+
+        assertThat(pool.tryRetire(System.nanoTime(), TimeUnit.HOURS.toNanos(1))).isFalse();
+    }
+
+    @Test
+    public void acquire_afterRetire_failsWithoutAcquiringFromDelegate() {
+        PerHostChannelPool pool = new PerHostChannelPool(executor, delegatePool);
+        assertThat(pool.tryRetire(System.nanoTime(), 0)).isTrue();
+
+        Future<Channel> acquire = pool.acquire().awaitUninterruptibly();
+
+        assertThat(acquire.cause()).isInstanceOf(IOException.class);
+        verify(delegatePool, never()).acquire(any());
+    }
+
+    @Test
+    public void tryRetire_usedUntilRecentRelease_doesNotRetire() throws Exception {
+        PerHostChannelPool pool = new PerHostChannelPool(executor, delegatePool);
+        stubDelegateAcquire(new MockChannel());
+
+        Channel channel = pool.acquire().awaitUninterruptibly().getNow();
+        Thread.sleep(50);
+        long beforeRelease = System.nanoTime();
+        pool.release(channel).awaitUninterruptibly();
+
+        long maxIdleNanos = TimeUnit.MILLISECONDS.toNanos(40);
+        assertThat(pool.tryRetire(beforeRelease + TimeUnit.MILLISECONDS.toNanos(30), maxIdleNanos)).isFalse();
+    }
+
+    @Test
+    public void acquire_afterRetire_acquiresFromReplacementPool() throws Exception {
+        SdkChannelPool replacementPool = mock(SdkChannelPool.class, CALLS_REAL_METHODS);
+        MockChannel channel = new MockChannel();
+        when(replacementPool.acquire(any(), any())).thenAnswer(i -> i.getArgument(0, Promise.class).setSuccess(channel));
+        PerHostChannelPool pool = new PerHostChannelPool(executor, delegatePool, () -> replacementPool);
+        assertThat(pool.tryRetire(System.nanoTime(), 0)).isTrue();
+
+        Future<Channel> acquire = pool.acquire().awaitUninterruptibly();
+
+        assertThat(acquire.getNow()).isSameAs(channel);
+        verify(delegatePool, never()).acquire(any());
+    }
+
+    private void stubDelegateAcquire(Channel... channels) {
+        int[] next = {0};
+        when(delegatePool.acquire(any())).thenAnswer(i -> {
+            Promise<Channel> promise = i.getArgument(0, Promise.class);
+            return promise.setSuccess(channels[Math.min(next[0]++, channels.length - 1)]);
+        });
+    }
+}
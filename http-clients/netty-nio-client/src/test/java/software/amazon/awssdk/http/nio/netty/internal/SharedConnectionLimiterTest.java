@@ -0,0 +1,118 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class SharedConnectionLimiterTest {
+    private static EventLoopGroup eventLoopGroup;
+    private static EventExecutor executor;
+
+    @BeforeAll
+    public static void setup() {
+        eventLoopGroup = new NioEventLoopGroup(1);
+        executor = eventLoopGroup.next();
+    }
+
+    @AfterAll
+    public static void teardown() {
+        eventLoopGroup.shutdownGracefully().awaitUninterruptibly();
+    }
+
+    @Test
+    public void acquire_underLimit_succeedsImmediately() {
+        SharedConnectionLimiter limiter = new SharedConnectionLimiter(2, 10, 10_000);
+
+        assertThat(limiter.acquire(executor).awaitUninterruptibly().isSuccess()).isTrue();
+        assertThat(limiter.acquire(executor).awaitUninterruptibly().isSuccess()).isTrue();
+        assertThat(limiter.leased()).isEqualTo(2);
+    }
+
+    @Test
+    public void release_withPendingAcquires_handsPermitToOldestAcquire() {
+        SharedConnectionLimiter limiter = new SharedConnectionLimiter(1, 10, 10_000);
+        limiter.acquire(executor).awaitUninterruptibly();
+
+        Future<Void> first = limiter.acquire(executor);
+        Future<Void> second = limiter.acquire(executor);
+        assertThat(first.isDone()).isFalse();
+        assertThat(second.isDone()).isFalse();
+
+        limiter.release();
+        assertThat(first.awaitUninterruptibly().isSuccess()).isTrue();
+        assertThat(second.isDone()).isFalse();
+        assertThat(limiter.leased()).isEqualTo(1);
+
+        limiter.release();
+        assertThat(second.awaitUninterruptibly().isSuccess()).isTrue();
+
+        limiter.release();
+        assertThat(limiter.leased()).isEqualTo(0);
+    }
+
+    @Test
+    public void acquire_tooManyPending_fails() {
+        SharedConnectionLimiter limiter = new SharedConnectionLimiter(1, 1, 10_000);
+        limiter.acquire(executor).awaitUninterruptibly();
+        limiter.acquire(executor);
+
+        Future<Void> rejected = limiter.acquire(executor).awaitUninterruptibly();
+        assertThat(rejected.cause()).isInstanceOf(IllegalStateException.class)
+                                    .hasMessageContaining("Too many outstanding acquire operations");
+    }
+
+    @Test
+    public void acquire_timesOut_isRemovedFromPendingAcquires() {
+        SharedConnectionLimiter limiter = new SharedConnectionLimiter(1, 10, 50);
+        limiter.acquire(executor).awaitUninterruptibly();
+
+        Future<Void> timedOut = limiter.acquire(executor).awaitUninterruptibly();
+        assertThat(timedOut.cause()).isInstanceOf(TimeoutException.class)
+                                    .hasMessageContaining("Acquire operation took longer");
+        assertThat(limiter.pendingAcquires()).isEqualTo(0);
+
+        limiter.release();
+        assertThat(limiter.leased()).isEqualTo(0);
+    }
+
+    @Test
+    public void connectionOpened_countsEachConnectionOnceUntilClosed() throws Exception {
+        SharedConnectionLimiter limiter = new SharedConnectionLimiter(1, 10, 10_000);
+        MockChannel first = new MockChannel();
+        MockChannel second = new MockChannel();
+
+        limiter.connectionOpened(first);
+        limiter.connectionOpened(first);
+        assertThat(limiter.openConnections()).isEqualTo(1);
+        assertThat(limiter.isOverConnectionLimit()).isFalse();
+
+        limiter.connectionOpened(second);
+        assertThat(limiter.isOverConnectionLimit()).isTrue();
+
+        second.close().awaitUninterruptibly();
+        assertThat(limiter.openConnections()).isEqualTo(1);
+        first.close().awaitUninterruptibly();
+    }
+}
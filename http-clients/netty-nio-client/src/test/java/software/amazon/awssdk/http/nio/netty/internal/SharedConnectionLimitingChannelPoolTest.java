@@ -0,0 +1,144 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool;
+
+public class SharedConnectionLimitingChannelPoolTest {
+    private static EventLoopGroup eventLoopGroup;
+    private static EventExecutor executor;
+
+    private ChannelPool delegatePool;
+
+    @BeforeAll
+    public static void setupClass() {
+        eventLoopGroup = new NioEventLoopGroup(1);
+        executor = eventLoopGroup.next();
+    }
+
+    @AfterAll
+    public static void teardown() {
+        eventLoopGroup.shutdownGracefully().awaitUninterruptibly();
+    }
+
+    @BeforeEach
+    public void setup() {
+        delegatePool = mockConnectionPool();
+    }
+
+    @Test
+    public void acquireAndRelease_sharesLimitAcrossHosts() throws Exception {
+        SharedConnectionLimiter limiter = new SharedConnectionLimiter(1, 10, 10_000);
+        SharedConnectionLimitingChannelPool firstHost = new SharedConnectionLimitingChannelPool(executor, delegatePool, limiter);
+        SharedConnectionLimitingChannelPool secondHost = new SharedConnectionLimitingChannelPool(executor, delegatePool, limiter);
+
+        Channel acquired = firstHost.acquire().awaitUninterruptibly().getNow();
+        Future<Channel> pending = secondHost.acquire();
+        assertThat(pending.await(100, TimeUnit.MILLISECONDS)).isFalse();
+
+        firstHost.release(acquired).awaitUninterruptibly();
+        assertThat(pending.awaitUninterruptibly().isSuccess()).isTrue();
+
+        secondHost.release(pending.getNow()).awaitUninterruptibly();
+        assertThat(limiter.leased()).isEqualTo(0);
+    }
+
+    @Test
+    public void release_calledTwice_onlyReturnsPermitOnce() {
+        SharedConnectionLimiter limiter = new SharedConnectionLimiter(2, 10, 10_000);
+        SharedConnectionLimitingChannelPool pool = new SharedConnectionLimitingChannelPool(executor, delegatePool, limiter);
+
+        Channel first = pool.acquire().awaitUninterruptibly().getNow();
+        pool.acquire().awaitUninterruptibly();
+
+        pool.release(first).awaitUninterruptibly();
+        pool.release(first).awaitUninterruptibly();
+        assertThat(limiter.leased()).isEqualTo(1);
+    }
+
+    @Test
+    public void release_overConnectionLimit_closesConnectionOnRelease() throws Exception {
+        SharedConnectionLimiter limiter = new SharedConnectionLimiter(1, 10, 10_000);
+        limiter.connectionOpened(new MockChannel());
+        SharedConnectionLimitingChannelPool pool = new SharedConnectionLimitingChannelPool(executor, delegatePool, limiter);
+
+        Channel channel = pool.acquire().awaitUninterruptibly().getNow();
+        pool.release(channel).awaitUninterruptibly();
+
+        assertThat(channel.attr(ChannelAttributeKey.CLOSE_ON_RELEASE).get()).isTrue();
+    }
+
+    @Test
+    public void acquire_otherHostSaturated_otherHostStillMakesProgress() throws Exception {
+        SharedConnectionLimiter limiter = new SharedConnectionLimiter(2, 100, 10_000);
+        BetterFixedChannelPool busyHost = hostPool(limiter, 1);
+        BetterFixedChannelPool otherHost = hostPool(limiter, 1);
+
+        Channel busyHostChannel = busyHost.acquire().awaitUninterruptibly().getNow();
+        List<Future<Channel>> queuedOnBusyHost = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            queuedOnBusyHost.add(busyHost.acquire());
+        }
+
+        Future<Channel> otherHostAcquire = otherHost.acquire();
+        assertThat(otherHostAcquire.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(otherHostAcquire.isSuccess()).isTrue();
+        assertThat(queuedOnBusyHost).noneMatch(Future::isDone);
+        assertThat(limiter.pendingAcquires()).isEqualTo(0);
+
+        busyHost.release(busyHostChannel).awaitUninterruptibly();
+        assertThat(queuedOnBusyHost.get(0).awaitUninterruptibly().isSuccess()).isTrue();
+    }
+
+    private BetterFixedChannelPool hostPool(SharedConnectionLimiter limiter, int maxConnections) {
+        SharedConnectionLimitingChannelPool connectionPool =
+            new SharedConnectionLimitingChannelPool(executor, mockConnectionPool(), limiter);
+        return BetterFixedChannelPool.builder()
+                                     .channelPool(new IdleConnectionCountingChannelPool(executor, connectionPool))
+                                     .executor(executor)
+                                     .acquireTimeoutAction(BetterFixedChannelPool.AcquireTimeoutAction.FAIL)
+                                     .acquireTimeoutMillis(10_000)
+                                     .maxConnections(maxConnections)
+                                     .maxPendingAcquires(100)
+                                     .build();
+    }
+
+    private static ChannelPool mockConnectionPool() {
+        ChannelPool pool = mock(ChannelPool.class);
+        when(pool.acquire(any())).thenAnswer(i -> i.getArgument(0, Promise.class).setSuccess(new MockChannel()));
+        when(pool.release(any(), any())).thenAnswer(i -> i.getArgument(1, Promise.class).setSuccess(null));
+        return pool;
+    }
+}
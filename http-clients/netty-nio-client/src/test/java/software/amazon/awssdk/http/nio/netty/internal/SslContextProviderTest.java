@@ -18,13 +18,19 @@ package software.amazon.awssdk.http.nio.netty.internal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
 
 import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslProvider;
+import java.time.Duration;
 import javax.net.ssl.TrustManager;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mockito;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
@@ -61,6 +67,21 @@ public class SslContextProviderTest {
         assertThat(sslContextProvider.sslContext().cipherSuites()).isNotIn(Http2SecurityUtil.CIPHERS);
     }
 
+    @ParameterizedTest
+    @EnumSource(value = SslProvider.class, names = {"JDK", "OPENSSL"})
+    public void sessionCacheConfigured_shouldBeApplied(SslProvider sslProvider) {
+        AttributeMap options = AttributeMap.builder()
+                                           .put(TLS_SESSION_CACHE_SIZE, 42)
+                                           .put(TLS_SESSION_TIMEOUT, Duration.ofMinutes(5))
+                                           .build()
+                                           .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS);
+        SslContext sslContext = new SslContextProvider(new NettyConfiguration(options), Protocol.HTTP1_1, sslProvider)
+            .sslContext();
+
+        assertThat(sslContext.sessionCacheSize()).isEqualTo(42);
+        assertThat(sslContext.sessionTimeout()).isEqualTo(300);
+    }
+
     @Test
     public void customizedKeyManagerPresent_shouldUseCustomized() {
         TlsKeyManagersProvider mockProvider = Mockito.mock(TlsKeyManagersProvider.class);
@@ -39,6 +39,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.mockito.Mockito;
 import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.RequestPriority;
 import software.amazon.awssdk.http.nio.netty.internal.MockChannel;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool.AcquireTimeoutAction;
@@ -51,6 +52,7 @@ public class BetterFixedChannelPoolTest {
 
     private BetterFixedChannelPool channelPool;
     private SdkChannelPool delegatePool;
+    private final List<Future<Channel>> servedFutures = Collections.synchronizedList(new ArrayList<>());
 
     @BeforeClass
     public static void setupClass() {
@@ -151,6 +153,88 @@ public class BetterFixedChannelPoolTest {
         assertConnectionsCheckedOutAndPending(0, 0);
     }
 
+    @Test(timeout = 5_000)
+    public void pendingAcquiresAreServedInPriorityOrder() throws Exception {
+        BetterFixedChannelPool pool = singleConnectionPool();
+        List<String> served = Collections.synchronizedList(new ArrayList<>());
+
+        Future<Channel> first = pool.acquire(eventLoopGroup.next().newPromise(), RequestPriority.NORMAL).sync();
+        Future<Channel> low = acquire(pool, RequestPriority.LOW, "low", served);
+        Future<Channel> normal = acquire(pool, RequestPriority.NORMAL, "normal", served);
+        Future<Channel> high = acquire(pool, RequestPriority.HIGH, "high", served);
+        assertPending(pool, 3);
+
+        pool.release(first.getNow()).sync();
+        pool.release(high.getNow()).sync();
+        pool.release(normal.getNow()).sync();
+        pool.release(low.getNow()).sync();
+
+        assertThat(served).containsExactly("high", "normal", "low");
+        pool.close();
+    }
+
+    @Test(timeout = 5_000)
+    public void lowPriorityAcquireIsNotStarvedByHigherPriorityAcquires() throws Exception {
+        BetterFixedChannelPool pool = singleConnectionPool();
+        List<String> served = Collections.synchronizedList(new ArrayList<>());
+
+        Future<Channel> leased = pool.acquire(eventLoopGroup.next().newPromise(), RequestPriority.NORMAL).sync();
+        acquire(pool, RequestPriority.LOW, "low", served);
+        int highPriorityAcquires = BetterFixedChannelPool.MAX_CONSECUTIVE_PRIORITY_BYPASSES + 2;
+        for (int i = 0; i < highPriorityAcquires; i++) {
+            acquire(pool, RequestPriority.HIGH, "high", served);
+        }
+        assertPending(pool, highPriorityAcquires + 1);
+
+        List<Future<Channel>> granted = new ArrayList<>();
+        granted.add(leased);
+        for (int i = 0; i < highPriorityAcquires + 1; i++) {
+            pool.release(granted.get(i).getNow()).sync();
+            granted.add(servedFutures.get(servedFutures.size() - 1));
+        }
+
+        assertThat(served.indexOf("low")).isEqualTo(BetterFixedChannelPool.MAX_CONSECUTIVE_PRIORITY_BYPASSES);
+        assertThat(served).hasSize(highPriorityAcquires + 1);
+        pool.close();
+    }
+
+    private BetterFixedChannelPool singleConnectionPool() {
+        Mockito.when(delegatePool.acquire(isA(Promise.class))).thenAnswer(i -> {
+            MockChannel channel = new MockChannel();
+            eventLoopGroup.next().register(channel);
+            Promise<Channel> promise = i.getArgument(0, Promise.class);
+            return promise.setSuccess(channel);
+        });
+        Mockito.when(delegatePool.release(isA(Channel.class), isA(Promise.class)))
+               .thenAnswer(i -> i.getArgument(1, Promise.class).setSuccess(null));
+
+        servedFutures.clear();
+        return BetterFixedChannelPool.builder()
+                                     .channelPool(delegatePool)
+                                     .maxConnections(1)
+                                     .maxPendingAcquires(100)
+                                     .acquireTimeoutAction(AcquireTimeoutAction.FAIL)
+                                     .acquireTimeoutMillis(10_000)
+                                     .executor(eventLoopGroup.next())
+                                     .build();
+    }
+
+    private Future<Channel> acquire(BetterFixedChannelPool pool, RequestPriority priority, String name, List<String> served) {
+        Future<Channel> future = pool.acquire(eventLoopGroup.next().newPromise(), priority);
+        future.addListener(f -> {
+            served.add(name);
+            servedFutures.add(future);
+        });
+        return future;
+    }
+
+    private void assertPending(BetterFixedChannelPool pool, int pending) {
+        Mockito.when(delegatePool.collectChannelPoolMetrics(any())).thenReturn(CompletableFuture.completedFuture(null));
+        MetricCollector metricCollector = MetricCollector.create("foo");
+        waitForCompletion(pool.collectChannelPoolMetrics(metricCollector));
+        assertThat(metricCollector.collect().metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES)).containsExactly(pending);
+    }
+
     private void completePromise(List<Promise<Channel>> promises, int promiseIndex) throws Exception {
         waitForPromise(promises, promiseIndex);
 
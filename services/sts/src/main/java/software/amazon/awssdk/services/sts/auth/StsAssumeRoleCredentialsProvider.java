@@ -96,6 +96,11 @@ public final class StsAssumeRoleCredentialsProvider
         return PROVIDER_NAME;
     }
 
+    @Override
+    Object sharedCacheKey() {
+        return assumeRoleRequestSupplier.get();
+    }
+
     /**
      * A builder (created by {@link StsAssumeRoleCredentialsProvider#builder()}) for creating a
      * {@link StsAssumeRoleCredentialsProvider}.
@@ -89,6 +89,11 @@ public final class StsAssumeRoleWithSamlCredentialsProvider
         return PROVIDER_NAME;
     }
 
+    @Override
+    Object sharedCacheKey() {
+        return assumeRoleWithSamlRequestSupplier.get();
+    }
+
     /**
      * A builder (created by {@link StsAssumeRoleWithSamlCredentialsProvider#builder()}) for creating a
      * {@link StsAssumeRoleWithSamlCredentialsProvider}.
@@ -89,6 +89,11 @@ public final class StsAssumeRoleWithWebIdentityCredentialsProvider
         return PROVIDER_NAME;
     }
 
+    @Override
+    Object sharedCacheKey() {
+        return assumeRoleWithWebIdentityRequest.get();
+    }
+
     /**
      * A builder (created by {@link StsAssumeRoleWithWebIdentityCredentialsProvider#builder()}) for creating a
      * {@link StsAssumeRoleWithWebIdentityCredentialsProvider}.
@@ -17,14 +17,25 @@ package software.amazon.awssdk.services.sts.auth;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.auth.credentials.internal.CompletedFutureCache;
+import software.amazon.awssdk.awscore.AwsServiceClientConfiguration;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.IdentityProvider;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.sts.StsClient;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
@@ -33,6 +44,7 @@ import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 import software.amazon.awssdk.utils.cache.CachedSupplier;
+import software.amazon.awssdk.utils.cache.CachedSupplierRegistry;
 import software.amazon.awssdk.utils.cache.NonBlocking;
 import software.amazon.awssdk.utils.cache.RefreshResult;
 
@@ -55,6 +67,11 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
     private static final Duration DEFAULT_STALE_TIME = Duration.ofMinutes(1);
     private static final Duration DEFAULT_PREFETCH_TIME = Duration.ofMinutes(5);
 
+    /**
+     * The session caches shared by all providers in this process that have {@link #sharedCredentialsCacheEnabled} set.
+     */
+    private static final CachedSupplierRegistry<AwsSessionCredentials> SHARED_SESSION_CACHES = new CachedSupplierRegistry<>();
+
     /**
      * The STS client that should be used for periodically updating the session credentials.
      */
@@ -64,10 +81,20 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
      * The session cache that handles automatically updating the credentials when they get close to expiring.
      */
     private final CachedSupplier<AwsSessionCredentials> sessionCache;
+    private final CompletedFutureCache<AwsCredentialsIdentity> identityFutureCache = new CompletedFutureCache<>();
 
     private final Duration staleTime;
     private final Duration prefetchTime;
     private final Boolean asyncCredentialUpdateEnabled;
+    private final Boolean sharedCredentialsCacheEnabled;
+    private final String asyncThreadName;
+
+    /**
+     * The session cache shared with other providers, registered on first use if {@link #sharedCredentialsCacheEnabled} is set.
+     */
+    private final Object sharedSessionCacheLock = new Object();
+    private volatile Supplier<AwsSessionCredentials> sharedSessionCache;
+    private boolean closed;
 
     StsCredentialsProvider(BaseBuilder<?, ?> builder, String asyncThreadName) {
         this.stsClient = Validate.notNull(builder.stsClient, "STS client must not be null.");
@@ -76,6 +103,8 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
         this.prefetchTime = Optional.ofNullable(builder.prefetchTime).orElse(DEFAULT_PREFETCH_TIME);
 
         this.asyncCredentialUpdateEnabled = builder.asyncCredentialUpdateEnabled;
+        this.sharedCredentialsCacheEnabled = builder.sharedCredentialsCacheEnabled;
+        this.asyncThreadName = asyncThreadName;
         CachedSupplier.Builder<AwsSessionCredentials> cacheBuilder =
             CachedSupplier.builder(this::updateSessionCredentials)
                           .cachedValueName(toString());
@@ -103,16 +132,80 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
 
     @Override
     public AwsCredentials resolveCredentials() {
-        AwsSessionCredentials credentials = sessionCache.get();
+        AwsSessionCredentials credentials = isSharedCredentialsCacheEnabled() ? sharedSessionCache().get()
+                                                                              : sessionCache.get();
         credentials.expirationTime().ifPresent(t -> {
             log.debug(() -> "Using STS credentials with expiration time of " + t);
         });
         return credentials;
     }
 
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        return identityFutureCache.completedFuture(resolveCredentials());
+    }
+
+    /**
+     * Get the session cache shared with the other providers in this process that make the same request, registering this
+     * provider with it on first use. Falls back to this provider's own cache if its credentials cannot be shared, or if the
+     * credentials the STS client calls STS with cannot be identified.
+     */
+    private Supplier<AwsSessionCredentials> sharedSessionCache() {
+        Supplier<AwsSessionCredentials> cache = sharedSessionCache;
+        if (cache != null) {
+            return cache;
+        }
+
+        synchronized (sharedSessionCacheLock) {
+            if (sharedSessionCache == null) {
+                Object requestKey = closed ? null : sharedCacheKey();
+                SourceIdentity sourceIdentity = requestKey == null ? null : sourceIdentity();
+                if (sourceIdentity == null) {
+                    sharedSessionCache = sessionCache;
+                } else {
+                    List<Object> key = Arrays.asList(getClass(), requestKey, sourceIdentity, staleTime, prefetchTime);
+                    sharedSessionCache = SHARED_SESSION_CACHES.register(key, this::updateSessionCredentials,
+                                                                        this::newSharedSessionCache);
+                }
+            }
+            return sharedSessionCache;
+        }
+    }
+
+    /**
+     * Identify the credentials provider and region the STS client calls STS with, or return null if the client does not
+     * expose its configuration.
+     */
+    private SourceIdentity sourceIdentity() {
+        AwsServiceClientConfiguration configuration;
+        try {
+            configuration = stsClient.serviceClientConfiguration();
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+
+        if (configuration == null || configuration.credentialsProvider() == null) {
+            return null;
+        }
+        return new SourceIdentity(configuration.credentialsProvider(), configuration.region());
+    }
+
+    private CachedSupplier<AwsSessionCredentials> newSharedSessionCache(Supplier<RefreshResult<AwsSessionCredentials>> supplier) {
+        return CachedSupplier.builder(supplier)
+                             .cachedValueName(toString())
+                             .prefetchStrategy(new NonBlocking(asyncThreadName))
+                             .build();
+    }
+
     @Override
     public void close() {
         sessionCache.close();
+        synchronized (sharedSessionCacheLock) {
+            closed = true;
+            if (sharedSessionCache instanceof CachedSupplierRegistry.Lease) {
+                ((CachedSupplierRegistry.Lease<?>) sharedSessionCache).close();
+            }
+        }
     }
 
     /**
@@ -143,6 +236,51 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
 
     abstract String providerName();
 
+    /**
+     * Implemented by a child class that supports {@link BaseBuilder#sharedCredentialsCacheEnabled(Boolean)} to identify the
+     * credentials it gets from STS. Providers of the same type, with equal keys and the same stale and prefetch times share
+     * their credentials if their STS clients also use the same credentials provider and region. Returns null if the
+     * credentials of this provider must not be shared.
+     */
+    Object sharedCacheKey() {
+        return null;
+    }
+
+    /**
+     * The credentials provider and region of an STS client. Credentials providers are compared by identity, because
+     * providers that are equal may still resolve different credentials.
+     */
+    private static final class SourceIdentity {
+        private final IdentityProvider<?> credentialsProvider;
+        private final Region region;
+
+        private SourceIdentity(IdentityProvider<?> credentialsProvider, Region region) {
+            this.credentialsProvider = credentialsProvider;
+            this.region = region;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SourceIdentity that = (SourceIdentity) o;
+            return credentialsProvider == that.credentialsProvider && Objects.equals(region, that.region);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(credentialsProvider) + Objects.hashCode(region);
+        }
+    }
+
+    boolean isSharedCredentialsCacheEnabled() {
+        return Boolean.TRUE.equals(sharedCredentialsCacheEnabled);
+    }
+
     /**
      * Extended by child class's builders to share configuration across credential providers.
      */
@@ -153,6 +291,7 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
         private final Function<B, T> providerConstructor;
 
         private Boolean asyncCredentialUpdateEnabled = false;
+        private Boolean sharedCredentialsCacheEnabled = false;
         private StsClient stsClient;
         private Duration staleTime;
         private Duration prefetchTime;
@@ -164,6 +303,7 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
         BaseBuilder(Function<B, T> providerConstructor, StsCredentialsProvider provider) {
             this.providerConstructor = providerConstructor;
             this.asyncCredentialUpdateEnabled = provider.asyncCredentialUpdateEnabled;
+            this.sharedCredentialsCacheEnabled = provider.sharedCredentialsCacheEnabled;
             this.stsClient = provider.stsClient;
             this.staleTime = provider.staleTime;
             this.prefetchTime = provider.prefetchTime;
@@ -195,6 +335,31 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
             return (B) this;
         }
 
+        /**
+         * Configure whether the credentials should be shared with the other providers in this process that request the same
+         * credentials from STS, instead of being cached and refreshed by this provider alone. This reduces the number of calls
+         * made to STS when many clients use providers for the same role.
+         *
+         * <p>Shared credentials are always updated asynchronously in the background ahead of their expiration, as if
+         * {@link #asyncCredentialUpdateEnabled} was enabled, and the current credentials are used while they are updated.
+         * They are updated using the STS client of any of the providers sharing them, so this should only be enabled if all
+         * of them are allowed to use the same credentials.
+         *
+         * <p>Providers share credentials if they are of the same type, have the same stale and prefetch times, their
+         * refresh requests are equal, and their STS clients use the same credentials provider instance and region. Providers
+         * whose STS client does not expose its {@link StsClient#serviceClientConfiguration() configuration} never share
+         * credentials. The refresh request is resolved once, when credentials are first resolved, to find the
+         * providers to share credentials with. This is supported for providers that assume a role. Providers that get session
+         * or federation tokens return credentials for the caller of STS, and never share them.
+         *
+         * <p>By default, this is disabled.</p>
+         */
+        @SuppressWarnings("unchecked")
+        public B sharedCredentialsCacheEnabled(Boolean sharedCredentialsCacheEnabled) {
+            this.sharedCredentialsCacheEnabled = sharedCredentialsCacheEnabled;
+            return (B) this;
+        }
+
         /**
          * Configure the amount of time, relative to STS token expiration, that the cached credentials are considered
          * stale and must be updated. All threads will block until the value is updated.
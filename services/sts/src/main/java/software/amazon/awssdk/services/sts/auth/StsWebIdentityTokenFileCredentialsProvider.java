@@ -34,6 +34,7 @@ import software.amazon.awssdk.services.sts.StsClient;
 import software.amazon.awssdk.services.sts.internal.AssumeRoleWithWebIdentityRequestSupplier;
 import software.amazon.awssdk.services.sts.model.AssumeRoleWithWebIdentityRequest;
 import software.amazon.awssdk.services.sts.model.AssumeRoleWithWebIdentityResponse;
+import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 
 /**
@@ -107,6 +108,7 @@ public final class StsWebIdentityTokenFileCredentialsProvider
                 StsAssumeRoleWithWebIdentityCredentialsProvider.builder()
                                                                .stsClient(builder.stsClient)
                                                                .refreshRequest(supplier)
+                                                               .sharedCredentialsCacheEnabled(isSharedCredentialsCacheEnabled())
                                                                .build();
         } catch (RuntimeException e) {
             // If we couldn't load the credentials provider for some reason, save an exception describing why. This exception
@@ -145,6 +147,12 @@ public final class StsWebIdentityTokenFileCredentialsProvider
                                   accountIdFromArn(assumeRoleWithWebIdentityResponse.assumedRoleUser()));
     }
 
+    @Override
+    public void close() {
+        super.close();
+        IoUtils.closeIfCloseable(credentialsProvider, null);
+    }
+
     @Override
     public Builder toBuilder() {
         return new Builder(this);
@@ -15,7 +15,21 @@
 
 package software.amazon.awssdk.services.sts.auth;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.sts.StsClient;
+import software.amazon.awssdk.services.sts.StsServiceClientConfiguration;
 import software.amazon.awssdk.services.sts.model.AssumeRoleRequest;
 import software.amazon.awssdk.services.sts.model.AssumeRoleResponse;
 import software.amazon.awssdk.services.sts.model.AssumedRoleUser;
@@ -53,4 +67,131 @@ public class StsAssumeRoleCredentialsProviderTest extends StsCredentialsProvider
     protected String providerName() {
         return "StsAssumeRoleCredentialsProvider";
     }
+
+    @Test
+    public void sharedCredentialsCache_sameRequest_callsStsOnce() {
+        stubAssumeRole();
+        AssumeRoleRequest request = AssumeRoleRequest.builder().roleArn("shared-role").roleSessionName("session").build();
+
+        try (StsAssumeRoleCredentialsProvider first = sharedProvider(request);
+             StsAssumeRoleCredentialsProvider second = sharedProvider(request.toBuilder().build())) {
+            assertThat(first.resolveCredentials()).isEqualTo(second.resolveCredentials());
+        }
+
+        verify(stsClient, times(1)).assumeRole(any(AssumeRoleRequest.class));
+    }
+
+    @Test
+    public void sharedCredentialsCache_differentRequests_callsStsForEach() {
+        stubAssumeRole();
+
+        try (StsAssumeRoleCredentialsProvider first = sharedProvider(AssumeRoleRequest.builder().roleArn("role-1").build());
+             StsAssumeRoleCredentialsProvider second = sharedProvider(AssumeRoleRequest.builder().roleArn("role-2").build())) {
+            first.resolveCredentials();
+            second.resolveCredentials();
+        }
+
+        verify(stsClient, times(2)).assumeRole(any(AssumeRoleRequest.class));
+    }
+
+    @Test
+    public void sharedCredentialsCache_allProvidersClosed_isNotReused() {
+        stubAssumeRole();
+        AssumeRoleRequest request = AssumeRoleRequest.builder().roleArn("closed-role").build();
+
+        try (StsAssumeRoleCredentialsProvider provider = sharedProvider(request)) {
+            provider.resolveCredentials();
+        }
+        try (StsAssumeRoleCredentialsProvider provider = sharedProvider(request)) {
+            provider.resolveCredentials();
+        }
+
+        verify(stsClient, times(2)).assumeRole(any(AssumeRoleRequest.class));
+    }
+
+    @Test
+    public void sharedCredentialsCache_clientsWithDifferentCredentialsProviders_callsStsForEach() {
+        StsClient otherClient = mock(StsClient.class);
+        stubAssumeRole(stsClient, AnonymousCredentialsProvider.create(), Region.US_EAST_1);
+        stubAssumeRole(otherClient, AnonymousCredentialsProvider.create(), Region.US_EAST_1);
+        AssumeRoleRequest request = AssumeRoleRequest.builder().roleArn("shared-role").build();
+
+        try (StsAssumeRoleCredentialsProvider first = sharedProvider(stsClient, request);
+             StsAssumeRoleCredentialsProvider second = sharedProvider(otherClient, request)) {
+            first.resolveCredentials();
+            second.resolveCredentials();
+        }
+
+        verify(stsClient, times(1)).assumeRole(any(AssumeRoleRequest.class));
+        verify(otherClient, times(1)).assumeRole(any(AssumeRoleRequest.class));
+    }
+
+    @Test
+    public void sharedCredentialsCache_clientsInDifferentRegions_callsStsForEach() {
+        AwsCredentialsProvider sourceCredentials = AnonymousCredentialsProvider.create();
+        StsClient otherClient = mock(StsClient.class);
+        stubAssumeRole(stsClient, sourceCredentials, Region.US_EAST_1);
+        stubAssumeRole(otherClient, sourceCredentials, Region.EU_WEST_1);
+        AssumeRoleRequest request = AssumeRoleRequest.builder().roleArn("shared-role").build();
+
+        try (StsAssumeRoleCredentialsProvider first = sharedProvider(stsClient, request);
+             StsAssumeRoleCredentialsProvider second = sharedProvider(otherClient, request)) {
+            first.resolveCredentials();
+            second.resolveCredentials();
+        }
+
+        verify(stsClient, times(1)).assumeRole(any(AssumeRoleRequest.class));
+        verify(otherClient, times(1)).assumeRole(any(AssumeRoleRequest.class));
+    }
+
+    @Test
+    public void sharedCredentialsCache_clientConfigurationUnknown_callsStsForEach() {
+        Credentials credentials = Credentials.builder()
+                                             .accessKeyId("a")
+                                             .secretAccessKey("b")
+                                             .sessionToken("c")
+                                             .expiration(Instant.now().plus(Duration.ofHours(1)))
+                                             .build();
+        when(stsClient.assumeRole(any(AssumeRoleRequest.class))).thenReturn(getResponse(credentials));
+        when(stsClient.serviceClientConfiguration()).thenThrow(new UnsupportedOperationException());
+        AssumeRoleRequest request = AssumeRoleRequest.builder().roleArn("shared-role").build();
+
+        try (StsAssumeRoleCredentialsProvider first = sharedProvider(stsClient, request);
+             StsAssumeRoleCredentialsProvider second = sharedProvider(stsClient, request)) {
+            first.resolveCredentials();
+            second.resolveCredentials();
+        }
+
+        verify(stsClient, times(2)).assumeRole(any(AssumeRoleRequest.class));
+    }
+
+    private void stubAssumeRole() {
+        stubAssumeRole(stsClient, AnonymousCredentialsProvider.create(), Region.US_EAST_1);
+    }
+
+    private void stubAssumeRole(StsClient client, AwsCredentialsProvider sourceCredentials, Region region) {
+        Credentials credentials = Credentials.builder()
+                                             .accessKeyId("a")
+                                             .secretAccessKey("b")
+                                             .sessionToken("c")
+                                             .expiration(Instant.now().plus(Duration.ofHours(1)))
+                                             .build();
+        when(client.assumeRole(any(AssumeRoleRequest.class))).thenReturn(getResponse(credentials));
+        when(client.serviceClientConfiguration()).thenReturn(StsServiceClientConfiguration.builder()
+                                                                                          .credentialsProvider(sourceCredentials)
+                                                                                          .region(region)
+                                                                                          .build());
+    }
+
+    private StsAssumeRoleCredentialsProvider sharedProvider(AssumeRoleRequest request) {
+        return sharedProvider(stsClient, request);
+    }
+
+    private StsAssumeRoleCredentialsProvider sharedProvider(StsClient client, AssumeRoleRequest request) {
+        return StsAssumeRoleCredentialsProvider.builder()
+                                               .stsClient(client)
+                                               .refreshRequest(request)
+                                               .sharedCredentialsCacheEnabled(true)
+                                               .build();
+    }
 }
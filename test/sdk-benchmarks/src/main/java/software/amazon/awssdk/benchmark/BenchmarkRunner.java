@@ -65,6 +65,13 @@ import software.amazon.awssdk.utils.Logger;
 
 public class BenchmarkRunner {
 
+    // The JDK HttpClient benchmarks are only compiled when building on Java 11 or later, so they are referenced by name and
+    // only run if they are present.
+    private static final String JDK_HTTP_CLIENT_BENCHMARK =
+        "software.amazon.awssdk.benchmark.apicall.httpclient.sync.JdkHttpClientBenchmark";
+    private static final String JDK_ASYNC_HTTP_CLIENT_BENCHMARK =
+        "software.amazon.awssdk.benchmark.apicall.httpclient.async.JdkAsyncHttpClientBenchmark";
+
     private static final List<String> PROTOCOL_BENCHMARKS = Arrays.asList(
         Ec2ProtocolBenchmark.class.getSimpleName(), JsonProtocolBenchmark.class.getSimpleName(),
         QueryProtocolBenchmark.class.getSimpleName(), XmlProtocolBenchmark.class.getSimpleName());
@@ -111,7 +118,9 @@ public class BenchmarkRunner {
     public static void main(String... args) throws Exception {
         List<String> benchmarksToRun = new ArrayList<>();
         benchmarksToRun.addAll(SYNC_BENCHMARKS);
+        addIfPresent(benchmarksToRun, JDK_HTTP_CLIENT_BENCHMARK);
         benchmarksToRun.addAll(ASYNC_BENCHMARKS);
+        addIfPresent(benchmarksToRun, JDK_ASYNC_HTTP_CLIENT_BENCHMARK);
         benchmarksToRun.addAll(PROTOCOL_BENCHMARKS);
         benchmarksToRun.addAll(COLD_START_BENCHMARKS);
 
@@ -122,6 +131,15 @@ public class BenchmarkRunner {
         runner.runBenchmark();
     }
 
+    private static void addIfPresent(List<String> benchmarks, String benchmarkClassName) {
+        try {
+            Class<?> benchmarkClass = Class.forName(benchmarkClassName, false, BenchmarkRunner.class.getClassLoader());
+            benchmarks.add(benchmarkClass.getSimpleName());
+        } catch (ClassNotFoundException e) {
+            log.info(() -> "Skipping " + benchmarkClassName + ", which is not available on this Java version.");
+        }
+    }
+
     private void runBenchmark() throws RunnerException {
         log.info(() -> "Running with options: " + options);
 
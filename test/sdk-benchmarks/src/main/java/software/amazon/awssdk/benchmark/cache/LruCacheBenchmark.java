@@ -0,0 +1,88 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.utils.cache.lru.LruCache;
+
+/**
+ * Benchmark for {@link LruCache#get(Object)} when many threads read from the same cache, as happens with the token bucket
+ * store of the retry strategies.
+ *
+ * <p>With {@code keySpaceToCacheSizeRatio} of 1 every get is a cache hit. Higher ratios mix in cache misses, which also cause
+ * evictions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+@Threads(8)
+public class LruCacheBenchmark {
+
+    private static final int CACHE_SIZE = 128;
+
+    @Param({"1", "2"})
+    private int keySpaceToCacheSizeRatio;
+
+    private LruCache<Integer, Integer> cache;
+    private int keySpace;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        cache = LruCache.builder((Integer key) -> key).maxSize(CACHE_SIZE).build();
+        keySpace = CACHE_SIZE * keySpaceToCacheSizeRatio;
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            cache.get(i);
+        }
+    }
+
+    @Benchmark
+    public Integer get() {
+        return cache.get(ThreadLocalRandom.current().nextInt(keySpace));
+    }
+
+    @Benchmark
+    public Integer getSameKey() {
+        return cache.get(0);
+    }
+
+    public static void main(String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(LruCacheBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.http.auth.aws.internal.signer.CredentialScope;
+import software.amazon.awssdk.http.auth.aws.internal.signer.RollingSigner;
+import software.amazon.awssdk.http.auth.aws.internal.signer.chunkedencoding.ChunkedEncodedInputStream;
+import software.amazon.awssdk.http.auth.aws.internal.signer.chunkedencoding.SigV4ChunkExtensionProvider;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+
+/**
+ * Benchmark for reading an aws-chunked payload signed with SigV4 through {@link ChunkedEncodedInputStream}, as done for
+ * signed streaming uploads.
+ *
+ * <p>Run it with the GC profiler (as done by {@link #main(String...)}) to compare the allocation rate per encoded payload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class ChunkedEncodedInputStreamBenchmark {
+
+    private static final int PAYLOAD_SIZE = 16 * 1024 * 1024;
+    private static final String SEED_SIGNATURE = "106e2a8a18243abcf37539882f36619c00e2dfc72633413f02d3b74544bfeb8e";
+
+    @Param({"65536", "131072"})
+    private int chunkSize;
+
+    private byte[] payload;
+    private byte[] readBuffer;
+    private CredentialScope credentialScope;
+    private byte[] signingKey;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        payload = new byte[PAYLOAD_SIZE];
+        new Random(0).nextBytes(payload);
+        readBuffer = new byte[8192];
+        credentialScope = new CredentialScope("us-east-1", "s3", Instant.parse("2013-05-24T00:00:00Z"));
+        signingKey = SignerUtils.deriveSigningKey(AwsCredentialsIdentity.create("akid", "skid"), credentialScope);
+    }
+
+    @Benchmark
+    public long readSignedChunkedPayload(Blackhole blackhole) throws IOException {
+        RollingSigner signer = new RollingSigner(signingKey, SEED_SIGNATURE);
+        InputStream inputStream = ChunkedEncodedInputStream
+            .builder()
+            .inputStream(new ByteArrayInputStream(payload))
+            .chunkSize(chunkSize)
+            .addExtension(new SigV4ChunkExtensionProvider(signer, credentialScope))
+            .build();
+
+        long total = 0;
+        int read;
+        while ((read = inputStream.read(readBuffer)) != -1) {
+            total += read;
+        }
+        blackhole.consume(readBuffer);
+        return total;
+    }
+
+    public static void main(String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(ChunkedEncodedInputStreamBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.signer.AwsV4HttpSigner;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+
+/**
+ * Benchmark for signing requests with {@link AwsV4HttpSigner} from many threads at once.
+ *
+ * <p>With {@code PLATFORM} threads, requests are signed by a fixed pool of threads, which reuse their thread local
+ * {@code Mac} and {@code MessageDigest} instances. With {@code VIRTUAL} threads, every request is signed on a new virtual
+ * thread, as done by a virtual-thread-per-task executor. The {@code VIRTUAL} case requires Java 21 or later.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class V4SignerConcurrencyBenchmark {
+
+    private static final int REQUESTS_PER_INVOCATION = 128;
+    private static final int PLATFORM_THREADS = 8;
+
+    private static final AwsCredentialsIdentity CREDENTIALS = AwsCredentialsIdentity.create("akid", "skid");
+    private static final byte[] PAYLOAD = "{\"TableName\":\"benchmark\"}".getBytes(StandardCharsets.UTF_8);
+    private static final SdkHttpRequest REQUEST = SdkHttpRequest.builder()
+                                                                .method(SdkHttpMethod.POST)
+                                                                .uri(URI.create("https://dynamodb.us-west-2.amazonaws.com"))
+                                                                .putHeader("Content-Type", "application/x-amz-json-1.0")
+                                                                .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                                                                .build();
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    private String threadType;
+
+    private AwsV4HttpSigner signer;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        signer = AwsV4HttpSigner.create();
+        executor = "VIRTUAL".equals(threadType) ? newVirtualThreadPerTaskExecutor()
+                                                : Executors.newFixedThreadPool(PLATFORM_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS_PER_INVOCATION)
+    public void sign(Blackhole blackhole) throws Exception {
+        List<Future<?>> futures = new ArrayList<>(REQUESTS_PER_INVOCATION);
+        for (int i = 0; i < REQUESTS_PER_INVOCATION; i++) {
+            futures.add(executor.submit(this::signRequest));
+        }
+        for (Future<?> future : futures) {
+            blackhole.consume(future.get());
+        }
+    }
+
+    private SdkHttpRequest signRequest() {
+        return signer.sign(r -> r.identity(CREDENTIALS)
+                                 .request(REQUEST)
+                                 .payload(ContentStreamProvider.fromByteArrayUnsafe(PAYLOAD))
+                                 .putProperty(AwsV4HttpSigner.REGION_NAME, "us-west-2")
+                                 .putProperty(AwsV4HttpSigner.SERVICE_SIGNING_NAME, "dynamodb"))
+                     .request();
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Virtual threads require Java 21 or later.", e);
+        }
+    }
+
+    public static void main(String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(V4SignerConcurrencyBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
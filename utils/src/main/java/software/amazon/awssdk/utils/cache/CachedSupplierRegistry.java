@@ -0,0 +1,141 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * A registry of {@link CachedSupplier}s that are shared by every user that registers with an equal key.
+ *
+ * <p>This allows many otherwise independent objects that cache the same value, such as credential providers created for each
+ * client that all assume the same role, to share one cached value and refresh it once, instead of each refreshing it on its
+ * own.
+ *
+ * <p>Each call to {@link #register} returns a {@link Lease}. The shared {@link CachedSupplier} is created by the first
+ * registration of a key, and is closed once the leases of all registrations of that key have been closed. The value is
+ * refreshed using the value supplier of the oldest registration whose lease is still open.
+ *
+ * @param <T> The type of the cached value.
+ */
+@ThreadSafe
+@SdkProtectedApi
+public final class CachedSupplierRegistry<T> {
+    private final ConcurrentMap<Object, SharedEntry<T>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Register a value supplier under the provided key.
+     *
+     * @param key The key identifying the value. Registrations with equal keys share the same cached value, so the key must
+     * include everything that the value depends on.
+     * @param valueSupplier The supplier used to refresh the value, while this registration is the oldest one still open.
+     * @param cacheFactory Creates the shared {@link CachedSupplier} from the supplier it should call, if this is the first
+     * registration of the key.
+     * @return A lease to the shared value, which must be closed when it is no longer used.
+     */
+    public Lease<T> register(Object key,
+                             Supplier<RefreshResult<T>> valueSupplier,
+                             Function<Supplier<RefreshResult<T>>, CachedSupplier<T>> cacheFactory) {
+        SharedEntry<T> entry = entries.compute(key, (k, existing) -> {
+            SharedEntry<T> result = existing != null ? existing : new SharedEntry<>(cacheFactory);
+            result.valueSuppliers.add(valueSupplier);
+            return result;
+        });
+        return new Lease<>(this, key, entry, valueSupplier);
+    }
+
+    private void release(Object key, SharedEntry<T> entry, Supplier<RefreshResult<T>> valueSupplier) {
+        entries.computeIfPresent(key, (k, existing) -> {
+            if (existing != entry) {
+                return existing;
+            }
+            existing.valueSuppliers.remove(valueSupplier);
+            if (existing.valueSuppliers.isEmpty()) {
+                existing.cache.close();
+                return null;
+            }
+            return existing;
+        });
+    }
+
+    @SdkTestInternalApi
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * A registration of a value supplier in a {@link CachedSupplierRegistry}. {@link #get()} returns the shared cached value.
+     */
+    @ThreadSafe
+    public static final class Lease<T> implements Supplier<T>, SdkAutoCloseable {
+        private final CachedSupplierRegistry<T> registry;
+        private final Object key;
+        private final SharedEntry<T> entry;
+        private final Supplier<RefreshResult<T>> valueSupplier;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        private Lease(CachedSupplierRegistry<T> registry, Object key, SharedEntry<T> entry,
+                      Supplier<RefreshResult<T>> valueSupplier) {
+            this.registry = registry;
+            this.key = key;
+            this.entry = entry;
+            this.valueSupplier = valueSupplier;
+        }
+
+        @Override
+        public T get() {
+            return entry.cache.get();
+        }
+
+        /**
+         * Release this registration. The shared cached value is closed if this was the last open registration of its key.
+         */
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                registry.release(key, entry, valueSupplier);
+            }
+        }
+    }
+
+    private static final class SharedEntry<T> {
+        private final List<Supplier<RefreshResult<T>>> valueSuppliers = new CopyOnWriteArrayList<>();
+        private final CachedSupplier<T> cache;
+
+        private SharedEntry(Function<Supplier<RefreshResult<T>>, CachedSupplier<T>> cacheFactory) {
+            this.cache = cacheFactory.apply(this::refresh);
+        }
+
+        private RefreshResult<T> refresh() {
+            Iterator<Supplier<RefreshResult<T>>> oldestFirst = valueSuppliers.iterator();
+            if (!oldestFirst.hasNext()) {
+                throw new IllegalStateException("The shared cached value was refreshed after all of its registrations were "
+                                                + "closed.");
+            }
+            return oldestFirst.next().get();
+        }
+    }
+}
@@ -16,8 +16,10 @@
 package software.amazon.awssdk.utils.cache.lru;
 
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
@@ -31,7 +33,12 @@ import software.amazon.awssdk.utils.Validate;
  * <p>
  * When the cache is full, a new value will push out the least recently used value.
  * When the cache is queried for an already stored value (cache hit), this value is moved to the back of the queue
- * before it's returned so that the order of most recently used to least recently used can be maintained.
+ * so that the order of most recently used to least recently used can be maintained.
+ * <p>
+ * Cache hits do not take a lock. Instead, they are recorded in a bounded buffer that is applied to the queue in batches,
+ * by whichever thread finds the queue lock free, and before every cache miss. If hits are recorded faster than they can be
+ * applied, the oldest recorded hits are dropped, so under heavy contention the eviction order is an approximation of the
+ * least recently used order.
  * <p>
  * The user can configure the maximum size of the cache, which is set to a default of 100.
  * <p>
@@ -45,13 +52,33 @@ public final class LruCache<K, V>  {
 
     private static final int DEFAULT_SIZE = 100;
 
+    /**
+     * The number of cache hits that can be recorded before they are applied to the queue. Must be a power of two.
+     */
+    private static final int READ_BUFFER_SIZE = 64;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+
+    /**
+     * A drain of the read buffer is attempted every {@code READ_BUFFER_DRAIN_INTERVAL} recorded cache hits.
+     */
+    private static final int READ_BUFFER_DRAIN_INTERVAL = READ_BUFFER_SIZE / 4;
+
     private final Map<K, CacheEntry<K, V>> cache;
     private final Function<K, V> valueSupplier;
-    private final Object listLock = new Object();
     private final int maxCacheSize;
 
+    private final AtomicReferenceArray<CacheEntry<K, V>> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong readBufferWriteCount = new AtomicLong();
+
+    /**
+     * Guards the queue, {@link #queueSize} and {@link #readBufferDrainCount}.
+     */
+    private final ReentrantLock queueLock = new ReentrantLock();
+
     private CacheEntry<K, V> leastRecentlyUsed = null;
     private CacheEntry<K, V> mostRecentlyUsed = null;
+    private int queueSize;
+    private long readBufferDrainCount;
 
     private LruCache(Builder<K, V> b) {
         this.valueSupplier = b.supplier;
@@ -66,14 +93,17 @@ public final class LruCache<K, V>  {
      */
     public V get(K key) {
         while (true) {
-            CacheEntry<K, V> cachedEntry = cache.computeIfAbsent(key, this::newEntry);
-            synchronized (listLock) {
-                if (cachedEntry.evicted()) {
-                    continue;
-                }
-                moveToBackOfQueue(cachedEntry);
-                return cachedEntry.value();
+            CacheEntry<K, V> cachedEntry = cache.get(key);
+            if (cachedEntry == null) {
+                cachedEntry = cache.computeIfAbsent(key, this::newEntry);
+                addToQueueIfAbsent(cachedEntry);
+            } else {
+                recordAccess(cachedEntry);
             }
+            if (cachedEntry.evicted()) {
+                continue;
+            }
+            return cachedEntry.value();
         }
     }
 
@@ -82,6 +112,54 @@ public final class LruCache<K, V>  {
         return new CacheEntry<>(key, value);
     }
 
+    /**
+     * Records a cache hit in the read buffer, and tries to apply the buffered hits to the queue if enough hits have been
+     * recorded since the last attempt. When the buffer is full, the oldest recorded hit is overwritten.
+     */
+    private void recordAccess(CacheEntry<K, V> entry) {
+        long writeCount = readBufferWriteCount.getAndIncrement();
+        readBuffer.lazySet((int) (writeCount & READ_BUFFER_MASK), entry);
+        if ((writeCount + 1) % READ_BUFFER_DRAIN_INTERVAL == 0 && queueLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                queueLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Adds a newly created entry to the queue as the most recently used entry, unless another thread already did so. Any
+     * buffered cache hits are applied first, so that they are taken into account if this addition causes an eviction.
+     */
+    private void addToQueueIfAbsent(CacheEntry<K, V> entry) {
+        queueLock.lock();
+        try {
+            drainReadBuffer();
+            if (!entry.queued() && !entry.evicted()) {
+                addToQueue(entry);
+            }
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    /**
+     * Applies the cache hits recorded in the read buffer to the queue, in the order they were recorded. Hits on entries that
+     * were evicted, or that have not been added to the queue yet, are ignored.
+     */
+    private void drainReadBuffer() {
+        long writeCount = readBufferWriteCount.get();
+        long start = Math.max(readBufferDrainCount, writeCount - READ_BUFFER_SIZE);
+        for (long i = start; i < writeCount; i++) {
+            CacheEntry<K, V> entry = readBuffer.getAndSet((int) (i & READ_BUFFER_MASK), null);
+            if (entry != null && entry.queued()) {
+                moveToBackOfQueue(entry);
+            }
+        }
+        readBufferDrainCount = writeCount;
+    }
+
     /**
      * Moves an entry to the back of the queue and sets it as the most recently used. If the entry is already the
      * most recently used, do nothing.
@@ -93,7 +171,7 @@ public final class LruCache<K, V>  {
      *</ol>
      */
     private void moveToBackOfQueue(CacheEntry<K, V> entry) {
-        if (entry.equals(mostRecentlyUsed)) {
+        if (entry == mostRecentlyUsed) {
             return;
         }
         removeFromQueue(entry);
@@ -117,12 +195,16 @@ public final class LruCache<K, V>  {
         if (nextEntry != null) {
             nextEntry.setPrevious(entry.previous());
         }
-        if (entry.equals(leastRecentlyUsed)) {
+        if (entry == leastRecentlyUsed) {
             leastRecentlyUsed = entry.previous();
         }
-        if (entry.equals(mostRecentlyUsed)) {
+        if (entry == mostRecentlyUsed) {
             mostRecentlyUsed = entry.next();
         }
+        entry.setPrevious(null);
+        entry.setNext(null);
+        entry.queued(false);
+        queueSize--;
     }
 
     /**
@@ -135,11 +217,13 @@ public final class LruCache<K, V>  {
             entry.setNext(mostRecentlyUsed);
         }
         entry.setPrevious(null);
+        entry.queued(true);
+        queueSize++;
         mostRecentlyUsed = entry;
         if (leastRecentlyUsed == null) {
             leastRecentlyUsed = entry;
         }
-        if (size() > maxCacheSize) {
+        if (queueSize > maxCacheSize) {
             evict();
         }
     }
@@ -148,10 +232,11 @@ public final class LruCache<K, V>  {
      * Removes the least recently used entry from the cache, marks it as evicted and removes it from the queue.
      */
     private void evict() {
-        leastRecentlyUsed.isEvicted(true);
-        closeEvictedResourcesIfPossible(leastRecentlyUsed.value);
-        cache.remove(leastRecentlyUsed.key());
-        removeFromQueue(leastRecentlyUsed);
+        CacheEntry<K, V> entry = leastRecentlyUsed;
+        entry.isEvicted(true);
+        closeEvictedResourcesIfPossible(entry.value());
+        cache.remove(entry.key(), entry);
+        removeFromQueue(entry);
     }
 
     private void closeEvictedResourcesIfPossible(V value) {
@@ -200,8 +285,10 @@ public final class LruCache<K, V>  {
         private final K key;
         private final V value;
 
-        private boolean evicted = false;
+        private volatile boolean evicted = false;
 
+        // Guarded by the queue lock of the owning cache.
+        private boolean queued = false;
         private CacheEntry<K, V> previous;
         private CacheEntry<K, V> next;
 
@@ -226,6 +313,14 @@ public final class LruCache<K, V>  {
             this.evicted = evicted;
         }
 
+        boolean queued() {
+            return queued;
+        }
+
+        void queued(boolean queued) {
+            this.queued = queued;
+        }
+
         CacheEntry<K, V> next() {
             return next;
         }
@@ -241,26 +336,5 @@ public final class LruCache<K, V>  {
         void setPrevious(CacheEntry<K, V> previous) {
             this.previous = previous;
         }
-
-        @Override
-        @SuppressWarnings("unchecked")
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if ((o == null) || getClass() != o.getClass()) {
-                return false;
-            }
-            CacheEntry<?, ?> that = (CacheEntry<?, ?>) o;
-            return Objects.equals(key, that.key)
-                   && Objects.equals(value, that.value);
-        }
-
-        @Override
-        public int hashCode() {
-            int result = key != null ? key.hashCode() : 0;
-            result = 31 * result + (value != null ? value.hashCode() : 0);
-            return result;
-        }
     }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+public class CachedSupplierRegistryTest {
+    private final CachedSupplierRegistry<String> registry = new CachedSupplierRegistry<>();
+
+    @Test
+    public void register_sameKey_sharesCachedValue() {
+        CountingSupplier first = new CountingSupplier("first");
+        CountingSupplier second = new CountingSupplier("second");
+
+        CachedSupplierRegistry.Lease<String> firstLease = registry.register("key", first, this::newCache);
+        CachedSupplierRegistry.Lease<String> secondLease = registry.register("key", second, this::newCache);
+
+        assertThat(firstLease.get()).isEqualTo("first");
+        assertThat(secondLease.get()).isEqualTo("first");
+        assertThat(first.calls).hasValue(1);
+        assertThat(second.calls).hasValue(0);
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void register_differentKeys_cachesValuesSeparately() {
+        CachedSupplierRegistry.Lease<String> firstLease = registry.register("key1", new CountingSupplier("first"),
+                                                                            this::newCache);
+        CachedSupplierRegistry.Lease<String> secondLease = registry.register("key2", new CountingSupplier("second"),
+                                                                             this::newCache);
+
+        assertThat(firstLease.get()).isEqualTo("first");
+        assertThat(secondLease.get()).isEqualTo("second");
+        assertThat(registry.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void close_oldestRegistration_refreshesWithNextRegistration() {
+        CountingSupplier first = new CountingSupplier("first", true);
+        CountingSupplier second = new CountingSupplier("second", true);
+        CachedSupplierRegistry.Lease<String> firstLease = registry.register("key", first, this::newUnjitteredCache);
+        CachedSupplierRegistry.Lease<String> secondLease = registry.register("key", second, this::newUnjitteredCache);
+
+        assertThat(secondLease.get()).isEqualTo("first");
+        firstLease.close();
+        assertThat(secondLease.get()).isEqualTo("second");
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void close_allRegistrations_removesSharedCache() {
+        CachedSupplierRegistry.Lease<String> firstLease = registry.register("key", new CountingSupplier("first"),
+                                                                            this::newCache);
+        CachedSupplierRegistry.Lease<String> secondLease = registry.register("key", new CountingSupplier("second"),
+                                                                             this::newCache);
+
+        firstLease.close();
+        firstLease.close();
+        assertThat(registry.size()).isEqualTo(1);
+
+        secondLease.close();
+        assertThat(registry.size()).isEqualTo(0);
+
+        CachedSupplierRegistry.Lease<String> thirdLease = registry.register("key", new CountingSupplier("third"),
+                                                                            this::newCache);
+        assertThat(thirdLease.get()).isEqualTo("third");
+    }
+
+    private CachedSupplier<String> newCache(Supplier<RefreshResult<String>> supplier) {
+        return CachedSupplier.builder(supplier).build();
+    }
+
+    private CachedSupplier<String> newUnjitteredCache(Supplier<RefreshResult<String>> supplier) {
+        return CachedSupplier.builder(supplier).jitterEnabled(false).build();
+    }
+
+    private static final class CountingSupplier implements Supplier<RefreshResult<String>> {
+        private final String value;
+        private final boolean alwaysPrefetch;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private CountingSupplier(String value) {
+            this(value, false);
+        }
+
+        /**
+         * @param alwaysPrefetch Return values whose prefetch time has passed, so that they are refreshed on every call.
+         */
+        private CountingSupplier(String value, boolean alwaysPrefetch) {
+            this.value = value;
+            this.alwaysPrefetch = alwaysPrefetch;
+        }
+
+        @Override
+        public RefreshResult<String> get() {
+            calls.incrementAndGet();
+            if (alwaysPrefetch) {
+                return RefreshResult.builder(value)
+                                    .staleTime(Instant.now().plus(Duration.ofHours(1)))
+                                    .prefetchTime(Instant.now().minus(Duration.ofHours(1)))
+                                    .build();
+            }
+            return RefreshResult.builder(value).build();
+        }
+    }
+}
@@ -246,6 +246,60 @@ public class LruCacheTest {
         }
     }
 
+    @Test
+    void when_entryIsHitMoreOftenThanTheReadBufferSize_ItIsStillMostRecentlyUsed() {
+        LruCache<Integer, String> cache = LruCache.builder(identitySupplier)
+                                                  .maxSize(MAX_SIMPLE_CACHE_SIZE)
+                                                  .build();
+        cache.get(0);
+        cache.get(1);
+        cache.get(2);
+
+        // Hit 1 and 2 many times, with the last hit on 0 -> [0, 2, 1]
+        for (int i = 0; i < 1000; i++) {
+            cache.get(1);
+            cache.get(2);
+        }
+        cache.get(0);
+
+        // evict 1 -> [3, 0, 2]
+        cache.get(3);
+        String cachedZero = cache.get(0);
+        String cachedTwo = cache.get(2);
+
+        assertThat(cache.size()).isEqualTo(MAX_SIMPLE_CACHE_SIZE);
+        assertThat(cachedZero).isEqualTo("0");
+        assertThat(cachedTwo).isEqualTo("2");
+    }
+
+    @Test
+    void when_multipleThreadsAreCallingCache_SizeDoesNotExceedMaxSize() throws Exception {
+        int cacheSize = 10;
+        List<Integer> closedValues = Collections.synchronizedList(new ArrayList<>());
+        LruCache<Integer, AutoCloseable> cache = LruCache.builder((Integer key) -> (AutoCloseable) () -> closedValues.add(key))
+                                                         .maxSize(cacheSize)
+                                                         .build();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        cache.get(ThreadLocalRandom.current().nextInt(cacheSize * 2));
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(20, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(cacheSize);
+        assertThat(closedValues).isNotEmpty();
+    }
+
     private static Stream<Arguments> concurrencyTestValues() {
         // numThreads, numGetsPerThreads, sleepDurationMillis, cacheSize
         return Stream.of(Arguments.of(1000, 5000, false, 5),